@@ -244,6 +244,74 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.JVM_PATH, value);
   }
 
+  public void setReportInCompletionOrder(final String value) {
+    this.setOption(ConfigOption.REPORT_IN_COMPLETION_ORDER, value);
+  }
+
+  public void setReuseMinions(final String value) {
+    this.setOption(ConfigOption.REUSE_MINIONS, value);
+  }
+
+  public void setMaxMutantsPerMinion(final String value) {
+    this.setOption(ConfigOption.MAX_MUTANTS_PER_MINION, value);
+  }
+
+  public void setParallelMutationDiscovery(final String value) {
+    this.setOption(ConfigOption.PARALLEL_MUTATION_DISCOVERY, value);
+  }
+
+  public void setCostAwareGrouping(final String value) {
+    this.setOption(ConfigOption.COST_AWARE_GROUPING, value);
+  }
+
+  public void setWorkStealing(final String value) {
+    this.setOption(ConfigOption.WORK_STEALING, value);
+  }
+
+  public void setReuseTestThread(final String value) {
+    this.setOption(ConfigOption.REUSE_TEST_THREAD, value);
+  }
+
+  public void setRecoverableTimeouts(final String value) {
+    this.setOption(ConfigOption.RECOVERABLE_TIMEOUTS, value);
+  }
+
+  public void setFullMutationMatrix(final String value) {
+    this.setOption(ConfigOption.FULL_MUTATION_MATRIX, value);
+  }
+
+  public void setRedTests(final String value) {
+    this.setOption(ConfigOption.RED_TESTS, value);
+  }
+
+  public void setMutantSchemata(final String value) {
+    this.setOption(ConfigOption.MUTANT_SCHEMATA, value);
+  }
+
+  public void setProbeReach(final String value) {
+    this.setOption(ConfigOption.PROBE_REACH, value);
+  }
+
+  public void setWeakMutation(final String value) {
+    this.setOption(ConfigOption.WEAK_MUTATION, value);
+  }
+
+  public void setBitsetCoverage(final String value) {
+    this.setOption(ConfigOption.BITSET_COVERAGE, value);
+  }
+
+  public void setCoverageThreads(final String value) {
+    this.setOption(ConfigOption.COVERAGE_THREADS, value);
+  }
+
+  public void setIncrementalCoverage(final String value) {
+    this.setOption(ConfigOption.INCREMENTAL_COVERAGE, value);
+  }
+
+  public void setCoverageShards(final String value) {
+    this.setOption(ConfigOption.COVERAGE_SHARDS, value);
+  }
+
   private void setOption(final ConfigOption option, final String value) {
     if (!"".equals(value)) {
       this.options.put(option.getParamName(), value);
@@ -16,10 +16,14 @@ package org.pitest.mutationtest.commandline;
 
 import static org.pitest.mutationtest.config.ConfigOption.DEBUG;
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
+import static org.pitest.mutationtest.config.ConfigOption.BITSET_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
+import static org.pitest.mutationtest.config.ConfigOption.COST_AWARE_GROUPING;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_SHARDS;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
@@ -29,21 +33,32 @@ import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_TEST_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
+import static org.pitest.mutationtest.config.ConfigOption.FULL_MUTATION_MATRIX;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_TEST_METHODS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
+import static org.pitest.mutationtest.config.ConfigOption.INCREMENTAL_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
+import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTANTS_PER_MINION;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_SCHEMATA;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
+import static org.pitest.mutationtest.config.ConfigOption.PARALLEL_MUTATION_DISCOVERY;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
+import static org.pitest.mutationtest.config.ConfigOption.PROBE_REACH;
+import static org.pitest.mutationtest.config.ConfigOption.RECOVERABLE_TIMEOUTS;
+import static org.pitest.mutationtest.config.ConfigOption.RED_TESTS;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.REPORT_IN_COMPLETION_ORDER;
+import static org.pitest.mutationtest.config.ConfigOption.REUSE_MINIONS;
+import static org.pitest.mutationtest.config.ConfigOption.REUSE_TEST_THREAD;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_FILTER;
@@ -54,6 +69,8 @@ import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_FACTOR;
 import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
+import static org.pitest.mutationtest.config.ConfigOption.WEAK_MUTATION;
+import static org.pitest.mutationtest.config.ConfigOption.WORK_STEALING;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -68,6 +85,7 @@ import java.util.logging.Logger;
 
 import org.pitest.classpath.ClassPath;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.build.RedTestPolicy;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.testapi.TestGroupConfig;
@@ -128,6 +146,23 @@ public class OptionsParser {
   private final OptionSpec<String>                   javaExecutable;
   private final OptionSpec<KeyValuePair>             pluginPropertiesSpec;
   private final OptionSpec<String>                   testPluginSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> reportInCompletionOrderSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> reuseMinionsSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> maxMutantsPerMinionSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> parallelMutationDiscoverySpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> costAwareGroupingSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> workStealingSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> reuseTestThreadSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> recoverableTimeoutsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> fullMutationMatrixSpec;
+  private final ArgumentAcceptingOptionSpec<String>  redTestsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> mutantSchemataSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> probeReachSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> weakMutationSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> bitsetCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> coverageThreadsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> incrementalCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> coverageShardsSpec;
 
   private final ArgumentAcceptingOptionSpec<Boolean> includeLaunchClasspathSpec;
 
@@ -336,6 +371,117 @@ public class OptionsParser {
     this.javaExecutable = parserAccepts(JVM_PATH).withRequiredArg()
         .ofType(String.class).describedAs("path to java executable");
 
+    this.reportInCompletionOrderSpec = parserAccepts(REPORT_IN_COMPLETION_ORDER)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to report results as soon as each unit of analysis completes");
+
+    this.reuseMinionsSpec = parserAccepts(REUSE_MINIONS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to reuse mutation test minion processes between units of analysis");
+
+    this.maxMutantsPerMinionSpec = parserAccepts(MAX_MUTANTS_PER_MINION)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("Number of mutants a reused minion may analyse before it is replaced")
+        .defaultsTo(MAX_MUTANTS_PER_MINION.getDefault(Integer.class));
+
+    this.parallelMutationDiscoverySpec = parserAccepts(PARALLEL_MUTATION_DISCOVERY)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to search classes for mutations in parallel using the configured number of threads");
+
+    this.costAwareGroupingSpec = parserAccepts(COST_AWARE_GROUPING)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether or not to group mutations into units by the estimated time to run their tests");
+
+    this.workStealingSpec = parserAccepts(WORK_STEALING)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "Whether unstarted mutations of long running units should be handed to idle threads");
+
+    this.reuseTestThreadSpec = parserAccepts(REUSE_TEST_THREAD)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "Whether minions should run each test on a reused thread rather than starting a new one per test");
+
+    this.recoverableTimeoutsSpec = parserAccepts(RECOVERABLE_TIMEOUTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "Whether minions should try to interrupt timed out tests and carry on rather than exiting");
+
+    this.fullMutationMatrixSpec = parserAccepts(FULL_MUTATION_MATRIX)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "Whether to run every assigned test against each mutant and write the outcomes to a kill matrix file");
+
+    this.redTestsSpec = parserAccepts(RED_TESTS)
+        .withRequiredArg().ofType(String.class)
+        .describedAs("how to treat tests that fail without mutation: RUN, LAST or SKIP")
+        .defaultsTo(RED_TESTS.getDefault(String.class));
+
+    this.mutantSchemataSpec = parserAccepts(MUTANT_SCHEMATA)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether to compile mutants of each class into one schema class and switch between them at runtime");
+
+    this.probeReachSpec = parserAccepts(PROBE_REACH)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether to record which tests execute each mutant and skip tests that do not reach its mutation point");
+
+    this.weakMutationSpec = parserAccepts(WEAK_MUTATION)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether to skip mutants that no covering test infects");
+
+    this.bitsetCoverageSpec = parserAccepts(BITSET_COVERAGE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether to send coverage as run length encoded per class bitsets");
+
+    this.coverageThreadsSpec = parserAccepts(COVERAGE_THREADS)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("number of threads to run test classes on when gathering coverage. Only for thread safe test suites whose tests do not share threads")
+        .defaultsTo(COVERAGE_THREADS.getDefault(Integer.class));
+
+    this.incrementalCoverageSpec = parserAccepts(INCREMENTAL_COVERAGE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(true)
+        .describedAs(
+            "whether to store coverage with the history and only rerun tests whose class or covered classes changed");
+
+    this.coverageShardsSpec = parserAccepts(COVERAGE_SHARDS)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("number of coverage minions to split test classes between")
+        .defaultsTo(COVERAGE_SHARDS.getDefault(Integer.class));
+
     this.pluginPropertiesSpec = parserAccepts(PLUGIN_CONFIGURATION)
         .withRequiredArg().ofType(KeyValuePair.class)
         .describedAs("custom plugin properties");
@@ -424,6 +570,37 @@ public class OptionsParser {
 
     data.setIncludedTestMethods(this.includedTestMethodsSpec.values(userArgs));
     data.setJavaExecutable(this.javaExecutable.value(userArgs));
+    data.setReportInCompletionOrder(userArgs.has(this.reportInCompletionOrderSpec)
+        && userArgs.valueOf(this.reportInCompletionOrderSpec));
+    data.setReuseMinions(userArgs.has(this.reuseMinionsSpec)
+        && userArgs.valueOf(this.reuseMinionsSpec));
+    data.setMaxMutantsPerMinion(this.maxMutantsPerMinionSpec.value(userArgs));
+    data.setParallelMutationDiscovery(userArgs.has(this.parallelMutationDiscoverySpec)
+        && userArgs.valueOf(this.parallelMutationDiscoverySpec));
+    data.setCostAwareGrouping(userArgs.has(this.costAwareGroupingSpec)
+        && userArgs.valueOf(this.costAwareGroupingSpec));
+    data.setWorkStealing(userArgs.has(this.workStealingSpec)
+        && userArgs.valueOf(this.workStealingSpec));
+    data.setReuseTestThread(userArgs.has(this.reuseTestThreadSpec)
+        && userArgs.valueOf(this.reuseTestThreadSpec));
+    data.setRecoverableTimeouts(userArgs.has(this.recoverableTimeoutsSpec)
+        && userArgs.valueOf(this.recoverableTimeoutsSpec));
+    data.setFullMutationMatrix(userArgs.has(this.fullMutationMatrixSpec)
+        && userArgs.valueOf(this.fullMutationMatrixSpec));
+    data.setRedTests(RedTestPolicy.valueOf(this.redTestsSpec.value(userArgs)
+        .toUpperCase()));
+    data.setMutantSchemata(userArgs.has(this.mutantSchemataSpec)
+        && userArgs.valueOf(this.mutantSchemataSpec));
+    data.setProbeReach(userArgs.has(this.probeReachSpec)
+        && userArgs.valueOf(this.probeReachSpec));
+    data.setWeakMutation(userArgs.has(this.weakMutationSpec)
+        && userArgs.valueOf(this.weakMutationSpec));
+    data.setBitsetCoverage(userArgs.has(this.bitsetCoverageSpec)
+        && userArgs.valueOf(this.bitsetCoverageSpec));
+    data.setCoverageThreads(this.coverageThreadsSpec.value(userArgs));
+    data.setIncrementalCoverage(userArgs.has(this.incrementalCoverageSpec)
+        && userArgs.valueOf(this.incrementalCoverageSpec));
+    data.setCoverageShards(this.coverageShardsSpec.value(userArgs));
 
     if (userArgs.has("?")) {
       return new ParseResult(data, "See above for supported parameters.");
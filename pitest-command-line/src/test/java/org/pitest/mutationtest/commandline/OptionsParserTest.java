@@ -35,6 +35,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.build.RedTestPolicy;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
@@ -487,6 +488,136 @@ public class OptionsParserTest {
     assertEquals("2", actual.getFreeFormProperties().getProperty("bar"));
   }
 
+  @Test
+  public void shouldParseReportInCompletionOrderFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--reportInCompletionOrder");
+    assertTrue(actual.isReportInCompletionOrder());
+  }
+
+  @Test
+  public void shouldReportInSubmissionOrderByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isReportInCompletionOrder());
+  }
+
+  @Test
+  public void shouldParseReuseMinionsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--reuseMinions");
+    assertTrue(actual.isReuseMinions());
+  }
+
+  @Test
+  public void shouldParseParallelMutationDiscoveryFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--parallelMutationDiscovery");
+    assertTrue(actual.isParallelMutationDiscovery());
+  }
+
+  @Test
+  public void shouldParseCostAwareGroupingFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--costAwareGrouping");
+    assertTrue(actual.isCostAwareGrouping());
+  }
+
+  @Test
+  public void shouldParseWorkStealingFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--workStealing");
+    assertTrue(actual.isWorkStealing());
+  }
+
+  @Test
+  public void shouldParseReuseTestThreadFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--reuseTestThread");
+    assertTrue(actual.isReuseTestThread());
+  }
+
+  @Test
+  public void shouldParseRecoverableTimeoutsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--recoverableTimeouts");
+    assertTrue(actual.isRecoverableTimeouts());
+  }
+
+  @Test
+  public void shouldParseFullMutationMatrixFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--fullMutationMatrix");
+    assertTrue(actual.isFullMutationMatrix());
+  }
+
+  @Test
+  public void shouldRunRedTestsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(RedTestPolicy.RUN, actual.getRedTests());
+  }
+
+  @Test
+  public void shouldParseRedTestPolicy() {
+    final ReportOptions actual = parseAddingRequiredArgs("--redTests", "skip");
+    assertEquals(RedTestPolicy.SKIP, actual.getRedTests());
+  }
+
+  @Test
+  public void shouldParseMutantSchemataFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata");
+    assertTrue(actual.isMutantSchemata());
+  }
+
+  @Test
+  public void shouldParseProbeReachFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--probeReach");
+    assertTrue(actual.isProbeReach());
+  }
+
+  @Test
+  public void shouldParseWeakMutationFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--weakMutation");
+    assertTrue(actual.isWeakMutation());
+  }
+
+  @Test
+  public void shouldParseBitsetCoverageFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--bitsetCoverage");
+    assertTrue(actual.isBitsetCoverage());
+  }
+
+  @Test
+  public void shouldParseIncrementalCoverageFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--incrementalCoverage");
+    assertTrue(actual.isIncrementalCoverage());
+  }
+
+  @Test
+  public void shouldParseMaxMutantsPerMinion() {
+    final ReportOptions actual = parseAddingRequiredArgs("--maxMutantsPerMinion",
+        "200");
+    assertEquals(200, actual.getMaxMutantsPerMinion());
+  }
+
+  @Test
+  public void shouldParseCoverageThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--coverageThreads",
+        "4");
+    assertEquals(4, actual.getCoverageThreads());
+  }
+
+  @Test
+  public void shouldDefaultToOneCoverageThread() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertEquals(1, actual.getCoverageThreads());
+  }
+
+  @Test
+  public void shouldParseCoverageShards() {
+    final ReportOptions actual = parseAddingRequiredArgs("--coverageShards",
+        "4");
+    assertEquals(4, actual.getCoverageShards());
+  }
+
+  @Test
+  public void shouldDefaultToOneCoverageShard() {
+    final ReportOptions actual = parseAddingRequiredArgs("--threads", "4");
+    assertEquals(1, actual.getCoverageShards());
+  }
+
   private String getNonCanonicalGregorEngineClassPath() {
     final String gregorEngineClassPath = GregorMutationEngine.class
         .getProtectionDomain().getCodeSource().getLocation().getFile();
@@ -16,10 +16,12 @@
 package org.pitest.coverage;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -28,10 +30,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
@@ -49,7 +48,12 @@ public class CoverageData implements CoverageDatabase {
   // coverage. Ugly mess of maps below should go when
   // api changed to work via blocks
   private final Map<BlockLocation, Set<TestInfo>>             blockCoverage;
+  // same test sets as blockCoverage, indexed by class so per class queries
+  // do not need to scan every block
+  private final Map<ClassName, Map<BlockLocation, Set<TestInfo>>> classBlockCoverage = new LinkedHashMap<>();
   private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<>();
+  // line coverage is derived lazily when first queried, so queries are
+  // synchronized to allow mutations to be searched for on many threads
   private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
   private final Map<String, Collection<ClassInfo>>            classesForFile;
 
@@ -57,7 +61,7 @@ public class CoverageData implements CoverageDatabase {
 
   private final LineMap                                       lm;
 
-  private boolean                                             hasFailedTest = false;
+  private final Set<String>                                   failingTests  = new LinkedHashSet<>();
 
   public CoverageData(final CodeSource code, final LineMap lm) {
     this(code, lm, new LinkedHashMap<BlockLocation, Set<TestInfo>>());
@@ -66,6 +70,9 @@ public class CoverageData implements CoverageDatabase {
 
   public CoverageData(final CodeSource code, final LineMap lm, Map<BlockLocation, Set<TestInfo>> blockCoverage) {
     this.blockCoverage = blockCoverage;
+    for (final Entry<BlockLocation, Set<TestInfo>> each : blockCoverage.entrySet()) {
+      indexBlock(each.getKey(), each.getValue());
+    }
     this.code = code;
     this.lm = lm;
     this.classesForFile = FCollection.bucket(this.code.getCode(),
@@ -73,7 +80,7 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
+  public synchronized Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
     final Collection<TestInfo> result = getTestsForClassName(
         classLine.getClassName()).get(classLine);
     if (result == null) {
@@ -84,7 +91,23 @@ public class CoverageData implements CoverageDatabase {
   }
 
   public boolean allTestsGreen() {
-    return !this.hasFailedTest;
+    return this.failingTests.isEmpty();
+  }
+
+  @Override
+  public synchronized Set<String> getFailingTests() {
+    return Collections.unmodifiableSet(new LinkedHashSet<>(this.failingTests));
+  }
+
+  @Override
+  public synchronized Collection<ClassName> getCoveredClasses() {
+    return new ArrayList<>(this.classBlockCoverage.keySet());
+  }
+
+  @Override
+  public synchronized Map<BlockLocation, Set<TestInfo>> getTestsForBlocksInClass(
+      final ClassName clazz) {
+    return Collections.unmodifiableMap(getBlocksForClass(clazz));
   }
 
   @Override
@@ -93,26 +116,26 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public int getNumberOfCoveredLines(final Collection<ClassName> mutatedClass) {
+  public synchronized int getNumberOfCoveredLines(final Collection<ClassName> mutatedClass) {
     return FCollection.fold(numberCoveredLines(), 0, mutatedClass);
   }
 
   @Override
-  public Collection<TestInfo> getTestsForClass(final ClassName clazz) {
+  public synchronized Collection<TestInfo> getTestsForClass(final ClassName clazz) {
     final Set<TestInfo> tis = new TreeSet<>(
         new TestInfoNameComparator());
-    tis.addAll(this.blockCoverage.entrySet().stream().filter(isFor(clazz))
-        .flatMap(toTests())
-        .collect(Collectors.toList())
-        );
+    for (final Set<TestInfo> each : getBlocksForClass(clazz).values()) {
+      tis.addAll(each);
+    }
     return tis;
   }
 
-  public void calculateClassCoverage(final CoverageResult cr) {
+  public synchronized void calculateClassCoverage(final CoverageResult cr) {
 
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
-        cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
+        cr.getExecutionTime(), cr.getNumberOfCoveredBlocks(),
+        cr.isGreenTest());
     for (final BlockLocation each : cr.getCoverage()) {
       addTestsToBlockMap(ti, each);
     }
@@ -123,12 +146,35 @@ public class CoverageData implements CoverageDatabase {
     if (tests == null) {
       tests = new TreeSet<>(new TestInfoNameComparator());
       this.blockCoverage.put(each, tests);
+      indexBlock(each, tests);
     }
     tests.add(ti);
+    // any line coverage already derived for the class is now stale
+    this.lineCoverage.remove(each.getLocation().getClassName());
+  }
+
+  private void indexBlock(final BlockLocation block, final Set<TestInfo> tests) {
+    Map<BlockLocation, Set<TestInfo>> blocks = this.classBlockCoverage
+        .get(block.getLocation().getClassName());
+    if (blocks == null) {
+      blocks = new LinkedHashMap<>();
+      this.classBlockCoverage.put(block.getLocation().getClassName(), blocks);
+    }
+    blocks.put(block, tests);
+  }
+
+  private Map<BlockLocation, Set<TestInfo>> getBlocksForClass(
+      final ClassName clazz) {
+    final Map<BlockLocation, Set<TestInfo>> blocks = this.classBlockCoverage
+        .get(clazz);
+    if (blocks == null) {
+      return Collections.emptyMap();
+    }
+    return blocks;
   }
 
   @Override
-  public BigInteger getCoverageIdForClass(final ClassName clazz) {
+  public synchronized BigInteger getCoverageIdForClass(final ClassName clazz) {
     final Map<ClassLine, Set<TestInfo>> coverage = getTestsForClassName(clazz);
     if (coverage.isEmpty()) {
       return BigInteger.ZERO;
@@ -137,7 +183,7 @@ public class CoverageData implements CoverageDatabase {
     return generateCoverageNumber(coverage);
   }
 
-  public List<BlockCoverage> createCoverage() {
+  public synchronized List<BlockCoverage> createCoverage() {
     return FCollection.map(this.blockCoverage.entrySet(), toBlockCoverage());
   }
 
@@ -163,7 +209,7 @@ public class CoverageData implements CoverageDatabase {
   }
 
   @Override
-  public CoverageSummary createSummary() {
+  public synchronized CoverageSummary createSummary() {
     return new CoverageSummary(numberOfLines(), coveredLines());
   }
 
@@ -215,18 +261,19 @@ public class CoverageData implements CoverageDatabase {
 
   private void checkForFailedTest(final CoverageResult cr) {
     if (!cr.isGreenTest()) {
-      recordTestFailure();
+      recordTestFailure(cr.getTestUnitDescription());
       LOG.severe(cr.getTestUnitDescription()
           + " did not pass without mutation.");
     }
   }
 
   private TestInfo createTestInfo(final Description description,
-      final int executionTime, final int linesCovered) {
+      final int executionTime, final int linesCovered, final boolean green) {
     final Optional<ClassName> testee = this.code.findTestee(description
         .getFirstTestClass());
     return new TestInfo(description.getFirstTestClass(),
-        description.getQualifiedName(), executionTime, testee, linesCovered);
+        description.getQualifiedName(), executionTime, testee, linesCovered,
+        green);
   }
 
   private BiFunction<Integer, ClassName, Integer> numberCoveredLines() {
@@ -259,8 +306,8 @@ public class CoverageData implements CoverageDatabase {
 
   private Map<ClassLine, Set<TestInfo>> convertBlockCoverageToLineCoverageForClass(
       ClassName clazz) {
-    final List<Entry<BlockLocation, Set<TestInfo>>> tests = FCollection.filter(
-        this.blockCoverage.entrySet(), isFor(clazz));
+    final Collection<Entry<BlockLocation, Set<TestInfo>>> tests = getBlocksForClass(
+        clazz).entrySet();
 
     final Map<ClassLine, Set<TestInfo>> linesToTests = new LinkedHashMap<>(
         0);
@@ -289,7 +336,8 @@ public class CoverageData implements CoverageDatabase {
     return tis;
   }
 
-  private Set<Integer> getLinesForBlock(BlockLocation bl) {
+  @Override
+  public synchronized Set<Integer> getLinesForBlock(final BlockLocation bl) {
     Set<Integer> lines = this.blocksToLines.get(bl);
     if (lines == null) {
       calculateLinesForBlocks(bl.getLocation().getClassName());
@@ -307,17 +355,8 @@ public class CoverageData implements CoverageDatabase {
     this.blocksToLines.putAll(lines);
   }
 
-  private void recordTestFailure() {
-    this.hasFailedTest = true;
-  }
-
-  private Function<Entry<BlockLocation, Set<TestInfo>>, Stream<TestInfo>> toTests() {
-    return a -> a.getValue().stream();
-  }
-
-  private Predicate<Entry<BlockLocation, Set<TestInfo>>> isFor(
-      final ClassName clazz) {
-    return a -> a.getKey().isFor(clazz);
+  private void recordTestFailure(final Description description) {
+    this.failingTests.add(description.getQualifiedName());
   }
 
 }
@@ -2,6 +2,8 @@ package org.pitest.coverage;
 
 import java.math.BigInteger;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
@@ -22,4 +24,15 @@ public interface CoverageDatabase {
 
   CoverageSummary createSummary();
 
+  Collection<ClassName> getCoveredClasses();
+
+  Map<BlockLocation, Set<TestInfo>> getTestsForBlocksInClass(ClassName clazz);
+
+  Set<Integer> getLinesForBlock(BlockLocation block);
+
+  /**
+   * @return names of the tests that did not pass against the unmutated code
+   */
+  Set<String> getFailingTests();
+
 }
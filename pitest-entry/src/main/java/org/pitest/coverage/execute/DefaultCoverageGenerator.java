@@ -18,8 +18,12 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -36,8 +40,11 @@ import org.pitest.functional.SideEffect1;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
+import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.incremental.DefaultCodeHistory;
+import org.pitest.mutationtest.incremental.ReusableCoverage;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.ExitCode;
@@ -58,11 +65,37 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final boolean          showProgress;
+  private final int              numberOfShards;
+  private final Optional<HistoryStore> history;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, final boolean showProgress) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, 1);
+  }
+
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final int numberOfShards) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, numberOfShards, Optional.<HistoryStore> empty());
+  }
+
+  /**
+   * @param history
+   *          when present, coverage is recorded to it, and tests whose
+   *          coverage it holds from a previous run are only run again if their
+   *          class or a class they covered has changed
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final int numberOfShards, final Optional<HistoryStore> history) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -70,6 +103,8 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.showProgress = showProgress;
+    this.numberOfShards = Math.max(1, numberOfShards);
+    this.history = history;
   }
 
   @Override
@@ -121,21 +156,89 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     final List<String> filteredTests = FCollection
         .map(tests, classInfoToName());
 
-    final SideEffect1<CoverageResult> handler = resultProcessor(coverage);
+    if (this.history.isPresent()) {
+      gatherIncrementally(filteredTests, coverage, this.history.get());
+    } else {
+      runTests(filteredTests, resultProcessor(coverage));
+    }
+  }
+
+  private void gatherIncrementally(final List<String> tests,
+      final CoverageData coverage, final HistoryStore history)
+      throws IOException, InterruptedException {
+    final Map<String, List<CoverageResult>> reusable = new ReusableCoverage(
+        new DefaultCodeHistory(this.code, history),
+        history.getHistoricCoverage()).forTestClasses(tests);
+
+    final List<CoverageResult> results = new ArrayList<>();
+    for (final List<CoverageResult> each : reusable.values()) {
+      for (final CoverageResult result : each) {
+        coverage.calculateClassCoverage(result);
+        results.add(result);
+      }
+    }
 
+    final List<String> changed = new ArrayList<>(tests);
+    changed.removeAll(reusable.keySet());
+    LOG.info("Reusing previous coverage for " + reusable.size() + " of "
+        + tests.size() + " test classes");
+
+    if (!changed.isEmpty()) {
+      final SideEffect1<CoverageResult> processor = resultProcessor(coverage);
+      runTests(changed, cr -> {
+        processor.apply(cr);
+        results.add(cr);
+      });
+    }
+
+    history.recordCoverage(results);
+  }
+
+  private void runTests(final List<String> filteredTests,
+      final SideEffect1<CoverageResult> processor) throws IOException,
+      InterruptedException {
+    // results from all shards are funneled into the same coverage data, so
+    // the handler must not be entered by more than one thread at a time
+    final SideEffect1<CoverageResult> handler = synchronize(processor);
+
+    final List<List<String>> shards = shard(filteredTests, this.numberOfShards);
+    if (shards.size() > 1) {
+      LOG.fine("Gathering coverage using " + shards.size() + " minions");
+    }
+
+    final List<CoverageProcess> processes = new ArrayList<>(shards.size());
+    try {
+      for (final List<String> each : shards) {
+        final CoverageProcess process = createProcess(each, handler);
+        process.start();
+        processes.add(process);
+      }
+
+      for (final CoverageProcess each : processes) {
+        checkExitCode(each.waitToDie());
+      }
+    } finally {
+      for (final CoverageProcess each : processes) {
+        each.destroy();
+      }
+    }
+  }
+
+  private CoverageProcess createProcess(final List<String> tests,
+      final SideEffect1<CoverageResult> handler) throws IOException {
     final SocketFinder sf = new SocketFinder();
     final ServerSocket socket = sf.getNextAvailableServerSocket();
 
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
+    // each minion gets its own Receive, so the per JVM class ids it sends
+    // for probes are resolved within the namespace of that shard only
+    return new CoverageProcess(ProcessArgs
         .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
         .andLaunchOptions(this.launchOptions).andStderr(logInfo())
         .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
-
-    process.start();
-
-    final ExitCode exitCode = process.waitToDie();
+        socket, tests, handler);
+  }
 
+  private static void checkExitCode(final ExitCode exitCode) {
     if (exitCode == ExitCode.JUNIT_ISSUE) {
       LOG.severe("Error generating coverage. Please check that your classpath contains JUnit 4.6 or above.");
       throw new PitError(
@@ -149,6 +252,39 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
+  /**
+   * Splits the test classes into at most the requested number of contiguous
+   * shards of near equal size. Tests are sorted first so the same classes
+   * always land in the same shard.
+   */
+  static List<List<String>> shard(final List<String> tests,
+      final int numberOfShards) {
+    final List<String> sorted = new ArrayList<>(tests);
+    Collections.sort(sorted);
+
+    final int shards = Math.max(1, Math.min(numberOfShards, sorted.size()));
+    final List<List<String>> result = new ArrayList<>(shards);
+    final int base = sorted.size() / shards;
+    final int remainder = sorted.size() % shards;
+    int from = 0;
+    for (int i = 0; i != shards; i++) {
+      final int to = from + base + (i < remainder ? 1 : 0);
+      result.add(new ArrayList<>(sorted.subList(from, to)));
+      from = to;
+    }
+    return result;
+  }
+
+  private static SideEffect1<CoverageResult> synchronize(
+      final SideEffect1<CoverageResult> child) {
+    return new SideEffect1<CoverageResult>() {
+      @Override
+      public synchronized void apply(final CoverageResult cr) {
+        child.apply(cr);
+      }
+    };
+  }
+
   private static Function<ClassInfo, String> classInfoToName() {
     return a -> a.getName().asInternalName();
   }
@@ -1,5 +1,6 @@
 package org.pitest.coverage.execute;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -14,6 +15,7 @@ import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
+import org.pitest.util.MessageDecoder;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 
@@ -22,7 +24,10 @@ import sun.pitest.CodeCoverageStore;
 final class Receive implements ReceiveStrategy {
 
   private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  private final MessageDecoder              decoder       = new MessageDecoder();
+
+  // blocks of each class indexed by class id then class wide probe id
+  private BlockLocation[][]                 blocks        = new BlockLocation[0][];
 
   private final SideEffect1<CoverageResult> handler;
 
@@ -44,6 +49,9 @@ final class Receive implements ReceiveStrategy {
     case Id.OUTCOME:
       handleTestEnd(is);
       break;
+    case Id.OUTCOME_BITSETS:
+      handleTestEndBitsets(is);
+      break;
     case Id.DONE:
       // nothing to do ?
     }
@@ -57,36 +65,65 @@ final class Receive implements ReceiveStrategy {
     final int last = is.readInt();
     final Location loc = Location.location(this.classIdToName.get(classId),
         MethodName.fromString(methodName), methodSig);
+    final BlockLocation[] classBlocks = blocksFor(classId, last + 1);
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first));
+      classBlocks[i] = new BlockLocation(loc, i - first);
+    }
+  }
+
+  private BlockLocation[] blocksFor(final int classId, final int size) {
+    if (classId >= this.blocks.length) {
+      this.blocks = Arrays.copyOf(this.blocks,
+          Math.max(this.blocks.length * 2, classId + 1));
+    }
+    BlockLocation[] classBlocks = this.blocks[classId];
+    if (classBlocks == null) {
+      classBlocks = new BlockLocation[size];
+    } else if (classBlocks.length < size) {
+      classBlocks = Arrays.copyOf(classBlocks, size);
     }
+    this.blocks[classId] = classBlocks;
+    return classBlocks;
   }
 
   private void handleTestEnd(final SafeDataInputStream is) {
-    final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
+    final Description d = this.decoder.readDescription(is);
+    final long[] probeHits = this.decoder.readProbeHits(is);
 
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
+    final Set<BlockLocation> hits = new HashSet<>(probeHits.length);
 
-    for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
+    for (final long each : probeHits) {
+      hits.add(probeToBlock(CodeCoverageStore.decodeClassId(each),
+          CodeCoverageStore.decodeLineId(each)));
     }
 
     this.handler.apply(createCoverageResult(is, d, hits));
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
-      final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
+  private void handleTestEndBitsets(final SafeDataInputStream is) {
+    final Description d = this.decoder.readDescription(is);
+
+    final Set<BlockLocation> hits = new HashSet<>();
+    this.decoder.readClassHits(is, (classId, firstProbe, count) -> {
+      for (int i = firstProbe; i != (firstProbe + count); i++) {
+        hits.add(probeToBlock(classId, i));
+      }
+    });
+
+    this.handler.apply(createCoverageResult(is, d, hits));
   }
 
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+  private BlockLocation probeToBlock(final int classId, final int probe) {
+    if (classId >= this.blocks.length) {
+      return null;
+    }
+    final BlockLocation[] classBlocks = this.blocks[classId];
+    if ((classBlocks == null) || (probe >= classBlocks.length)) {
+      return null;
+    }
+    return classBlocks[probe];
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
@@ -6,6 +6,7 @@ import java.util.Map;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
 public interface HistoryStore {
@@ -16,8 +17,12 @@ public interface HistoryStore {
 
   void recordResult(MutationResult result);
 
+  void recordCoverage(Collection<CoverageResult> coverage);
+
   Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults();
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  Collection<CoverageResult> getHistoricCoverage();
+
 }
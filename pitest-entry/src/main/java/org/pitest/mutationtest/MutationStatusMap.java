@@ -74,6 +74,22 @@ public class MutationStatusMap {
         .collect(Collectors.toList());
   }
 
+  public int countWithStatus(final Collection<MutationDetails> mutations,
+      final DetectionStatus status) {
+    int count = 0;
+    for (final MutationDetails each : mutations) {
+      final MutationStatusTestPair pair = this.mutationMap.get(each);
+      if ((pair != null) && pair.getStatus().equals(status)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  public void removeMutations(final Collection<MutationDetails> mutations) {
+    this.mutationMap.keySet().removeAll(mutations);
+  }
+
   public Set<MutationDetails> allMutations() {
     return this.mutationMap.keySet();
   }
@@ -0,0 +1,47 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Moves or removes the tests that failed against the unmutated code, keeping
+ * the order the child prioritiser gave to the rest.
+ */
+public class BaselineAwareTestPrioritiser implements TestPrioritiser {
+
+  private final TestPrioritiser child;
+  private final RedTestPolicy   policy;
+
+  public BaselineAwareTestPrioritiser(final TestPrioritiser child,
+      final RedTestPolicy policy) {
+    this.child = child;
+    this.policy = policy;
+  }
+
+  @Override
+  public List<TestInfo> assignTests(final MutationDetails mutation) {
+    final List<TestInfo> tests = this.child.assignTests(mutation);
+    if (this.policy == RedTestPolicy.RUN) {
+      return tests;
+    }
+
+    final List<TestInfo> green = new ArrayList<>(tests.size());
+    final List<TestInfo> red = new ArrayList<>();
+    for (final TestInfo each : tests) {
+      if (each.isGreenTest()) {
+        green.add(each);
+      } else {
+        red.add(each);
+      }
+    }
+
+    if (this.policy == RedTestPolicy.LAST) {
+      green.addAll(red);
+    }
+    return green;
+  }
+
+}
@@ -0,0 +1,180 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Groups mutations into units of similar estimated run time.
+ *
+ * The cost of a mutation is estimated as the time taken by the tests assigned
+ * to it during coverage, as in the worst case all of them must run. Each
+ * class is cut into chunks no costlier than a target unit cost, and chunks
+ * are then packed together, largest first, so that small classes share a
+ * minion. The target is chosen so each thread receives several units, which
+ * leaves room for the scheduler to balance the tail of the run.
+ */
+public class CostAwareGrouper implements MutationGrouper {
+
+  // Allowance for the time taken to insert a mutant, so mutations without
+  // tests still carry some weight
+  static final int         MUTANT_OVERHEAD  = 1;
+
+  private static final int UNITS_PER_THREAD = 4;
+
+  private final int        numberOfThreads;
+  private final int        unitSize;
+
+  /**
+   * @param numberOfThreads
+   *          number of threads that will analyse the units
+   * @param unitSize
+   *          maximum number of mutations in a unit, or 0 or less for no limit
+   */
+  public CostAwareGrouper(final int numberOfThreads, final int unitSize) {
+    this.numberOfThreads = Math.max(1, numberOfThreads);
+    this.unitSize = unitSize;
+  }
+
+  @Override
+  public List<List<MutationDetails>> groupMutations(
+      final Collection<ClassName> codeClasses,
+      final Collection<MutationDetails> mutations) {
+    if (mutations.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    final long target = targetUnitCost(mutations);
+
+    final List<Unit> chunks = new ArrayList<>();
+    for (final List<MutationDetails> each : bucketByClass(mutations)) {
+      chunks.addAll(split(each, target));
+    }
+
+    final List<Unit> packed = pack(chunks, target);
+
+    final List<List<MutationDetails>> units = new ArrayList<>(packed.size());
+    for (final Unit each : packed) {
+      units.add(each.mutations);
+    }
+    return units;
+  }
+
+  @Override
+  public int priority(final Collection<MutationDetails> unit) {
+    long cost = 0;
+    for (final MutationDetails each : unit) {
+      cost = cost + cost(each);
+    }
+    // leave MAX_VALUE for units whose results are already known
+    return (int) Math.min(cost, Integer.MAX_VALUE - 1);
+  }
+
+  static long cost(final MutationDetails mutation) {
+    long cost = MUTANT_OVERHEAD;
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      cost = cost + Math.max(0, each.getTime());
+    }
+    return cost;
+  }
+
+  private long targetUnitCost(final Collection<MutationDetails> mutations) {
+    long total = 0;
+    long largest = 0;
+    for (final MutationDetails each : mutations) {
+      final long cost = cost(each);
+      total = total + cost;
+      largest = Math.max(largest, cost);
+    }
+    final long units = (long) this.numberOfThreads * UNITS_PER_THREAD;
+    return Math.max(largest, (total + units - 1) / units);
+  }
+
+  private static Collection<List<MutationDetails>> bucketByClass(
+      final Collection<MutationDetails> mutations) {
+    final Map<ClassName, List<MutationDetails>> bucketed = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      bucketed.computeIfAbsent(each.getClassName(), k -> new ArrayList<>())
+          .add(each);
+    }
+    return bucketed.values();
+  }
+
+  private List<Unit> split(final List<MutationDetails> mutations,
+      final long target) {
+    final List<Unit> chunks = new ArrayList<>();
+    Unit current = new Unit();
+    for (final MutationDetails each : mutations) {
+      final long cost = cost(each);
+      if (!current.mutations.isEmpty() && !fits(current, cost, target)) {
+        chunks.add(current);
+        current = new Unit();
+      }
+      current.add(each, cost);
+    }
+    chunks.add(current);
+    return chunks;
+  }
+
+  private List<Unit> pack(final List<Unit> chunks, final long target) {
+    final List<Unit> sorted = new ArrayList<>(chunks);
+    sorted.sort(largestFirst());
+
+    final List<Unit> bins = new ArrayList<>();
+    for (final Unit chunk : sorted) {
+      Unit bin = null;
+      for (final Unit each : bins) {
+        if (fits(each, chunk, target)) {
+          bin = each;
+          break;
+        }
+      }
+      if (bin == null) {
+        bins.add(chunk);
+      } else {
+        bin.addAll(chunk);
+      }
+    }
+
+    bins.sort(largestFirst());
+    return bins;
+  }
+
+  private boolean fits(final Unit unit, final long cost, final long target) {
+    return ((unit.cost + cost) <= target)
+        && ((this.unitSize <= 0) || (unit.mutations.size() < this.unitSize));
+  }
+
+  private boolean fits(final Unit unit, final Unit chunk, final long target) {
+    return ((unit.cost + chunk.cost) <= target)
+        && ((this.unitSize <= 0)
+            || ((unit.mutations.size() + chunk.mutations.size()) <= this.unitSize));
+  }
+
+  private static Comparator<Unit> largestFirst() {
+    return (a, b) -> Long.compare(b.cost, a.cost);
+  }
+
+  private static class Unit {
+    private final List<MutationDetails> mutations = new ArrayList<>();
+    private long                        cost;
+
+    void add(final MutationDetails mutation, final long mutationCost) {
+      this.mutations.add(mutation);
+      this.cost = this.cost + mutationCost;
+    }
+
+    void addAll(final Unit other) {
+      this.mutations.addAll(other.mutations);
+      this.cost = this.cost + other.cost;
+    }
+  }
+
+}
@@ -0,0 +1,20 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Properties;
+
+import org.pitest.classpath.CodeSource;
+
+public class CostAwareGrouperFactory implements MutationGrouperFactory {
+
+  @Override
+  public String description() {
+    return "Cost aware mutation grouping";
+  }
+
+  @Override
+  public MutationGrouper makeFactory(final Properties props,
+      final CodeSource codeSource, final int numberOfThreads, final int unitSize) {
+    return new CostAwareGrouper(numberOfThreads, unitSize);
+  }
+
+}
@@ -0,0 +1,73 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Finds mutants that can be given the result of the mutant they duplicate
+ * rather than being run.
+ *
+ * Tests are assigned to each mutant by line after the duplicates have been
+ * marked, so two identical mutants can be covered by different tests. Only a
+ * duplicate that would be run against exactly the same tests as its
+ * representative is resolved, others are run as normal.
+ */
+final class DuplicateMutants {
+
+  private DuplicateMutants() {
+  }
+
+  /**
+   * Returns the duplicates whose representative is within the given mutations
+   * and is covered by the same tests.
+   */
+  static List<MutationDetails> resolvable(
+      final Collection<MutationDetails> mutations) {
+    final Map<MutationIdentifier, MutationDetails> byId = byId(mutations);
+    final List<MutationDetails> duplicates = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      if (!each.getDuplicateOf().isPresent()) {
+        continue;
+      }
+      final MutationDetails representative = byId.get(each.getDuplicateOf()
+          .get());
+      if ((representative != null) && representative.getTestsInOrder()
+          .equals(each.getTestsInOrder())) {
+        duplicates.add(each);
+      }
+    }
+    return duplicates;
+  }
+
+  /**
+   * Returns the duplicates whose representative is one of the given mutations.
+   */
+  static List<MutationDetails> of(
+      final Collection<MutationDetails> representatives,
+      final Collection<MutationDetails> duplicates) {
+    final Map<MutationIdentifier, MutationDetails> byId = byId(representatives);
+    final List<MutationDetails> matching = new ArrayList<>();
+    for (final MutationDetails each : duplicates) {
+      if (byId.containsKey(each.getDuplicateOf().get())) {
+        matching.add(each);
+      }
+    }
+    return matching;
+  }
+
+  private static Map<MutationIdentifier, MutationDetails> byId(
+      final Collection<MutationDetails> mutations) {
+    final Map<MutationIdentifier, MutationDetails> byId = new HashMap<>();
+    for (final MutationDetails each : mutations) {
+      byId.put(each.getId(), each);
+    }
+    return byId;
+  }
+
+}
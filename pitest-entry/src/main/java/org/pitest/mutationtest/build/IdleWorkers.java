@@ -0,0 +1,23 @@
+package org.pitest.mutationtest.build;
+
+/**
+ * Allows a running unit to hand part of its work to threads that would
+ * otherwise sit idle at the end of a run.
+ */
+public interface IdleWorkers {
+
+  /**
+   * @return true if a thread is free to pick up more work
+   */
+  boolean available();
+
+  /**
+   * Schedules a unit split off from a running unit. Results of the unit are
+   * reported as for any other unit.
+   *
+   * @param unit
+   *          unit to schedule
+   */
+  void submit(MutationAnalysisUnit unit);
+
+}
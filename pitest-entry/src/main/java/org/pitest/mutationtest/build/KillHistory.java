@@ -0,0 +1,70 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * The tests that killed each mutant in the previous run, and how often each
+ * test killed a mutant within each method.
+ *
+ * Built once from the history and not changed afterwards, so can be shared
+ * by prioritisers on different threads.
+ */
+public final class KillHistory {
+
+  private final Map<MutationIdentifier, String>     killers;
+  private final Map<Location, Map<String, Integer>> methodKills;
+
+  private KillHistory(final Map<MutationIdentifier, String> killers,
+      final Map<Location, Map<String, Integer>> methodKills) {
+    this.killers = killers;
+    this.methodKills = methodKills;
+  }
+
+  public static KillHistory fromResults(
+      final Map<MutationIdentifier, MutationStatusTestPair> history) {
+    final Map<MutationIdentifier, String> killers = new HashMap<>();
+    final Map<Location, Map<String, Integer>> methodKills = new HashMap<>();
+    for (final Map.Entry<MutationIdentifier, MutationStatusTestPair> each : history
+        .entrySet()) {
+      final Optional<String> killer = each.getValue().getKillingTest();
+      if (killer.isPresent()) {
+        killers.put(each.getKey(), killer.get());
+        methodKills
+            .computeIfAbsent(each.getKey().getLocation(),
+                k -> new HashMap<>())
+            .merge(killer.get(), 1, Integer::sum);
+      }
+    }
+
+    final Map<Location, Map<String, Integer>> readOnly = new HashMap<>();
+    for (final Map.Entry<Location, Map<String, Integer>> each : methodKills
+        .entrySet()) {
+      readOnly.put(each.getKey(), Collections.unmodifiableMap(each.getValue()));
+    }
+    return new KillHistory(Collections.unmodifiableMap(killers),
+        Collections.unmodifiableMap(readOnly));
+  }
+
+  /**
+   * The test that killed the mutant in the previous run, or null
+   */
+  String killerOf(final MutationIdentifier id) {
+    return this.killers.get(id);
+  }
+
+  /**
+   * Number of mutants each test killed in the method, or null if none were
+   * killed there
+   */
+  Map<String, Integer> killsIn(final Location method) {
+    return this.methodKills.get(method);
+  }
+
+}
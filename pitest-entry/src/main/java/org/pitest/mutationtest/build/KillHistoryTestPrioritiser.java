@@ -0,0 +1,55 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Moves the test that killed a mutant in the previous run to the front,
+ * followed by tests that killed other mutants in the same method, most
+ * frequent killer first. The child prioritiser's order is kept otherwise.
+ *
+ * As a killed mutant stops at its first failing test, running the previous
+ * killer first usually means only one test is run, even when the class has
+ * changed so the previous result cannot be reused.
+ */
+public class KillHistoryTestPrioritiser implements TestPrioritiser {
+
+  private final TestPrioritiser child;
+  private final KillHistory     history;
+
+  public KillHistoryTestPrioritiser(final TestPrioritiser child,
+      final KillHistory history) {
+    this.child = child;
+    this.history = history;
+  }
+
+  @Override
+  public List<TestInfo> assignTests(final MutationDetails mutation) {
+    final List<TestInfo> tests = this.child.assignTests(mutation);
+    final Map<String, Integer> kills = this.history.killsIn(mutation.getId()
+        .getLocation());
+    if ((kills == null) || (tests.size() < 2)) {
+      return tests;
+    }
+
+    final String killer = this.history.killerOf(mutation.getId());
+    final List<TestInfo> ordered = new ArrayList<>(tests);
+    // the sort is stable so tests that never killed keep their order
+    ordered.sort((a, b) -> Integer.compare(score(b.getName(), kills, killer),
+        score(a.getName(), kills, killer)));
+    return ordered;
+  }
+
+  private static int score(final String test, final Map<String, Integer> kills,
+      final String killer) {
+    if (test.equals(killer)) {
+      return Integer.MAX_VALUE;
+    }
+    return kills.getOrDefault(test, 0);
+  }
+
+}
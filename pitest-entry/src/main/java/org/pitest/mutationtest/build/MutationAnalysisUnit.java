@@ -11,4 +11,16 @@ public interface MutationAnalysisUnit extends Callable<MutationMetaData> {
 
   int priority();
 
+  /**
+   * Returns a unit that may split off part of its remaining work to idle
+   * threads. Units that cannot be split return themselves.
+   *
+   * @param idle
+   *          threads available to pick up split off work
+   * @return a unit performing the same analysis
+   */
+  default MutationAnalysisUnit allowSplitting(IdleWorkers idle) {
+    return this;
+  }
+
 }
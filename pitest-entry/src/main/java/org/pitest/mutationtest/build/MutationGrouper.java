@@ -11,4 +11,16 @@ public interface MutationGrouper {
   List<List<MutationDetails>> groupMutations(Collection<ClassName> codeClasses,
       Collection<MutationDetails> mutations);
 
+  /**
+   * Priority of a unit of mutations created by this grouper. Units with the
+   * highest priority are analysed first.
+   *
+   * @param unit
+   *          mutations in a unit
+   * @return priority of the unit, by default the number of mutations it holds
+   */
+  default int priority(Collection<MutationDetails> unit) {
+    return unit.size();
+  }
+
 }
@@ -21,8 +21,14 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
@@ -33,30 +39,49 @@ import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
 
 public class MutationTestBuilder {
 
-  private final MutationSource   mutationSource;
-  private final MutationAnalyser analyser;
-  private final WorkerFactory    workerFactory;
-  private final MutationGrouper  grouper;
+  private static final Logger            LOG = Log.getLogger();
+
+  private final Supplier<MutationSource> mutationSources;
+  private final MutationAnalyser         analyser;
+  private final WorkerFactory            workerFactory;
+  private final MutationGrouper          grouper;
+  private final int                      discoveryThreads;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
       final MutationAnalyser analyser, final MutationSource mutationSource,
       final MutationGrouper grouper) {
+    this(workerFactory, analyser, () -> mutationSource, grouper, 1);
+  }
+
+  /**
+   * @param mutationSources
+   *          supplies a mutation source for each discovery thread. Sources are
+   *          never shared between threads.
+   * @param discoveryThreads
+   *          number of threads used to search classes for mutations
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+      final MutationAnalyser analyser,
+      final Supplier<MutationSource> mutationSources,
+      final MutationGrouper grouper, final int discoveryThreads) {
 
-    this.mutationSource = mutationSource;
+    this.mutationSources = mutationSources;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.discoveryThreads = discoveryThreads;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
       final Collection<ClassName> codeClasses) {
     final List<MutationAnalysisUnit> tus = new ArrayList<>();
 
-    final List<MutationDetails> mutations = FCollection.flatMap(codeClasses,
-        classToMutations());
+    final List<MutationDetails> mutations = findMutations(codeClasses);
 
     Collections.sort(mutations, comparator());
 
@@ -76,9 +101,11 @@ public class MutationTestBuilder {
     }
 
     if (!needAnalysis.isEmpty()) {
+      final List<MutationDetails> duplicates = resolvableDuplicates(needAnalysis);
+      needAnalysis.removeAll(duplicates);
       for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
           codeClasses, needAnalysis)) {
-        tus.add(makeUnanalysedUnit(ms));
+        tus.add(makeUnanalysedUnit(withDuplicates(ms, duplicates)));
       }
     }
 
@@ -86,12 +113,83 @@ public class MutationTestBuilder {
     return tus;
   }
 
+  // duplicates whose representative will be run are kept with it so its
+  // result can be shared
+  private static List<MutationDetails> resolvableDuplicates(
+      final Collection<MutationDetails> mutations) {
+    final List<MutationDetails> duplicates = DuplicateMutants
+        .resolvable(mutations);
+    if (!duplicates.isEmpty()) {
+      LOG.info(duplicates.size() + " of " + mutations.size()
+          + " mutants duplicate another mutant and will share its result");
+    }
+    return duplicates;
+  }
+
+  private static Collection<MutationDetails> withDuplicates(
+      final Collection<MutationDetails> group,
+      final List<MutationDetails> duplicates) {
+    if (duplicates.isEmpty()) {
+      return group;
+    }
+    final List<MutationDetails> withDuplicates = new ArrayList<>(group);
+    withDuplicates.addAll(DuplicateMutants.of(group, duplicates));
+    return withDuplicates;
+  }
+
   private Comparator<MutationDetails> comparator() {
     return (arg0, arg1) -> arg0.getId().compareTo(arg1.getId());
   }
 
-  private Function<ClassName, Iterable<MutationDetails>> classToMutations() {
-    return a -> MutationTestBuilder.this.mutationSource.createMutations(a);
+  private List<MutationDetails> findMutations(
+      final Collection<ClassName> codeClasses) {
+    if ((this.discoveryThreads <= 1) || (codeClasses.size() <= 1)) {
+      return FCollection.flatMap(codeClasses,
+          classToMutations(this.mutationSources.get()));
+    }
+
+    final ThreadLocal<MutationSource> sources = ThreadLocal
+        .withInitial(this.mutationSources);
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(
+        this.discoveryThreads, codeClasses.size()));
+    try {
+      final List<Future<Collection<MutationDetails>>> results = new ArrayList<>(
+          codeClasses.size());
+      for (final ClassName each : codeClasses) {
+        results.add(executor.submit(() -> sources.get().createMutations(each)));
+      }
+
+      // collect in submission order so the result does not depend on which
+      // thread finished first
+      final List<MutationDetails> mutations = new ArrayList<>();
+      for (final Future<Collection<MutationDetails>> each : results) {
+        mutations.addAll(each.get());
+      }
+      return mutations;
+    } catch (final ExecutionException e) {
+      throw rethrow(e.getCause());
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static RuntimeException rethrow(final Throwable cause) {
+    // surface the same error a sequential search would have thrown
+    if (cause instanceof RuntimeException) {
+      return (RuntimeException) cause;
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    return Unchecked.translateCheckedException(cause);
+  }
+
+  private static Function<ClassName, Iterable<MutationDetails>> classToMutations(
+      final MutationSource source) {
+    return a -> source.createMutations(a);
   }
 
   private MutationAnalysisUnit makePreAnalysedUnit(
@@ -106,7 +204,7 @@ public class MutationTestBuilder {
         uniqueTestClasses);
 
     return new MutationTestUnit(needAnalysis, uniqueTestClasses,
-        this.workerFactory);
+        this.workerFactory, this.grouper.priority(needAnalysis));
   }
 
   private static Function<MutationResult, MutationDetails> resultToDetails() {
@@ -15,15 +15,21 @@
 package org.pitest.mutationtest.build;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.engine.MutationDetails;
-import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.MinionProcess;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Log;
 
@@ -35,47 +41,101 @@ public class MutationTestUnit implements MutationAnalysisUnit {
   private final WorkerFactory               workerFactory;
 
   private final Collection<ClassName>       testClasses;
+  private final int                         priority;
+  private final IdleWorkers                 idle;
 
   public MutationTestUnit(final Collection<MutationDetails> availableMutations,
       final Collection<ClassName> testClasses, final WorkerFactory workerFactor) {
+    this(availableMutations, testClasses, workerFactor,
+        availableMutations.size());
+  }
+
+  public MutationTestUnit(final Collection<MutationDetails> availableMutations,
+      final Collection<ClassName> testClasses, final WorkerFactory workerFactor,
+      final int priority) {
+    this(availableMutations, testClasses, workerFactor, priority, null);
+  }
+
+  private MutationTestUnit(final Collection<MutationDetails> availableMutations,
+      final Collection<ClassName> testClasses, final WorkerFactory workerFactor,
+      final int priority, final IdleWorkers idle) {
     this.availableMutations = availableMutations;
     this.testClasses = testClasses;
     this.workerFactory = workerFactor;
+    this.priority = priority;
+    this.idle = idle;
   }
 
   @Override
   public MutationMetaData call() throws Exception {
     final MutationStatusMap mutations = new MutationStatusMap();
+    final List<MutationDetails> duplicates = DuplicateMutants
+        .resolvable(this.availableMutations);
+    final List<MutationDetails> toRun = new ArrayList<>(
+        this.availableMutations);
+    toRun.removeAll(duplicates);
 
-    mutations.setStatusForMutations(this.availableMutations,
-        DetectionStatus.NOT_STARTED);
+    mutations.setStatusForMutations(toRun, DetectionStatus.NOT_STARTED);
 
     mutations.markUncoveredMutations();
 
-    runTestsInSeperateProcess(mutations);
+    runTestsInSeperateProcess(mutations, duplicates);
 
-    return reportResults(mutations);
+    return reportResults(mutations, duplicates);
   }
 
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    return this.priority;
   }
 
-  private void runTestsInSeperateProcess(final MutationStatusMap mutations)
+  @Override
+  public MutationAnalysisUnit allowSplitting(final IdleWorkers idleWorkers) {
+    return new MutationTestUnit(this.availableMutations, this.testClasses,
+        this.workerFactory, this.priority, idleWorkers);
+  }
+
+  private void runTestsInSeperateProcess(final MutationStatusMap mutations,
+      final List<MutationDetails> duplicates)
       throws IOException, InterruptedException {
     while (mutations.hasUnrunMutations()) {
+      splitToIdleWorkers(mutations, duplicates);
       runTestInSeperateProcessForMutationRange(mutations);
     }
   }
 
+  // Each minion start is a point at which the unstarted mutations can be
+  // shared out. Units slowed down by timeouts start many minions, so the
+  // tail of a run is spread over threads that would otherwise be idle.
+  private void splitToIdleWorkers(final MutationStatusMap mutations,
+      final List<MutationDetails> duplicates) {
+    if ((this.idle == null) || !this.idle.available()) {
+      return;
+    }
+
+    final List<MutationDetails> unrun = new ArrayList<>(
+        mutations.getUnrunMutations());
+    if (unrun.size() < 2) {
+      return;
+    }
+
+    final List<MutationDetails> stolen = new ArrayList<>(unrun.subList(
+        unrun.size() / 2, unrun.size()));
+    mutations.removeMutations(stolen);
+    stolen.addAll(DuplicateMutants.of(stolen, duplicates));
+    duplicates.removeAll(stolen);
+    LOG.fine("Splitting " + stolen.size() + " unstarted mutations to idle worker");
+    this.idle.submit(new MutationTestUnit(stolen, this.testClasses,
+        this.workerFactory, stolen.size(), this.idle));
+  }
+
   private void runTestInSeperateProcessForMutationRange(
       final MutationStatusMap mutations) throws IOException,
       InterruptedException {
 
     final Collection<MutationDetails> remainingMutations = mutations
         .getUnrunMutations();
-    final MutationTestProcess worker = this.workerFactory.createWorker(
+    final MinionProcess worker = this.workerFactory.createWorker(
         remainingMutations, this.testClasses);
     worker.start();
 
@@ -85,10 +145,23 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     final ExitCode exitCode = waitForMinionToDie(worker);
     worker.results(mutations);
 
+    recordRecoveredTimeouts(mutations, remainingMutations);
+
     correctResultForProcessExitCode(mutations, exitCode);
   }
 
-  private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
+  // a minion only reports a timeout itself when it recovered and carried on,
+  // otherwise the timeout is inferred from its exit code
+  private void recordRecoveredTimeouts(final MutationStatusMap mutations,
+      final Collection<MutationDetails> batch) {
+    final int recovered = mutations.countWithStatus(batch,
+        DetectionStatus.TIMED_OUT);
+    if (recovered != 0) {
+      this.workerFactory.recordRecoveredTimeouts(recovered);
+    }
+  }
+
+  private static ExitCode waitForMinionToDie(final MinionProcess worker) {
     final ExitCode exitCode = worker.waitToDie();
     LOG.fine("Exit code was - " + exitCode);
     return exitCode;
@@ -120,8 +193,19 @@ public class MutationTestUnit implements MutationAnalysisUnit {
 
   }
 
-  private static MutationMetaData reportResults(final MutationStatusMap mutationsMap) {
-    return new MutationMetaData(mutationsMap.createMutationResults());
+  private static MutationMetaData reportResults(
+      final MutationStatusMap mutationsMap,
+      final List<MutationDetails> duplicates) {
+    final List<MutationResult> results = mutationsMap.createMutationResults();
+    final Map<MutationIdentifier, MutationResult> byId = new HashMap<>();
+    for (final MutationResult each : results) {
+      byId.put(each.getDetails().getId(), each);
+    }
+    for (final MutationDetails each : duplicates) {
+      results.add(new MutationResult(each,
+          byId.get(each.getDuplicateOf().get()).getStatusTestPair()));
+    }
+    return new MutationMetaData(results);
   }
 
 
@@ -0,0 +1,27 @@
+package org.pitest.mutationtest.build;
+
+/**
+ * How tests that fail against the unmutated code are treated when tests are
+ * assigned to mutants.
+ *
+ * However they are ordered, the failure of such a test does not kill a
+ * mutant, so running them mostly wastes time.
+ */
+public enum RedTestPolicy {
+
+  /**
+   * Leave failing tests where the prioritiser placed them
+   */
+  RUN,
+
+  /**
+   * Run failing tests after all passing tests
+   */
+  LAST,
+
+  /**
+   * Do not run failing tests against mutants
+   */
+  SKIP;
+
+}
@@ -4,6 +4,7 @@ import static org.pitest.functional.prelude.Prelude.printWith;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.SideEffect1;
@@ -11,10 +12,14 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.config.MinionOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionPool;
+import org.pitest.mutationtest.execute.MinionProcess;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.PooledMutationTestProcess;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
@@ -28,6 +33,9 @@ public class WorkerFactory {
   private final boolean               verbose;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final MinionPool            pool;
+  private final MinionOptions         options;
+  private final AtomicInteger         recoveredTimeouts = new AtomicInteger();
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -36,6 +44,18 @@ public class WorkerFactory {
       final TimeoutLengthStrategy timeoutStrategy,
       final boolean verbose,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        classPath, MinionOptions.defaults());
+  }
+
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final String classPath,
+      final MinionOptions options) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
@@ -43,26 +63,59 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.options = options;
+    this.pool = options.isReuseMinions() ? new MinionPool(createProcessArgs(),
+        options.getMaxMutantsPerMinion()) : null;
   }
 
-  public MutationTestProcess createWorker(
+  public MinionProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
       final Collection<ClassName> testClasses) {
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.isVerbose(), this.pitConfig);
+        Log.isVerbose(), this.pitConfig, this.options);
 
-    final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
-        .andLaunchOptions(this.config.getLaunchOptions())
-        .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
-        .andStderr(printWith("stderr "));
+    if (this.pool != null) {
+      return new PooledMutationTestProcess(this.pool, fileArgs,
+          remainingMutations.size());
+    }
 
     final SocketFinder sf = new SocketFinder();
     final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+        sf.getNextAvailableServerSocket(), createProcessArgs(), fileArgs);
     return worker;
   }
 
+  /**
+   * Records timeouts that a minion recovered from without exiting
+   */
+  public void recordRecoveredTimeouts(final int count) {
+    this.recoveredTimeouts.addAndGet(count);
+  }
+
+  /**
+   * @return number of minion restarts avoided by recovering from timeouts
+   */
+  public int getRecoveredTimeouts() {
+    return this.recoveredTimeouts.get();
+  }
+
+  /**
+   * Shuts down any minions kept alive for reuse
+   */
+  public void close() {
+    if (this.pool != null) {
+      this.pool.shutdown();
+    }
+  }
+
+  private ProcessArgs createProcessArgs() {
+    return ProcessArgs.withClassPath(this.classPath)
+        .andLaunchOptions(this.config.getLaunchOptions())
+        .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
+        .andStderr(printWith("stderr "));
+  }
+
   private SideEffect1<String> captureStdOutIfVerbose() {
     if (this.verbose) {
       return Prelude.printWith("stdout ");
@@ -0,0 +1,316 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+/**
+ * Renders a method body as a string that is the same for bodies that differ
+ * only trivially. Debug information, frames and unused labels are dropped,
+ * operations that leave their operand unchanged (such as multiplying by one)
+ * are removed and comparisons of two constants are replaced by their
+ * outcome.
+ */
+final class CanonicalMethod {
+
+  private CanonicalMethod() {
+  }
+
+  static String canonicalise(final MethodNode method) {
+    final List<AbstractInsnNode> instructions = new ArrayList<>();
+    for (final AbstractInsnNode each : method.instructions.toArray()) {
+      if (!(each instanceof LineNumberNode) && !(each instanceof FrameNode)) {
+        instructions.add(each);
+      }
+    }
+
+    while (simplify(instructions)) {
+      // repeat until nothing more can be removed
+    }
+
+    final Map<LabelNode, Integer> labels = numberUsedLabels(instructions,
+        method.tryCatchBlocks);
+    final StringBuilder sb = new StringBuilder();
+    for (final AbstractInsnNode each : instructions) {
+      if (each instanceof LabelNode) {
+        if (labels.containsKey(each)) {
+          sb.append('L').append(labels.get(each)).append('\n');
+        }
+      } else {
+        append(sb, each, labels);
+        sb.append('\n');
+      }
+    }
+    for (final TryCatchBlockNode each : method.tryCatchBlocks) {
+      sb.append("TRY L").append(labels.get(each.start)).append(" L")
+          .append(labels.get(each.end)).append(" L")
+          .append(labels.get(each.handler)).append(' ').append(each.type)
+          .append('\n');
+    }
+    return sb.toString();
+  }
+
+  private static boolean simplify(final List<AbstractInsnNode> instructions) {
+    for (int i = 0; i < (instructions.size() - 1); i++) {
+      final AbstractInsnNode first = instructions.get(i);
+      final AbstractInsnNode second = instructions.get(i + 1);
+      if (isIdentity(first, second)) {
+        instructions.subList(i, i + 2).clear();
+        return true;
+      }
+
+      final Optional<Integer> a = intConstant(first);
+      if (a.isPresent() && isJumpOnInt(second)) {
+        replaceJump(instructions, i, 2, (JumpInsnNode) second,
+            compare(second.getOpcode() - Opcodes.IFEQ, a.get(), 0));
+        return true;
+      }
+
+      if ((i < (instructions.size() - 2)) && a.isPresent()
+          && intConstant(second).isPresent()
+          && isJumpOnInts(instructions.get(i + 2))) {
+        final AbstractInsnNode jump = instructions.get(i + 2);
+        replaceJump(instructions, i, 3, (JumpInsnNode) jump,
+            compare(jump.getOpcode() - Opcodes.IF_ICMPEQ, a.get(),
+                intConstant(second).get()));
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void replaceJump(final List<AbstractInsnNode> instructions,
+      final int start, final int length, final JumpInsnNode jump,
+      final boolean taken) {
+    instructions.subList(start, start + length).clear();
+    if (taken) {
+      instructions.add(start, new JumpInsnNode(Opcodes.GOTO, jump.label));
+    }
+  }
+
+  // offset orders the conditions as EQ, NE, LT, GE, GT, LE
+  private static boolean compare(final int condition, final int a,
+      final int b) {
+    switch (condition) {
+    case 0:
+      return a == b;
+    case 1:
+      return a != b;
+    case 2:
+      return a < b;
+    case 3:
+      return a >= b;
+    case 4:
+      return a > b;
+    default:
+      return a <= b;
+    }
+  }
+
+  private static boolean isJumpOnInt(final AbstractInsnNode insn) {
+    return (insn.getOpcode() >= Opcodes.IFEQ)
+        && (insn.getOpcode() <= Opcodes.IFLE);
+  }
+
+  private static boolean isJumpOnInts(final AbstractInsnNode insn) {
+    return (insn.getOpcode() >= Opcodes.IF_ICMPEQ)
+        && (insn.getOpcode() <= Opcodes.IF_ICMPLE);
+  }
+
+  private static boolean isIdentity(final AbstractInsnNode constant,
+      final AbstractInsnNode operation) {
+    final Optional<Object> value = constant(constant);
+    if (!value.isPresent()) {
+      return false;
+    }
+    final Object c = value.get();
+    switch (operation.getOpcode()) {
+    case Opcodes.IADD:
+    case Opcodes.ISUB:
+    case Opcodes.IOR:
+    case Opcodes.IXOR:
+    case Opcodes.ISHL:
+    case Opcodes.ISHR:
+    case Opcodes.IUSHR:
+    case Opcodes.LSHL:
+    case Opcodes.LSHR:
+    case Opcodes.LUSHR:
+      return c.equals(0);
+    case Opcodes.IMUL:
+    case Opcodes.IDIV:
+      return c.equals(1);
+    case Opcodes.LADD:
+    case Opcodes.LSUB:
+    case Opcodes.LOR:
+    case Opcodes.LXOR:
+      return c.equals(0L);
+    case Opcodes.LMUL:
+    case Opcodes.LDIV:
+      return c.equals(1L);
+    case Opcodes.FMUL:
+    case Opcodes.FDIV:
+      return c.equals(1f);
+    case Opcodes.FSUB:
+      // x - 0.0 is x for every x including -0.0, but x + 0.0 is not
+      return c.equals(0f);
+    case Opcodes.DMUL:
+    case Opcodes.DDIV:
+      return c.equals(1d);
+    case Opcodes.DSUB:
+      return c.equals(0d);
+    default:
+      return false;
+    }
+  }
+
+  private static Optional<Integer> intConstant(final AbstractInsnNode insn) {
+    final Optional<Object> value = constant(insn);
+    if (value.isPresent() && (value.get() instanceof Integer)) {
+      return Optional.of((Integer) value.get());
+    }
+    return Optional.empty();
+  }
+
+  private static Optional<Object> constant(final AbstractInsnNode insn) {
+    final int op = insn.getOpcode();
+    if ((op >= Opcodes.ICONST_M1) && (op <= Opcodes.ICONST_5)) {
+      return Optional.<Object> of(op - Opcodes.ICONST_0);
+    }
+    switch (op) {
+    case Opcodes.LCONST_0:
+      return Optional.<Object> of(0L);
+    case Opcodes.LCONST_1:
+      return Optional.<Object> of(1L);
+    case Opcodes.FCONST_0:
+      return Optional.<Object> of(0f);
+    case Opcodes.FCONST_1:
+      return Optional.<Object> of(1f);
+    case Opcodes.DCONST_0:
+      return Optional.<Object> of(0d);
+    case Opcodes.DCONST_1:
+      return Optional.<Object> of(1d);
+    case Opcodes.BIPUSH:
+    case Opcodes.SIPUSH:
+      return Optional.<Object> of(((IntInsnNode) insn).operand);
+    case Opcodes.LDC:
+      final Object cst = ((LdcInsnNode) insn).cst;
+      if ((cst instanceof Number)) {
+        return Optional.of(cst);
+      }
+      return Optional.empty();
+    default:
+      return Optional.empty();
+    }
+  }
+
+  private static Map<LabelNode, Integer> numberUsedLabels(
+      final List<AbstractInsnNode> instructions,
+      final List<TryCatchBlockNode> tryCatchBlocks) {
+    final List<LabelNode> used = new ArrayList<>();
+    for (final AbstractInsnNode each : instructions) {
+      if (each instanceof JumpInsnNode) {
+        used.add(((JumpInsnNode) each).label);
+      } else if (each instanceof TableSwitchInsnNode) {
+        used.add(((TableSwitchInsnNode) each).dflt);
+        used.addAll(((TableSwitchInsnNode) each).labels);
+      } else if (each instanceof LookupSwitchInsnNode) {
+        used.add(((LookupSwitchInsnNode) each).dflt);
+        used.addAll(((LookupSwitchInsnNode) each).labels);
+      }
+    }
+    for (final TryCatchBlockNode each : tryCatchBlocks) {
+      used.add(each.start);
+      used.add(each.end);
+      used.add(each.handler);
+    }
+
+    // numbered in order of position so the numbering does not depend on
+    // which instruction refers to the label first
+    final Map<LabelNode, Integer> numbers = new HashMap<>();
+    for (final AbstractInsnNode each : instructions) {
+      if ((each instanceof LabelNode) && used.contains(each)) {
+        numbers.put((LabelNode) each, numbers.size());
+      }
+    }
+    return numbers;
+  }
+
+  private static void append(final StringBuilder sb,
+      final AbstractInsnNode insn, final Map<LabelNode, Integer> labels) {
+    sb.append(insn.getOpcode());
+    if (insn instanceof IntInsnNode) {
+      sb.append(' ').append(((IntInsnNode) insn).operand);
+    } else if (insn instanceof VarInsnNode) {
+      sb.append(' ').append(((VarInsnNode) insn).var);
+    } else if (insn instanceof IincInsnNode) {
+      sb.append(' ').append(((IincInsnNode) insn).var).append(' ')
+          .append(((IincInsnNode) insn).incr);
+    } else if (insn instanceof TypeInsnNode) {
+      sb.append(' ').append(((TypeInsnNode) insn).desc);
+    } else if (insn instanceof FieldInsnNode) {
+      final FieldInsnNode field = (FieldInsnNode) insn;
+      sb.append(' ').append(field.owner).append('.').append(field.name)
+          .append(field.desc);
+    } else if (insn instanceof MethodInsnNode) {
+      final MethodInsnNode call = (MethodInsnNode) insn;
+      sb.append(' ').append(call.owner).append('.').append(call.name)
+          .append(call.desc).append(call.itf);
+    } else if (insn instanceof InvokeDynamicInsnNode) {
+      final InvokeDynamicInsnNode call = (InvokeDynamicInsnNode) insn;
+      sb.append(' ').append(call.name).append(call.desc).append(' ')
+          .append(call.bsm);
+      for (final Object each : call.bsmArgs) {
+        sb.append(' ').append(each);
+      }
+    } else if (insn instanceof LdcInsnNode) {
+      final Object cst = ((LdcInsnNode) insn).cst;
+      sb.append(' ').append(cst.getClass().getName()).append(' ').append(cst);
+    } else if (insn instanceof JumpInsnNode) {
+      sb.append(" L").append(labels.get(((JumpInsnNode) insn).label));
+    } else if (insn instanceof TableSwitchInsnNode) {
+      final TableSwitchInsnNode table = (TableSwitchInsnNode) insn;
+      sb.append(' ').append(table.min).append(' ').append(table.max)
+          .append(" L").append(labels.get(table.dflt));
+      for (final LabelNode each : table.labels) {
+        sb.append(" L").append(labels.get(each));
+      }
+    } else if (insn instanceof LookupSwitchInsnNode) {
+      final LookupSwitchInsnNode lookup = (LookupSwitchInsnNode) insn;
+      sb.append(' ').append(lookup.keys).append(" L")
+          .append(labels.get(lookup.dflt));
+      for (final LabelNode each : lookup.labels) {
+        sb.append(" L").append(labels.get(each));
+      }
+    } else if (insn instanceof MultiANewArrayInsnNode) {
+      sb.append(' ').append(((MultiANewArrayInsnNode) insn).desc).append(' ')
+          .append(((MultiANewArrayInsnNode) insn).dims);
+    } else if (!(insn instanceof InsnNode)) {
+      // an instruction whose operands are not rendered can only equal itself
+      sb.append(' ').append(System.identityHashCode(insn));
+    }
+  }
+
+}
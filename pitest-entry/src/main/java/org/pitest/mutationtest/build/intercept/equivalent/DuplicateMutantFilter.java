@@ -0,0 +1,108 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+/**
+ * Compares the canonical form of each mutated method with the unmutated
+ * method and with the other mutants of the method. Mutants the same as the
+ * unmutated method are removed. Mutants the same as an earlier mutant are
+ * marked as duplicates of it, so that they can be given its result rather
+ * than being run.
+ */
+public class DuplicateMutantFilter implements MutationInterceptor {
+
+  private static final Logger                   LOG        = Log.getLogger();
+
+  private final Map<Location, String>           originals  = new HashMap<>();
+  private final Map<String, MutationIdentifier> mutants    = new HashMap<>();
+
+  private ClassTree                             currentClass;
+  private int                                   equivalent;
+  private int                                   duplicates;
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    this.currentClass = clazz;
+    this.originals.clear();
+    this.mutants.clear();
+    this.equivalent = 0;
+    this.duplicates = 0;
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final List<MutationDetails> remaining = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      final Location location = each.getId().getLocation();
+      final Optional<String> original = originalOf(location);
+      final Optional<MethodTree> mutated = ClassTree.fromBytes(
+          m.getMutation(each.getId()).getBytes()).method(location);
+      if (!original.isPresent() || !mutated.isPresent()) {
+        remaining.add(each);
+        continue;
+      }
+
+      final String canonical = CanonicalMethod.canonicalise(mutated.get()
+          .rawNode());
+      if (canonical.equals(original.get())) {
+        this.equivalent++;
+        continue;
+      }
+
+      final MutationIdentifier representative = this.mutants.putIfAbsent(
+          location + "\n" + canonical, each.getId());
+      if (representative != null) {
+        this.duplicates++;
+        remaining.add(each.withDuplicateOf(representative));
+      } else {
+        remaining.add(each);
+      }
+    }
+    return remaining;
+  }
+
+  private Optional<String> originalOf(final Location location) {
+    if (!this.originals.containsKey(location)) {
+      final Optional<MethodTree> method = this.currentClass.method(location);
+      if (!method.isPresent()) {
+        return Optional.empty();
+      }
+      this.originals.put(location,
+          CanonicalMethod.canonicalise(method.get().rawNode()));
+    }
+    return Optional.of(this.originals.get(location));
+  }
+
+  @Override
+  public void end() {
+    if ((this.equivalent != 0) || (this.duplicates != 0)) {
+      LOG.fine("Removed " + this.equivalent + " equivalent and marked "
+          + this.duplicates + " duplicate mutants in "
+          + this.currentClass.name());
+    }
+    this.currentClass = null;
+  }
+
+}
@@ -0,0 +1,27 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+public class DuplicateMutantFilterFactory implements MutationInterceptorFactory {
+
+  @Override
+  public String description() {
+    return "Duplicate and trivially equivalent mutant filter";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("FDUPLICATES")
+        .withOnByDefault(false)
+        .withDescription("Filters mutants whose canonical bytecode matches the unmutated method and runs only one of each set of identical mutants");
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    return new DuplicateMutantFilter();
+  }
+
+}
@@ -185,6 +185,76 @@ public enum ConfigOption {
      * Path to executable with which to run tests
      */
     JVM_PATH("jvmPath"),
+    /**
+     * Pass results to listeners as each unit completes rather than in submission order
+     */
+    REPORT_IN_COMPLETION_ORDER("reportInCompletionOrder", false),
+    /**
+     * Keep mutation test minions alive between units of analysis
+     */
+    REUSE_MINIONS("reuseMinions", false),
+    /**
+     * Number of mutants a reused minion may analyse before it is replaced. 0 for no limit
+     */
+    MAX_MUTANTS_PER_MINION("maxMutantsPerMinion", 0),
+    /**
+     * Search classes for mutations on multiple threads
+     */
+    PARALLEL_MUTATION_DISCOVERY("parallelMutationDiscovery", false),
+    /**
+     * Group mutations into units of similar estimated run time
+     */
+    COST_AWARE_GROUPING("costAwareGrouping", false),
+    /**
+     * Split the unstarted mutations of running units off to idle threads
+     */
+    WORK_STEALING("workStealing", false),
+    /**
+     * Run tests on a reused thread within each minion
+     */
+    REUSE_TEST_THREAD("reuseTestThread", false),
+    /**
+     * Try to recover from timeouts without restarting the minion
+     */
+    RECOVERABLE_TIMEOUTS("recoverableTimeouts", false),
+    /**
+     * Run every assigned test against each mutant and write the kill matrix
+     */
+    FULL_MUTATION_MATRIX("fullMutationMatrix", false),
+    /**
+     * How to treat tests that fail without mutation: RUN them in the usual order, run them LAST or SKIP them
+     */
+    RED_TESTS("redTests", "RUN"),
+    /**
+     * Compile mutants of each class into a single schema class switched at runtime
+     */
+    MUTANT_SCHEMATA("mutantSchemata", false),
+    /**
+     * Record which tests execute each mutant and skip tests seen not to reach a mutation point
+     */
+    PROBE_REACH("probeReach", false),
+    /**
+     * Skip mutants that no covering test executes with values the mutant would change
+     */
+    WEAK_MUTATION("weakMutation", false),
+    /**
+     * Send per test coverage as run length encoded bitsets of each visited class
+     */
+    BITSET_COVERAGE("bitsetCoverage", false),
+    /**
+     * Number of threads the coverage minion runs test classes on. Only for thread safe test suites whose
+     * tests do not share threads, such as pools, with each other. Coverage is gathered again on a single
+     * thread if code under test is seen running on a shared thread
+     */
+    COVERAGE_THREADS("coverageThreads", 1),
+    /**
+     * Store per test coverage with the history and reuse it for tests whose classes are unchanged
+     */
+    INCREMENTAL_COVERAGE("incrementalCoverage", false),
+    /**
+     * Number of coverage minions to split test classes between
+     */
+    COVERAGE_SHARDS("coverageShards", 1),
     /**
      * Custom properties for plugins
      */
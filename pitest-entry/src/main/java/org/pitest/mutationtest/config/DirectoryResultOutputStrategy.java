@@ -14,10 +14,13 @@
  */
 package org.pitest.mutationtest.config;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 
 import org.pitest.util.ResultOutputStrategy;
@@ -35,20 +38,33 @@ public class DirectoryResultOutputStrategy implements ResultOutputStrategy {
   @Override
   public Writer createWriterForFile(final String file) {
     try {
-      final int fileSepIndex = file.lastIndexOf(File.separatorChar);
-      if (fileSepIndex > 0) {
-        final String directory = this.reportDir.getAbsolutePath()
-            + File.separatorChar + file.substring(0, fileSepIndex);
-        final File directoryFile = new File(directory);
-        if (!directoryFile.exists()) {
-          directoryFile.mkdirs();
-        }
-      }
-      return new BufferedWriter(new FileWriter(this.reportDir.getAbsolutePath()
-          + File.separatorChar + file));
+      return new BufferedWriter(new FileWriter(fileInReportDir(file)));
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  @Override
+  public OutputStream createOutputStreamForFile(final String file) {
+    try {
+      return new BufferedOutputStream(new FileOutputStream(
+          fileInReportDir(file)));
     } catch (final IOException ex) {
       throw Unchecked.translateCheckedException(ex);
     }
   }
 
+  private String fileInReportDir(final String file) {
+    final int fileSepIndex = file.lastIndexOf(File.separatorChar);
+    if (fileSepIndex > 0) {
+      final String directory = this.reportDir.getAbsolutePath()
+          + File.separatorChar + file.substring(0, fileSepIndex);
+      final File directoryFile = new File(directory);
+      if (!directoryFile.exists()) {
+        directoryFile.mkdirs();
+      }
+    }
+    return this.reportDir.getAbsolutePath() + File.separatorChar + file;
+  }
+
 }
\ No newline at end of file
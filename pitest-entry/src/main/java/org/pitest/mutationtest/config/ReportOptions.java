@@ -43,6 +43,7 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.build.RedTestPolicy;
 import org.pitest.mutationtest.incremental.FileWriterFactory;
 import org.pitest.mutationtest.incremental.NullWriterFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
@@ -135,6 +136,40 @@ public class ReportOptions {
 
   private String                         testPlugin                     = "";
 
+  private boolean                        reportInCompletionOrder        = false;
+
+  private boolean                        reuseMinions                   = false;
+
+  private int                            maxMutantsPerMinion            = 0;
+
+  private boolean                        parallelMutationDiscovery      = false;
+
+  private boolean                        costAwareGrouping              = false;
+
+  private boolean                        workStealing                   = false;
+
+  private boolean                        reuseTestThread                = false;
+
+  private boolean                        recoverableTimeouts            = false;
+
+  private boolean                        fullMutationMatrix             = false;
+
+  private RedTestPolicy                  redTests                       = RedTestPolicy.RUN;
+
+  private boolean                        mutantSchemata                 = false;
+
+  private boolean                        probeReach                     = false;
+
+  private boolean                        weakMutation                   = false;
+
+  private boolean                        bitsetCoverage                 = false;
+
+  private int                            coverageThreads                = 1;
+
+  private boolean                        incrementalCoverage            = false;
+
+  private int                            coverageShards                 = 1;
+
   public boolean isVerbose() {
     return this.verbose;
   }
@@ -582,6 +617,20 @@ public class ReportOptions {
             this.getIncludedTestMethods());
   }
 
+  /**
+   * Creates the options controlling how mutation test minions run
+   */
+  public MinionOptions createMinionOptions() {
+    return MinionOptions.defaults()
+        .withReuseMinions(isReuseMinions(), getMaxMutantsPerMinion())
+        .withReuseTestThread(isReuseTestThread())
+        .withRecoverTimeouts(isRecoverableTimeouts())
+        .withFullMutationMatrix(isFullMutationMatrix())
+        .withMutantSchemata(isMutantSchemata())
+        .withProbeReach(isProbeReach())
+        .withWeakMutation(isWeakMutation());
+  }
+
   public String getTestPlugin() {
     return this.testPlugin;
   }
@@ -590,6 +639,142 @@ public class ReportOptions {
     this.testPlugin = testPlugin;
   }
 
+  public boolean isReportInCompletionOrder() {
+    return this.reportInCompletionOrder;
+  }
+
+  public void setReportInCompletionOrder(final boolean reportInCompletionOrder) {
+    this.reportInCompletionOrder = reportInCompletionOrder;
+  }
+
+  public boolean isReuseMinions() {
+    return this.reuseMinions;
+  }
+
+  public void setReuseMinions(final boolean reuseMinions) {
+    this.reuseMinions = reuseMinions;
+  }
+
+  public int getMaxMutantsPerMinion() {
+    return this.maxMutantsPerMinion;
+  }
+
+  public void setMaxMutantsPerMinion(final int maxMutantsPerMinion) {
+    this.maxMutantsPerMinion = maxMutantsPerMinion;
+  }
+
+  public boolean isParallelMutationDiscovery() {
+    return this.parallelMutationDiscovery;
+  }
+
+  public void setParallelMutationDiscovery(final boolean parallelMutationDiscovery) {
+    this.parallelMutationDiscovery = parallelMutationDiscovery;
+  }
+
+  public boolean isCostAwareGrouping() {
+    return this.costAwareGrouping;
+  }
+
+  public void setCostAwareGrouping(final boolean costAwareGrouping) {
+    this.costAwareGrouping = costAwareGrouping;
+  }
+
+  public boolean isWorkStealing() {
+    return this.workStealing;
+  }
+
+  public void setWorkStealing(final boolean workStealing) {
+    this.workStealing = workStealing;
+  }
+
+  public boolean isReuseTestThread() {
+    return this.reuseTestThread;
+  }
+
+  public void setReuseTestThread(final boolean reuseTestThread) {
+    this.reuseTestThread = reuseTestThread;
+  }
+
+  public boolean isRecoverableTimeouts() {
+    return this.recoverableTimeouts;
+  }
+
+  public void setRecoverableTimeouts(final boolean recoverableTimeouts) {
+    this.recoverableTimeouts = recoverableTimeouts;
+  }
+
+  public boolean isFullMutationMatrix() {
+    return this.fullMutationMatrix;
+  }
+
+  public void setFullMutationMatrix(final boolean fullMutationMatrix) {
+    this.fullMutationMatrix = fullMutationMatrix;
+  }
+
+  public RedTestPolicy getRedTests() {
+    return this.redTests;
+  }
+
+  public void setRedTests(final RedTestPolicy redTests) {
+    this.redTests = redTests;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public void setMutantSchemata(final boolean mutantSchemata) {
+    this.mutantSchemata = mutantSchemata;
+  }
+
+  public boolean isProbeReach() {
+    return this.probeReach;
+  }
+
+  public void setProbeReach(final boolean probeReach) {
+    this.probeReach = probeReach;
+  }
+
+  public boolean isWeakMutation() {
+    return this.weakMutation;
+  }
+
+  public void setWeakMutation(final boolean weakMutation) {
+    this.weakMutation = weakMutation;
+  }
+
+  public boolean isBitsetCoverage() {
+    return this.bitsetCoverage;
+  }
+
+  public void setBitsetCoverage(final boolean bitsetCoverage) {
+    this.bitsetCoverage = bitsetCoverage;
+  }
+
+  public int getCoverageThreads() {
+    return this.coverageThreads;
+  }
+
+  public void setCoverageThreads(final int coverageThreads) {
+    this.coverageThreads = coverageThreads;
+  }
+
+  public boolean isIncrementalCoverage() {
+    return this.incrementalCoverage;
+  }
+
+  public void setIncrementalCoverage(final boolean incrementalCoverage) {
+    this.incrementalCoverage = incrementalCoverage;
+  }
+
+  public int getCoverageShards() {
+    return this.coverageShards;
+  }
+
+  public void setCoverageShards(final int coverageShards) {
+    this.coverageShards = coverageShards;
+  }
+
   @Override
   public String toString() {
     return "ReportOptions [debug=" + this.debug 
@@ -617,7 +802,24 @@ public class ReportOptions {
         + ", includeLaunchClasspath=" + this.includeLaunchClasspath + ", properties="
         + this.properties + ", maxSurvivors=" + this.maxSurvivors + ", excludedRunners="
         + this.excludedRunners + ", testPlugin=" + this.testPlugin + ", includedTestMethods="
-        + this.includedTestMethods + "]";
+        + this.includedTestMethods + ", reportInCompletionOrder="
+        + this.reportInCompletionOrder + ", reuseMinions="
+        + this.reuseMinions + ", maxMutantsPerMinion="
+        + this.maxMutantsPerMinion + ", parallelMutationDiscovery="
+        + this.parallelMutationDiscovery + ", costAwareGrouping="
+        + this.costAwareGrouping + ", workStealing="
+        + this.workStealing + ", reuseTestThread="
+        + this.reuseTestThread + ", recoverableTimeouts="
+        + this.recoverableTimeouts + ", fullMutationMatrix="
+        + this.fullMutationMatrix + ", redTests="
+        + this.redTests + ", mutantSchemata="
+        + this.mutantSchemata + ", probeReach="
+        + this.probeReach + ", weakMutation="
+        + this.weakMutation + ", bitsetCoverage="
+        + this.bitsetCoverage + ", coverageThreads="
+        + this.coverageThreads + ", incrementalCoverage="
+        + this.incrementalCoverage + ", coverageShards="
+        + this.coverageShards + "]";
   }
 
 }
@@ -16,6 +16,7 @@ import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.build.CompoundInterceptorFactory;
+import org.pitest.mutationtest.build.CostAwareGrouperFactory;
 import org.pitest.mutationtest.build.DefaultMutationGrouperFactory;
 import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
@@ -79,6 +80,9 @@ public class SettingsFactory {
   }
 
   public MutationGrouperFactory getMutationGrouper() {
+    if (this.options.isCostAwareGrouping()) {
+      return new CostAwareGrouperFactory();
+    }
     final Collection<? extends MutationGrouperFactory> groupers = this.plugins
         .findGroupers();
     return firstOrDefault(groupers, new DefaultMutationGrouperFactory());
@@ -113,7 +117,8 @@ public class SettingsFactory {
     return new CoverageOptions(
         this.options.getTargetClasses(), this.options.getExcludedClasses(),
         this.options.createMinionSettings(), this.options.isVerbose(),
-        this.options.getDependencyAnalysisMaxDistance());
+        this.options.getDependencyAnalysisMaxDistance(),
+        this.options.isBitsetCoverage(), this.options.getCoverageThreads());
   }
 
   public CompoundInterceptorFactory getInterceptor() {
@@ -0,0 +1,82 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.Log;
+import org.pitest.util.SocketFinder;
+
+/**
+ * Hands out long lived mutation test minions. A minion is returned to the pool
+ * after each batch and replaced only once it has timed out, run out of memory,
+ * errored or analysed the configured maximum number of mutants.
+ *
+ * The number of minions alive at once is bounded by the number of threads
+ * borrowing from the pool.
+ */
+public class MinionPool {
+
+  private static final Logger        LOG  = Log.getLogger();
+
+  private final ProcessArgs           processArgs;
+  private final int                   maxMutantsPerMinion;
+  private final SocketFinder          sockets = new SocketFinder();
+  private final Deque<ReusableMinion> idle    = new ArrayDeque<>();
+
+  private boolean                     closed;
+  private int                         launched;
+
+  public MinionPool(final ProcessArgs processArgs,
+      final int maxMutantsPerMinion) {
+    this.processArgs = processArgs;
+    this.maxMutantsPerMinion = maxMutantsPerMinion;
+  }
+
+  ReusableMinion acquire() throws IOException {
+    synchronized (this) {
+      if (!this.idle.isEmpty()) {
+        return this.idle.pop();
+      }
+      this.launched++;
+    }
+    final ReusableMinion minion = new ReusableMinion(
+        this.sockets.getNextAvailableServerSocket(), this.processArgs);
+    minion.start();
+    return minion;
+  }
+
+  void release(final ReusableMinion minion) {
+    if (minion.canBeReused(this.maxMutantsPerMinion)) {
+      synchronized (this) {
+        if (!this.closed) {
+          this.idle.push(minion);
+          return;
+        }
+      }
+    }
+    minion.shutdown();
+  }
+
+  public void shutdown() {
+    final List<ReusableMinion> toClose;
+    synchronized (this) {
+      this.closed = true;
+      toClose = new ArrayList<>(this.idle);
+      this.idle.clear();
+    }
+    for (final ReusableMinion each : toClose) {
+      each.shutdown();
+    }
+    LOG.fine("Launched " + launchedMinions() + " mutation test minions");
+  }
+
+  public synchronized int launchedMinions() {
+    return this.launched;
+  }
+
+}
@@ -2,18 +2,22 @@ package org.pitest.mutationtest.execute;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.build.IdleWorkers;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.util.Log;
 import org.pitest.util.Unchecked;
@@ -24,10 +28,25 @@ public class MutationAnalysisExecutor {
 
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
+  private final boolean                      reportInCompletionOrder;
+  private final boolean                      workStealing;
 
   public MutationAnalysisExecutor(int numberOfThreads,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, listeners, false);
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners, boolean reportInCompletionOrder) {
+    this(numberOfThreads, listeners, reportInCompletionOrder, false);
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners, boolean reportInCompletionOrder,
+      boolean workStealing) {
     this.listeners = listeners;
+    this.reportInCompletionOrder = reportInCompletionOrder;
+    this.workStealing = workStealing;
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
         Executors.defaultThreadFactory());
@@ -40,6 +59,26 @@ public class MutationAnalysisExecutor {
 
     signalRunStartToAllListeners();
 
+    try {
+      if (this.workStealing) {
+        runWithWorkStealing(testUnits);
+      } else if (this.reportInCompletionOrder) {
+        runInCompletionOrder(testUnits);
+      } else {
+        runInSubmissionOrder(testUnits);
+      }
+    } catch (final InterruptedException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final ExecutionException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+
+    signalRunEndToAllListeners();
+
+  }
+
+  private void runInSubmissionOrder(final List<MutationAnalysisUnit> testUnits)
+      throws InterruptedException, ExecutionException {
     final List<Future<MutationMetaData>> results = new ArrayList<>(
         testUnits.size());
 
@@ -49,26 +88,54 @@ public class MutationAnalysisExecutor {
 
     this.executor.shutdown();
 
-    try {
-      processResult(results);
-    } catch (final InterruptedException e) {
-      throw Unchecked.translateCheckedException(e);
-    } catch (final ExecutionException e) {
-      throw Unchecked.translateCheckedException(e);
+    for (final Future<MutationMetaData> f : results) {
+      processResult(f.get());
+    }
+  }
+
+  // results are passed to the listeners as soon as each unit finishes so
+  // that report and history io overlaps with the remaining analysis
+  private void runInCompletionOrder(final List<MutationAnalysisUnit> testUnits)
+      throws InterruptedException, ExecutionException {
+    final CompletionService<MutationMetaData> completed = new ExecutorCompletionService<>(
+        this.executor);
+
+    for (final MutationAnalysisUnit unit : testUnits) {
+      completed.submit(unit);
     }
 
-    signalRunEndToAllListeners();
+    this.executor.shutdown();
 
+    for (int i = 0; i != testUnits.size(); i++) {
+      processResult(completed.take().get());
+    }
   }
 
-  private void processResult(List<Future<MutationMetaData>> results)
+  // units may split off further units while running, so the executor cannot
+  // be shut down until every result has been seen. Results are reported in
+  // completion order as the split off units have no place in the original
+  // order.
+  private void runWithWorkStealing(final List<MutationAnalysisUnit> testUnits)
       throws InterruptedException, ExecutionException {
-    for (final Future<MutationMetaData> f : results) {
-      final MutationMetaData r = f.get();
-      for (final MutationResultListener l : this.listeners) {
-        for (final ClassMutationResults cr : r.toClassResults()) {
-          l.handleMutationResult(cr);
-        }
+    final SharedWork work = new SharedWork();
+
+    for (final MutationAnalysisUnit unit : testUnits) {
+      work.submit(unit);
+    }
+
+    try {
+      for (int i = 0; i != work.submitted.get(); i++) {
+        processResult(work.completed.take().get());
+      }
+    } finally {
+      this.executor.shutdown();
+    }
+  }
+
+  private void processResult(final MutationMetaData r) {
+    for (final MutationResultListener l : this.listeners) {
+      for (final ClassMutationResults cr : r.toClassResults()) {
+        l.handleMutationResult(cr);
       }
     }
   }
@@ -83,4 +150,27 @@ public class MutationAnalysisExecutor {
         a -> a.runEnd());
   }
 
+  private class SharedWork implements IdleWorkers {
+
+    private final CompletionService<MutationMetaData> completed = new ExecutorCompletionService<>(
+        MutationAnalysisExecutor.this.executor);
+    private final AtomicInteger                       submitted = new AtomicInteger();
+
+    @Override
+    public boolean available() {
+      final ThreadPoolExecutor pool = MutationAnalysisExecutor.this.executor;
+      return pool.getQueue().isEmpty()
+          && (pool.getActiveCount() < pool.getMaximumPoolSize());
+    }
+
+    @Override
+    public void submit(final MutationAnalysisUnit unit) {
+      // count before submitting so the unit that split this one off
+      // cannot complete before this unit has been accounted for
+      this.submitted.incrementAndGet();
+      this.completed.submit(unit.allowSplitting(this));
+    }
+
+  }
+
 }
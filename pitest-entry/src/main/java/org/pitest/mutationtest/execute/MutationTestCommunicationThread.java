@@ -25,6 +25,7 @@ import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.CommunicationThread;
 import org.pitest.util.Id;
 import org.pitest.util.Log;
+import org.pitest.util.MessageDecoder;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 import org.pitest.util.SafeDataOutputStream;
@@ -47,12 +48,19 @@ public class MutationTestCommunicationThread extends CommunicationThread {
     }
   }
 
-  private static class Receive implements ReceiveStrategy {
+  static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final MessageDecoder                                  decoder;
 
     Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+      this(idMap, new MessageDecoder());
+    }
+
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final MessageDecoder decoder) {
       this.idMap = idMap;
+      this.decoder = decoder;
     }
 
     @Override
@@ -68,15 +76,17 @@ public class MutationTestCommunicationThread extends CommunicationThread {
     }
 
     private void handleReport(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
-      final MutationStatusTestPair value = is
-          .read(MutationStatusTestPair.class);
+      final MutationIdentifier mutation = this.decoder
+          .readMutationIdentifier(is);
+      final MutationStatusTestPair value = this.decoder
+          .readMutationStatusTestPair(is);
       this.idMap.put(mutation, value);
       LOG.fine(mutation + " " + value);
     }
 
     private void handleDescribe(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
+      final MutationIdentifier mutation = this.decoder
+          .readMutationIdentifier(is);
       this.idMap.put(mutation, new MutationStatusTestPair(1,
           DetectionStatus.STARTED));
     }
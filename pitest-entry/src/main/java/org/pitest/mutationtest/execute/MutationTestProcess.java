@@ -12,7 +12,7 @@ import org.pitest.process.ProcessArgs;
 import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
 
-public class MutationTestProcess {
+public class MutationTestProcess implements MinionProcess {
 
   private final WrappingProcess                 process;
   private final MutationTestCommunicationThread thread;
@@ -26,11 +26,13 @@ public class MutationTestProcess {
 
   }
 
+  @Override
   public void start() throws IOException, InterruptedException {
     this.thread.start();
     this.process.start();
   }
 
+  @Override
   public void results(final MutationStatusMap allmutations) throws IOException {
 
     for (final MutationDetails each : allmutations.allMutations()) {
@@ -42,6 +44,7 @@ public class MutationTestProcess {
 
   }
 
+  @Override
   public ExitCode waitToDie() {
     try {
       return this.thread.waitToFinish();
@@ -0,0 +1,58 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+
+/**
+ * Runs a batch of mutations on a minion borrowed from a pool, returning the
+ * minion once the batch completes.
+ */
+public class PooledMutationTestProcess implements MinionProcess {
+
+  private final MinionPool                                      pool;
+  private final MinionArguments                                 arguments;
+  private final int                                             numberOfMutants;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new HashMap<>();
+
+  private ReusableMinion                                        minion;
+
+  public PooledMutationTestProcess(final MinionPool pool,
+      final MinionArguments arguments, final int numberOfMutants) {
+    this.pool = pool;
+    this.arguments = arguments;
+    this.numberOfMutants = numberOfMutants;
+  }
+
+  @Override
+  public void start() throws IOException, InterruptedException {
+    this.minion = this.pool.acquire();
+  }
+
+  @Override
+  public void results(final MutationStatusMap allmutations) throws IOException {
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    try {
+      return this.minion.analyse(this.arguments, this.numberOfMutants,
+          this.idMap);
+    } finally {
+      this.pool.release(this.minion);
+    }
+  }
+
+}
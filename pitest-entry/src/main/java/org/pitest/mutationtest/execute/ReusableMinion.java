@@ -0,0 +1,125 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.MessageDecoder;
+import org.pitest.util.ReceiveStrategy;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * A mutation test minion that stays alive between batches of mutations.
+ * Batches are sent synchronously over a socket that is held open for the
+ * lifetime of the minion.
+ */
+class ReusableMinion {
+
+  private static final Logger  LOG = Log.getLogger();
+
+  private final ServerSocket    serverSocket;
+  private final WrappingProcess process;
+  // the minion's reporter lives as long as the minion, so the decoder
+  // must too
+  private final MessageDecoder  decoder = new MessageDecoder();
+
+  private Socket                socket;
+  private SafeDataOutputStream  output;
+  private SafeDataInputStream   input;
+
+  private boolean               started;
+  private boolean               hasRunBatch;
+  private boolean               usable = true;
+  private int                   mutantsAnalysed;
+
+  ReusableMinion(final ServerSocket serverSocket, final ProcessArgs processArgs) {
+    this.serverSocket = serverSocket;
+    this.process = new WrappingProcess(serverSocket.getLocalPort(),
+        processArgs, MutationTestMinion.class);
+  }
+
+  void start() throws IOException {
+    this.process.start();
+    this.started = true;
+    this.socket = this.serverSocket.accept();
+    this.output = new SafeDataOutputStream(this.socket.getOutputStream());
+    this.input = new SafeDataInputStream(new BufferedInputStream(
+        this.socket.getInputStream()));
+  }
+
+  ExitCode analyse(final MinionArguments arguments, final int numberOfMutants,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    try {
+      if (this.hasRunBatch) {
+        this.output.writeBoolean(true);
+      }
+      this.output.write(arguments);
+      this.output.flush();
+      this.hasRunBatch = true;
+
+      final ExitCode exitCode = receiveResults(
+          new MutationTestCommunicationThread.Receive(idMap, this.decoder));
+      this.mutantsAnalysed += numberOfMutants;
+      this.usable = exitCode.isOk();
+      return exitCode;
+    } catch (final RuntimeException e) {
+      LOG.log(Level.WARNING, "Error while communicating with minion", e);
+      this.usable = false;
+      return ExitCode.UNKNOWN_ERROR;
+    }
+  }
+
+  boolean canBeReused(final int maxMutantsPerMinion) {
+    return this.usable
+        && ((maxMutantsPerMinion <= 0) || (this.mutantsAnalysed < maxMutantsPerMinion));
+  }
+
+  void shutdown() {
+    try {
+      if (this.usable && this.hasRunBatch) {
+        this.output.writeBoolean(false);
+        this.output.flush();
+      }
+    } catch (final RuntimeException e) {
+      LOG.log(Level.FINE, "Minion closed before shutdown was requested", e);
+    } finally {
+      closeQuietly();
+    }
+  }
+
+  private ExitCode receiveResults(final ReceiveStrategy receive) {
+    byte control = this.input.readByte();
+    while (control != Id.DONE) {
+      receive.apply(control, this.input);
+      control = this.input.readByte();
+    }
+    return ExitCode.fromCode(this.input.readInt());
+  }
+
+  private void closeQuietly() {
+    try {
+      if (this.socket != null) {
+        this.socket.close();
+      }
+      this.serverSocket.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not close minion socket", e);
+    }
+    if (this.started) {
+      this.process.destroy();
+    }
+  }
+
+}
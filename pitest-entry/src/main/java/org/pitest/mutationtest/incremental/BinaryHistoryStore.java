@@ -0,0 +1,366 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * History store backed by an append-only binary log.
+ *
+ * The file starts with a magic number and format version, followed by
+ * records of a type byte, a payload length and the payload. Each analysis
+ * appends one run, bracketed by start and end records, so a run that did not
+ * complete is ignored and the run before it is read instead. Strings are
+ * written once per run and referred to by number.
+ *
+ * Only the last complete run is read. It is indexed by mutation id without
+ * decoding the results, which are read from a mapped buffer when looked up.
+ * When the input and output are the same file new runs are appended to it,
+ * and once the older runs outgrow the last one by
+ * {@link #COMPACTION_THRESHOLD} they are dropped.
+ *
+ * History written by {@link ObjectOutputStreamHistoryStore} is still read.
+ */
+public class BinaryHistoryStore implements HistoryStore {
+
+  private static final Logger LOG                  = Log.getLogger();
+
+  static final int            MAGIC                = 0x50495448;
+  static final byte           VERSION              = 1;
+  static final int            HEADER_SIZE          = 5;
+  static final int            RECORD_HEADER_SIZE   = 5;
+
+  static final byte           RUN_START            = 1;
+  static final byte           STRING               = 2;
+  static final byte           CLASS                = 3;
+  static final byte           RESULT               = 4;
+  static final byte           COVERAGE             = 5;
+  static final byte           RUN_END              = 6;
+
+  static final int            COMPACTION_THRESHOLD = 2;
+
+  private final Optional<File>                                  input;
+  private final Optional<File>                                  output;
+  private final Map<String, Integer>                            strings           = new HashMap<>();
+  private final ByteArrayOutputStream                           record            = new ByteArrayOutputStream();
+  private final DataOutputStream                                recordData        = new DataOutputStream(
+      this.record);
+
+  private Map<MutationIdentifier, MutationStatusTestPair>       previousResults   = new HashMap<>();
+  private Map<ClassName, ClassHistory>                          previousClassPath = new HashMap<>();
+  private Collection<CoverageResult>                            previousCoverage  = new ArrayList<>();
+  private HistoryLog                                            log;
+  private long                                                  appendFrom        = -1;
+  private DataOutputStream                                      out;
+
+  public BinaryHistoryStore(final Optional<File> input,
+      final Optional<File> output) {
+    this.input = input;
+    this.output = output;
+  }
+
+  @Override
+  public void initialize() {
+    if (!this.input.isPresent() || (this.input.get().length() == 0)) {
+      return;
+    }
+
+    final File file = this.input.get();
+    if (!HistoryLog.isHistoryLog(file)) {
+      restoreTextHistory(file);
+      return;
+    }
+
+    final Optional<HistoryLog> previous = HistoryLog.read(file,
+        appendsToInput());
+    if (previous.isPresent()) {
+      this.log = previous.get();
+      this.appendFrom = this.log.end();
+      this.previousClassPath = this.log.classPath();
+      this.previousResults = this.log.results();
+    }
+  }
+
+  private void restoreTextHistory(final File file) {
+    LOG.info("Reading history written in the previous text format");
+    try {
+      final Reader reader = new InputStreamReader(new FileInputStream(file),
+          StandardCharsets.UTF_8);
+      final HistoryStore text = new ObjectOutputStreamHistoryStore(
+          new NullWriterFactory(), Optional.of(reader));
+      text.initialize();
+      this.previousClassPath = text.getHistoricClassPath();
+      this.previousResults = text.getHistoricResults();
+      this.previousCoverage = text.getHistoricCoverage();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public synchronized void recordClassPath(
+      final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    if (!this.output.isPresent()) {
+      return;
+    }
+    try {
+      for (final HierarchicalClassId each : ids) {
+        final DataOutputStream data = startRecord();
+        data.writeLong(each.getId().getHash());
+        writeString(data, each.getName().asJavaName());
+        writeString(data, each.getHierarchicalHash());
+        writeString(data, coverageInfo.getCoverageIdForClass(each.getName())
+            .toString(16));
+        endRecord(CLASS);
+      }
+      flush();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public synchronized void recordResult(final MutationResult result) {
+    if (!this.output.isPresent()) {
+      return;
+    }
+    try {
+      final MutationIdentifier id = result.getDetails().getId();
+      final DataOutputStream data = startRecord();
+      data.writeInt(id.hashCode());
+      writeId(data, id);
+      writeStatus(data, result.getStatusTestPair());
+      endRecord(RESULT);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public synchronized void recordCoverage(
+      final Collection<CoverageResult> coverage) {
+    if (!this.output.isPresent()) {
+      return;
+    }
+    try {
+      for (final CoverageResult each : coverage) {
+        final DataOutputStream data = startRecord();
+        writeString(data, each.getTestUnitDescription().getName());
+        writeString(data, each.getTestUnitDescription().getFirstTestClass());
+        data.writeInt(each.getExecutionTime());
+        data.writeBoolean(each.isGreenTest());
+        writeVarInt(data, each.getCoverage().size());
+        for (final BlockLocation block : each.getCoverage()) {
+          writeLocation(data, block.getLocation());
+          writeVarInt(data, block.getBlock());
+        }
+        endRecord(COVERAGE);
+      }
+      flush();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
+    return this.previousResults;
+  }
+
+  @Override
+  public Map<ClassName, ClassHistory> getHistoricClassPath() {
+    return this.previousClassPath;
+  }
+
+  @Override
+  public synchronized Collection<CoverageResult> getHistoricCoverage() {
+    if (this.log != null) {
+      this.previousCoverage = this.log.coverage();
+      this.log = null;
+    }
+    return this.previousCoverage;
+  }
+
+  /**
+   * Completes the run. Until this is called the run will not be read back.
+   */
+  public synchronized void close() {
+    if (this.out == null) {
+      return;
+    }
+    try {
+      this.out.writeByte(RUN_END);
+      this.out.writeInt(0);
+      this.out.close();
+      this.out = null;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void flush() throws IOException {
+    if (this.out != null) {
+      this.out.flush();
+    }
+  }
+
+  private boolean appendsToInput() {
+    return this.input.isPresent() && this.output.isPresent()
+        && this.input.get().getAbsoluteFile()
+            .equals(this.output.get().getAbsoluteFile());
+  }
+
+  private DataOutputStream startRecord() throws IOException {
+    if (this.out == null) {
+      open();
+    }
+    this.record.reset();
+    return this.recordData;
+  }
+
+  private void endRecord(final byte type) throws IOException {
+    this.out.writeByte(type);
+    this.out.writeInt(this.record.size());
+    this.record.writeTo(this.out);
+  }
+
+  private void open() throws IOException {
+    final File file = this.output.get();
+    if (file.getAbsoluteFile().getParentFile() != null) {
+      file.getAbsoluteFile().getParentFile().mkdirs();
+    }
+
+    // anything after the last complete run is discarded. The mapped run
+    // ends before that point, so it remains readable while the file grows.
+    final FileChannel channel = FileChannel.open(file.toPath(),
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    final boolean append = appendsToInput() && (this.appendFrom > 0);
+    final long start = append ? this.appendFrom : 0;
+    channel.truncate(start);
+    channel.position(start);
+
+    this.out = new DataOutputStream(new BufferedOutputStream(
+        Channels.newOutputStream(channel), 1 << 16));
+    if (!append) {
+      this.out.writeInt(MAGIC);
+      this.out.writeByte(VERSION);
+    }
+    this.out.writeByte(RUN_START);
+    this.out.writeInt(0);
+  }
+
+  private void writeString(final DataOutputStream data, final String value)
+      throws IOException {
+    if (value == null) {
+      writeVarInt(data, 0);
+      return;
+    }
+    Integer id = this.strings.get(value);
+    if (id == null) {
+      id = this.strings.size() + 1;
+      this.strings.put(value, id);
+      final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      this.out.writeByte(STRING);
+      this.out.writeInt(bytes.length);
+      this.out.write(bytes);
+    }
+    writeVarInt(data, id);
+  }
+
+  private void writeLocation(final DataOutputStream data,
+      final Location location) throws IOException {
+    writeString(data, location.getClassName().asJavaName());
+    writeString(data, location.getMethodName().name());
+    writeString(data, location.getMethodDesc());
+  }
+
+  private void writeId(final DataOutputStream data,
+      final MutationIdentifier id) throws IOException {
+    writeLocation(data, id.getLocation());
+    writeVarInt(data, id.getIndexes().size());
+    for (final int each : id.getIndexes()) {
+      writeVarInt(data, each);
+    }
+    writeString(data, id.getMutator());
+  }
+
+  private void writeStatus(final DataOutputStream data,
+      final MutationStatusTestPair status) throws IOException {
+    writeVarInt(data, status.getNumberOfTestsRun());
+    writeString(data, status.getStatus().name());
+    writeString(data, status.getKillingTest().orElse(null));
+
+    final Optional<TestOutcomes> outcomes = status.getTestOutcomes();
+    data.writeBoolean(outcomes.isPresent());
+    if (outcomes.isPresent()) {
+      writeVarInt(data, outcomes.get().getNumberOfTests());
+      writeBits(data, outcomes.get().getRun());
+      writeBits(data, outcomes.get().getFailed());
+      writeBits(data, outcomes.get().getErrored());
+      writeBits(data, outcomes.get().getTimedOut());
+    }
+
+    // zero marks an absent list, so sizes are written one higher
+    final Optional<List<String>> reaching = status.getReachingTests();
+    writeVarInt(data, reaching.map(r -> r.size() + 1).orElse(0));
+    if (reaching.isPresent()) {
+      for (final String each : reaching.get()) {
+        writeString(data, each);
+      }
+    }
+  }
+
+  private static void writeBits(final DataOutput data, final BitSet bits)
+      throws IOException {
+    final long[] words = bits.toLongArray();
+    writeVarInt(data, words.length);
+    for (final long each : words) {
+      data.writeLong(each);
+    }
+  }
+
+  static void writeVarInt(final DataOutput data, final int value)
+      throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      data.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    data.writeByte(remaining);
+  }
+
+}
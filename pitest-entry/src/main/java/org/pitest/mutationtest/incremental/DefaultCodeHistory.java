@@ -47,7 +47,8 @@ public class DefaultCodeHistory implements CodeHistory {
     }
 
     final Optional<ClassInfo> current = this.code.fetchClass(className);
-    return !current.get().getHierarchicalId().equals(historic.getId());
+    return !current.isPresent()
+        || !current.get().getHierarchicalId().equals(historic.getId());
 
   }
 
@@ -0,0 +1,456 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.CLASS;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.COMPACTION_THRESHOLD;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.COVERAGE;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.HEADER_SIZE;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.MAGIC;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.RECORD_HEADER_SIZE;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.RESULT;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.RUN_END;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.RUN_START;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.STRING;
+import static org.pitest.mutationtest.incremental.BinaryHistoryStore.VERSION;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * The last complete run of a {@link BinaryHistoryStore} file.
+ *
+ * The file is scanned once reading only record headers, after which the run
+ * is mapped into memory and its records decoded as they are asked for.
+ */
+final class HistoryLog {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private final ByteBuffer    run;
+  private final long          end;
+  private final String[]      strings;
+  private final long[]        classes;
+  // hash of the mutation id in the high word and offset in the low word,
+  // sorted so that the records for an id can be found by binary search
+  private final long[]        results;
+  private final long[]        coverage;
+
+  private HistoryLog(final ByteBuffer run, final long end, final Run offsets) {
+    this.run = run;
+    this.end = end;
+    this.classes = offsets.classes.toArray();
+    this.results = offsets.results.toArray();
+    this.coverage = offsets.coverage.toArray();
+    Arrays.sort(this.results);
+
+    final long[] stringOffsets = offsets.strings.toArray();
+    this.strings = new String[stringOffsets.length];
+    for (int i = 0; i != stringOffsets.length; i++) {
+      final int offset = (int) stringOffsets[i];
+      final byte[] bytes = new byte[this.run.getInt(offset + 1)];
+      for (int j = 0; j != bytes.length; j++) {
+        bytes[j] = this.run.get(offset + RECORD_HEADER_SIZE + j);
+      }
+      this.strings[i] = new String(bytes, StandardCharsets.UTF_8);
+    }
+  }
+
+  static boolean isHistoryLog(final File file) {
+    try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+      return in.readInt() == MAGIC;
+    } catch (final EOFException e) {
+      return false;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * @param compact
+   *          true if older runs may be removed from the file
+   * @return the last complete run, if there is one
+   */
+  static Optional<HistoryLog> read(final File file, final boolean compact) {
+    try {
+      final Optional<Run> last = scan(file);
+      if (!last.isPresent()) {
+        return Optional.empty();
+      }
+
+      final Run run = last.get();
+      final long length = run.end - run.start;
+      if (length > Integer.MAX_VALUE) {
+        LOG.warning("Ignoring history as the last run is too large to map");
+        return Optional.empty();
+      }
+
+      try (RandomAccessFile raf = new RandomAccessFile(file,
+          compact ? "rw" : "r")) {
+        final FileChannel channel = raf.getChannel();
+        long start = run.start;
+        if (compact
+            && ((start - HEADER_SIZE) > (COMPACTION_THRESHOLD * length))) {
+          moveToFront(channel, start, length);
+          start = HEADER_SIZE;
+        }
+        final ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+            start, length);
+        return Optional.of(new HistoryLog(mapped, start + length, run));
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  /**
+   * @return offset in the file after the run
+   */
+  long end() {
+    return this.end;
+  }
+
+  Map<ClassName, ClassHistory> classPath() {
+    final Map<ClassName, ClassHistory> classPath = new HashMap<>();
+    for (final long each : this.classes) {
+      final Cursor cursor = new Cursor(each);
+      final ClassHistory history = new ClassHistory(new HierarchicalClassId(
+          cursor.readLong(), ClassName.fromString(cursor.readString()),
+          cursor.readString()), cursor.readString());
+      classPath.put(history.getName(), history);
+    }
+    return classPath;
+  }
+
+  Map<MutationIdentifier, MutationStatusTestPair> results() {
+    return new Results();
+  }
+
+  List<CoverageResult> coverage() {
+    final List<CoverageResult> results = new ArrayList<>(this.coverage.length);
+    for (final long each : this.coverage) {
+      final Cursor cursor = new Cursor(each);
+      final Description description = new Description(cursor.readString(),
+          cursor.readString());
+      final int executionTime = cursor.readInt();
+      final boolean green = cursor.readByte() != 0;
+      final int count = cursor.readVarInt();
+      final List<BlockLocation> blocks = new ArrayList<>(count);
+      for (int i = 0; i != count; i++) {
+        blocks.add(new BlockLocation(cursor.readLocation(),
+            cursor.readVarInt()));
+      }
+      results.add(new CoverageResult(description, executionTime, green,
+          blocks));
+    }
+    return results;
+  }
+
+  private static Optional<Run> scan(final File file) throws IOException {
+    final long length = file.length();
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(file), 1 << 16))) {
+      in.readInt();
+      if (in.readByte() != VERSION) {
+        LOG.warning("Ignoring history written by another version of pitest");
+        return Optional.empty();
+      }
+
+      Run last = null;
+      Run current = null;
+      long position = HEADER_SIZE;
+      while (position + RECORD_HEADER_SIZE <= length) {
+        final byte type = in.readByte();
+        final int size = in.readInt();
+        final long next = position + RECORD_HEADER_SIZE + size;
+        if ((size < 0) || (next > length)) {
+          // the write of the last record did not complete
+          break;
+        }
+
+        int read = 0;
+        if (type == RUN_START) {
+          current = new Run(position);
+        } else if (type == RUN_END) {
+          if (current != null) {
+            current.end = next;
+            last = current;
+          }
+          current = null;
+        } else if ((current != null) && (type == STRING)) {
+          current.strings.add(position - current.start);
+        } else if ((current != null) && (type == CLASS)) {
+          current.classes.add(position - current.start);
+        } else if ((current != null) && (type == COVERAGE)) {
+          current.coverage.add(position - current.start);
+        } else if ((current != null) && (type == RESULT)) {
+          final long hash = in.readInt();
+          read = 4;
+          current.results.add((hash << 32) | (position - current.start));
+        } else if (current != null) {
+          break;
+        }
+
+        skip(in, size - read);
+        position = next;
+      }
+      return Optional.ofNullable(last);
+    }
+  }
+
+  private static void skip(final DataInputStream in, final int bytes)
+      throws IOException {
+    int remaining = bytes;
+    while (remaining > 0) {
+      final int skipped = in.skipBytes(remaining);
+      if (skipped == 0) {
+        throw new EOFException();
+      }
+      remaining -= skipped;
+    }
+  }
+
+  // copies forwards, which is safe as the run is moved towards the start
+  private static void moveToFront(final FileChannel channel, final long start,
+      final long length) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+    long copied = 0;
+    while (copied < length) {
+      buffer.clear();
+      buffer.limit((int) Math.min(buffer.capacity(), length - copied));
+      final int read = channel.read(buffer, start + copied);
+      buffer.flip();
+      channel.write(buffer, HEADER_SIZE + copied);
+      copied += read;
+    }
+    channel.truncate(HEADER_SIZE + length);
+  }
+
+  private MutationStatusTestPair find(final MutationIdentifier id) {
+    final long hash = id.hashCode();
+    final int found = Arrays.binarySearch(this.results, hash << 32);
+    MutationStatusTestPair status = null;
+    // where an id was recorded twice the later record wins
+    for (int i = found < 0 ? -found - 1 : found; (i != this.results.length)
+        && ((this.results[i] >> 32) == hash); i++) {
+      final Cursor cursor = new Cursor(this.results[i] & 0xffffffffL);
+      cursor.readInt();
+      if (cursor.readId().equals(id)) {
+        status = cursor.readStatus();
+      }
+    }
+    return status;
+  }
+
+  private Map<MutationIdentifier, MutationStatusTestPair> decodeResults() {
+    final Map<MutationIdentifier, MutationStatusTestPair> decoded = new HashMap<>(
+        this.results.length);
+    for (final long each : this.results) {
+      final Cursor cursor = new Cursor(each & 0xffffffffL);
+      cursor.readInt();
+      decoded.put(cursor.readId(), cursor.readStatus());
+    }
+    return Collections.unmodifiableMap(decoded);
+  }
+
+  /**
+   * Looks up single results without decoding the others. Iterating decodes
+   * every result, once.
+   */
+  private final class Results
+      extends AbstractMap<MutationIdentifier, MutationStatusTestPair> {
+
+    private Map<MutationIdentifier, MutationStatusTestPair> decoded;
+
+    @Override
+    public MutationStatusTestPair get(final Object key) {
+      if (!(key instanceof MutationIdentifier)) {
+        return null;
+      }
+      return find((MutationIdentifier) key);
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return HistoryLog.this.results.length == 0;
+    }
+
+    @Override
+    public synchronized Set<Entry<MutationIdentifier, MutationStatusTestPair>> entrySet() {
+      if (this.decoded == null) {
+        this.decoded = decodeResults();
+      }
+      return this.decoded.entrySet();
+    }
+
+  }
+
+  /**
+   * Reads a record's payload by absolute position, so several may read the
+   * mapped run at once.
+   */
+  private final class Cursor {
+
+    private int position;
+
+    Cursor(final long record) {
+      this.position = (int) record + RECORD_HEADER_SIZE;
+    }
+
+    byte readByte() {
+      final byte value = HistoryLog.this.run.get(this.position);
+      this.position += 1;
+      return value;
+    }
+
+    int readInt() {
+      final int value = HistoryLog.this.run.getInt(this.position);
+      this.position += 4;
+      return value;
+    }
+
+    long readLong() {
+      final long value = HistoryLog.this.run.getLong(this.position);
+      this.position += 8;
+      return value;
+    }
+
+    int readVarInt() {
+      int value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = readByte();
+        value |= (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    }
+
+    String readString() {
+      final int id = readVarInt();
+      return id == 0 ? null : HistoryLog.this.strings[id - 1];
+    }
+
+    Location readLocation() {
+      return new Location(ClassName.fromString(readString()),
+          MethodName.fromString(readString()), readString());
+    }
+
+    MutationIdentifier readId() {
+      final Location location = readLocation();
+      final int count = readVarInt();
+      final List<Integer> indexes = new ArrayList<>(count);
+      for (int i = 0; i != count; i++) {
+        indexes.add(readVarInt());
+      }
+      return new MutationIdentifier(location, indexes, readString());
+    }
+
+    MutationStatusTestPair readStatus() {
+      final int testsRun = readVarInt();
+      final DetectionStatus status = DetectionStatus.valueOf(readString());
+      final String killingTest = readString();
+
+      TestOutcomes outcomes = null;
+      if (readByte() != 0) {
+        outcomes = new TestOutcomes(readVarInt(), readBits(), readBits(),
+            readBits(), readBits());
+      }
+
+      List<String> reaching = null;
+      final int reachingCount = readVarInt() - 1;
+      if (reachingCount >= 0) {
+        reaching = new ArrayList<>(reachingCount);
+        for (int i = 0; i != reachingCount; i++) {
+          reaching.add(readString());
+        }
+      }
+      return new MutationStatusTestPair(testsRun, status, killingTest,
+          outcomes, reaching);
+    }
+
+    private BitSet readBits() {
+      final long[] words = new long[readVarInt()];
+      for (int i = 0; i != words.length; i++) {
+        words[i] = readLong();
+      }
+      return BitSet.valueOf(words);
+    }
+
+  }
+
+  /**
+   * Offsets, relative to the run's start, of the records in a run.
+   */
+  private static final class Run {
+
+    private final long    start;
+    private long          end;
+    private final Offsets strings  = new Offsets();
+    private final Offsets classes  = new Offsets();
+    private final Offsets results  = new Offsets();
+    private final Offsets coverage = new Offsets();
+
+    Run(final long start) {
+      this.start = start;
+    }
+
+  }
+
+  private static final class Offsets {
+
+    private long[] values = new long[16];
+    private int    size;
+
+    void add(final long value) {
+      if (this.size == this.values.length) {
+        this.values = Arrays.copyOf(this.values, this.size * 2);
+      }
+      this.values[this.size++] = value;
+    }
+
+    long[] toArray() {
+      return Arrays.copyOf(this.values, this.size);
+    }
+
+  }
+
+}
@@ -3,13 +3,12 @@ package org.pitest.mutationtest.incremental;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.CoverageDatabase;
@@ -28,6 +27,7 @@ public class IncrementalAnalyser implements MutationAnalyser {
   private final CodeHistory                history;
   private final CoverageDatabase           coverage;
   private final Map<DetectionStatus, Long> preAnalysed = createStatusMap();
+  private final Map<ClassName, Map<String, ClassName>> testClassesByName = new HashMap<>();
 
   public IncrementalAnalyser(final CodeHistory history,
       final CoverageDatabase coverage) {
@@ -105,24 +105,28 @@ public class IncrementalAnalyser implements MutationAnalyser {
 
   private boolean killingTestHasNotChanged(final MutationDetails each,
       final MutationStatusTestPair mutationStatusTestPair) {
-    final Collection<TestInfo> allTests = this.coverage.getTestsForClass(each
-        .getClassName());
+    final ClassName testClass = testClassesFor(each.getClassName()).get(
+        mutationStatusTestPair.getKillingTest().get());
 
-    final List<ClassName> testClasses = allTests.stream()
-        .filter(testIsCalled(mutationStatusTestPair.getKillingTest().get()))
-        .map(TestInfo.toDefiningClassName())
-        .collect(Collectors.toList());
-
-    if (testClasses.isEmpty()) {
+    if (testClass == null) {
       return false;
     }
 
-    return !this.history.hasClassChanged(testClasses.get(0));
+    return !this.history.hasClassChanged(testClass);
 
   }
 
-  private static Predicate<TestInfo> testIsCalled(final String testName) {
-    return a -> a.getName().equals(testName);
+  private Map<String, ClassName> testClassesFor(final ClassName clazz) {
+    // mutations arrive grouped by class, so look up the covering tests once
+    // per class rather than once per mutation
+    return this.testClassesByName.computeIfAbsent(clazz, c -> {
+      final Map<String, ClassName> byName = new HashMap<>();
+      for (final TestInfo each : this.coverage.getTestsForClass(c)) {
+        byName.putIfAbsent(each.getName(),
+            TestInfo.toDefiningClassName().apply(each));
+      }
+      return byName;
+    });
   }
 
   private MutationResult analyseFromScratch(final MutationDetails mutation) {
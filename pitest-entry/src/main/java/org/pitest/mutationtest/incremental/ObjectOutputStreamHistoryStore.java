@@ -9,21 +9,26 @@ import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 import org.pitest.util.Unchecked;
 
@@ -35,6 +40,7 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
   private final BufferedReader                                  input;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
   private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+  private final List<CoverageResult>                            previousCoverage  = new ArrayList<>();
 
   public ObjectOutputStreamHistoryStore(final WriterFactory output,
       final Optional<Reader> input) {
@@ -70,6 +76,15 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     output.flush();
   }
 
+  @Override
+  public void recordCoverage(final Collection<CoverageResult> coverage) {
+    final PrintWriter output = this.outputFactory.create();
+    for (final CoverageResult each : coverage) {
+      output.println(serialize(new TestCoverage(each)));
+    }
+    output.flush();
+  }
+
   @Override
   public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
     return this.previousResults;
@@ -80,11 +95,15 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     return this.previousClassPath;
   }
 
+  @Override
+  public Collection<CoverageResult> getHistoricCoverage() {
+    return this.previousCoverage;
+  }
+
   @Override
   public void initialize() {
     if (this.input != null) {
-      restoreClassPath();
-      restoreResults();
+      restoreRecords();
       try {
         this.input.close();
       } catch (final IOException e) {
@@ -93,13 +112,17 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     }
   }
 
-  private void restoreResults() {
+  // coverage is recorded before the class path, so records are recognised by
+  // type rather than by position. The line giving the size of the class path
+  // is not needed to read it.
+  private void restoreRecords() {
     String line;
     try {
       line = this.input.readLine();
       while (line != null) {
-        final IdResult result = deserialize(line, IdResult.class);
-        this.previousResults.put(result.id, result.status);
+        if (!isClassPathSize(line)) {
+          restoreRecord(deserialize(line, Object.class));
+        }
         line = this.input.readLine();
       }
     } catch (final IOException e) {
@@ -107,19 +130,22 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     }
   }
 
-  private void restoreClassPath() {
-    try {
-      final long classPathSize = Long.valueOf(this.input.readLine());
-      for (int i = 0; i != classPathSize; i++) {
-        final ClassHistory coverage = deserialize(this.input.readLine(),
-            ClassHistory.class);
-        this.previousClassPath.put(coverage.getName(), coverage);
-      }
-    } catch (final IOException e) {
-      LOG.warning("Could not read previous classpath");
+  private void restoreRecord(final Object record) {
+    if (record instanceof ClassHistory) {
+      final ClassHistory history = (ClassHistory) record;
+      this.previousClassPath.put(history.getName(), history);
+    } else if (record instanceof IdResult) {
+      final IdResult result = (IdResult) record;
+      this.previousResults.put(result.id, result.status);
+    } else if (record instanceof TestCoverage) {
+      this.previousCoverage.add(((TestCoverage) record).toCoverageResult());
     }
   }
 
+  private static boolean isClassPathSize(final String line) {
+    return !line.isEmpty() && line.chars().allMatch(Character::isDigit);
+  }
+
   private <T> T deserialize(String string, Class<T> clazz) throws IOException {
     try {
       final ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(
@@ -156,4 +182,25 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
 
   }
 
+  private static class TestCoverage implements Serializable {
+    private static final long              serialVersionUID = 1L;
+    final Description                      description;
+    final int                              executionTime;
+    final boolean                          green;
+    final ArrayList<BlockLocation>         blocks;
+
+    TestCoverage(final CoverageResult result) {
+      this.description = result.getTestUnitDescription();
+      this.executionTime = result.getExecutionTime();
+      this.green = result.isGreenTest();
+      this.blocks = new ArrayList<>(result.getCoverage());
+    }
+
+    CoverageResult toCoverageResult() {
+      return new CoverageResult(this.description, this.executionTime,
+          this.green, this.blocks);
+    }
+
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+
+/**
+ * Finds the coverage recorded by a previous run that still holds, because
+ * neither the test class nor any class its tests covered has changed since.
+ */
+public class ReusableCoverage {
+
+  private final CodeHistory                history;
+  private final Collection<CoverageResult> historicCoverage;
+  private final Map<ClassName, Boolean>    changed = new HashMap<>();
+
+  public ReusableCoverage(final CodeHistory history,
+      final Collection<CoverageResult> historicCoverage) {
+    this.history = history;
+    this.historicCoverage = historicCoverage;
+  }
+
+  /**
+   * @param testClasses
+   *          internal names of the test classes to be run
+   * @return previous coverage of each test class that need not be run again,
+   *         keyed by internal name
+   */
+  public Map<String, List<CoverageResult>> forTestClasses(
+      final Collection<String> testClasses) {
+    final Set<String> wanted = new HashSet<>(testClasses);
+    final Map<String, List<CoverageResult>> byClass = new LinkedHashMap<>();
+    for (final CoverageResult each : this.historicCoverage) {
+      final String name = each.getTestUnitDescription().getFirstTestClass();
+      if (name == null) {
+        continue;
+      }
+      final String testClass = ClassName.fromString(name).asInternalName();
+      if (wanted.contains(testClass)) {
+        byClass.computeIfAbsent(testClass, k -> new ArrayList<>()).add(each);
+      }
+    }
+
+    final Map<String, List<CoverageResult>> reusable = new LinkedHashMap<>();
+    for (final Map.Entry<String, List<CoverageResult>> each : byClass
+        .entrySet()) {
+      if (isUnchanged(ClassName.fromString(each.getKey()), each.getValue())) {
+        reusable.put(each.getKey(), each.getValue());
+      }
+    }
+    return reusable;
+  }
+
+  private boolean isUnchanged(final ClassName testClass,
+      final List<CoverageResult> results) {
+    if (hasChanged(testClass)) {
+      return false;
+    }
+    for (final CoverageResult result : results) {
+      for (final BlockLocation block : result.getCoverage()) {
+        if (hasChanged(block.getLocation().getClassName())) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  private boolean hasChanged(final ClassName clazz) {
+    return this.changed.computeIfAbsent(clazz, this.history::hasClassChanged);
+  }
+
+}
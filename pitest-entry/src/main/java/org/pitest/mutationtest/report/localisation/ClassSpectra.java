@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.report.localisation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+import org.pitest.mutationtest.engine.Location;
+
+/**
+ * Coverage and mutant spectra for the lines of one class. Each spectrum is a
+ * bitset of test ids, with the tests that failed against the unmutated code
+ * given the lowest ids so they can be counted with a single range query.
+ */
+class ClassSpectra {
+
+  private final Map<Integer, BitSet>       lineCoverage = new TreeMap<>();
+  private final Map<Integer, Location>     lineMethods  = new TreeMap<>();
+  private final Map<Integer, List<BitSet>> lineMutants  = new TreeMap<>();
+
+  void addCoverage(final Location method, final int line, final BitSet tests) {
+    BitSet covering = this.lineCoverage.get(line);
+    if (covering == null) {
+      covering = new BitSet();
+      this.lineCoverage.put(line, covering);
+    }
+    covering.or(tests);
+    this.lineMethods.putIfAbsent(line, method);
+  }
+
+  void addMutant(final Location method, final int line,
+      final BitSet changedTests) {
+    List<BitSet> mutants = this.lineMutants.get(line);
+    if (mutants == null) {
+      mutants = new ArrayList<>();
+      this.lineMutants.put(line, mutants);
+    }
+    mutants.add(changedTests);
+    this.lineMethods.putIfAbsent(line, method);
+  }
+
+  List<Suspiciousness> score(final SuspiciousnessFormula formula,
+      final int totalFailed, final int totalPassed) {
+    final List<Suspiciousness> lines = new ArrayList<>(this.lineMethods.size());
+    for (final Entry<Integer, Location> each : this.lineMethods.entrySet()) {
+      final BitSet covering = this.lineCoverage.get(each.getKey());
+      final double coverageScore = covering == null ? 0 : score(formula,
+          covering, totalFailed, totalPassed);
+      lines.add(new Suspiciousness(each.getValue(), each.getKey(),
+          mutantScore(formula, each.getKey(), totalFailed, totalPassed),
+          coverageScore));
+    }
+    return lines;
+  }
+
+  // a line is as suspicious as its most suspicious mutant
+  private double mutantScore(final SuspiciousnessFormula formula,
+      final int line, final int totalFailed, final int totalPassed) {
+    final List<BitSet> mutants = this.lineMutants.get(line);
+    if (mutants == null) {
+      return 0;
+    }
+    double max = 0;
+    for (final BitSet each : mutants) {
+      max = Math.max(max, score(formula, each, totalFailed, totalPassed));
+    }
+    return max;
+  }
+
+  private static double score(final SuspiciousnessFormula formula,
+      final BitSet tests, final int totalFailed, final int totalPassed) {
+    final int failed = tests.get(0, totalFailed).cardinality();
+    final int passed = tests.cardinality() - failed;
+    return formula.score(failed, passed, totalFailed, totalPassed);
+  }
+
+}
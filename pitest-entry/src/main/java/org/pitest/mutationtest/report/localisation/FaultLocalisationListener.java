@@ -0,0 +1,89 @@
+package org.pitest.mutationtest.report.localisation;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.Log;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
+
+/**
+ * Writes lines and methods ranked by suspiciousness once all mutants have
+ * been analysed.
+ *
+ * Each row holds the rank, class, method, line, mutant score and coverage
+ * score. For methods the line is the first scored line of the method.
+ */
+public class FaultLocalisationListener implements MutationResultListener {
+
+  private static final Logger  LOG          = Log.getLogger();
+
+  static final String          LINES_FILE   = "suspicious-lines.csv";
+  static final String          METHODS_FILE = "suspicious-methods.csv";
+
+  private final FaultLocaliser localiser;
+  private final Writer         lines;
+  private final Writer         methods;
+
+  public FaultLocalisationListener(final FaultLocaliser localiser,
+      final ResultOutputStrategy outputStrategy) {
+    this(localiser, outputStrategy.createWriterForFile(LINES_FILE),
+        outputStrategy.createWriterForFile(METHODS_FILE));
+  }
+
+  public FaultLocalisationListener(final FaultLocaliser localiser,
+      final Writer lines, final Writer methods) {
+    this.localiser = localiser;
+    this.lines = lines;
+    this.methods = methods;
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    for (final MutationResult each : results.getMutations()) {
+      this.localiser.addMutant(each);
+    }
+  }
+
+  @Override
+  public void runEnd() {
+    if (this.localiser.getTotalFailed() == 0) {
+      LOG.warning("No tests failed without mutation so all suspiciousness scores will be zero.");
+    } else if (this.localiser.getMutantsWithOutcomes() == 0) {
+      LOG.info("No per test outcomes were recorded for mutants so suspiciousness is ranked on coverage alone. Enable the full mutation matrix to score mutants.");
+    }
+
+    final List<Suspiciousness> rankedLines = this.localiser.rankLines();
+    write(this.lines, rankedLines);
+    write(this.methods, FaultLocaliser.rankMethods(rankedLines));
+  }
+
+  private static void write(final Writer out,
+      final List<Suspiciousness> ranked) {
+    try {
+      int rank = 1;
+      for (final Suspiciousness each : ranked) {
+        out.write(rank + "," + each.getMethod().getClassName().asJavaName()
+            + "," + each.getMethod().getMethodName().name()
+            + each.getMethod().getMethodDesc() + "," + each.getLineNumber()
+            + "," + each.getMutantScore() + "," + each.getCoverageScore()
+            + System.getProperty("line.separator"));
+        rank++;
+      }
+      out.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+}
@@ -0,0 +1,43 @@
+package org.pitest.mutationtest.report.localisation;
+
+import java.util.Properties;
+
+import org.pitest.mutationtest.ListenerArguments;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.util.PitError;
+
+public class FaultLocalisationReportFactory implements
+    MutationResultListenerFactory {
+
+  static final String FORMULA_PROPERTY = "faultLocalisationFormula";
+
+  @Override
+  public MutationResultListener getListener(final Properties props,
+      final ListenerArguments args) {
+    return new FaultLocalisationListener(new FaultLocaliser(args.getCoverage(),
+        formula(props)), args.getOutputStrategy());
+  }
+
+  @Override
+  public String name() {
+    return "FAULT_LOCALISATION";
+  }
+
+  @Override
+  public String description() {
+    return "Ranks lines and methods by suspiciousness using the failing tests";
+  }
+
+  private static SuspiciousnessFormula formula(final Properties props) {
+    final String name = props.getProperty(FORMULA_PROPERTY,
+        StandardFormulas.OCHIAI.name());
+    try {
+      return StandardFormulas.valueOf(name.trim().toUpperCase());
+    } catch (final IllegalArgumentException e) {
+      throw new PitError("Unknown fault localisation formula " + name
+          + ". Expected one of OCHIAI, TARANTULA or DSTAR", e);
+    }
+  }
+
+}
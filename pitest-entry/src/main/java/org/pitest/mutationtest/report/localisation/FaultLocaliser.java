@@ -0,0 +1,174 @@
+package org.pitest.mutationtest.report.localisation;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Ranks lines and methods by how likely they are to contain the fault that
+ * makes the failing tests fail.
+ *
+ * Lines are scored on their coverage spectrum, the tests that executed them,
+ * and on their mutant spectrum in the style of Metallaxis, the tests that
+ * changed outcome when run against a mutant of the line. A test that passed
+ * against the unmutated code changes outcome by failing and a test that
+ * failed changes outcome by passing. Mutant spectra need the per test
+ * outcomes recorded by a full mutation matrix run, so mutants without them
+ * are ignored.
+ *
+ * Spectra are held as bitsets of test ids and are built and scored in
+ * parallel, one class at a time.
+ */
+public class FaultLocaliser {
+
+  private final CoverageDatabase             coverage;
+  private final SuspiciousnessFormula        formula;
+  private final Map<String, Integer>         testIds = new ConcurrentHashMap<>();
+  private final AtomicInteger                nextId  = new AtomicInteger();
+  private final int                          totalFailed;
+  private final Map<ClassName, ClassSpectra> classes = new LinkedHashMap<>();
+  private int                                mutantsWithOutcomes;
+
+  public FaultLocaliser(final CoverageDatabase coverage,
+      final SuspiciousnessFormula formula) {
+    this.coverage = coverage;
+    this.formula = formula;
+    // failing tests take ids 0 to totalFailed - 1
+    for (final String each : coverage.getFailingTests()) {
+      testId(each);
+    }
+    this.totalFailed = this.testIds.size();
+  }
+
+  public void addMutant(final MutationResult result) {
+    final Optional<TestOutcomes> outcomes = result.getStatusTestPair()
+        .getTestOutcomes();
+    if (!outcomes.isPresent()) {
+      return;
+    }
+    final MutationDetails details = result.getDetails();
+    spectraFor(details.getClassName()).addMutant(
+        details.getId().getLocation(), details.getLineNumber(),
+        changedTests(details.getTestsInOrder(), outcomes.get()));
+    this.mutantsWithOutcomes++;
+  }
+
+  public int getTotalFailed() {
+    return this.totalFailed;
+  }
+
+  public int getMutantsWithOutcomes() {
+    return this.mutantsWithOutcomes;
+  }
+
+  /**
+   * @return every scored line, most suspicious first
+   */
+  public List<Suspiciousness> rankLines() {
+    for (final ClassName each : this.coverage.getCoveredClasses()) {
+      spectraFor(each);
+    }
+
+    this.classes.entrySet().parallelStream()
+        .forEach(each -> addCoverage(each.getKey(), each.getValue()));
+
+    // every test has an id once the coverage spectra are built
+    final int totalPassed = this.testIds.size() - this.totalFailed;
+    final List<Suspiciousness> lines = this.classes.values().parallelStream()
+        .flatMap(each -> each.score(this.formula, this.totalFailed, totalPassed)
+            .stream())
+        .collect(Collectors.toList());
+    lines.sort(Suspiciousness.MOST_SUSPICIOUS_FIRST);
+    return lines;
+  }
+
+  /**
+   * @return one entry per method holding the highest scores of its lines,
+   *         most suspicious first
+   */
+  public static List<Suspiciousness> rankMethods(
+      final Collection<Suspiciousness> lines) {
+    final Map<Location, Suspiciousness> methods = new LinkedHashMap<>();
+    for (final Suspiciousness each : lines) {
+      methods.merge(each.getMethod(), each, Suspiciousness::combine);
+    }
+    final List<Suspiciousness> ranked = new ArrayList<>(methods.values());
+    ranked.sort(Suspiciousness.MOST_SUSPICIOUS_FIRST);
+    return ranked;
+  }
+
+  private void addCoverage(final ClassName clazz, final ClassSpectra spectra) {
+    for (final Entry<BlockLocation, Set<TestInfo>> each : this.coverage
+        .getTestsForBlocksInClass(clazz).entrySet()) {
+      final BitSet tests = new BitSet();
+      for (final TestInfo test : each.getValue()) {
+        tests.set(testId(test.getName()));
+      }
+      for (final int line : this.coverage.getLinesForBlock(each.getKey())) {
+        spectra.addCoverage(each.getKey().getLocation(), line, tests);
+      }
+    }
+  }
+
+  private BitSet changedTests(final List<TestInfo> tests,
+      final TestOutcomes outcomes) {
+    final int[] ids = new int[tests.size()];
+    final BitSet failedUnmutated = new BitSet(ids.length);
+    for (int i = 0; i != ids.length; i++) {
+      ids[i] = testId(tests.get(i).getName());
+      if (ids[i] < this.totalFailed) {
+        failedUnmutated.set(i);
+      }
+    }
+
+    final BitSet killing = outcomes.getFailed();
+    killing.or(outcomes.getErrored());
+    killing.or(outcomes.getTimedOut());
+    final BitSet passing = outcomes.getRun();
+    passing.andNot(killing);
+
+    killing.andNot(failedUnmutated);
+    passing.and(failedUnmutated);
+    killing.or(passing);
+
+    final BitSet changed = new BitSet();
+    for (int i = killing.nextSetBit(0); (i >= 0) && (i < ids.length); i = killing
+        .nextSetBit(i + 1)) {
+      changed.set(ids[i]);
+    }
+    return changed;
+  }
+
+  private ClassSpectra spectraFor(final ClassName clazz) {
+    ClassSpectra spectra = this.classes.get(clazz);
+    if (spectra == null) {
+      spectra = new ClassSpectra();
+      this.classes.put(clazz, spectra);
+    }
+    return spectra;
+  }
+
+  private int testId(final String name) {
+    return this.testIds.computeIfAbsent(name,
+        k -> this.nextId.getAndIncrement());
+  }
+
+}
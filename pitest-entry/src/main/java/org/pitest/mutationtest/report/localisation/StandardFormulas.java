@@ -0,0 +1,51 @@
+package org.pitest.mutationtest.report.localisation;
+
+public enum StandardFormulas implements SuspiciousnessFormula {
+
+  OCHIAI {
+    @Override
+    public double score(final int failedTouching, final int passedTouching,
+        final int totalFailed, final int totalPassed) {
+      final double denominator = Math.sqrt((double) totalFailed
+          * (failedTouching + passedTouching));
+      if (denominator == 0) {
+        return 0;
+      }
+      return failedTouching / denominator;
+    }
+  },
+
+  TARANTULA {
+    @Override
+    public double score(final int failedTouching, final int passedTouching,
+        final int totalFailed, final int totalPassed) {
+      final double failed = ratio(failedTouching, totalFailed);
+      final double passed = ratio(passedTouching, totalPassed);
+      if ((failed + passed) == 0) {
+        return 0;
+      }
+      return failed / (failed + passed);
+    }
+  },
+
+  DSTAR {
+    @Override
+    public double score(final int failedTouching, final int passedTouching,
+        final int totalFailed, final int totalPassed) {
+      final double denominator = passedTouching
+          + (totalFailed - failedTouching);
+      if (denominator == 0) {
+        return failedTouching == 0 ? 0 : Double.POSITIVE_INFINITY;
+      }
+      return ((double) failedTouching * failedTouching) / denominator;
+    }
+  };
+
+  private static double ratio(final int part, final int total) {
+    if (total == 0) {
+      return 0;
+    }
+    return (double) part / total;
+  }
+
+}
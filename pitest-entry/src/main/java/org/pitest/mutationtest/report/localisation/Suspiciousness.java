@@ -0,0 +1,65 @@
+package org.pitest.mutationtest.report.localisation;
+
+import java.util.Comparator;
+
+import org.pitest.mutationtest.engine.Location;
+
+/**
+ * Scores for a line, or for a method in which case the line is the first
+ * scored line of the method.
+ *
+ * The mutant score is only available when per test outcomes were recorded
+ * for the mutants, so elements are ranked on it first and ties are broken on
+ * the coverage score.
+ */
+public final class Suspiciousness {
+
+  static final Comparator<Suspiciousness> MOST_SUSPICIOUS_FIRST = Comparator
+      .comparingDouble(Suspiciousness::getMutantScore)
+      .thenComparingDouble(Suspiciousness::getCoverageScore).reversed()
+      .thenComparing(Suspiciousness::getMethod)
+      .thenComparingInt(Suspiciousness::getLineNumber);
+
+  private final Location method;
+  private final int      lineNumber;
+  private final double   mutantScore;
+  private final double   coverageScore;
+
+  public Suspiciousness(final Location method, final int lineNumber,
+      final double mutantScore, final double coverageScore) {
+    this.method = method;
+    this.lineNumber = lineNumber;
+    this.mutantScore = mutantScore;
+    this.coverageScore = coverageScore;
+  }
+
+  public Location getMethod() {
+    return this.method;
+  }
+
+  public int getLineNumber() {
+    return this.lineNumber;
+  }
+
+  public double getMutantScore() {
+    return this.mutantScore;
+  }
+
+  public double getCoverageScore() {
+    return this.coverageScore;
+  }
+
+  Suspiciousness combine(final Suspiciousness other) {
+    return new Suspiciousness(this.method, Math.min(this.lineNumber,
+        other.lineNumber), Math.max(this.mutantScore, other.mutantScore),
+        Math.max(this.coverageScore, other.coverageScore));
+  }
+
+  @Override
+  public String toString() {
+    return "Suspiciousness [method=" + this.method + ", lineNumber="
+        + this.lineNumber + ", mutantScore=" + this.mutantScore
+        + ", coverageScore=" + this.coverageScore + "]";
+  }
+
+}
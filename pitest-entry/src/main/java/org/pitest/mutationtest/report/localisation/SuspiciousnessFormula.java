@@ -0,0 +1,15 @@
+package org.pitest.mutationtest.report.localisation;
+
+/**
+ * Scores how suspicious a program element is from the number of failing and
+ * passing tests that touch it.
+ *
+ * For coverage spectra a test touches a line by executing it. For mutant
+ * spectra a test touches a mutant by changing outcome when run against it.
+ */
+public interface SuspiciousnessFormula {
+
+  double score(int failedTouching, int passedTouching, int totalFailed,
+      int totalPassed);
+
+}
@@ -0,0 +1,30 @@
+package org.pitest.mutationtest.report.matrix;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A mutant by test outcome matrix as read from a kill matrix file
+ */
+public final class KillMatrix {
+
+  private final List<String>        tests;
+  private final List<KillMatrixRow> rows;
+
+  public KillMatrix(final List<String> tests, final List<KillMatrixRow> rows) {
+    this.tests = tests;
+    this.rows = rows;
+  }
+
+  /**
+   * @return test names, indexed by test id
+   */
+  public List<String> getTests() {
+    return Collections.unmodifiableList(this.tests);
+  }
+
+  public List<KillMatrixRow> getRows() {
+    return Collections.unmodifiableList(this.rows);
+  }
+
+}
@@ -0,0 +1,141 @@
+package org.pitest.mutationtest.report.matrix;
+
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Streams the mutant by test outcome matrix to a binary file as results
+ * arrive.
+ *
+ * Tests are given integer ids in the order they are first seen, and a test
+ * record naming each is written before the first mutant that refers to it.
+ * Each mutant record lists the ids of its assigned tests followed by the
+ * bitsets of its {@link TestOutcomes}, indexed by position in that list.
+ * Strings are written once and then referred to by index. The file can be
+ * read back with {@link KillMatrixReader}.
+ */
+public class KillMatrixListener implements MutationResultListener {
+
+  static final String                FILE_NAME  = "kill-matrix.bin";
+
+  static final int                   MAGIC      = 0x5049544b;
+  static final int                   VERSION    = 1;
+
+  static final byte                  END        = 0;
+  static final byte                  TEST       = 1;
+  static final byte                  MUTANT     = 2;
+
+  static final int                   NEW_STRING = 0;
+
+  private final SafeDataOutputStream out;
+  private final Map<String, Integer> testIds    = new HashMap<>();
+  private final Map<String, Integer> strings    = new HashMap<>();
+
+  public KillMatrixListener(final ResultOutputStrategy outputStrategy) {
+    this(outputStrategy.createOutputStreamForFile(FILE_NAME));
+  }
+
+  public KillMatrixListener(final OutputStream out) {
+    this.out = new SafeDataOutputStream(out);
+  }
+
+  @Override
+  public void runStart() {
+    this.out.writeInt(MAGIC);
+    this.out.writeVarInt(VERSION);
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    for (final MutationResult each : results.getMutations()) {
+      writeMutant(each);
+    }
+  }
+
+  @Override
+  public void runEnd() {
+    this.out.writeByte(END);
+    this.out.close();
+  }
+
+  private void writeMutant(final MutationResult result) {
+    final MutationDetails details = result.getDetails();
+    final List<TestInfo> tests = details.getTestsInOrder();
+    final int[] ids = new int[tests.size()];
+    for (int i = 0; i != ids.length; i++) {
+      ids[i] = testId(tests.get(i).getName());
+    }
+
+    this.out.writeByte(MUTANT);
+    writeIdentifier(details.getId());
+    this.out.writeVarInt(details.getLineNumber());
+    this.out.writeVarInt(result.getStatus().ordinal());
+    this.out.writeVarInt(ids.length);
+    for (final int each : ids) {
+      this.out.writeVarInt(each);
+    }
+    writeOutcomes(result.getStatusTestPair().getTestOutcomes());
+  }
+
+  private void writeIdentifier(final MutationIdentifier id) {
+    writeString(id.getClassName().asInternalName());
+    writeString(id.getLocation().getMethodName().name());
+    writeString(id.getLocation().getMethodDesc());
+    this.out.writeVarInt(id.getIndexes().size());
+    for (final int each : id.getIndexes()) {
+      this.out.writeVarInt(each);
+    }
+    writeString(id.getMutator());
+  }
+
+  private void writeOutcomes(final Optional<TestOutcomes> maybeOutcomes) {
+    if (!maybeOutcomes.isPresent()) {
+      this.out.writeBoolean(false);
+      return;
+    }
+    final TestOutcomes outcomes = maybeOutcomes.get();
+    this.out.writeBoolean(true);
+    this.out.writeVarInt(outcomes.getNumberOfTests());
+    this.out.writeBitSet(outcomes.getRun());
+    this.out.writeBitSet(outcomes.getFailed());
+    this.out.writeBitSet(outcomes.getErrored());
+    this.out.writeBitSet(outcomes.getTimedOut());
+  }
+
+  private int testId(final String name) {
+    final Integer id = this.testIds.get(name);
+    if (id != null) {
+      return id;
+    }
+    final int newId = this.testIds.size();
+    this.testIds.put(name, newId);
+    this.out.writeByte(TEST);
+    writeString(name);
+    return newId;
+  }
+
+  private void writeString(final String s) {
+    final Integer index = this.strings.get(s);
+    if (index != null) {
+      this.out.writeVarInt(index + 1);
+    } else {
+      this.strings.put(s, this.strings.size());
+      this.out.writeVarInt(NEW_STRING);
+      this.out.writeString(s);
+    }
+  }
+
+}
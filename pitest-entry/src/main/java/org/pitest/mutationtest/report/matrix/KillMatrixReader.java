@@ -0,0 +1,97 @@
+package org.pitest.mutationtest.report.matrix;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+
+/**
+ * Reads files written by {@link KillMatrixListener}
+ */
+public class KillMatrixReader {
+
+  private final List<String> strings = new ArrayList<>();
+
+  public KillMatrix read(final InputStream is) {
+    final SafeDataInputStream in = new SafeDataInputStream(is);
+    checkHeader(in);
+
+    final List<String> tests = new ArrayList<>();
+    final List<KillMatrixRow> rows = new ArrayList<>();
+    byte tag = in.readByte();
+    while (tag != KillMatrixListener.END) {
+      switch (tag) {
+      case KillMatrixListener.TEST:
+        tests.add(readString(in));
+        break;
+      case KillMatrixListener.MUTANT:
+        rows.add(readRow(in));
+        break;
+      default:
+        throw new PitError("Unknown record type " + tag + " in kill matrix");
+      }
+      tag = in.readByte();
+    }
+    return new KillMatrix(tests, rows);
+  }
+
+  private static void checkHeader(final SafeDataInputStream in) {
+    if (in.readInt() != KillMatrixListener.MAGIC) {
+      throw new PitError("Not a kill matrix file");
+    }
+    final int version = in.readVarInt();
+    if (version != KillMatrixListener.VERSION) {
+      throw new PitError("Kill matrix is in format version " + version
+          + " but version " + KillMatrixListener.VERSION + " was expected");
+    }
+  }
+
+  private KillMatrixRow readRow(final SafeDataInputStream in) {
+    final MutationIdentifier id = readIdentifier(in);
+    final int lineNumber = in.readVarInt();
+    final DetectionStatus status = DetectionStatus.values()[in.readVarInt()];
+    final int[] testIds = new int[in.readVarInt()];
+    for (int i = 0; i != testIds.length; i++) {
+      testIds[i] = in.readVarInt();
+    }
+    TestOutcomes outcomes = null;
+    if (in.readBoolean()) {
+      outcomes = new TestOutcomes(in.readVarInt(), in.readBitSet(),
+          in.readBitSet(), in.readBitSet(), in.readBitSet());
+    }
+    return new KillMatrixRow(id, lineNumber, status, testIds, outcomes);
+  }
+
+  private MutationIdentifier readIdentifier(final SafeDataInputStream in) {
+    final ClassName clazz = ClassName.fromString(readString(in));
+    final MethodName method = MethodName.fromString(readString(in));
+    final String methodDesc = readString(in);
+    final int numberOfIndexes = in.readVarInt();
+    final List<Integer> indexes = new ArrayList<>(numberOfIndexes);
+    for (int i = 0; i != numberOfIndexes; i++) {
+      indexes.add(in.readVarInt());
+    }
+    final String mutator = readString(in);
+    return new MutationIdentifier(Location.location(clazz, method, methodDesc),
+        indexes, mutator);
+  }
+
+  private String readString(final SafeDataInputStream in) {
+    final int code = in.readVarInt();
+    if (code == KillMatrixListener.NEW_STRING) {
+      final String s = in.readString();
+      this.strings.add(s);
+      return s;
+    }
+    return this.strings.get(code - 1);
+  }
+
+}
@@ -0,0 +1,77 @@
+package org.pitest.mutationtest.report.matrix;
+
+import java.util.Optional;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.TestOutcomes.Outcome;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * The outcomes of the tests assigned to a single mutant
+ */
+public final class KillMatrixRow {
+
+  private final MutationIdentifier id;
+  private final int                lineNumber;
+  private final DetectionStatus    status;
+  private final int[]              testIds;
+  private final TestOutcomes       outcomes;
+
+  public KillMatrixRow(final MutationIdentifier id, final int lineNumber,
+      final DetectionStatus status, final int[] testIds,
+      final TestOutcomes outcomes) {
+    this.id = id;
+    this.lineNumber = lineNumber;
+    this.status = status;
+    this.testIds = testIds;
+    this.outcomes = outcomes;
+  }
+
+  public MutationIdentifier getId() {
+    return this.id;
+  }
+
+  public int getLineNumber() {
+    return this.lineNumber;
+  }
+
+  public DetectionStatus getStatus() {
+    return this.status;
+  }
+
+  /**
+   * @return ids of the tests assigned to the mutant, in the order they were
+   *         run
+   */
+  public int[] getTestIds() {
+    return this.testIds.clone();
+  }
+
+  public Optional<TestOutcomes> getOutcomes() {
+    return Optional.ofNullable(this.outcomes);
+  }
+
+  /**
+   * @return outcome of the test with the given id, NOT_RUN if it was not
+   *         assigned to the mutant or no outcomes were recorded
+   */
+  public Outcome getOutcome(final int testId) {
+    if (this.outcomes == null) {
+      return Outcome.NOT_RUN;
+    }
+    for (int i = 0; i != this.testIds.length; i++) {
+      if (this.testIds[i] == testId) {
+        return this.outcomes.get(i);
+      }
+    }
+    return Outcome.NOT_RUN;
+  }
+
+  @Override
+  public String toString() {
+    return "KillMatrixRow [id=" + this.id + ", status=" + this.status
+        + ", outcomes=" + this.outcomes + "]";
+  }
+
+}
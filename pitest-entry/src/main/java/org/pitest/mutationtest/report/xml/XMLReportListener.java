@@ -66,9 +66,15 @@ public class XMLReportListener implements MutationResultListener {
   }
 
   private String makeMutationAttributes(final MutationResult result) {
-    return "detected='" + result.getStatus().isDetected() + "' status='"
-        + result.getStatus() + "' numberOfTestsRun='"
+    final String attributes = "detected='" + result.getStatus().isDetected()
+        + "' status='" + result.getStatus() + "' numberOfTestsRun='"
         + result.getNumberOfTestsRun() + "'";
+    // only mutants that carried a reach probe know whether they were reached
+    if (result.getStatusTestPair().getReachingTests().isPresent()) {
+      return attributes + " reached='"
+          + !result.getStatusTestPair().isCoveredButNotReached() + "'";
+    }
+    return attributes;
   }
 
   private String makeMutationNode(final MutationResult mutation) {
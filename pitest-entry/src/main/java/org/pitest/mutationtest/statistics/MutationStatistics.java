@@ -24,13 +24,20 @@ public final class MutationStatistics {
   private final long totalMutations;
   private final long numberOfTestsRun;
   private final long totalDetected;
+  private final long totalNotReached;
 
   public MutationStatistics(Iterable<Score> scores, long totalMutations,
       long totalDetected, long numberOfTestsRun) {
+    this(scores, totalMutations, totalDetected, numberOfTestsRun, 0);
+  }
+
+  public MutationStatistics(Iterable<Score> scores, long totalMutations,
+      long totalDetected, long numberOfTestsRun, long totalNotReached) {
     this.scores = scores;
     this.totalMutations = totalMutations;
     this.totalDetected = totalDetected;
     this.numberOfTestsRun = numberOfTestsRun;
+    this.totalNotReached = totalNotReached;
   }
 
   public Iterable<Score> getScores() {
@@ -49,6 +56,14 @@ public final class MutationStatistics {
     return getTotalMutations() - getTotalDetectedMutations();
   }
 
+  /**
+   * @return number of surviving mutants that were covered by tests but that
+   *         no test executed, when reach probes were used
+   */
+  public long getTotalCoveredButNotReached() {
+    return this.totalNotReached;
+  }
+
   public long getPercentageDetected() {
     if (getTotalMutations() == 0) {
       return 100;
@@ -68,6 +83,10 @@ public final class MutationStatistics {
         + this.getPercentageDetected() + "%)");
     out.println(">> Ran " + this.numberOfTestsRun + " tests ("
         + getTestsPerMutation() + " tests per mutation)");
+    if (this.totalNotReached != 0) {
+      out.println(">> " + this.totalNotReached
+          + " surviving mutations were covered but never executed");
+    }
 
   }
 
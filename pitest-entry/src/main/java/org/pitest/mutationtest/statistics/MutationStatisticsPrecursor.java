@@ -8,11 +8,13 @@ import java.util.function.Function;
 
 import org.pitest.functional.FCollection;
 import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 
 class MutationStatisticsPrecursor {
   private final Map<String, ScorePrecursor> mutatorTotalMap  = new HashMap<>();
   private long                              numberOfTestsRun = 0;
+  private long                              notReached       = 0;
 
   public void registerResults(final Collection<MutationResult> results) {
     FCollection.forEach(results, register());
@@ -30,6 +32,10 @@ class MutationStatisticsPrecursor {
         MutationStatisticsPrecursor.this.mutatorTotalMap.put(key, total);
       }
       total.registerResult(mr.getStatus());
+      if ((mr.getStatus() == DetectionStatus.SURVIVED)
+          && mr.getStatusTestPair().isCoveredButNotReached()) {
+        MutationStatisticsPrecursor.this.notReached++;
+      }
     };
   }
 
@@ -39,7 +45,7 @@ class MutationStatisticsPrecursor {
     final long totalDetected = FCollection
         .fold(addDetectedTotals(), 0L, scores);
     return new MutationStatistics(scores, totalMutations, totalDetected,
-        this.numberOfTestsRun);
+        this.numberOfTestsRun, this.notReached);
   }
 
   Iterable<Score> getScores() {
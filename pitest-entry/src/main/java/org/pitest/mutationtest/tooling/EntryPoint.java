@@ -2,9 +2,9 @@ package org.pitest.mutationtest.tooling;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Reader;
 import java.util.Map;
 
+import org.pitest.classpath.ArchiveHandleCache;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
@@ -19,8 +19,7 @@ import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
-import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
-import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.mutationtest.incremental.BinaryHistoryStore;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
 import org.pitest.process.JavaAgent;
@@ -75,9 +74,6 @@ public class EntryPoint {
 
     final ClassPath cp = data.getClassPath();
 
-    final Optional<Reader> reader = data.createHistoryReader();
-    final WriterFactory historyWriter = data.createHistoryWriter();
-
     // workaround for apparent java 1.5 JVM bug . . . might not play nicely
     // with distributed testing
     final JavaAgent jac = new JarCreatingJarFinder(
@@ -98,12 +94,17 @@ public class EntryPoint {
 
     final CodeSource code = new CodeSource(cps);
 
+    final BinaryHistoryStore history = new BinaryHistoryStore(
+        Optional.ofNullable(data.getHistoryInputLocation()),
+        Optional.ofNullable(data.getHistoryOutputLocation()));
+
     final Timings timings = new Timings();
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
-
-    final HistoryStore history = new ObjectOutputStreamHistoryStore(historyWriter, reader);
+        settings.createCoverageExporter(), timings, !data.isVerbose(),
+        data.getCoverageShards(), data.isIncrementalCoverage()
+            ? Optional.<HistoryStore> of(history)
+            : Optional.<HistoryStore> empty());
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
@@ -119,7 +120,8 @@ public class EntryPoint {
     } finally {
       jac.close();
       ja.close();
-      historyWriter.close();
+      history.close();
+      ArchiveHandleCache.shared().close();
     }
 
   }
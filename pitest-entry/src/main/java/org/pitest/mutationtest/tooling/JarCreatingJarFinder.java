@@ -31,8 +31,13 @@ import org.pitest.util.FileUtil;
 import org.pitest.util.PitError;
 import org.pitest.util.Unchecked;
 
+import sun.pitest.ActiveMutant;
+import sun.pitest.ClassHitsReceiver;
 import sun.pitest.CodeCoverageStore;
+import sun.pitest.InfectionProbe;
 import sun.pitest.InvokeReceiver;
+import sun.pitest.ReachProbe;
+import sun.pitest.ThreadHits;
 
 public class JarCreatingJarFinder implements JavaAgent {
 
@@ -98,6 +103,11 @@ public class JarCreatingJarFinder implements JavaAgent {
       addClass(HotSwapAgent.class, jos);
       addClass(CodeCoverageStore.class, jos);
       addClass(InvokeReceiver.class, jos);
+      addClass(ClassHitsReceiver.class, jos);
+      addClass(ThreadHits.class, jos);
+      addClass(ActiveMutant.class, jos);
+      addClass(ReachProbe.class, jos);
+      addClass(InfectionProbe.class, jos);
     }
   }
 
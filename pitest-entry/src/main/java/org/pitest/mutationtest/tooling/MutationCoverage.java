@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -29,6 +30,7 @@ import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.classpath.ArchiveHandleCache;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.classpath.CodeSource;
@@ -45,6 +47,9 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.build.BaselineAwareTestPrioritiser;
+import org.pitest.mutationtest.build.KillHistory;
+import org.pitest.mutationtest.build.KillHistoryTestPrioritiser;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
@@ -59,6 +64,7 @@ import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
 import org.pitest.mutationtest.incremental.HistoryListener;
+import org.pitest.mutationtest.report.matrix.KillMatrixListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
 import org.pitest.mutationtest.statistics.Score;
@@ -112,6 +118,10 @@ public class MutationCoverage {
 
     checkExcludedRunners();
 
+    // read before coverage is calculated, which may both use and record
+    // history
+    history().initialize();
+
     final CoverageDatabase coverageData = coverage().calculateCoverage();
 
     LOG.fine("Used memory after coverage calculation "
@@ -129,11 +139,13 @@ public class MutationCoverage {
     final List<MutationResultListener> config = createConfig(t0, coverageData,
         stats, engine);
 
-    history().initialize();
+    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
+        .getLaunchOptions());
+    final WorkerFactory wf = createWorkerFactory(mutationConfig, args);
 
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine, args);
+        mutationConfig, wf);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
     LOG.info("Created  " + tus.size() + " mutation test units");
@@ -147,13 +159,23 @@ public class MutationCoverage {
         + " mb");
 
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), config);
+        numberOfThreads(), config, this.data.isReportInCompletionOrder(),
+        this.data.isWorkStealing());
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    try {
+      mae.run(tus);
+    } finally {
+      wf.close();
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
+    if (this.data.isRecoverableTimeouts()) {
+      this.timings.registerCount("minion restarts avoided",
+          wf.getRecoveredTimeouts());
+    }
 
     LOG.info("Completed in " + timeSpan(t0));
 
+    recordArchiveCounts();
     printStats(stats);
 
     return new CombinedStatistics(stats.getStatistics(),
@@ -195,6 +217,10 @@ private int numberOfThreads() {
     ls.add(mutationReportListener);
     ls.add(new HistoryListener(history()));
 
+    if (this.data.isFullMutationMatrix()) {
+      ls.add(new KillMatrixListener(this.strategies.output()));
+    }
+
     if (!this.data.isVerbose()) {
       ls.add(new SpinnerListener(System.out));
     }
@@ -223,6 +249,13 @@ private int numberOfThreads() {
     this.strategies.buildVerifier().verify(this.code);
   }
 
+  private void recordArchiveCounts() {
+    final ArchiveHandleCache archives = ArchiveHandleCache.shared();
+    this.timings.registerCount("archives opened", archives.getOpens());
+    this.timings.registerCount("bytes read from archives",
+        archives.getBytesRead());
+  }
+
   private void printStats(final MutationStatisticsListener stats) {
     final PrintStream ps = System.out;
     ps.println(StringUtil.separatorLine('='));
@@ -245,41 +278,61 @@ private int numberOfThreads() {
   }
 
   private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine, EngineArguments args) {
-
-    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
-        .getLaunchOptions());
+      final CoverageDatabase coverageData, final MutationConfig mutationConfig,
+      final WorkerFactory wf) {
 
     final ClassByteArraySource bas = fallbackToClassLoader(new ClassPathByteArraySource(
         this.data.getClassPath()));
 
-    final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
-        .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
-            coverageData);
+    // the kill history is read only, so is indexed once and shared
+    final KillHistory killHistory = KillHistory.fromResults(history()
+        .getHistoricResults());
 
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
-        .createInterceptor(this.data, bas);
+    // interceptors and prioritisers may hold state, so each discovery thread
+    // gets its own
+    final Supplier<MutationSource> sources = () -> {
+      final TestPrioritiser testPrioritiser = new BaselineAwareTestPrioritiser(
+          new KillHistoryTestPrioritiser(this.settings.getTestPrioritiser()
+              .makeTestPrioritiser(this.data.getFreeFormProperties(),
+                  this.code, coverageData), killHistory),
+          this.data.getRedTests());
 
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+      final MutationInterceptor interceptor = this.settings.getInterceptor()
+          .createInterceptor(this.data, bas);
+
+      return new MutationSource(mutationConfig, testPrioritiser, bas,
+          interceptor);
+    };
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
         new DefaultCodeHistory(this.code, history()), coverageData);
 
-    final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
-        .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data
-            .getClassPath().getLocalClassPath());
-
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        sources, grouper, discoveryThreads());
 
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
 
+  private int discoveryThreads() {
+    if (this.data.isParallelMutationDiscovery()) {
+      return numberOfThreads();
+    }
+    return 1;
+  }
+
+  private WorkerFactory createWorkerFactory(final MutationConfig mutationConfig,
+      final EngineArguments args) {
+    return new WorkerFactory(this.baseDir, coverage()
+        .getConfiguration(), mutationConfig, args,
+        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data
+            .getClassPath().getLocalClassPath(),
+        this.data.createMinionOptions());
+  }
+
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
     if (tus.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
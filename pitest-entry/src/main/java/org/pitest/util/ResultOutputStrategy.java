@@ -14,10 +14,20 @@
  */
 package org.pitest.util;
 
+import java.io.OutputStream;
 import java.io.Writer;
 
 public interface ResultOutputStrategy {
 
   Writer createWriterForFile(String sourceFile);
 
+  /**
+   * Creates a stream for a binary report file. Strategies that only produce
+   * text reports need not support this.
+   */
+  default OutputStream createOutputStreamForFile(String sourceFile) {
+    throw new UnsupportedOperationException(
+        "Binary output not supported by " + getClass().getName());
+  }
+
 }
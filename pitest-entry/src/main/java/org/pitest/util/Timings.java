@@ -39,6 +39,7 @@ public class Timings {
   }
 
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
+  private final Map<String, Long>    counts  = new LinkedHashMap<>();
 
   public void registerStart(final Stage stage) {
     this.timings.put(stage, new TimeSpan(System.currentTimeMillis(), 0));
@@ -49,6 +50,10 @@ public class Timings {
     this.timings.get(stage).setEnd(end);
   }
 
+  public void registerCount(final String name, final long value) {
+    this.counts.put(name, value);
+  }
+
   public void report(final PrintStream ps) {
     long total = 0;
     for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
@@ -58,6 +63,12 @@ public class Timings {
     ps.println(StringUtil.separatorLine());
     ps.println("> Total " + " : " + new TimeSpan(0, total));
     ps.println(StringUtil.separatorLine());
+    if (!this.counts.isEmpty()) {
+      for (final Entry<String, Long> each : this.counts.entrySet()) {
+        ps.println("> " + each.getKey() + " : " + each.getValue());
+      }
+      ps.println(StringUtil.separatorLine());
+    }
   }
 
 }
@@ -31,7 +31,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Function;
 
 import org.junit.Before;
@@ -142,6 +145,52 @@ public class CoverageDataTest {
         this.testee.getTestsForClass(this.foo), testInfoToString()));
   }
 
+  @Test
+  public void shouldOnlyReturnTestsCoveringRequestedClass() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar", "barTest", 0,
+        1));
+    assertEquals(Arrays.asList("barTest"), FCollection.map(
+        this.testee.getTestsForClass(this.bar), testInfoToString()));
+  }
+
+  @Test
+  public void shouldIncludeCoverageRecordedAfterLinesWereQueried() {
+    final BlockLocationBuilder block = aBlockLocation().withLocation(
+        aLocation().withClass(this.foo));
+    when(this.lm.mapLines(any(ClassName.class))).thenReturn(
+        makeCoverageMapForBlock(block, 1));
+    final ClassLine line = new ClassLine(this.foo, 1);
+
+    this.testee.calculateClassCoverage(aCoverageResult()
+        .withTestUnitDescription(new Description("fooTest"))
+        .withVisitedBlocks(block.build(1)).build());
+    this.testee.getTestsForClassLine(line);
+    this.testee.calculateClassCoverage(aCoverageResult()
+        .withTestUnitDescription(new Description("fooTest2"))
+        .withVisitedBlocks(block.build(1)).build());
+
+    assertEquals(Arrays.asList("fooTest", "fooTest2"), FCollection.map(
+        this.testee.getTestsForClassLine(line), testInfoToString()));
+  }
+
+  @Test
+  public void shouldIndexSuppliedBlockCoverage() {
+    final BlockLocation block = aBlockLocation().withLocation(
+        aLocation().withClass(this.foo)).build();
+    final Set<TestInfo> tests = new TreeSet<>(new TestInfoNameComparator());
+    tests.add(new TestInfo("FooTest", "fooTest", 0,
+        Optional.<ClassName> empty(), 1));
+    final Map<BlockLocation, Set<TestInfo>> blocks = new LinkedHashMap<>();
+    blocks.put(block, tests);
+
+    this.testee = new CoverageData(this.code, this.lm, blocks);
+
+    assertEquals(Arrays.asList("fooTest"), FCollection.map(
+        this.testee.getTestsForClass(this.foo), testInfoToString()));
+  }
+
   @Test
   public void shouldReportAGreenSuiteWhenNoTestHasFailed() {
     this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 42,
@@ -156,6 +205,30 @@ public class CoverageDataTest {
     assertFalse(this.testee.allTestsGreen());
   }
 
+  @Test
+  public void shouldRecordNamesOfFailedTests() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("fooTest"), 42, 1, false));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("barTest"), 42, 1, true));
+    assertEquals(Collections.singleton("fooTest"),
+        this.testee.getFailingTests());
+  }
+
+  @Test
+  public void shouldRecordWhetherEachTestPassedWithoutMutation() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("fooTest"), 42, 1, false));
+    this.testee.calculateClassCoverage(makeCoverageResult("foo",
+        new Description("barTest"), 42, 1, true));
+    final Map<String, Boolean> actual = new HashMap<>();
+    for (final TestInfo each : this.testee.getTestsForClass(this.foo)) {
+      actual.put(each.getName(), each.isGreenTest());
+    }
+    assertEquals(false, actual.get("fooTest"));
+    assertEquals(true, actual.get("barTest"));
+  }
+
   @Test
   public void shouldProvideAccessToClassData() {
     final Collection<ClassName> classes = Arrays.asList(ClassName
@@ -13,8 +13,14 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -34,6 +40,7 @@ import org.pitest.mutationtest.execute.DefaultPITClassloader;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
+import org.pitest.testapi.Description;
 import org.pitest.util.ExitCode;
 import org.pitest.util.SocketFinder;
 import org.pitest.util.XStreamCloning;
@@ -64,6 +71,65 @@ public class CoverageProcessSystemTest {
     assertFalse(coverage.iterator().next().getCoverage().isEmpty());
   }
 
+  @Test
+  public void shouldRecordSameCoverageWhenSendingBitsets() throws IOException,
+  InterruptedException, ExecutionException {
+    final List<CoverageResult> probeIds = new ArrayList<>();
+    runCoverageProcess(TestsForMultiBlockCoverage.class, probeIds, false);
+    final List<CoverageResult> bitsets = new ArrayList<>();
+    runCoverageProcess(TestsForMultiBlockCoverage.class, bitsets, true);
+
+    assertEquals(coverageByTest(probeIds), coverageByTest(bitsets));
+  }
+
+  @Test
+  public void shouldRecordSameCoverageWhenRunningTestClassesInParallel()
+      throws IOException, InterruptedException {
+    final List<String> tests = Arrays.asList(
+        TestsForMultiBlockCoverage.class.getName(), Tests.class.getName(),
+        TesteeWithComplexConstructorsTest.class.getName());
+    final List<CoverageResult> sequential = new ArrayList<>();
+    runCoverageProcess(tests, sequential, false, 1);
+    final List<CoverageResult> parallel = new ArrayList<>();
+    runCoverageProcess(tests, parallel, false, 3);
+
+    assertFalse(sequential.isEmpty());
+    assertEquals(coverageByTest(sequential), coverageByTest(parallel));
+  }
+
+  public static class TestsUsingSharedThread {
+    private static final ExecutorService SHARED = Executors
+        .newSingleThreadExecutor(r -> {
+          final Thread t = new Thread(r);
+          t.setDaemon(true);
+          return t;
+        });
+
+    @Test
+    public void testFoo() throws Exception {
+      SHARED.submit(() -> new Testee().foo()).get();
+    }
+
+    @Test
+    public void testBar() throws Exception {
+      SHARED.submit(() -> new Testee().bar()).get();
+    }
+  }
+
+  @Test
+  public void shouldRecordSameCoverageWhenTestsShareThreads()
+      throws IOException, InterruptedException {
+    final List<String> tests = Arrays.asList(
+        TestsUsingSharedThread.class.getName(), Tests.class.getName());
+    final List<CoverageResult> sequential = new ArrayList<>();
+    runCoverageProcess(tests, sequential, false, 1);
+    final List<CoverageResult> parallel = new ArrayList<>();
+    runCoverageProcess(tests, parallel, false, 2);
+
+    assertEquals(sequential.size(), parallel.size());
+    assertEquals(coverageByTest(sequential), coverageByTest(parallel));
+  }
+
   // check all the specialised implementations broadly work
   @Test
   public void shouldCalculateCoverageForSingleBlockMethods()
@@ -323,6 +389,16 @@ public class CoverageProcessSystemTest {
     return new ClassPath(cpWithoutJUnit);
   }
 
+  private static Map<Description, Set<BlockLocation>> coverageByTest(
+      final List<CoverageResult> results) {
+    final Map<Description, Set<BlockLocation>> coverage = new HashMap<>();
+    for (final CoverageResult each : results) {
+      coverage.put(each.getTestUnitDescription(),
+          new HashSet<>(each.getCoverage()));
+    }
+    return coverage;
+  }
+
   private Predicate<CoverageResult> failingTest() {
     return a -> !a.isGreenTest();
   }
@@ -339,9 +415,22 @@ public class CoverageProcessSystemTest {
   private void runCoverageProcess(final Class<?> test,
       final List<CoverageResult> coveredClasses) throws IOException,
       InterruptedException {
+    runCoverageProcess(test, coveredClasses, false);
+  }
+
+  private void runCoverageProcess(final Class<?> test,
+      final List<CoverageResult> coveredClasses, final boolean bitsets)
+      throws IOException, InterruptedException {
+    runCoverageProcess(Arrays.asList(test.getName()), coveredClasses, bitsets,
+        1);
+  }
+
+  private void runCoverageProcess(final List<String> tests,
+      final List<CoverageResult> coveredClasses, final boolean bitsets,
+      final int threads) throws IOException, InterruptedException {
     final SideEffect1<CoverageResult> handler = a -> coveredClasses.add(a);
 
-    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(), excludeTests(), TestPluginArguments.defaults(), true, -1);
+    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(), excludeTests(), TestPluginArguments.defaults(), true, -1, bitsets, threads);
 
     final JarCreatingJarFinder agent = new JarCreatingJarFinder();
     try {
@@ -349,8 +438,7 @@ public class CoverageProcessSystemTest {
       final SocketFinder sf = new SocketFinder();
       final CoverageProcess process = new CoverageProcess(ProcessArgs
           .withClassPath(new ClassPath()).andLaunchOptions(lo), sa,
-          sf.getNextAvailableServerSocket(), Arrays.asList(test.getName()),
-          handler);
+          sf.getNextAvailableServerSocket(), tests, handler);
       process.start();
 
       final ExitCode exitCode = process.waitToDie();
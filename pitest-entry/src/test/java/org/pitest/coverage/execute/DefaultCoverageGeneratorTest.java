@@ -0,0 +1,48 @@
+package org.pitest.coverage.execute;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class DefaultCoverageGeneratorTest {
+
+  @Test
+  public void shouldCreateSingleEmptyShardWhenNoTests() {
+    final List<List<String>> actual = DefaultCoverageGenerator.shard(
+        Collections.<String> emptyList(), 4);
+    assertThat(actual).containsExactly(Collections.<String> emptyList());
+  }
+
+  @Test
+  public void shouldNotCreateMoreShardsThanTests() {
+    final List<List<String>> actual = DefaultCoverageGenerator.shard(
+        asList("b", "a"), 4);
+    assertThat(actual).containsExactly(asList("a"), asList("b"));
+  }
+
+  @Test
+  public void shouldPlaceAllTestsInOneShardWhenSingleShardRequested() {
+    final List<List<String>> actual = DefaultCoverageGenerator.shard(
+        asList("c", "a", "b"), 1);
+    assertThat(actual).containsExactly(asList("a", "b", "c"));
+  }
+
+  @Test
+  public void shouldSpreadRemainderOverFirstShards() {
+    final List<List<String>> actual = DefaultCoverageGenerator.shard(
+        asList("e", "d", "c", "b", "a"), 2);
+    assertThat(actual).containsExactly(asList("a", "b", "c"), asList("d", "e"));
+  }
+
+  @Test
+  public void shouldTreatNonPositiveShardCountAsOne() {
+    final List<List<String>> actual = DefaultCoverageGenerator.shard(
+        asList("a", "b"), 0);
+    assertThat(actual).containsExactly(asList("a", "b"));
+  }
+
+}
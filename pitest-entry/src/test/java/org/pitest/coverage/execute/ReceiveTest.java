@@ -2,17 +2,26 @@ package org.pitest.coverage.execute;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
-import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
+import org.pitest.util.MessageEncoder;
 import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
 
@@ -60,18 +69,54 @@ public class ReceiveTest {
     assertEquals(true, this.result.isGreenTest());
   }
 
+  @Test
+  public void shouldReportBlocksHitWhenSentAsBitsets() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(bytes);
+    dos.writeInt(0);
+    dos.writeString("foo");
+    dos.writeInt(0);
+    dos.writeString("bar");
+    dos.writeString("()V");
+    dos.writeInt(0);
+    dos.writeInt(2);
+    final MessageEncoder encoder = new MessageEncoder();
+    encoder.write(dos, this.description);
+    encoder.writeClassHits(dos, 0, new boolean[] { true, false, true, false },
+        1);
+    encoder.endClassHits(dos);
+    dos.writeBoolean(true);
+    dos.writeInt(0);
+
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new ByteArrayInputStream(bytes.toByteArray()));
+    this.testee.apply(Id.CLAZZ, is);
+    this.testee.apply(Id.PROBES, is);
+    this.testee.apply(Id.OUTCOME_BITSETS, is);
+
+    final Location bar = Location.location(ClassName.fromString("foo"),
+        MethodName.fromString("bar"), "()V");
+    assertEquals(Collections.singleton(new BlockLocation(bar, 1)),
+        this.result.getCoverage());
+  }
+
   private void recordTestCoverage(final int executionTime, final int classId,
       final int probeNumber, final boolean testPassed) {
-    when(this.is.readInt()).thenReturn(classId, executionTime);
-    when(this.is.readString()).thenReturn("foo");
-    this.testee.apply(Id.CLAZZ, this.is);
-
-    when(this.is.read(Description.class)).thenReturn(this.description);
-    when(this.is.readInt()).thenReturn(1);
-    when(this.is.readLong()).thenReturn(1l,
-        CodeCoverageStore.encode(classId, probeNumber));
-    when(this.is.readBoolean()).thenReturn(testPassed);
-    this.testee.apply(Id.OUTCOME, this.is);
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(bytes);
+    dos.writeInt(classId);
+    dos.writeString("foo");
+    final MessageEncoder encoder = new MessageEncoder();
+    encoder.write(dos, this.description);
+    encoder.writeProbeHits(dos,
+        Collections.singleton(CodeCoverageStore.encode(classId, probeNumber)));
+    dos.writeBoolean(testPassed);
+    dos.writeInt(executionTime);
+
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new ByteArrayInputStream(bytes.toByteArray()));
+    this.testee.apply(Id.CLAZZ, is);
+    this.testee.apply(Id.OUTCOME, is);
   }
 
 }
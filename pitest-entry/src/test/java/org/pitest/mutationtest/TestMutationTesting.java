@@ -157,6 +157,16 @@ public class TestMutationTesting {
     verifyResults(SURVIVED, KILLED, KILLED);
   }
 
+  @Test
+  public void shouldAnalyseSuccessiveUnitsWithinAReusedMinion() {
+    final ReportOptions data = new ReportOptions();
+    data.setReuseMinions(true);
+    data.setMutationUnitSize(1);
+    run(data, ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        "RETURN_VALS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
   public static class FailingTest {
     @TestAnnotationForTesting
     public void fail() {
@@ -308,8 +318,11 @@ public class TestMutationTesting {
 
   private void run(final Class<?> clazz, final Class<?> test,
       final String ... mutators) {
+    run(new ReportOptions(), clazz, test, mutators);
+  }
 
-    final ReportOptions data = new ReportOptions();
+  private void run(final ReportOptions data, final Class<?> clazz,
+      final Class<?> test, final String ... mutators) {
 
     final Set<Predicate<String>> tests = Collections.singleton(Prelude
         .isEqualTo(test.getName()));
@@ -353,7 +366,7 @@ public class TestMutationTesting {
 
     final CoverageGenerator coverageGenerator = new DefaultCoverageGenerator(
         null, coverageOptions, launchOptions, code, new NullCoverageExporter(),
-        timings, false);
+        timings, false, data.getCoverageShards());
 
     final CoverageDatabase coverageData = coverageGenerator.calculateCoverage();
 
@@ -381,18 +394,22 @@ public class TestMutationTesting {
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.isVerbose(), data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), data.createMinionOptions());
 
 
 
 
     final MutationTestBuilder builder = new MutationTestBuilder(wf,
-        new NullAnalyser(), source, new DefaultGrouper(0));
+        new NullAnalyser(), source, new DefaultGrouper(data.getMutationUnitSize()));
 
     final List<MutationAnalysisUnit> tus = builder
         .createMutationTestUnits(codeClasses);
 
-    this.mae.run(tus);
+    try {
+      this.mae.run(tus);
+    } finally {
+      wf.close();
+    }
   }
 
   private CoverageOptions createCoverageOptions(ReportOptions data) {
@@ -0,0 +1,63 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class BaselineAwareTestPrioritiserTest {
+
+  @Mock
+  private TestPrioritiser child;
+
+  private final TestInfo  red     = test("red", false);
+  private final TestInfo  fast    = test("fast", true);
+  private final TestInfo  slow    = test("slow", true);
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.child.assignTests(any(MutationDetails.class))).thenReturn(
+        Arrays.asList(this.red, this.fast, this.slow));
+  }
+
+  @Test
+  public void shouldLeaveOrderUnchangedWhenRunningFailingTests() {
+    assertThat(assign(RedTestPolicy.RUN)).containsExactly(this.red, this.fast,
+        this.slow);
+  }
+
+  @Test
+  public void shouldMoveFailingTestsAfterPassingTests() {
+    assertThat(assign(RedTestPolicy.LAST)).containsExactly(this.fast,
+        this.slow, this.red);
+  }
+
+  @Test
+  public void shouldRemoveFailingTestsWhenSkipping() {
+    assertThat(assign(RedTestPolicy.SKIP)).containsExactly(this.fast,
+        this.slow);
+  }
+
+  private List<TestInfo> assign(final RedTestPolicy policy) {
+    return new BaselineAwareTestPrioritiser(this.child, policy)
+        .assignTests(null);
+  }
+
+  private static TestInfo test(final String name, final boolean green) {
+    return new TestInfo("FooTest", name, 1, Optional.<ClassName> empty(), 0,
+        green);
+  }
+
+}
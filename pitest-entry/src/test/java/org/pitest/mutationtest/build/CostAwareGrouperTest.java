@@ -0,0 +1,117 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.LocationMother;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class CostAwareGrouperTest {
+
+  private CostAwareGrouper testee;
+
+  @Test
+  public void shouldReturnNoUnitsWhenNoMutations() {
+    this.testee = new CostAwareGrouper(2, 0);
+    assertTrue(this.testee.groupMutations(null,
+        Collections.<MutationDetails> emptyList()).isEmpty());
+  }
+
+  @Test
+  public void shouldIncludeEveryMutationExactlyOnce() {
+    this.testee = new CostAwareGrouper(2, 0);
+    final List<MutationDetails> mutations = Arrays.asList(
+        createDetails("foo", 10), createDetails("foo", 3),
+        createDetails("bar", 7), createDetails("baz", 1),
+        createDetails("baz", 0));
+
+    final List<MutationDetails> actual = new ArrayList<>();
+    for (final List<MutationDetails> each : this.testee.groupMutations(null,
+        mutations)) {
+      actual.addAll(each);
+    }
+
+    assertEquals(mutations.size(), actual.size());
+    assertTrue(actual.containsAll(mutations));
+  }
+
+  @Test
+  public void shouldSplitExpensiveClassesAcrossUnits() {
+    this.testee = new CostAwareGrouper(1, 0);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(null,
+        Arrays.asList(createDetails("foo", 100), createDetails("foo", 100),
+            createDetails("foo", 100), createDetails("foo", 100)));
+
+    assertEquals(4, actual.size());
+  }
+
+  @Test
+  public void shouldPackCheapClassesIntoSharedUnits() {
+    this.testee = new CostAwareGrouper(1, 0);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(null,
+        Arrays.asList(createDetails("foo", 100), createDetails("bar", 1),
+            createDetails("baz", 1), createDetails("qux", 1)));
+
+    assertEquals(2, actual.size());
+    assertEquals(1, actual.get(0).size());
+    assertEquals(3, actual.get(1).size());
+  }
+
+  @Test
+  public void shouldReturnMostExpensiveUnitsFirst() {
+    this.testee = new CostAwareGrouper(4, 0);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(null,
+        Arrays.asList(createDetails("foo", 1), createDetails("bar", 50),
+            createDetails("baz", 20)));
+
+    for (int i = 1; i != actual.size(); i++) {
+      assertTrue(this.testee.priority(actual.get(i - 1)) >= this.testee
+          .priority(actual.get(i)));
+    }
+  }
+
+  @Test
+  public void shouldNotCreateUnitsLargerThanUnitSize() {
+    this.testee = new CostAwareGrouper(1, 2);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(null,
+        Arrays.asList(createDetails("foo", 0), createDetails("foo", 0),
+            createDetails("foo", 0), createDetails("bar", 0),
+            createDetails("baz", 0)));
+
+    for (final List<MutationDetails> each : actual) {
+      assertTrue(each.size() <= 2);
+    }
+  }
+
+  @Test
+  public void shouldUseSumOfTestTimesAsPriority() {
+    this.testee = new CostAwareGrouper(1, 0);
+    final List<MutationDetails> unit = Arrays.asList(createDetails("foo", 10),
+        createDetails("foo", 5));
+    assertEquals(15 + (2 * CostAwareGrouper.MUTANT_OVERHEAD),
+        this.testee.priority(unit));
+  }
+
+  private static MutationDetails createDetails(final String clazz,
+      final int testTime) {
+    final LocationBuilder lb = LocationMother.aLocation().withClass(
+        ClassName.fromString(clazz));
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withLocation(lb).build(), "", "desc", 42, 0);
+    details.addTestsInOrder(Collections.singletonList(new TestInfo("FooTest",
+        "fooTest", testTime, Optional.<ClassName> empty(), 0)));
+    return details;
+  }
+
+}
@@ -0,0 +1,115 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class KillHistoryTestPrioritiserTest {
+
+  @Mock
+  private TestPrioritiser                                     child;
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> history = new HashMap<>();
+
+  private final TestInfo                                      first   = test("first");
+  private final TestInfo                                      second  = test("second");
+  private final TestInfo                                      third   = test("third");
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.child.assignTests(any(MutationDetails.class))).thenReturn(
+        Arrays.asList(this.first, this.second, this.third));
+  }
+
+  @Test
+  public void shouldLeaveOrderUnchangedWithoutHistory() {
+    assertThat(assign(mutation("method", 1))).containsExactly(this.first,
+        this.second, this.third);
+  }
+
+  @Test
+  public void shouldRunPreviousKillerFirst() {
+    killed(mutation("method", 1), "third");
+    assertThat(assign(mutation("method", 1))).containsExactly(this.third,
+        this.first, this.second);
+  }
+
+  @Test
+  public void shouldRunKillersOfOtherMutantsInSameMethodNext() {
+    killed(mutation("method", 1), "third");
+    killed(mutation("method", 2), "second");
+    killed(mutation("method", 3), "second");
+    killed(mutation("method", 4), "third");
+    killed(mutation("method", 5), "third");
+    assertThat(assign(mutation("method", 2))).containsExactly(this.second,
+        this.third, this.first);
+    assertThat(assign(mutation("method", 6))).containsExactly(this.third,
+        this.second, this.first);
+  }
+
+  @Test
+  public void shouldIgnoreKillersInOtherMethods() {
+    killed(mutation("other", 1), "third");
+    assertThat(assign(mutation("method", 1))).containsExactly(this.first,
+        this.second, this.third);
+  }
+
+  @Test
+  public void shouldIgnoreSurvivingMutants() {
+    this.history.put(mutation("method", 1).getId(),
+        new MutationStatusTestPair(3, DetectionStatus.SURVIVED));
+    assertThat(assign(mutation("method", 1))).containsExactly(this.first,
+        this.second, this.third);
+  }
+
+  @Test
+  public void shouldNotSeeResultsAddedAfterHistoryIsIndexed() {
+    final KillHistory index = KillHistory.fromResults(this.history);
+    killed(mutation("method", 1), "third");
+    assertThat(new KillHistoryTestPrioritiser(this.child, index)
+        .assignTests(mutation("method", 1))).containsExactly(this.first,
+        this.second, this.third);
+  }
+
+  private List<TestInfo> assign(final MutationDetails mutation) {
+    return new KillHistoryTestPrioritiser(this.child,
+        KillHistory.fromResults(this.history)).assignTests(mutation);
+  }
+
+  private void killed(final MutationDetails mutation, final String test) {
+    this.history.put(mutation.getId(), new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, test));
+  }
+
+  private static MutationDetails mutation(final String method,
+      final int index) {
+    return new MutationDetails(aMutationId()
+        .withLocation(aLocation().withMethod(method)).withIndex(index)
+        .build(), "file", "desc", 1, 0);
+  }
+
+  private static TestInfo test(final String name) {
+    return new TestInfo("FooTest", name, 1, Optional.<ClassName> empty(), 0);
+  }
+
+}
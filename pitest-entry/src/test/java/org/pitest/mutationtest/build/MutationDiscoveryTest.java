@@ -186,6 +186,24 @@ public class MutationDiscoveryTest {
     assertThat(actual).isEmpty();
   }
 
+  @Test
+  public void filtersTriviallyEquivalentMutantsWhenDuplicateFilterEnabled() {
+    this.data.setMutators(Collections.singletonList("MATH"));
+    final Collection<MutationDetails> unfiltered = findMutants(MultipliesByOne.class);
+
+    this.data.setFeatures(Collections.singletonList("+FDUPLICATES"));
+    final Collection<MutationDetails> actual = findMutants(MultipliesByOne.class);
+
+    assertThat(unfiltered).isNotEmpty();
+    assertThat(actual).isEmpty();
+  }
+
+  static class MultipliesByOne {
+    int times(int a) {
+      return a * 1;
+    }
+  }
+
   public static class AnnotatedToAvoidMethod {
     public int a() {
       return 1;
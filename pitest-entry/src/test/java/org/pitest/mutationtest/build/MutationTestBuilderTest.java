@@ -7,17 +7,29 @@ import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.EngineArguments;
+import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.util.IsolationUtils;
 
 public class MutationTestBuilderTest {
 
@@ -58,6 +70,21 @@ public class MutationTestBuilderTest {
     assertEquals(3, actual.size());
   }
 
+  @Test
+  public void shouldPlaceDuplicateMutantsInTheUnitOfTheirRepresentative() {
+    makeTesteeWithUnitSizeOf(1);
+    final MutationDetails representative = createDetails("foo", 1);
+    final MutationDetails other = createDetails("foo", 2);
+    final MutationDetails duplicate = createDetails("foo", 3)
+        .withDuplicateOf(representative.getId());
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(representative, other, duplicate));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(ClassName.fromString("foo")));
+    assertEquals(2, actual.size());
+    assertEquals(2, actual.get(0).priority());
+  }
+
   @Test
   public void shouldCreateNoUnitsWhenNoMutationsFound() {
     when(this.source.createMutations(any(ClassName.class))).thenReturn(
@@ -80,6 +107,108 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldFindSameMutationsInSameOrderWhenSearchingInParallel() {
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 0; i != 20; i++) {
+      final ClassName clazz = ClassName.fromString("foo" + i);
+      classes.add(clazz);
+      when(this.source.createMutations(clazz)).thenAnswer(
+          slowly(Arrays.asList(createDetails(clazz.asJavaName()))));
+    }
+
+    final RecordingAnalyser sequential = new RecordingAnalyser();
+    new MutationTestBuilder(this.wf, sequential, this.source,
+        new DefaultGrouper(0)).createMutationTestUnits(classes);
+
+    final RecordingAnalyser parallel = new RecordingAnalyser();
+    new MutationTestBuilder(this.wf, parallel, () -> this.source,
+        new DefaultGrouper(0), 4).createMutationTestUnits(classes);
+
+    assertEquals(20, parallel.analysed.size());
+    assertEquals(sequential.analysed, parallel.analysed);
+  }
+
+  @Test
+  public void shouldCreateNoMoreMutationSourcesThanDiscoveryThreads() {
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(createDetails("foo")));
+    final AtomicInteger created = new AtomicInteger();
+    final Supplier<MutationSource> sources = () -> {
+      created.incrementAndGet();
+      return this.source;
+    };
+
+    new MutationTestBuilder(this.wf, new NullAnalyser(), sources,
+        new DefaultGrouper(0), 2).createMutationTestUnits(Arrays.asList(
+        ClassName.fromString("foo"), ClassName.fromString("bar"),
+        ClassName.fromString("baz")));
+
+    assertTrue(created.get() <= 2);
+  }
+
+  @Test
+  public void shouldFindSameMutationsWhenSearchingInParallelWithMethodCallMutators() {
+    final List<ClassName> classes = new ArrayList<>();
+    for (int i = 0; i != 10; i++) {
+      classes.add(ClassName.fromClass(CallsOverloads.class));
+      classes.add(ClassName.fromClass(CallsOtherOverloads.class));
+      classes.add(ClassName.fromClass(CallsSiblings.class));
+    }
+    final List<String> mutators = Arrays.asList("M2", "M3");
+
+    final RecordingAnalyser sequential = new RecordingAnalyser();
+    new MutationTestBuilder(this.wf, sequential, methodCallSource(mutators),
+        new DefaultGrouper(0)).createMutationTestUnits(classes);
+
+    final RecordingAnalyser parallel = new RecordingAnalyser();
+    new MutationTestBuilder(this.wf, parallel,
+        () -> methodCallSource(mutators), new DefaultGrouper(0), 4)
+        .createMutationTestUnits(classes);
+
+    assertTrue(hasMutantsFrom(sequential.analysed, "M2"));
+    assertTrue(hasMutantsFrom(sequential.analysed, "M3"));
+    assertEquals(sequential.analysed, parallel.analysed);
+  }
+
+  private static MutationSource methodCallSource(final List<String> mutators) {
+    final MutationEngine engine = new GregorEngineFactory().createEngine(
+        EngineArguments.arguments().withMutators(mutators));
+    return new MutationSource(new MutationConfig(engine, null),
+        mutation -> Collections.emptyList(), new ClassloaderByteArraySource(
+            IsolationUtils.getContextClassLoader()),
+        CompoundMutationInterceptor.nullInterceptor());
+  }
+
+  private static boolean hasMutantsFrom(final List<MutationDetails> mutants,
+      final String group) {
+    for (final MutationDetails each : mutants) {
+      if (each.getMutator().contains("." + group + "_")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Answer<Collection<MutationDetails>> slowly(
+      final Collection<MutationDetails> result) {
+    return invocation -> {
+      Thread.sleep((long) (Math.random() * 10));
+      return result;
+    };
+  }
+
+  private static class RecordingAnalyser extends NullAnalyser {
+    private final List<MutationDetails> analysed = new ArrayList<>();
+
+    @Override
+    public Collection<MutationResult> analyse(
+        final Collection<MutationDetails> mutationsForClasses) {
+      this.analysed.addAll(mutationsForClasses);
+      return super.analyse(mutationsForClasses);
+    }
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
@@ -95,9 +224,72 @@ public class MutationTestBuilderTest {
         this.source, new DefaultGrouper(unitSize));
   }
 
+  private static MutationDetails createDetails(String clazz, int index) {
+    return new MutationDetails(aMutationId().withLocation(aLocation(clazz))
+        .withIndex(index).build(), "", "desc", 42, 0);
+  }
+
   public static MutationDetails createDetails(String clazz) {
     return new MutationDetails(aMutationId().withLocation(aLocation(clazz))
         .build(), "", "desc", 42, 0);
   }
 
+  static class CallsOverloads {
+    int a(final int x) {
+      return x;
+    }
+
+    int a(final int x, final int y) {
+      return x + y;
+    }
+
+    int b(final int x) {
+      return x * 2;
+    }
+
+    int run(final int x) {
+      return a(x) + a(x, x) + b(x);
+    }
+  }
+
+  static class CallsOtherOverloads {
+    long c(final long x) {
+      return x;
+    }
+
+    long c(final long x, final long y) {
+      return x - y;
+    }
+
+    long c(final long x, final long y, final long z) {
+      return x - y - z;
+    }
+
+    long d(final long x) {
+      return -x;
+    }
+
+    long run(final long x) {
+      return c(x) + c(x, x) + c(x, x, x) + d(x);
+    }
+  }
+
+  static class CallsSiblings {
+    String e(final String s) {
+      return s;
+    }
+
+    String f(final String s) {
+      return s + s;
+    }
+
+    String g(final String s) {
+      return s.trim();
+    }
+
+    String run(final String s) {
+      return e(s) + f(s) + g(s);
+    }
+  }
+
 }
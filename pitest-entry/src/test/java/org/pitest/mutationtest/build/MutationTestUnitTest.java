@@ -1,31 +1,46 @@
 package org.pitest.mutationtest.build;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.MinionProcess;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.Configuration;
+import org.pitest.util.ExitCode;
 
 public class MutationTestUnitTest {
 
@@ -47,6 +62,9 @@ public class MutationTestUnitTest {
   @Mock
   private MutationEngine        engine;
 
+  @Captor
+  private ArgumentCaptor<Collection<MutationDetails>> run;
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -78,6 +96,164 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldSplitUnstartedMutationsToIdleWorkers() throws Exception {
+    for (int i = 0; i != 4; i++) {
+      addCoveredMutation(i);
+    }
+    final WorkerFactory workers = killingWorkerFactory();
+    final List<MutationAnalysisUnit> submitted = new ArrayList<>();
+    final IdleWorkers idle = mock(IdleWorkers.class);
+    when(idle.available()).thenReturn(true, false);
+    doAnswer(invocation -> submitted.add((MutationAnalysisUnit) invocation
+        .getArguments()[0])).when(idle).submit(any(MutationAnalysisUnit.class));
+
+    this.testee = new MutationTestUnit(this.mutations, this.tests, workers);
+    final MutationMetaData actual = this.testee.allowSplitting(idle).call();
+
+    assertThat(submitted).hasSize(1);
+    final MutationMetaData split = submitted.get(0).call();
+    assertThat(actual.getMutations()).hasSize(2);
+    assertThat(split.getMutations()).hasSize(2);
+
+    final List<MutationDetails> analysed = new ArrayList<>();
+    for (final MutationResult each : actual.getMutations()) {
+      analysed.add(each.getDetails());
+    }
+    for (final MutationResult each : split.getMutations()) {
+      analysed.add(each.getDetails());
+    }
+    assertThat(analysed).containsOnlyElementsOf(this.mutations);
+    assertThat(analysed).hasSize(4);
+  }
+
+  @Test
+  public void shouldNotSplitWhenNoWorkersIdle() throws Exception {
+    for (int i = 0; i != 4; i++) {
+      addCoveredMutation(i);
+    }
+    final IdleWorkers idle = mock(IdleWorkers.class);
+    when(idle.available()).thenReturn(false);
+
+    this.testee = new MutationTestUnit(this.mutations, this.tests,
+        killingWorkerFactory());
+    final MutationMetaData actual = this.testee.allowSplitting(idle).call();
+
+    assertThat(actual.getMutations()).hasSize(4);
+  }
+
+  @Test
+  public void shouldRecordTimeoutsReportedByMinionAsRecovered()
+      throws Exception {
+    addCoveredMutation(0);
+    addCoveredMutation(1);
+    final WorkerFactory workers = workerFactoryReporting(DetectionStatus.TIMED_OUT);
+
+    this.testee = new MutationTestUnit(this.mutations, this.tests, workers);
+    this.testee.call();
+
+    verify(workers).recordRecoveredTimeouts(2);
+  }
+
+  @Test
+  public void shouldGiveDuplicateMutantsTheResultOfTheirRepresentative()
+      throws Exception {
+    addCoveredMutation(0);
+    final MutationDetails duplicate = coveredDuplicate(1,
+        this.mutations.get(0).getId());
+    this.mutations.add(duplicate);
+    final WorkerFactory workers = killingWorkerFactory();
+
+    this.testee = new MutationTestUnit(this.mutations, this.tests, workers);
+    final MutationMetaData actual = this.testee.call();
+
+    verify(workers).createWorker(
+        Collections.singletonList(this.mutations.get(0)), this.tests);
+    assertThat(actual.getMutations()).contains(
+        new MutationResult(duplicate, new MutationStatusTestPair(1,
+            DetectionStatus.KILLED)));
+  }
+
+  @Test
+  public void shouldRunDuplicateMutantWhenRepresentativeNotInUnit()
+      throws Exception {
+    final MutationDetails duplicate = coveredDuplicate(1,
+        coveredMutation(0).getId());
+    this.mutations.add(duplicate);
+    final WorkerFactory workers = killingWorkerFactory();
+
+    this.testee = new MutationTestUnit(this.mutations, this.tests, workers);
+    this.testee.call();
+
+    verify(workers).createWorker(Collections.singletonList(duplicate),
+        this.tests);
+  }
+
+  @Test
+  public void shouldRunDuplicateMutantCoveredByDifferentTests()
+      throws Exception {
+    addCoveredMutation(0);
+    final MutationDetails duplicate = coveredDuplicate(1,
+        this.mutations.get(0).getId());
+    duplicate.addTestsInOrder(Collections.singletonList(new TestInfo(
+        "BarTest", "barTest", 1, Optional.<ClassName> empty(), 0)));
+    this.mutations.add(duplicate);
+    final WorkerFactory workers = killingWorkerFactory();
+
+    this.testee = new MutationTestUnit(this.mutations, this.tests, workers);
+    final MutationMetaData actual = this.testee.call();
+
+    verify(workers).createWorker(this.run.capture(),
+        anyCollectionOf(ClassName.class));
+    assertThat(this.run.getValue()).containsOnlyElementsOf(this.mutations);
+    assertThat(this.run.getValue()).hasSize(2);
+    assertThat(actual.getMutations()).hasSize(2);
+  }
+
+  private WorkerFactory killingWorkerFactory() throws Exception {
+    return workerFactoryReporting(DetectionStatus.KILLED);
+  }
+
+  private WorkerFactory workerFactoryReporting(final DetectionStatus status)
+      throws Exception {
+    final MinionProcess minion = mock(MinionProcess.class);
+    when(minion.waitToDie()).thenReturn(ExitCode.OK);
+    doAnswer(invocation -> {
+      final MutationStatusMap map = (MutationStatusMap) invocation
+          .getArguments()[0];
+      for (final MutationDetails each : map.allMutations()) {
+        map.setStatusForMutation(each, new MutationStatusTestPair(1, status));
+      }
+      return null;
+    }).when(minion).results(any(MutationStatusMap.class));
+
+    final WorkerFactory workers = mock(WorkerFactory.class);
+    when(workers.createWorker(anyCollectionOf(MutationDetails.class),
+        anyCollectionOf(ClassName.class))).thenReturn(minion);
+    return workers;
+  }
+
+  private void addCoveredMutation(final int index) {
+    this.mutations.add(coveredMutation(index));
+  }
+
+  private static MutationDetails coveredMutation(final int index) {
+    return covered(new MutationDetails(aMutationId().withIndex(index).build(),
+        "file", "desc", 0, 0));
+  }
+
+  private static MutationDetails coveredDuplicate(final int index,
+      final MutationIdentifier representative) {
+    return covered(new MutationDetails(aMutationId().withIndex(index).build(),
+        "file", "desc", 0, 0).withDuplicateOf(representative));
+  }
+
+  private static MutationDetails covered(final MutationDetails details) {
+    details.addTestsInOrder(Collections.singletonList(new TestInfo("FooTest",
+        "fooTest", 1, Optional.<ClassName> empty(), 0)));
+    return details;
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
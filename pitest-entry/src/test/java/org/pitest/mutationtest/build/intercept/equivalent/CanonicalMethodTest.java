@@ -0,0 +1,121 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+public class CanonicalMethodTest {
+
+  @Test
+  public void shouldIgnoreLineNumbersAndUnusedLabels() {
+    final LabelNode label = new LabelNode();
+    assertSame(method(new VarInsnNode(Opcodes.ILOAD, 1), new InsnNode(
+        Opcodes.IRETURN)), method(label, new LineNumberNode(3, label),
+        new VarInsnNode(Opcodes.ILOAD, 1), new InsnNode(Opcodes.IRETURN)));
+  }
+
+  @Test
+  public void shouldRemoveMultiplicationAndDivisionByOne() {
+    final MethodNode times = returnOf(new InsnNode(Opcodes.ICONST_1),
+        new InsnNode(Opcodes.IMUL));
+    final MethodNode divide = returnOf(new InsnNode(Opcodes.ICONST_1),
+        new InsnNode(Opcodes.IDIV));
+    assertSame(times, divide);
+    assertSame(times, returnOf());
+  }
+
+  @Test
+  public void shouldNotRemoveAdditionOfFloatingPointZero() {
+    // -0.0 + 0.0 is 0.0
+    assertDifferent(floatReturnOf(new LdcInsnNode(0f), new InsnNode(
+        Opcodes.FADD)), floatReturnOf());
+    assertSame(floatReturnOf(new LdcInsnNode(0f), new InsnNode(Opcodes.FSUB)),
+        floatReturnOf());
+  }
+
+  @Test
+  public void shouldNotRemoveMultiplicationByOtherValues() {
+    assertDifferent(returnOf(new InsnNode(Opcodes.ICONST_2), new InsnNode(
+        Opcodes.IMUL)), returnOf(new InsnNode(Opcodes.ICONST_2), new InsnNode(
+        Opcodes.IDIV)));
+  }
+
+  @Test
+  public void shouldReplaceComparisonOfConstantsWithItsOutcome() {
+    assertSame(constantComparison(Opcodes.IF_ICMPGE),
+        constantComparison(Opcodes.IF_ICMPGT));
+    assertDifferent(constantComparison(Opcodes.IF_ICMPGE),
+        constantComparison(Opcodes.IF_ICMPLT));
+  }
+
+  @Test
+  public void shouldDistinguishJumpsToDifferentTargets() {
+    final LabelNode first = new LabelNode();
+    final LabelNode second = new LabelNode();
+    final MethodNode toFirst = method(new VarInsnNode(Opcodes.ILOAD, 1),
+        new JumpInsnNode(Opcodes.IFEQ, first), first, new InsnNode(
+            Opcodes.ICONST_0), new InsnNode(Opcodes.IRETURN), second,
+        new InsnNode(Opcodes.ICONST_1), new InsnNode(Opcodes.IRETURN));
+    final LabelNode first2 = new LabelNode();
+    final LabelNode second2 = new LabelNode();
+    final MethodNode toSecond = method(new VarInsnNode(Opcodes.ILOAD, 1),
+        new JumpInsnNode(Opcodes.IFEQ, second2), first2, new InsnNode(
+            Opcodes.ICONST_0), new InsnNode(Opcodes.IRETURN), second2,
+        new InsnNode(Opcodes.ICONST_1), new InsnNode(Opcodes.IRETURN));
+    assertDifferent(toFirst, toSecond);
+  }
+
+  // 3 compared with 5 then return 1 if the jump is not taken, else 0
+  private static MethodNode constantComparison(final int jump) {
+    final LabelNode taken = new LabelNode();
+    return method(new InsnNode(Opcodes.ICONST_3),
+        new InsnNode(Opcodes.ICONST_5), new JumpInsnNode(jump, taken),
+        new InsnNode(Opcodes.ICONST_1), new InsnNode(Opcodes.IRETURN), taken,
+        new InsnNode(Opcodes.ICONST_0), new InsnNode(Opcodes.IRETURN));
+  }
+
+  private static MethodNode returnOf(final AbstractInsnNode... operation) {
+    final AbstractInsnNode[] body = new AbstractInsnNode[operation.length + 2];
+    body[0] = new VarInsnNode(Opcodes.ILOAD, 1);
+    System.arraycopy(operation, 0, body, 1, operation.length);
+    body[body.length - 1] = new InsnNode(Opcodes.IRETURN);
+    return method(body);
+  }
+
+  private static MethodNode floatReturnOf(final AbstractInsnNode... operation) {
+    final AbstractInsnNode[] body = new AbstractInsnNode[operation.length + 2];
+    body[0] = new VarInsnNode(Opcodes.FLOAD, 1);
+    System.arraycopy(operation, 0, body, 1, operation.length);
+    body[body.length - 1] = new InsnNode(Opcodes.FRETURN);
+    return method(body);
+  }
+
+  private static MethodNode method(final AbstractInsnNode... instructions) {
+    final MethodNode method = new MethodNode(Opcodes.ACC_PUBLIC, "m", "(I)I",
+        null, null);
+    for (final AbstractInsnNode each : instructions) {
+      method.instructions.add(each);
+    }
+    return method;
+  }
+
+  private static void assertSame(final MethodNode a, final MethodNode b) {
+    assertThat(CanonicalMethod.canonicalise(a)).isEqualTo(
+        CanonicalMethod.canonicalise(b));
+  }
+
+  private static void assertDifferent(final MethodNode a, final MethodNode b) {
+    assertThat(CanonicalMethod.canonicalise(a)).isNotEqualTo(
+        CanonicalMethod.canonicalise(b));
+  }
+
+}
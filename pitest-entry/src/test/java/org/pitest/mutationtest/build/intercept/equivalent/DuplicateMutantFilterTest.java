@@ -0,0 +1,140 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+
+public class DuplicateMutantFilterTest {
+
+  ClassByteArraySource  source = ClassloaderByteArraySource.fromContext();
+  DuplicateMutantFilter testee = new DuplicateMutantFilter();
+
+  @Test
+  public void shouldDeclareTypeAsFilter() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldFilterMutantsThatOnlyChangeMultiplicationByOne() {
+    final GregorMutater mutator = createMutator(MathMutator.MATH_MUTATOR);
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(MultipliesByOne.class));
+    assertThat(mutations).hasSize(1);
+
+    assertThat(intercept(MultipliesByOne.class, mutations, mutator)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotFilterMutantsThatChangeBehaviour() {
+    final GregorMutater mutator = createMutator(MathMutator.MATH_MUTATOR);
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(MultipliesByTwo.class));
+
+    assertThat(intercept(MultipliesByTwo.class, mutations, mutator))
+        .hasSameSizeAs(mutations);
+  }
+
+  @Test
+  public void shouldMarkMutantsWithSameBytecodeAsDuplicates() {
+    final List<MethodMutatorFactory> factories = new ArrayList<>(
+        Mutator.byName("ROR"));
+    factories.add(NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR);
+    final GregorMutater mutator = createMutator(factories);
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(HasComparison.class));
+
+    final Collection<MutationDetails> actual = intercept(HasComparison.class,
+        mutations, mutator);
+
+    assertThat(actual).hasSameSizeAs(mutations);
+    final List<MutationDetails> duplicates = new ArrayList<>();
+    for (final MutationDetails each : actual) {
+      if (each.getDuplicateOf().isPresent()) {
+        duplicates.add(each);
+        assertThat(each.getDuplicateOf().get()).isNotEqualTo(each.getId());
+        assertThat(ids(actual)).contains(each.getDuplicateOf().get());
+      }
+    }
+    assertThat(duplicates).isNotEmpty();
+  }
+
+  @Test
+  public void shouldNotMarkDistinctMutantsAsDuplicates() {
+    final GregorMutater mutator = createMutator(
+        NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR,
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR);
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(HasComparison.class));
+    assertThat(mutations).hasSize(2);
+
+    for (final MutationDetails each : intercept(HasComparison.class,
+        mutations, mutator)) {
+      assertThat(each.getDuplicateOf().isPresent()).isFalse();
+    }
+  }
+
+  private Collection<MutationDetails> intercept(final Class<?> clazz,
+      final List<MutationDetails> mutations, final GregorMutater mutator) {
+    this.testee.begin(forClass(clazz));
+    final Collection<MutationDetails> actual = this.testee.intercept(
+        mutations, mutator);
+    this.testee.end();
+    return actual;
+  }
+
+  private static List<Object> ids(final Collection<MutationDetails> mutations) {
+    final List<Object> ids = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      ids.add(each.getId());
+    }
+    return ids;
+  }
+
+  GregorMutater createMutator(MethodMutatorFactory... factories) {
+    return createMutator(Arrays.asList(factories));
+  }
+
+  GregorMutater createMutator(Collection<MethodMutatorFactory> factories) {
+    return new GregorMutater(this.source, m -> true, factories);
+  }
+
+  ClassTree forClass(Class<?> clazz) {
+    final byte[] bs = this.source.getBytes(clazz.getName()).get();
+    return ClassTree.fromBytes(bs);
+  }
+}
+
+class MultipliesByOne {
+  int times(int a) {
+    return a * 1;
+  }
+}
+
+class MultipliesByTwo {
+  int times(int a) {
+    return a * 2;
+  }
+}
+
+class HasComparison {
+  boolean lessThan(int a, int b) {
+    return a < b;
+  }
+}
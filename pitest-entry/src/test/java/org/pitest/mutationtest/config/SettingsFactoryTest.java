@@ -103,6 +103,20 @@ public class SettingsFactoryTest {
     assertFalse(actual.getFilter().test("org/pitest/coverage"));
   }
 
+  @Test
+  public void shouldPassBitsetCoverageSettingToCoverageOptions() {
+    this.options.setBitsetCoverage(true);
+    final CoverageOptions actual = this.testee.createCoverageOptions();
+    assertTrue(actual.isBitsetCoverage());
+  }
+
+  @Test
+  public void shouldPassCoverageThreadsToCoverageOptions() {
+    this.options.setCoverageThreads(4);
+    final CoverageOptions actual = this.testee.createCoverageOptions();
+    assertEquals(4, actual.getCoverageThreads());
+  }
+
   @Test
   public void shouldDescribeActiveFeatures() {
     final SideEffect1<Feature> disabled = Mockito.mock(SideEffect1.class);
@@ -0,0 +1,160 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.IdleWorkers;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+
+public class MutationAnalysisExecutorTest {
+
+  private final RecordingListener listener = new RecordingListener();
+
+  @Test
+  public void shouldReportResultsInSubmissionOrderByDefault() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.<MutationResultListener> singletonList(this.listener));
+    final CountDownLatch fastFinished = new CountDownLatch(1);
+
+    testee.run(Arrays.asList(unitFor("slow", fastFinished),
+        unitFor("fast", null, fastFinished)));
+
+    assertThat(this.listener.classes).containsExactly(ClassName.fromString("slow"),
+        ClassName.fromString("fast"));
+  }
+
+  @Test
+  public void shouldReportResultsInCompletionOrderWhenRequested() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.<MutationResultListener> singletonList(this.listener), true);
+    final CountDownLatch fastReported = new CountDownLatch(1);
+    this.listener.onResult = fastReported;
+
+    testee.run(Arrays.asList(unitFor("slow", fastReported),
+        unitFor("fast", null)));
+
+    assertThat(this.listener.classes).containsExactly(ClassName.fromString("fast"),
+        ClassName.fromString("slow"));
+  }
+
+  @Test
+  public void shouldSignalRunStartAndEndInCompletionOrderMode() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.<MutationResultListener> singletonList(this.listener), true);
+    testee.run(Collections.<MutationAnalysisUnit> emptyList());
+    assertThat(this.listener.started).isTrue();
+    assertThat(this.listener.ended).isTrue();
+  }
+
+  @Test
+  public void shouldReportResultsOfUnitsSplitOffWhileRunning() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.<MutationResultListener> singletonList(this.listener),
+        false, true);
+
+    testee.run(Collections.singletonList(splittingUnit("parent",
+        unitFor("child", null))));
+
+    assertThat(this.listener.classes).containsOnly(ClassName.fromString("parent"),
+        ClassName.fromString("child"));
+    assertThat(this.listener.ended).isTrue();
+  }
+
+  private MutationAnalysisUnit splittingUnit(final String clazz,
+      final MutationAnalysisUnit child) {
+    return splittingUnit(clazz, child, null);
+  }
+
+  private MutationAnalysisUnit splittingUnit(final String clazz,
+      final MutationAnalysisUnit child, final IdleWorkers idle) {
+    final MutationAnalysisUnit parent = unitFor(clazz, null);
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        if (idle != null) {
+          idle.submit(child);
+        }
+        return parent.call();
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+
+      @Override
+      public MutationAnalysisUnit allowSplitting(final IdleWorkers workers) {
+        return splittingUnit(clazz, child, workers);
+      }
+    };
+  }
+
+  private MutationAnalysisUnit unitFor(final String clazz,
+      final CountDownLatch waitFor) {
+    return unitFor(clazz, waitFor, null);
+  }
+
+  private MutationAnalysisUnit unitFor(final String clazz,
+      final CountDownLatch waitFor, final CountDownLatch signal) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        if (waitFor != null) {
+          waitFor.await();
+        }
+        if (signal != null) {
+          signal.countDown();
+        }
+        return new MutationMetaData(new ArrayList<>(Collections.singletonList(
+            new MutationResult(MutationDetailsMother.makeMutation(ClassName
+                .fromString(clazz)), new MutationStatusTestPair(1,
+                    DetectionStatus.KILLED)))));
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+    };
+  }
+
+  private static class RecordingListener implements MutationResultListener {
+    final List<ClassName> classes = new ArrayList<>();
+    CountDownLatch        onResult;
+    boolean               started;
+    boolean               ended;
+
+    @Override
+    public void runStart() {
+      this.started = true;
+    }
+
+    @Override
+    public void handleMutationResult(ClassMutationResults results) {
+      this.classes.add(results.getMutatedClass());
+      if (this.onResult != null) {
+        this.onResult.countDown();
+      }
+    }
+
+    @Override
+    public void runEnd() {
+      this.ended = true;
+    }
+  }
+
+}
@@ -0,0 +1,286 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+
+public class BinaryHistoryStoreTest {
+
+  private static final String COV = BigInteger.TEN.toString(16);
+
+  @Rule
+  public TemporaryFolder      testFolder = new TemporaryFolder();
+
+  @Mock
+  private CoverageDatabase    coverage;
+
+  private File                file;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class)))
+        .thenReturn(BigInteger.TEN);
+    this.file = new File(this.testFolder.getRoot(), "history.bin");
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveClassPath() {
+    final ClassHistory foo = new ClassHistory(new HierarchicalClassId(
+        new ClassIdentifier(42, ClassName.fromString("foo")), "abc"), COV);
+    final ClassHistory bar = new ClassHistory(new HierarchicalClassId(
+        new ClassIdentifier(0, ClassName.fromString("bar")), ""), COV);
+
+    final BinaryHistoryStore writer = writer();
+    writer.recordClassPath(Arrays.asList(foo.getId(), bar.getId()),
+        this.coverage);
+    writer.close();
+
+    final Map<ClassName, ClassHistory> expected = new HashMap<>();
+    expected.put(foo.getName(), foo);
+    expected.put(bar.getName(), bar);
+    assertEquals(expected, reader().getHistoricClassPath());
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveResults() {
+    final MutationResult killed = result(1, new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, "aTest"));
+    final MutationResult survived = result(2, new MutationStatusTestPair(2,
+        DetectionStatus.SURVIVED, null, outcomes(),
+        Arrays.asList("aTest", "anotherTest")));
+    final MutationResult noCoverage = result(3, new MutationStatusTestPair(0,
+        DetectionStatus.NO_COVERAGE));
+
+    final BinaryHistoryStore writer = writer();
+    writer.recordResult(killed);
+    writer.recordResult(survived);
+    writer.recordResult(noCoverage);
+    writer.close();
+
+    final Map<MutationIdentifier, MutationStatusTestPair> expected = new HashMap<>();
+    expected.put(killed.getDetails().getId(), killed.getStatusTestPair());
+    expected.put(survived.getDetails().getId(), survived.getStatusTestPair());
+    expected.put(noCoverage.getDetails().getId(),
+        noCoverage.getStatusTestPair());
+    assertEquals(expected, reader().getHistoricResults());
+  }
+
+  @Test
+  public void shouldLookUpSingleResults() {
+    final MutationResult killed = result(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "aTest"));
+
+    final BinaryHistoryStore writer = writer();
+    writer.recordResult(killed);
+    writer.close();
+
+    final Map<MutationIdentifier, MutationStatusTestPair> actual = reader()
+        .getHistoricResults();
+    assertEquals(killed.getStatusTestPair(),
+        actual.get(killed.getDetails().getId()));
+    assertNull(actual.get(aMutationId().withIndex(99).build()));
+  }
+
+  @Test
+  public void shouldRecordAndRetrieveCoverage() {
+    final CoverageResult coverage = new CoverageResult(
+        new Description("aTest", "FooTest"), 42, true,
+        Collections.singletonList(new BlockLocation(Location.location(
+            ClassName.fromString("foo"), MethodName.fromString("bar"), "()V"),
+            1)));
+
+    final BinaryHistoryStore writer = writer();
+    writer.recordCoverage(Collections.singletonList(coverage));
+    writer.close();
+
+    final CoverageResult actual = reader().getHistoricCoverage().iterator()
+        .next();
+    assertEquals(coverage.getTestUnitDescription(),
+        actual.getTestUnitDescription());
+    assertEquals(42, actual.getExecutionTime());
+    assertTrue(actual.isGreenTest());
+    assertEquals(new ArrayList<>(coverage.getCoverage()),
+        new ArrayList<>(actual.getCoverage()));
+  }
+
+  @Test
+  public void shouldReadLatestRunWhenAppendingToInput() {
+    final MutationResult first = result(1, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED));
+    final MutationResult second = result(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "aTest"));
+    recordRun(first);
+    recordRun(second);
+
+    assertEquals(
+        Collections.singletonMap(second.getDetails().getId(),
+            second.getStatusTestPair()),
+        reader().getHistoricResults());
+  }
+
+  @Test
+  public void shouldReadPreviousRunWhenLastRunIsIncomplete()
+      throws IOException {
+    final MutationResult first = result(1, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED));
+    recordRun(first);
+    final long firstRunEnd = this.file.length();
+    recordRun(result(1, new MutationStatusTestPair(1, DetectionStatus.KILLED,
+        "aTest")));
+
+    // a run cut short part of the way through a record
+    truncate(firstRunEnd + ((this.file.length() - firstRunEnd) / 2));
+
+    assertEquals(
+        Collections.singletonMap(first.getDetails().getId(),
+            first.getStatusTestPair()),
+        reader().getHistoricResults());
+  }
+
+  @Test
+  public void shouldContinueAfterIncompleteRun() throws IOException {
+    recordRun(result(1, new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED)));
+    final long firstRunEnd = this.file.length();
+    recordRun(result(1, new MutationStatusTestPair(1, DetectionStatus.KILLED,
+        "aTest")));
+    truncate(this.file.length() - 1);
+
+    final MutationResult third = result(2, new MutationStatusTestPair(1,
+        DetectionStatus.TIMED_OUT));
+    recordRun(third);
+
+    assertEquals(
+        Collections.singletonMap(third.getDetails().getId(),
+            third.getStatusTestPair()),
+        reader().getHistoricResults());
+    assertTrue(this.file.length() > firstRunEnd);
+  }
+
+  @Test
+  public void shouldCompactOlderRuns() {
+    final MutationResult result = result(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "aTest"));
+    recordRun(result);
+    final long oneRun = this.file.length() - BinaryHistoryStore.HEADER_SIZE;
+
+    for (int i = 0; i != 10; i++) {
+      recordRun(result);
+    }
+
+    assertTrue(this.file.length() <= (BinaryHistoryStore.HEADER_SIZE
+        + ((BinaryHistoryStore.COMPACTION_THRESHOLD + 2) * oneRun)));
+    assertEquals(
+        Collections.singletonMap(result.getDetails().getId(),
+            result.getStatusTestPair()),
+        reader().getHistoricResults());
+  }
+
+  @Test
+  public void shouldReadHistoryWrittenAsText() {
+    final File text = new File(this.testFolder.getRoot(), "history.txt");
+    final FileWriterFactory writerFactory = new FileWriterFactory(text);
+    final ObjectOutputStreamHistoryStore old = new ObjectOutputStreamHistoryStore(
+        writerFactory, Optional.empty());
+    final MutationResult killed = result(1, new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "aTest"));
+    old.recordResult(killed);
+    writerFactory.close();
+
+    final BinaryHistoryStore testee = new BinaryHistoryStore(Optional.of(text),
+        Optional.of(text));
+    testee.initialize();
+
+    assertEquals(
+        Collections.singletonMap(killed.getDetails().getId(),
+            killed.getStatusTestPair()),
+        testee.getHistoricResults());
+  }
+
+  @Test
+  public void shouldNotFailWhenInputDoesNotExist() {
+    final BinaryHistoryStore testee = reader();
+    assertTrue(testee.getHistoricResults().isEmpty());
+    assertTrue(testee.getHistoricClassPath().isEmpty());
+    assertTrue(testee.getHistoricCoverage().isEmpty());
+  }
+
+  private void recordRun(final MutationResult result) {
+    final BinaryHistoryStore store = new BinaryHistoryStore(
+        Optional.of(this.file), Optional.of(this.file));
+    store.initialize();
+    store.recordResult(result);
+    store.close();
+  }
+
+  private BinaryHistoryStore writer() {
+    return new BinaryHistoryStore(Optional.empty(), Optional.of(this.file));
+  }
+
+  private BinaryHistoryStore reader() {
+    final BinaryHistoryStore store = new BinaryHistoryStore(
+        Optional.of(this.file), Optional.empty());
+    store.initialize();
+    return store;
+  }
+
+  private void truncate(final long length) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(this.file, "rw")) {
+      raf.setLength(length);
+    }
+  }
+
+  private static MutationResult result(final int index,
+      final MutationStatusTestPair status) {
+    return new MutationResult(new MutationDetails(aMutationId()
+        .withIndex(index).build(), "file", "desc", 42, 0), status);
+  }
+
+  private static TestOutcomes outcomes() {
+    final BitSet run = new BitSet();
+    run.set(0, 2);
+    final BitSet failed = new BitSet();
+    failed.set(1);
+    return new TestOutcomes(2, run, failed, new BitSet(), new BitSet());
+  }
+
+}
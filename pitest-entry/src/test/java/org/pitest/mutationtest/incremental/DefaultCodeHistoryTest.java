@@ -109,6 +109,15 @@ public class DefaultCodeHistoryTest {
     assertFalse(this.testee.hasClassChanged(ClassName.fromString("foo")));
   }
 
+  @Test
+  public void shouldTreatRemovedClassesAsChanged() {
+    final ClassName foo = ClassName.fromString("foo");
+    this.historicClassPath.put(foo,
+        makeHistory(new HierarchicalClassId(0, foo, "0")));
+    setCurrentClassPath((ClassInfo) null);
+    assertTrue(this.testee.hasClassChanged(foo));
+  }
+
   private void setCurrentClassPath(final HierarchicalClassId currentId) {
     final ClassInfo currentClass = ClassInfoMother.make(currentId.getId());
     when(this.classInfoSource.fetchClass(ClassName.fromString("foo")))
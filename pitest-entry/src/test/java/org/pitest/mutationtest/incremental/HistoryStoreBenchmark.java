@@ -0,0 +1,146 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Compares the size and load time of history written by
+ * {@link ObjectOutputStreamHistoryStore} and {@link BinaryHistoryStore}.
+ * Not run as part of the build.
+ *
+ * Usage: HistoryStoreBenchmark [number of mutants]
+ */
+public class HistoryStoreBenchmark {
+
+  private static final int REPEATS = 5;
+
+  public static void main(final String[] args) throws IOException {
+    final int mutants = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+    final List<MutationResult> results = results(mutants);
+    final File dir = Files.createTempDirectory("history").toFile();
+
+    final File text = new File(dir, "history.txt");
+    final FileWriterFactory writerFactory = new FileWriterFactory(text);
+    final HistoryStore textStore = new ObjectOutputStreamHistoryStore(
+        writerFactory, Optional.empty());
+    final long textWrite = time(() -> results.forEach(textStore::recordResult));
+    writerFactory.close();
+
+    final File binary = new File(dir, "history.bin");
+    final BinaryHistoryStore binaryStore = new BinaryHistoryStore(
+        Optional.empty(), Optional.of(binary));
+    final long binaryWrite = time(() -> {
+      results.forEach(binaryStore::recordResult);
+      binaryStore.close();
+    });
+
+    System.out.println(mutants + " mutants");
+    System.out.println(String.format("%-8s %12s %10s %10s %12s", "store",
+        "bytes", "write ms", "load ms", "lookups ms"));
+    report("text", text.length(), textWrite, best(() -> {
+      final HistoryStore store = new ObjectOutputStreamHistoryStore(
+          new NullWriterFactory(), Optional.of(reader(text)));
+      store.initialize();
+      return store;
+    }, results));
+    report("binary", binary.length(), binaryWrite, best(() -> {
+      final HistoryStore store = new BinaryHistoryStore(Optional.of(binary),
+          Optional.empty());
+      store.initialize();
+      return store;
+    }, results));
+
+    text.delete();
+    binary.delete();
+    dir.delete();
+  }
+
+  private static long[] best(final Supplier<HistoryStore> load,
+      final List<MutationResult> results) {
+    final long[] best = { Long.MAX_VALUE, Long.MAX_VALUE };
+    for (int i = 0; i != REPEATS; i++) {
+      final HistoryStore[] store = new HistoryStore[1];
+      best[0] = Math.min(best[0], time(() -> store[0] = load.get()));
+      best[1] = Math.min(best[1], time(() -> {
+        for (final MutationResult each : results) {
+          store[0].getHistoricResults().get(each.getDetails().getId());
+        }
+      }));
+    }
+    return best;
+  }
+
+  private static void report(final String name, final long bytes,
+      final long write, final long[] load) {
+    System.out.println(String.format("%-8s %12d %10d %10d %12d", name, bytes,
+        write, load[0], load[1]));
+  }
+
+  private static long time(final Runnable r) {
+    final long start = System.nanoTime();
+    r.run();
+    return (System.nanoTime() - start) / 1000000;
+  }
+
+  private static Reader reader(final File file) {
+    try {
+      return new InputStreamReader(new FileInputStream(file),
+          StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static List<MutationResult> results(final int mutants) {
+    final String[] mutators = {
+        "org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator",
+        "org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator",
+        "org.pitest.mutationtest.engine.gregor.mutators.MathMutator",
+        "org.pitest.mutationtest.engine.gregor.mutators.ReturnValsMutator",
+        "org.pitest.mutationtest.engine.gregor.mutators.VoidMethodCallMutator" };
+    final DetectionStatus[] statuses = { DetectionStatus.KILLED,
+        DetectionStatus.KILLED, DetectionStatus.SURVIVED,
+        DetectionStatus.NO_COVERAGE };
+
+    final List<MutationResult> results = new ArrayList<>(mutants);
+    for (int i = 0; i != mutants; i++) {
+      final int clazz = i / 50;
+      final Location location = Location.location(
+          ClassName.fromString("com.example.module" + (clazz % 20)
+              + ".SomeClass" + clazz),
+          MethodName.fromString("method" + ((i / 5) % 10)), "(I)I");
+      final MutationIdentifier id = new MutationIdentifier(location, i,
+          mutators[i % mutators.length]);
+      final DetectionStatus status = statuses[i % statuses.length];
+      final String killer = status == DetectionStatus.KILLED
+          ? "com.example.module" + (clazz % 20) + ".SomeClass" + clazz
+              + "Test.shouldDoThing" + (i % 7) + "(com.example.module"
+              + (clazz % 20) + ".SomeClass" + clazz + "Test)"
+          : null;
+      results.add(new MutationResult(new MutationDetails(id,
+          "SomeClass" + clazz + ".java", "a mutation", i % 300, 0),
+          new MutationStatusTestPair(3, status, killer)));
+    }
+    return results;
+  }
+
+}
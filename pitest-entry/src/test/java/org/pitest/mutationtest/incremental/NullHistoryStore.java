@@ -7,6 +7,7 @@ import java.util.Map;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationResult;
@@ -25,6 +26,11 @@ public class NullHistoryStore implements HistoryStore {
 
   }
 
+  @Override
+  public void recordCoverage(final Collection<CoverageResult> coverage) {
+
+  }
+
   @Override
   public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
     return Collections.emptyMap();
@@ -35,6 +41,11 @@ public class NullHistoryStore implements HistoryStore {
     return Collections.emptyMap();
   }
 
+  @Override
+  public Collection<CoverageResult> getHistoricCoverage() {
+    return Collections.emptyList();
+  }
+
   @Override
   public void recordClassPath(final Collection<HierarchicalClassId> ids,
       final CoverageDatabase coverageInfo) {
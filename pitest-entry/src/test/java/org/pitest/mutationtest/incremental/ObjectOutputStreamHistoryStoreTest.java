@@ -2,6 +2,7 @@ package org.pitest.mutationtest.incremental;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.when;
@@ -13,8 +14,10 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -25,14 +28,19 @@ import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.BlockLocation;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.CoverageResult;
 import java.util.Optional;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.testapi.Description;
 
 public class ObjectOutputStreamHistoryStoreTest {
 
@@ -108,6 +116,43 @@ public class ObjectOutputStreamHistoryStoreTest {
         assertEquals(expected, this.testee.getHistoricResults());
     }
 
+    @Test
+    public void shouldRecordAndRetrieveCoverageWrittenBeforeClassPath() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        final CoverageResult coverage = new CoverageResult(
+            new Description("aTest", "FooTest"), 42, true,
+            Collections.singletonList(new BlockLocation(Location.location(
+                ClassName.fromString("foo"), MethodName.fromString("bar"),
+                "()V"), 1)));
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.<Reader> empty());
+        this.testee.recordCoverage(Collections.singletonList(coverage));
+        this.testee.recordClassPath(Arrays.asList(foo), this.coverage);
+        final MutationResult mr = new MutationResult(
+            MutationTestResultMother.createDetails("foo"),
+            new MutationStatusTestPair(1, DetectionStatus.KILLED, "testName"));
+        this.testee.recordResult(mr);
+
+        final Reader reader = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Optional.ofNullable(reader));
+        this.testee.initialize();
+
+        final CoverageResult actual = this.testee.getHistoricCoverage()
+            .iterator().next();
+        assertEquals(coverage.getTestUnitDescription(),
+            actual.getTestUnitDescription());
+        assertEquals(42, actual.getExecutionTime());
+        assertTrue(actual.isGreenTest());
+        assertEquals(new ArrayList<>(coverage.getCoverage()),
+            new ArrayList<>(actual.getCoverage()));
+        assertEquals(Collections.singleton(foo.getName()),
+            this.testee.getHistoricClassPath().keySet());
+        assertEquals(Collections.singleton(mr.getDetails().getId()),
+            this.testee.getHistoricResults().keySet());
+    }
+
     @Test
     public void shouldNotAttemptToWriteToFileWhenNoneSupplied() {
         try {
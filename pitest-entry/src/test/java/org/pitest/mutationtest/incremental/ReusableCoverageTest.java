@@ -0,0 +1,95 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.testapi.Description;
+
+public class ReusableCoverageTest {
+
+  private static final ClassName     FOO      = ClassName.fromString("com.example.Foo");
+  private static final ClassName     FOO_TEST = ClassName.fromString("com.example.FooTest");
+  private static final ClassName     BAR_TEST = ClassName.fromString("com.example.BarTest");
+
+  @Mock
+  private CodeHistory                history;
+
+  private final List<CoverageResult> historic = new ArrayList<>();
+
+  private ReusableCoverage           testee;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.history.hasClassChanged(any(ClassName.class))).thenReturn(false);
+    this.testee = new ReusableCoverage(this.history, this.historic);
+  }
+
+  @Test
+  public void shouldReuseCoverageWhenTestAndCoveredClassesAreUnchanged() {
+    final CoverageResult a = coverageOf(FOO_TEST, "a", FOO);
+    final CoverageResult b = coverageOf(FOO_TEST, "b", FOO);
+
+    final Map<String, List<CoverageResult>> actual = this.testee
+        .forTestClasses(Arrays.asList(FOO_TEST.asInternalName()));
+
+    assertThat(actual.get(FOO_TEST.asInternalName())).containsExactly(a, b);
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenTestClassHasChanged() {
+    coverageOf(FOO_TEST, "a", FOO);
+    when(this.history.hasClassChanged(FOO_TEST)).thenReturn(true);
+
+    assertThat(this.testee.forTestClasses(
+        Arrays.asList(FOO_TEST.asInternalName()))).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseAnyCoverageOfTestClassWhenOneTestCoveredAChangedClass() {
+    final ClassName changed = ClassName.fromString("com.example.Changed");
+    coverageOf(FOO_TEST, "a", FOO);
+    coverageOf(FOO_TEST, "b", changed);
+    when(this.history.hasClassChanged(changed)).thenReturn(true);
+
+    assertThat(this.testee.forTestClasses(
+        Arrays.asList(FOO_TEST.asInternalName()))).isEmpty();
+  }
+
+  @Test
+  public void shouldOnlyReturnCoverageForTestClassesToBeRun() {
+    coverageOf(FOO_TEST, "a", FOO);
+    coverageOf(BAR_TEST, "a", FOO);
+
+    assertThat(this.testee.forTestClasses(
+        Arrays.asList(BAR_TEST.asInternalName())).keySet())
+        .containsExactly(BAR_TEST.asInternalName());
+  }
+
+  private CoverageResult coverageOf(final ClassName test, final String name,
+      final ClassName covered) {
+    final CoverageResult result = new CoverageResult(
+        new Description(name, test.asJavaName()), 1, true,
+        Collections.singletonList(new BlockLocation(Location.location(covered,
+            MethodName.fromString("foo"), "()V"), 0)));
+    this.historic.add(result);
+    return result;
+  }
+
+}
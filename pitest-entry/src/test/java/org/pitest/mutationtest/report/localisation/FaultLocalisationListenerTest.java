@@ -0,0 +1,69 @@
+package org.pitest.mutationtest.report.localisation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.engine.Location;
+
+public class FaultLocalisationListenerTest {
+
+  private static final String       NEW_LINE = System
+                                                  .getProperty("line.separator");
+
+  private final StringWriter        lines    = new StringWriter();
+  private final StringWriter        methods  = new StringWriter();
+
+  @Mock
+  private FaultLocaliser            localiser;
+
+  private FaultLocalisationListener testee;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new FaultLocalisationListener(this.localiser, this.lines,
+        this.methods);
+  }
+
+  @Test
+  public void shouldWriteRankedLinesAndMethods() {
+    final Location a = aLocation("com.example.Foo").withMethod("a").build();
+    final Location b = aLocation("com.example.Foo").withMethod("b").build();
+    when(this.localiser.getTotalFailed()).thenReturn(1);
+    when(this.localiser.rankLines()).thenReturn(
+        Arrays.asList(new Suspiciousness(b, 7, 1.0, 0.5), new Suspiciousness(
+            a, 3, 0.0, 0.25), new Suspiciousness(a, 2, 0.0, 0.0)));
+
+    this.testee.runStart();
+    this.testee.runEnd();
+
+    assertThat(this.lines.toString()).isEqualTo(
+        "1,com.example.Foo,b()I,7,1.0,0.5" + NEW_LINE
+        + "2,com.example.Foo,a()I,3,0.0,0.25" + NEW_LINE
+        + "3,com.example.Foo,a()I,2,0.0,0.0" + NEW_LINE);
+    assertThat(this.methods.toString()).isEqualTo(
+        "1,com.example.Foo,b()I,7,1.0,0.5" + NEW_LINE
+        + "2,com.example.Foo,a()I,2,0.0,0.25" + NEW_LINE);
+  }
+
+  @Test
+  public void shouldWriteEmptyReportsWhenNothingCovered() {
+    when(this.localiser.rankLines()).thenReturn(
+        Collections.<Suspiciousness> emptyList());
+
+    this.testee.runEnd();
+
+    assertThat(this.lines.toString()).isEmpty();
+    assertThat(this.methods.toString()).isEmpty();
+  }
+
+}
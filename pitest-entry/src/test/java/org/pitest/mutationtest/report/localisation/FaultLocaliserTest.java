@@ -0,0 +1,168 @@
+package org.pitest.mutationtest.report.localisation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.TestOutcomes.Outcome;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class FaultLocaliserTest {
+
+  private static final ClassName CLAZZ    = ClassName.fromString("clazz");
+  private static final Location  METHOD_A = aLocation().withMethod("a")
+                                              .build();
+  private static final Location  METHOD_B = aLocation().withMethod("b")
+                                              .build();
+
+  private final TestInfo         red      = test("red");
+  private final TestInfo         green    = test("green");
+  private final TestInfo         other    = test("other");
+
+  @Mock
+  private CoverageDatabase       coverage;
+
+  private FaultLocaliser         testee;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getFailingTests()).thenReturn(
+        Collections.singleton("red"));
+    when(this.coverage.getCoveredClasses()).thenReturn(
+        Collections.singletonList(CLAZZ));
+
+    final Map<BlockLocation, Set<TestInfo>> blocks = new LinkedHashMap<>();
+    block(blocks, METHOD_A, 0, 1, this.red, this.green);
+    block(blocks, METHOD_A, 1, 2, this.green, this.other);
+    block(blocks, METHOD_B, 0, 3, this.red);
+    when(this.coverage.getTestsForBlocksInClass(CLAZZ)).thenReturn(blocks);
+
+    this.testee = new FaultLocaliser(this.coverage, StandardFormulas.OCHIAI);
+  }
+
+  @Test
+  public void shouldRankLinesOnCoverageWhenNoMutantOutcomes() {
+    final List<Suspiciousness> actual = this.testee.rankLines();
+
+    assertThat(actual).extracting(Suspiciousness::getLineNumber)
+    .containsExactly(3, 1, 2);
+    assertThat(actual.get(0).getCoverageScore()).isCloseTo(1, within(0.0001));
+    assertThat(actual.get(1).getCoverageScore()).isCloseTo(1 / Math.sqrt(2),
+        within(0.0001));
+    assertThat(actual.get(2).getCoverageScore()).isZero();
+  }
+
+  @Test
+  public void shouldRankLinesWhereMutantsChangeFailingTestsFirst() {
+    // making the red test pass points at line 1
+    final TestOutcomes fixes = new TestOutcomes(2);
+    fixes.record(0, Outcome.PASSED);
+    fixes.record(1, Outcome.PASSED);
+    this.testee.addMutant(mutant(METHOD_A, 1, fixes, this.red, this.green));
+
+    final TestOutcomes stillRed = new TestOutcomes(1);
+    stillRed.record(0, Outcome.FAILED);
+    this.testee.addMutant(mutant(METHOD_B, 3, stillRed, this.red));
+
+    final List<Suspiciousness> actual = this.testee.rankLines();
+
+    assertThat(actual).extracting(Suspiciousness::getLineNumber)
+    .containsExactly(1, 3, 2);
+    assertThat(actual.get(0).getMutantScore()).isCloseTo(1, within(0.0001));
+    assertThat(actual.get(1).getMutantScore()).isZero();
+  }
+
+  @Test
+  public void shouldTreatGreenTestsThatFailAgainstMutantAsChanged() {
+    final TestOutcomes killed = new TestOutcomes(2);
+    killed.record(0, Outcome.FAILED);
+    killed.record(1, Outcome.ERROR);
+    this.testee.addMutant(mutant(METHOD_A, 2, killed, this.green, this.other));
+
+    final Suspiciousness line2 = lineNumber(this.testee.rankLines(), 2);
+
+    // two passing tests changed but no failing test did
+    assertThat(line2.getMutantScore()).isZero();
+    assertThat(this.testee.getMutantsWithOutcomes()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldIgnoreMutantsWithoutOutcomes() {
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withLocation(METHOD_A).build(), "file", "desc", 1, 0);
+    this.testee.addMutant(new MutationResult(details,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "red")));
+
+    assertThat(this.testee.getMutantsWithOutcomes()).isZero();
+  }
+
+  @Test
+  public void shouldRankMethodsOnTheirMostSuspiciousLine() {
+    final List<Suspiciousness> actual = FaultLocaliser.rankMethods(this.testee
+        .rankLines());
+
+    assertThat(actual).extracting(Suspiciousness::getMethod).containsExactly(
+        METHOD_B, METHOD_A);
+    assertThat(actual.get(1).getLineNumber()).isEqualTo(1);
+    assertThat(actual.get(1).getCoverageScore()).isCloseTo(1 / Math.sqrt(2),
+        within(0.0001));
+  }
+
+  private void block(final Map<BlockLocation, Set<TestInfo>> blocks,
+      final Location method, final int block, final int line,
+      final TestInfo... tests) {
+    final BlockLocation location = new BlockLocation(method, block);
+    blocks.put(location, new HashSet<>(Arrays.asList(tests)));
+    when(this.coverage.getLinesForBlock(location)).thenReturn(
+        Collections.singleton(line));
+  }
+
+  private static MutationResult mutant(final Location method, final int line,
+      final TestOutcomes outcomes, final TestInfo... tests) {
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withLocation(method).build(), "file", "desc", line, 0);
+    details.addTestsInOrder(Arrays.asList(tests));
+    return new MutationResult(details, new MutationStatusTestPair(
+        tests.length, DetectionStatus.KILLED, null, outcomes));
+  }
+
+  private static Suspiciousness lineNumber(final List<Suspiciousness> lines,
+      final int line) {
+    for (final Suspiciousness each : lines) {
+      if (each.getLineNumber() == line) {
+        return each;
+      }
+    }
+    throw new AssertionError("No line " + line);
+  }
+
+  private static TestInfo test(final String name) {
+    return new TestInfo("FooTest", name, 1, Optional.<ClassName> empty(), 0);
+  }
+
+}
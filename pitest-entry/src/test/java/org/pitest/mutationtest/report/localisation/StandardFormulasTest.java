@@ -0,0 +1,42 @@
+package org.pitest.mutationtest.report.localisation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.Test;
+
+public class StandardFormulasTest {
+
+  @Test
+  public void ochiaiShouldScoreFailingTestsOverGeometricMeanOfTotals() {
+    assertThat(StandardFormulas.OCHIAI.score(2, 2, 4, 10)).isCloseTo(
+        2 / Math.sqrt(4 * 4), within(0.0001));
+  }
+
+  @Test
+  public void tarantulaShouldScoreRatioOfFailingToPassingRates() {
+    assertThat(StandardFormulas.TARANTULA.score(2, 5, 4, 10)).isCloseTo(0.5,
+        within(0.0001));
+  }
+
+  @Test
+  public void dstarShouldSquareFailingTests() {
+    assertThat(StandardFormulas.DSTAR.score(2, 1, 3, 10)).isCloseTo(2,
+        within(0.0001));
+  }
+
+  @Test
+  public void shouldScoreZeroWhenNoTestsTouchElement() {
+    for (final StandardFormulas each : StandardFormulas.values()) {
+      assertThat(each.score(0, 0, 3, 10)).isZero();
+    }
+  }
+
+  @Test
+  public void shouldScoreZeroWhenNoTestsFail() {
+    for (final StandardFormulas each : StandardFormulas.values()) {
+      assertThat(each.score(0, 4, 0, 10)).isZero();
+    }
+  }
+
+}
@@ -0,0 +1,116 @@
+package org.pitest.mutationtest.report.matrix;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.TestOutcomes.Outcome;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.util.PitError;
+
+public class KillMatrixListenerTest {
+
+  private final ByteArrayOutputStream bytes  = new ByteArrayOutputStream();
+  private final KillMatrixListener    testee = new KillMatrixListener(
+      this.bytes);
+
+  @Test
+  public void shouldWriteEmptyMatrixWhenNoResults() {
+    this.testee.runStart();
+    this.testee.runEnd();
+
+    final KillMatrix actual = read();
+    assertThat(actual.getTests()).isEmpty();
+    assertThat(actual.getRows()).isEmpty();
+  }
+
+  @Test
+  public void shouldRoundTripOutcomesOfEachMutant() {
+    final MutationDetails first = mutant(1, "FooTest.a", "FooTest.b");
+    final MutationDetails second = mutant(2, "FooTest.b", "FooTest.c");
+    final TestOutcomes firstOutcomes = new TestOutcomes(2);
+    firstOutcomes.record(0, Outcome.PASSED);
+    firstOutcomes.record(1, Outcome.FAILED);
+    final TestOutcomes secondOutcomes = new TestOutcomes(2);
+    secondOutcomes.record(0, Outcome.TIMED_OUT);
+
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(
+            new MutationResult(first, new MutationStatusTestPair(2,
+                DetectionStatus.KILLED, "FooTest.b", firstOutcomes)),
+            new MutationResult(second, new MutationStatusTestPair(1,
+                DetectionStatus.TIMED_OUT, null, secondOutcomes))));
+    this.testee.runEnd();
+
+    final KillMatrix actual = read();
+    assertThat(actual.getTests()).containsExactly("FooTest.a", "FooTest.b",
+        "FooTest.c");
+    assertThat(actual.getRows()).hasSize(2);
+
+    final KillMatrixRow firstRow = actual.getRows().get(0);
+    assertThat(firstRow.getId()).isEqualTo(first.getId());
+    assertThat(firstRow.getLineNumber()).isEqualTo(first.getLineNumber());
+    assertThat(firstRow.getStatus()).isEqualTo(DetectionStatus.KILLED);
+    assertThat(firstRow.getTestIds()).containsExactly(0, 1);
+    assertThat(firstRow.getOutcomes()).contains(firstOutcomes);
+
+    final KillMatrixRow secondRow = actual.getRows().get(1);
+    assertThat(secondRow.getTestIds()).containsExactly(1, 2);
+    assertThat(secondRow.getOutcome(1)).isEqualTo(Outcome.TIMED_OUT);
+    assertThat(secondRow.getOutcome(2)).isEqualTo(Outcome.NOT_RUN);
+    assertThat(secondRow.getOutcome(0)).isEqualTo(Outcome.NOT_RUN);
+  }
+
+  @Test
+  public void shouldWriteRowsWithoutOutcomesForUnrunMutants() {
+    final MutationDetails uncovered = mutant(1);
+
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(new MutationResult(uncovered,
+            new MutationStatusTestPair(0, DetectionStatus.NO_COVERAGE))));
+    this.testee.runEnd();
+
+    final KillMatrixRow actual = read().getRows().get(0);
+    assertThat(actual.getStatus()).isEqualTo(DetectionStatus.NO_COVERAGE);
+    assertThat(actual.getOutcomes()).isEmpty();
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectFilesThatAreNotKillMatrices() {
+    new KillMatrixReader().read(new ByteArrayInputStream(new byte[] { 1, 2,
+        3, 4, 5 }));
+  }
+
+  private KillMatrix read() {
+    return new KillMatrixReader().read(new ByteArrayInputStream(this.bytes
+        .toByteArray()));
+  }
+
+  private static MutationDetails mutant(final int index,
+      final String... tests) {
+    final MutationDetails details = new MutationDetails(aMutationId()
+        .withIndex(index).build(), "file", "desc", 40 + index, 0);
+    final TestInfo[] infos = new TestInfo[tests.length];
+    for (int i = 0; i != tests.length; i++) {
+      infos[i] = new TestInfo("FooTest", tests[i], 1,
+          Optional.<ClassName> empty(), 0);
+    }
+    details.addTestsInOrder(Arrays.asList(infos));
+    return details;
+  }
+
+}
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertTrue;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -82,6 +83,18 @@ public class XMLReportListenerTest {
     assertEquals(expected, this.out.toString());
   }
 
+  @Test
+  public void shouldOutputWhetherMutantWasReachedWhenProbed() {
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED, null, null,
+            Collections.<String> emptyList()));
+    this.testee
+        .handleMutationResult(MutationTestResultMother.createClassResults(mr));
+    assertTrue(this.out.toString().startsWith(
+        "<mutation detected='false' status='SURVIVED' numberOfTestsRun='1' reached='false'>"));
+  }
+
   private MutationResult createSurvivingMutant() {
     final MutationResult mr = new MutationResult(
         MutationTestResultMother.createDetails(),
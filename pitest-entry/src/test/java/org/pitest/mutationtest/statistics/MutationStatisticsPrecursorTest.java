@@ -129,6 +129,22 @@ public class MutationStatisticsPrecursorTest {
     assertEquals(">> Ran 43 tests (21.5 tests per mutation)", actual[1]);
   }
 
+  @Test
+  public void shouldReportSurvivorsCoveredButNeverReached() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.SURVIVED),
+        new MutationResult(MutationTestResultMother.createDetails(),
+            new MutationStatusTestPair(1, DetectionStatus.SURVIVED, null, null,
+                Collections.<String> emptyList())),
+        new MutationResult(MutationTestResultMother.createDetails(),
+            new MutationStatusTestPair(1, DetectionStatus.SURVIVED, null, null,
+                Collections.singletonList("aTest")))));
+    assertEquals(1, this.testee.toStatistics().getTotalCoveredButNotReached());
+    final String[] actual = generateReportLines();
+    assertEquals(">> 1 surviving mutations were covered but never executed",
+        actual[2]);
+  }
+
   private Predicate<Score> hasResultForMutator(final String mutator) {
     return a -> a.getMutatorName().equals(mutator);
   }
@@ -23,7 +23,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
 
@@ -113,6 +116,14 @@ public class JarCreatingJarFinderTest {
     assertTrue(!actual.equals(""));
   }
 
+  @Test
+  public void shouldAddMutantSchemaHoldersToTheJar() throws IOException {
+    final Set<String> entries = getGeneratedEntries();
+    assertTrue(entries.contains("sun/pitest/ActiveMutant.class"));
+    assertTrue(entries.contains("sun/pitest/ReachProbe.class"));
+    assertTrue(entries.contains("sun/pitest/InfectionProbe.class"));
+  }
+
   @Test
   public void shouldFailOnUnreadableRessources() throws IOException {
     this.thrown.expect(PitError.class);
@@ -141,4 +152,17 @@ public class JarCreatingJarFinderTest {
       return am;
     }
   }
+
+  private Set<String> getGeneratedEntries() throws IOException {
+    final File f = new File(this.testee.getJarLocation().get());
+    final Set<String> entries = new HashSet<>();
+    try (JarInputStream jis = new JarInputStream(new FileInputStream(f))) {
+      JarEntry entry = jis.getNextJarEntry();
+      while (entry != null) {
+        entries.add(entry.getName());
+        entry = jis.getNextJarEntry();
+      }
+    }
+    return entries;
+  }
 }
@@ -17,6 +17,7 @@ package org.pitest.mutationtest.tooling;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +31,7 @@ import java.util.Properties;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -160,6 +162,14 @@ public class MutationCoverageReportTest {
     verify(this.history).recordClassPath(Arrays.asList(fooId), this.coverageDb);
   }
 
+  @Test
+  public void shouldReadHistoryBeforeCalculatingCoverage() {
+    createAndRunTestee();
+    final InOrder order = inOrder(this.history, this.coverage);
+    order.verify(this.history).initialize();
+    order.verify(this.coverage).calculateCoverage();
+  }
+
   @Test
   public void shouldCheckBuildSuitableForMutationTesting() {
     createAndRunTestee();
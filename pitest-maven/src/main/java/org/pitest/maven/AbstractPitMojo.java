@@ -17,6 +17,7 @@ import org.apache.maven.project.MavenProject;
 import org.pitest.coverage.CoverageSummary;
 import java.util.Optional;
 import java.util.function.Predicate;
+import org.pitest.mutationtest.build.RedTestPolicy;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.statistics.MutationStatistics;
@@ -284,6 +285,117 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "excludedRunners")
   private ArrayList<String>           excludedRunners;
 
+  /**
+   * Report results to listeners as soon as each unit of analysis completes rather than in the order units were submitted
+   */
+  @Parameter(defaultValue = "false", property = "reportInCompletionOrder")
+  private boolean                     reportInCompletionOrder;
+
+  /**
+   * Reuse mutation test minion JVMs between units of analysis rather than launching a new JVM for each unit
+   */
+  @Parameter(defaultValue = "false", property = "reuseMinions")
+  private boolean                     reuseMinions;
+
+  /**
+   * Number of mutants a reused minion JVM may analyse before it is replaced. 0 (the default) means no limit
+   */
+  @Parameter(defaultValue = "0", property = "maxMutantsPerMinion")
+  private int                         maxMutantsPerMinion;
+
+  /**
+   * Search classes for mutations in parallel, using the configured number of threads
+   */
+  @Parameter(defaultValue = "false", property = "parallelMutationDiscovery")
+  private boolean                     parallelMutationDiscovery;
+
+  /**
+   * Group mutations into units of similar estimated run time, based on the execution time of the tests covering each mutation, rather than by a fixed number of mutations per class
+   */
+  @Parameter(defaultValue = "false", property = "costAwareGrouping")
+  private boolean                     costAwareGrouping;
+
+  /**
+   * When set, the unstarted mutations of a long running unit are split off to idle threads whenever the unit starts a new minion.
+   */
+  @Parameter(defaultValue = "false", property = "workStealing")
+  private boolean                     workStealing;
+
+  /**
+   * When set, minions run tests on a single reused thread, replacing it only when a test times out.
+   */
+  @Parameter(defaultValue = "false", property = "reuseTestThread")
+  private boolean                     reuseTestThread;
+
+  /**
+   * When set, a minion interrupts a timed out test and restores the unmutated class, exiting only if the test does not stop.
+   */
+  @Parameter(defaultValue = "false", property = "recoverableTimeouts")
+  private boolean                     recoverableTimeouts;
+
+  /**
+   * When set, every assigned test is run against each mutant and the outcome of each is written to kill-matrix.bin in the report directory.
+   */
+  @Parameter(defaultValue = "false", property = "fullMutationMatrix")
+  private boolean                     fullMutationMatrix;
+
+  /**
+   * How to treat tests that fail without mutation. RUN leaves them in the
+   * usual order, LAST runs them after the passing tests and SKIP does not run
+   * them against mutants.
+   */
+  @Parameter(defaultValue = "RUN", property = "redTests")
+  private RedTestPolicy               redTests;
+
+  /**
+   * When true the mutants of each class are compiled into a single class and selected at runtime, so each class is hotswapped once rather than once per mutant. Mutants that cannot be compiled into the schema are hotswapped as before.
+   */
+  @Parameter(defaultValue = "false", property = "mutantSchemata")
+  private boolean                     mutantSchemata;
+
+  /**
+   * When set, each mutant records which tests execute the mutated code. Tests seen not to reach a mutation point are not run against other mutants there, and surviving mutants that no test executed are reported separately.
+   */
+  @Parameter(defaultValue = "false", property = "probeReach")
+  private boolean                     probeReach;
+
+  /**
+   * Skip mutants that no covering test executes with values the mutant would change
+   */
+  @Parameter(defaultValue = "false", property = "weakMutation")
+  private boolean                     weakMutation;
+
+  /**
+   * Send per test coverage from the coverage minion as run length encoded
+   * bitsets for each visited class rather than as a list of probe ids
+   */
+  @Parameter(defaultValue = "false", property = "bitsetCoverage")
+  private boolean                     bitsetCoverage;
+
+  /**
+   * Number of threads the coverage minion runs test classes on. Only use
+   * values above 1 for test suites that are safe to run in parallel and
+   * whose tests do not share threads, such as pools, with each other.
+   * Coverage is gathered again on a single thread if code under test is
+   * seen running on a shared thread
+   */
+  @Parameter(defaultValue = "1", property = "coverageThreads")
+  private int                         coverageThreads;
+
+  /**
+   * Store per test coverage with the history, and on later runs only gather
+   * coverage for tests whose class, or a class they covered, has changed
+   */
+  @Parameter(defaultValue = "false", property = "incrementalCoverage")
+  private boolean                     incrementalCoverage;
+
+  /**
+   * Number of coverage minions to split test classes between. Each minion
+   * is a separate JVM, so values above 1 add startup cost
+   */
+  @Parameter(defaultValue = "1", property = "coverageShards")
+  private int                         coverageShards;
+
   /**
    * When set indicates that analysis of this project should be skipped
    */
@@ -633,6 +745,74 @@ public class AbstractPitMojo extends AbstractMojo {
     return features;
   }
 
+  public boolean isReportInCompletionOrder() {
+    return this.reportInCompletionOrder;
+  }
+
+  public boolean isReuseMinions() {
+    return this.reuseMinions;
+  }
+
+  public int getMaxMutantsPerMinion() {
+    return this.maxMutantsPerMinion;
+  }
+
+  public boolean isParallelMutationDiscovery() {
+    return this.parallelMutationDiscovery;
+  }
+
+  public boolean isCostAwareGrouping() {
+    return this.costAwareGrouping;
+  }
+
+  public boolean isWorkStealing() {
+    return this.workStealing;
+  }
+
+  public boolean isReuseTestThread() {
+    return this.reuseTestThread;
+  }
+
+  public boolean isRecoverableTimeouts() {
+    return this.recoverableTimeouts;
+  }
+
+  public boolean isFullMutationMatrix() {
+    return this.fullMutationMatrix;
+  }
+
+  public RedTestPolicy getRedTests() {
+    return this.redTests;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public boolean isProbeReach() {
+    return this.probeReach;
+  }
+
+  public boolean isWeakMutation() {
+    return this.weakMutation;
+  }
+
+  public boolean isBitsetCoverage() {
+    return this.bitsetCoverage;
+  }
+
+  public int getCoverageThreads() {
+    return this.coverageThreads;
+  }
+
+  public boolean isIncrementalCoverage() {
+    return this.incrementalCoverage;
+  }
+
+  public int getCoverageShards() {
+    return this.coverageShards;
+  }
+
   public String getTestPlugin() {
     return testPlugin;
   }
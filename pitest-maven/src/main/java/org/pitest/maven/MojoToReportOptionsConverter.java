@@ -144,6 +144,23 @@ public class MojoToReportOptionsConverter {
     data.setJavaExecutable(this.mojo.getJavaExecutable());
     data.setFreeFormProperties(createPluginProperties());
     data.setIncludedTestMethods(this.mojo.getIncludedTestMethods());
+    data.setReportInCompletionOrder(this.mojo.isReportInCompletionOrder());
+    data.setReuseMinions(this.mojo.isReuseMinions());
+    data.setMaxMutantsPerMinion(this.mojo.getMaxMutantsPerMinion());
+    data.setParallelMutationDiscovery(this.mojo.isParallelMutationDiscovery());
+    data.setCostAwareGrouping(this.mojo.isCostAwareGrouping());
+    data.setWorkStealing(this.mojo.isWorkStealing());
+    data.setReuseTestThread(this.mojo.isReuseTestThread());
+    data.setRecoverableTimeouts(this.mojo.isRecoverableTimeouts());
+    data.setFullMutationMatrix(this.mojo.isFullMutationMatrix());
+    data.setRedTests(this.mojo.getRedTests());
+    data.setMutantSchemata(this.mojo.isMutantSchemata());
+    data.setProbeReach(this.mojo.isProbeReach());
+    data.setWeakMutation(this.mojo.isWeakMutation());
+    data.setBitsetCoverage(this.mojo.isBitsetCoverage());
+    data.setCoverageThreads(this.mojo.getCoverageThreads());
+    data.setIncrementalCoverage(this.mojo.isIncrementalCoverage());
+    data.setCoverageShards(this.mojo.getCoverageShards());
 
     return data;
   }
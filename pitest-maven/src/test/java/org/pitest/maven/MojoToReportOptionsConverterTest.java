@@ -37,6 +37,7 @@ import org.apache.maven.model.Plugin;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.mockito.Mockito;
 import java.util.function.Predicate;
+import org.pitest.mutationtest.build.RedTestPolicy;
 import org.pitest.mutationtest.config.ConfigOption;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.util.Unchecked;
@@ -376,6 +377,91 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals("testng", actual.getTestPlugin());
   }  
 
+  public void testParsesReportInCompletionOrderFlag() {
+    final ReportOptions actual = parseConfig("<reportInCompletionOrder>true</reportInCompletionOrder>");
+    assertTrue(actual.isReportInCompletionOrder());
+  }
+
+  public void testParsesReuseMinionsFlag() {
+    final ReportOptions actual = parseConfig("<reuseMinions>true</reuseMinions>");
+    assertTrue(actual.isReuseMinions());
+  }
+
+  public void testParsesParallelMutationDiscoveryFlag() {
+    final ReportOptions actual = parseConfig("<parallelMutationDiscovery>true</parallelMutationDiscovery>");
+    assertTrue(actual.isParallelMutationDiscovery());
+  }
+
+  public void testParsesCostAwareGroupingFlag() {
+    final ReportOptions actual = parseConfig("<costAwareGrouping>true</costAwareGrouping>");
+    assertTrue(actual.isCostAwareGrouping());
+  }
+
+  public void testParsesWorkStealingFlag() {
+    final ReportOptions actual = parseConfig("<workStealing>true</workStealing>");
+    assertTrue(actual.isWorkStealing());
+  }
+
+  public void testParsesReuseTestThreadFlag() {
+    final ReportOptions actual = parseConfig("<reuseTestThread>true</reuseTestThread>");
+    assertTrue(actual.isReuseTestThread());
+  }
+
+  public void testParsesRecoverableTimeoutsFlag() {
+    final ReportOptions actual = parseConfig("<recoverableTimeouts>true</recoverableTimeouts>");
+    assertTrue(actual.isRecoverableTimeouts());
+  }
+
+  public void testParsesFullMutationMatrixFlag() {
+    final ReportOptions actual = parseConfig("<fullMutationMatrix>true</fullMutationMatrix>");
+    assertTrue(actual.isFullMutationMatrix());
+  }
+
+  public void testParsesRedTestPolicy() {
+    final ReportOptions actual = parseConfig("<redTests>LAST</redTests>");
+    assertEquals(RedTestPolicy.LAST, actual.getRedTests());
+  }
+
+  public void testParsesMutantSchemataFlag() {
+    final ReportOptions actual = parseConfig("<mutantSchemata>true</mutantSchemata>");
+    assertTrue(actual.isMutantSchemata());
+  }
+
+  public void testParsesProbeReachFlag() {
+    final ReportOptions actual = parseConfig("<probeReach>true</probeReach>");
+    assertTrue(actual.isProbeReach());
+  }
+
+  public void testParsesWeakMutationFlag() {
+    final ReportOptions actual = parseConfig("<weakMutation>true</weakMutation>");
+    assertTrue(actual.isWeakMutation());
+  }
+
+  public void testParsesBitsetCoverageFlag() {
+    final ReportOptions actual = parseConfig("<bitsetCoverage>true</bitsetCoverage>");
+    assertTrue(actual.isBitsetCoverage());
+  }
+
+  public void testParsesIncrementalCoverageFlag() {
+    final ReportOptions actual = parseConfig("<incrementalCoverage>true</incrementalCoverage>");
+    assertTrue(actual.isIncrementalCoverage());
+  }
+
+  public void testParsesMaxMutantsPerMinion() {
+    final ReportOptions actual = parseConfig("<maxMutantsPerMinion>200</maxMutantsPerMinion>");
+    assertEquals(200, actual.getMaxMutantsPerMinion());
+  }
+
+  public void testParsesCoverageThreads() {
+    final ReportOptions actual = parseConfig("<coverageThreads>4</coverageThreads>");
+    assertEquals(4, actual.getCoverageThreads());
+  }
+
+  public void testParsesCoverageShards() {
+    final ReportOptions actual = parseConfig("<coverageShards>4</coverageShards>");
+    assertEquals(4, actual.getCoverageShards());
+  }
+
   private ReportOptions parseConfig(final String xml) {
     try {
       final String pom = createPomWithConfiguration(xml);
@@ -17,13 +17,20 @@ public class CachingByteArraySource implements ClassByteArraySource {
 
   @Override
   public Optional<byte[]> getBytes(String clazz) {
-    Optional<byte[]> maybeBytes = this.cache.get(clazz);
+    // lock only the cache so lookups of different classes can still hit the
+    // child concurrently
+    Optional<byte[]> maybeBytes;
+    synchronized (this.cache) {
+      maybeBytes = this.cache.get(clazz);
+    }
     if (maybeBytes != null) {
       return maybeBytes;
     }
 
     maybeBytes  = this.child.getBytes(clazz);
-    this.cache.put(clazz, maybeBytes);
+    synchronized (this.cache) {
+      this.cache.put(clazz, maybeBytes);
+    }
     return maybeBytes;
 
   }
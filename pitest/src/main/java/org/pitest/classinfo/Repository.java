@@ -14,18 +14,18 @@
  */
 package org.pitest.classinfo;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.util.Optional;
 
 public class Repository implements ClassInfoSource {
 
   private final HashFunction              hashFunction;
-  private final Map<ClassName, ClassInfo> knownClasses   = new HashMap<>();
-  private final Set<ClassName>            unknownClasses = new HashSet<>();
+  private final Map<ClassName, ClassInfo> knownClasses   = new ConcurrentHashMap<>();
+  private final Set<ClassName>            unknownClasses = ConcurrentHashMap
+      .newKeySet();
   private final ClassByteArraySource      source;
 
   public Repository(final ClassByteArraySource source) {
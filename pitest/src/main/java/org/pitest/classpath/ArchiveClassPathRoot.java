@@ -14,6 +14,7 @@
  */
 package org.pitest.classpath;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -35,27 +36,42 @@ import org.pitest.util.Unchecked;
  */
 public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
-  private final File file;
+  private final File               file;
+  private final ArchiveHandleCache archives;
 
   public ArchiveClassPathRoot(final File file) {
+    this(file, ArchiveHandleCache.shared());
+  }
+
+  ArchiveClassPathRoot(final File file, final ArchiveHandleCache archives) {
     this.file = file;
+    this.archives = archives;
   }
 
   @Override
   public InputStream getData(final String name) throws IOException {
-    try (ZipFile zip = getRoot()) {
+    final ArchiveHandleCache.Handle root = getRoot();
+    try {
+      final ZipFile zip = root.zip();
       final ZipEntry entry = zip.getEntry(name.replace('.', '/') + ".class");
       if (entry == null) {
         return null;
       }
-      return StreamUtil.copyStream(zip.getInputStream(entry));
+      try (InputStream in = zip.getInputStream(entry)) {
+        final byte[] bytes = StreamUtil.streamToByteArray(in);
+        this.archives.recordBytesRead(bytes.length);
+        return new ByteArrayInputStream(bytes);
+      }
+    } finally {
+      this.archives.release(root);
     }
   }
 
   @Override
   public URL getResource(final String name) throws MalformedURLException {
-    final ZipFile zip = getRoot();
+    final ArchiveHandleCache.Handle root = getRoot();
     try {
+      final ZipFile zip = root.zip();
       final ZipEntry entry = zip.getEntry(name);
       if (entry != null) {
         return new URL("jar:file:" + zip.getName() + "!/" + entry.getName());
@@ -63,19 +79,11 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
         return null;
       }
     } finally {
-      closeQuietly(zip);
+      this.archives.release(root);
     }
 
   }
 
-  private static void closeQuietly(final ZipFile zip) {
-    try {
-      zip.close();
-    } catch (final IOException e) {
-      throw Unchecked.translateCheckedException(e);
-    }
-  }
-
   @Override
   public String toString() {
     return "ArchiveClassPathRoot [file=" + this.file.getName() + "]";
@@ -84,9 +92,9 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
   @Override
   public Collection<String> classNames() {
     final List<String> names = new ArrayList<>();
-    final ZipFile root = getRoot();
+    final ArchiveHandleCache.Handle root = getRoot();
     try {
-      final Enumeration<? extends ZipEntry> entries = root.entries();
+      final Enumeration<? extends ZipEntry> entries = root.zip().entries();
       while (entries.hasMoreElements()) {
         final ZipEntry entry = entries.nextElement();
         if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
@@ -95,7 +103,7 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
       }
       return names;
     } finally {
-      closeQuietly(root);
+      this.archives.release(root);
     }
 
   }
@@ -110,9 +118,9 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
     return Optional.ofNullable(this.file.getAbsolutePath());
   }
 
-  private ZipFile getRoot() {
+  private ArchiveHandleCache.Handle getRoot() {
     try {
-      return new ZipFile(this.file);
+      return this.archives.acquire(this.file);
     } catch (final IOException ex) {
       throw Unchecked.translateCheckedException(ex.getMessage() + " ("
           + this.file + ")", ex);
@@ -0,0 +1,151 @@
+package org.pitest.classpath;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipFile;
+
+import org.pitest.util.Log;
+
+/**
+ * Bounded pool of open archives shared by all {@link ArchiveClassPathRoot}s.
+ * The least recently used archive is closed when the pool is full.
+ *
+ * Handles are reference counted, so an archive evicted while another thread
+ * is reading from it is only closed once that thread releases it.
+ */
+public final class ArchiveHandleCache {
+
+  private static final Logger             LOG              = Log.getLogger();
+
+  private static final int                DEFAULT_MAX_OPEN = 32;
+
+  private static final ArchiveHandleCache SHARED           = new ArchiveHandleCache(
+      DEFAULT_MAX_OPEN);
+
+  private final int                       maxOpen;
+  private final Map<File, Handle>         open             = new LinkedHashMap<>(
+      16, 0.75f, true);
+  private final AtomicLong                opens            = new AtomicLong();
+  private final AtomicLong                bytesRead        = new AtomicLong();
+
+  ArchiveHandleCache(final int maxOpen) {
+    this.maxOpen = maxOpen;
+  }
+
+  public static ArchiveHandleCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Number of times an archive has been opened since the cache was last
+   * closed.
+   */
+  public long getOpens() {
+    return this.opens.get();
+  }
+
+  /**
+   * Number of bytes read from archive entries since the cache was last closed.
+   */
+  public long getBytesRead() {
+    return this.bytesRead.get();
+  }
+
+  /**
+   * Closes all archives not currently in use and resets the counters. Archives
+   * in use are closed when released. The cache may still be used afterwards.
+   */
+  public void close() {
+    final List<Handle> toClose = new ArrayList<>();
+    synchronized (this) {
+      for (final Handle each : this.open.values()) {
+        each.evicted = true;
+        if (each.users == 0) {
+          toClose.add(each);
+        }
+      }
+      this.open.clear();
+      this.opens.set(0);
+      this.bytesRead.set(0);
+    }
+    closeAll(toClose);
+  }
+
+  synchronized Handle acquire(final File file) throws IOException {
+    Handle handle = this.open.get(file);
+    if (handle == null) {
+      handle = new Handle(new ZipFile(file));
+      this.opens.incrementAndGet();
+      this.open.put(file, handle);
+      evictExcess();
+    }
+    handle.users++;
+    return handle;
+  }
+
+  void release(final Handle handle) {
+    final boolean close;
+    synchronized (this) {
+      handle.users--;
+      close = handle.evicted && (handle.users == 0);
+    }
+    if (close) {
+      closeQuietly(handle);
+    }
+  }
+
+  void recordBytesRead(final long bytes) {
+    this.bytesRead.addAndGet(bytes);
+  }
+
+  private void evictExcess() {
+    final List<Handle> toClose = new ArrayList<>();
+    final Iterator<Handle> it = this.open.values().iterator();
+    while ((this.open.size() > this.maxOpen) && it.hasNext()) {
+      final Handle eldest = it.next();
+      it.remove();
+      eldest.evicted = true;
+      if (eldest.users == 0) {
+        toClose.add(eldest);
+      }
+    }
+    closeAll(toClose);
+  }
+
+  private static void closeAll(final List<Handle> handles) {
+    for (final Handle each : handles) {
+      closeQuietly(each);
+    }
+  }
+
+  private static void closeQuietly(final Handle handle) {
+    try {
+      handle.zip.close();
+    } catch (final IOException e) {
+      LOG.log(Level.FINE, "Could not close " + handle.zip.getName(), e);
+    }
+  }
+
+  static final class Handle {
+    private final ZipFile zip;
+    private int           users;
+    private boolean       evicted;
+
+    Handle(final ZipFile zip) {
+      this.zip = zip;
+    }
+
+    ZipFile zip() {
+      return this.zip;
+    }
+  }
+
+}
@@ -33,13 +33,26 @@ public final class TestInfo implements Serializable {
 
   private final ClassName         testee;
 
+  private final boolean           green;
+
   public TestInfo(final String definingClass, final String name,
       final int time, final Optional<ClassName> testee, final int blocksCovered) {
+    this(definingClass, name, time, testee, blocksCovered, true);
+  }
+
+  /**
+   * @param green
+   *          whether the test passed against the unmutated code
+   */
+  public TestInfo(final String definingClass, final String name,
+      final int time, final Optional<ClassName> testee,
+      final int blocksCovered, final boolean green) {
     this.definingClass = internIfNotNull(definingClass);
     this.name = name;
     this.time = time;
     this.testee = testee.orElse(null);
     this.blocks = blocksCovered;
+    this.green = green;
   }
 
   public String getName() {
@@ -54,6 +67,10 @@ public final class TestInfo implements Serializable {
     return this.blocks;
   }
 
+  public boolean isGreenTest() {
+    return this.green;
+  }
+
   @Override
   public String toString() {
     return this.name;
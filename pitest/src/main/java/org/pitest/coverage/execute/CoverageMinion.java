@@ -74,7 +74,7 @@ public class CoverageMinion {
       Log.setVerbose(paramsFromParent.isVerbose());
 
       invokeQueue = new CoveragePipe(new BufferedOutputStream(
-          s.getOutputStream()));
+          s.getOutputStream()), paramsFromParent.isBitsetCoverage());
 
       CodeCoverageStore.init(invokeQueue);
 
@@ -85,7 +85,8 @@ public class CoverageMinion {
 
       LOG.info(tus.size() + " tests received");
 
-      final CoverageWorker worker = new CoverageWorker(invokeQueue, tus);
+      final CoverageWorker worker = new CoverageWorker(invokeQueue, tus,
+          paramsFromParent.getCoverageThreads());
 
       worker.run();
 
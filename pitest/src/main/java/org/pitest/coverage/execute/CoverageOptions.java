@@ -34,16 +34,34 @@ public class CoverageOptions implements Serializable {
   private final boolean           verbose;
   private final TestPluginArguments pitConfig;
   private final int               maxDependencyDistance;
+  private final boolean           bitsetCoverage;
+  private final int               coverageThreads;
 
   public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
       final TestPluginArguments pitConfig, final boolean verbose,
       final int maxDependencyDistance) {
+    this(include, exclude, pitConfig, verbose, maxDependencyDistance, false);
+  }
+
+  public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final boolean verbose,
+      final int maxDependencyDistance, final boolean bitsetCoverage) {
+    this(include, exclude, pitConfig, verbose, maxDependencyDistance,
+        bitsetCoverage, 1);
+  }
+
+  public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final boolean verbose,
+      final int maxDependencyDistance, final boolean bitsetCoverage,
+      final int coverageThreads) {
     Preconditions.checkNotNull(pitConfig);
     this.include = include;
     this.exclude = exclude;
     this.verbose = verbose;
     this.pitConfig = pitConfig;
     this.maxDependencyDistance = maxDependencyDistance;
+    this.bitsetCoverage = bitsetCoverage;
+    this.coverageThreads = coverageThreads;
   }
 
   public Predicate<String> getFilter() {
@@ -64,6 +82,14 @@ public class CoverageOptions implements Serializable {
     return this.maxDependencyDistance;
   }
 
+  public boolean isBitsetCoverage() {
+    return this.bitsetCoverage;
+  }
+
+  public int getCoverageThreads() {
+    return this.coverageThreads;
+  }
+
   private static Predicate<String> commonClasses() {
     return Prelude.or(
         glob("java/*"),
@@ -7,16 +7,29 @@ import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.Description;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.MessageEncoder;
 import org.pitest.util.SafeDataOutputStream;
 
+import sun.pitest.ClassHitsReceiver;
 import sun.pitest.CodeCoverageStore;
 
 public class CoveragePipe implements CoverageReceiver {
 
   private final SafeDataOutputStream dos;
+  private final MessageEncoder       encoder = new MessageEncoder();
+  private final boolean              bitsets;
+  private final ClassHitsReceiver    classHitsWriter;
 
   public CoveragePipe(final OutputStream dos) {
+    this(dos, false);
+  }
+
+  public CoveragePipe(final OutputStream dos, final boolean bitsets) {
     this.dos = new SafeDataOutputStream(dos);
+    this.bitsets = bitsets;
+    // probe n of a class is held in slot n + 1 of its hit array
+    this.classHitsWriter = (classId, probes) -> this.encoder
+        .writeClassHits(this.dos, classId, probes, 1);
   }
 
   @Override
@@ -27,19 +40,38 @@ public class CoveragePipe implements CoverageReceiver {
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
-
-    this.dos.writeByte(Id.OUTCOME);
-    this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
+    if (this.bitsets) {
+      this.dos.writeByte(Id.OUTCOME_BITSETS);
+      this.encoder.write(this.dos, description);
+      CodeCoverageStore.visitClassHits(this.classHitsWriter);
+      this.encoder.endClassHits(this.dos);
+    } else {
+      final Collection<Long> hits = CodeCoverageStore.getHits();
+      this.dos.writeByte(Id.OUTCOME);
+      this.encoder.write(this.dos, description);
+      this.encoder.writeProbeHits(this.dos, hits);
     }
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
 
   }
 
+  /**
+   * Creates a pipe that writes test outcomes, in the same form as this one, to
+   * the given stream, so that they can be held back and passed on later.
+   */
+  public CoveragePipe holdingOutcomesIn(final OutputStream outcomes) {
+    return new CoveragePipe(outcomes, this.bitsets);
+  }
+
+  /**
+   * Passes on outcomes held back by a pipe from
+   * {@link #holdingOutcomesIn(OutputStream)}.
+   */
+  public synchronized void writeHeldOutcomes(final byte[] outcomes) {
+    this.dos.writeRawBytes(outcomes);
+  }
+
   public synchronized void end(final ExitCode exitCode) {
     this.dos.writeByte(Id.DONE);
     this.dos.writeInt(exitCode.getCode());
@@ -16,39 +16,59 @@ package org.pitest.coverage.execute;
 
 import static org.pitest.util.Unchecked.translateCheckedException;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.Container;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.UnContainer;
+import org.pitest.util.Log;
+
+import sun.pitest.CodeCoverageStore;
 
 public class CoverageWorker {
 
+  private static final Logger   LOG = Log.getLogger();
+
   private final CoveragePipe   pipe;
   private final List<TestUnit> tests;
+  private final int            threads;
 
   public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests) {
+    this(pipe, tests, 1);
+  }
+
+  public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests,
+      final int threads) {
     this.pipe = pipe;
     this.tests = tests;
+    this.threads = threads;
   }
 
   public void run() {
 
     try {
-      final List<TestUnit> decoratedTests = decorateForCoverage(this.tests,
-          this.pipe);
-
-      Collections.sort(decoratedTests, testComparator());
+      final List<TestUnit> sortedTests = new ArrayList<>(this.tests);
+      Collections.sort(sortedTests, testComparator());
 
-      final Container c = new UnContainer();
-
-      final Pitest pit = new Pitest(new ErrorListener());
-      pit.run(c, decoratedTests);
+      if ((this.threads > 1) && (sortedTests.size() > 1)) {
+        runInParallel(sortedTests);
+      } else {
+        runTests(decorateForCoverage(sortedTests, this.pipe));
+      }
 
     } catch (final Exception ex) {
       throw translateCheckedException(ex);
@@ -56,6 +76,66 @@ public class CoverageWorker {
 
   }
 
+  private static void runTests(final List<TestUnit> tests) {
+    final Container c = new UnContainer();
+
+    final Pitest pit = new Pitest(new ErrorListener());
+    pit.run(c, tests);
+  }
+
+  // Outcomes are held back until all tests have run. If any hits could not
+  // be attributed to the test making them, the outcomes are discarded and
+  // the tests run again on this thread.
+  private void runInParallel(final List<TestUnit> tests)
+      throws InterruptedException, ExecutionException {
+    final ByteArrayOutputStream outcomes = new ByteArrayOutputStream();
+    runOnThreads(decorateForCoverage(tests,
+        this.pipe.holdingOutcomesIn(outcomes)));
+
+    if (CodeCoverageStore.hasStrayHits()) {
+      LOG.warning("Code under test ran on threads shared between tests, so "
+          + "coverage could not be gathered on " + this.threads
+          + " threads. Gathering coverage on a single thread instead.");
+      CodeCoverageStore.recordHitsForAllThreads();
+      runTests(decorateForCoverage(tests, this.pipe));
+    } else {
+      this.pipe.writeHeldOutcomes(outcomes.toByteArray());
+    }
+  }
+
+  // each test class runs whole on one thread, which records its own probe
+  // hits so they are reported against the test running there
+  private void runOnThreads(final List<TestUnit> tests)
+      throws InterruptedException, ExecutionException {
+    final Collection<List<TestUnit>> classes = groupByTestClass(tests);
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(
+        this.threads, classes.size()));
+    try {
+      final List<Future<?>> results = new ArrayList<>(classes.size());
+      for (final List<TestUnit> each : classes) {
+        results.add(executor.submit(() -> {
+          CodeCoverageStore.recordHitsForThisThread();
+          runTests(each);
+        }));
+      }
+      for (final Future<?> each : results) {
+        each.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static Collection<List<TestUnit>> groupByTestClass(
+      final List<TestUnit> tests) {
+    final Map<String, List<TestUnit>> classes = new LinkedHashMap<>();
+    for (final TestUnit each : tests) {
+      classes.computeIfAbsent(each.getDescription().getFirstTestClass(),
+          k -> new ArrayList<>()).add(each);
+    }
+    return classes.values();
+  }
+
   private static Comparator<TestUnit> testComparator() {
     return (o1, o2) -> o1.getDescription().getQualifiedName()
         .compareTo(o2.getDescription().getQualifiedName());
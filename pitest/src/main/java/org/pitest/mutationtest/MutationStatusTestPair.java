@@ -16,6 +16,7 @@ package org.pitest.mutationtest;
 
 import java.io.Serializable;
 
+import java.util.List;
 import java.util.Optional;
 
 public final class MutationStatusTestPair implements Serializable {
@@ -25,6 +26,8 @@ public final class MutationStatusTestPair implements Serializable {
   private final int             numberOfTestsRun;
   private final DetectionStatus status;
   private final String  killingTest;
+  private final TestOutcomes    testOutcomes;
+  private final List<String>    reachingTests;
 
   public MutationStatusTestPair(final int numberOfTestsRun,
       final DetectionStatus status) {
@@ -33,9 +36,23 @@ public final class MutationStatusTestPair implements Serializable {
 
   public MutationStatusTestPair(final int numberOfTestsRun,
       final DetectionStatus status, final String killingTest) {
+    this(numberOfTestsRun, status, killingTest, null);
+  }
+
+  public MutationStatusTestPair(final int numberOfTestsRun,
+      final DetectionStatus status, final String killingTest,
+      final TestOutcomes testOutcomes) {
+    this(numberOfTestsRun, status, killingTest, testOutcomes, null);
+  }
+
+  public MutationStatusTestPair(final int numberOfTestsRun,
+      final DetectionStatus status, final String killingTest,
+      final TestOutcomes testOutcomes, final List<String> reachingTests) {
     this.status = status;
     this.killingTest = killingTest;
     this.numberOfTestsRun = numberOfTestsRun;
+    this.testOutcomes = testOutcomes;
+    this.reachingTests = reachingTests;
   }
 
   public DetectionStatus getStatus() {
@@ -50,6 +67,30 @@ public final class MutationStatusTestPair implements Serializable {
     return this.numberOfTestsRun;
   }
 
+  /**
+   * @return outcome of each assigned test, when the full mutation matrix was
+   *         requested
+   */
+  public Optional<TestOutcomes> getTestOutcomes() {
+    return Optional.ofNullable(this.testOutcomes);
+  }
+
+  /**
+   * @return names of the tests that executed the mutated code, when the
+   *         mutant carried a reach probe
+   */
+  public Optional<List<String>> getReachingTests() {
+    return Optional.ofNullable(this.reachingTests);
+  }
+
+  /**
+   * @return true if the mutant carried a reach probe and no test that ran
+   *         executed the mutated code
+   */
+  public boolean isCoveredButNotReached() {
+    return (this.reachingTests != null) && this.reachingTests.isEmpty();
+  }
+
   @Override
   public String toString() {
     if (this.killingTest == null) {
@@ -69,6 +110,10 @@ public final class MutationStatusTestPair implements Serializable {
     result = (prime * result) + this.numberOfTestsRun;
     result = (prime * result)
         + ((this.status == null) ? 0 : this.status.hashCode());
+    result = (prime * result)
+        + ((this.testOutcomes == null) ? 0 : this.testOutcomes.hashCode());
+    result = (prime * result)
+        + ((this.reachingTests == null) ? 0 : this.reachingTests.hashCode());
     return result;
   }
 
@@ -97,6 +142,20 @@ public final class MutationStatusTestPair implements Serializable {
     if (this.status != other.status) {
       return false;
     }
+    if (this.testOutcomes == null) {
+      if (other.testOutcomes != null) {
+        return false;
+      }
+    } else if (!this.testOutcomes.equals(other.testOutcomes)) {
+      return false;
+    }
+    if (this.reachingTests == null) {
+      if (other.reachingTests != null) {
+        return false;
+      }
+    } else if (!this.reachingTests.equals(other.reachingTests)) {
+      return false;
+    }
     return true;
   }
 
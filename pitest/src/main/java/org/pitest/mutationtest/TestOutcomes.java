@@ -0,0 +1,158 @@
+package org.pitest.mutationtest;
+
+import java.io.Serializable;
+import java.util.BitSet;
+
+/**
+ * Outcome of each test assigned to a mutant, as one row of a kill matrix.
+ *
+ * Tests are identified by their position in the mutant's list of assigned
+ * tests, so a row costs a few bits per assigned test rather than per test in
+ * the suite. Each outcome is held as a bitset.
+ */
+public final class TestOutcomes implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  public enum Outcome {
+    NOT_RUN, PASSED, FAILED, ERROR, TIMED_OUT;
+  }
+
+  private final int    numberOfTests;
+  private final BitSet run;
+  private final BitSet failed;
+  private final BitSet errored;
+  private final BitSet timedOut;
+
+  public TestOutcomes(final int numberOfTests) {
+    this(numberOfTests, new BitSet(), new BitSet(), new BitSet(), new BitSet());
+  }
+
+  public TestOutcomes(final int numberOfTests, final BitSet run,
+      final BitSet failed, final BitSet errored, final BitSet timedOut) {
+    this.numberOfTests = numberOfTests;
+    this.run = run;
+    this.failed = failed;
+    this.errored = errored;
+    this.timedOut = timedOut;
+  }
+
+  public void record(final int test, final Outcome outcome) {
+    checkIndex(test);
+    this.run.clear(test);
+    this.failed.clear(test);
+    this.errored.clear(test);
+    this.timedOut.clear(test);
+    switch (outcome) {
+    case NOT_RUN:
+      break;
+    case PASSED:
+      this.run.set(test);
+      break;
+    case FAILED:
+      this.run.set(test);
+      this.failed.set(test);
+      break;
+    case ERROR:
+      this.run.set(test);
+      this.errored.set(test);
+      break;
+    case TIMED_OUT:
+      this.run.set(test);
+      this.timedOut.set(test);
+      break;
+    }
+  }
+
+  public Outcome get(final int test) {
+    checkIndex(test);
+    if (!this.run.get(test)) {
+      return Outcome.NOT_RUN;
+    } else if (this.timedOut.get(test)) {
+      return Outcome.TIMED_OUT;
+    } else if (this.errored.get(test)) {
+      return Outcome.ERROR;
+    } else if (this.failed.get(test)) {
+      return Outcome.FAILED;
+    }
+    return Outcome.PASSED;
+  }
+
+  /**
+   * @return true if the test ran and did not pass
+   */
+  public boolean isKilledBy(final int test) {
+    final Outcome outcome = get(test);
+    return (outcome != Outcome.NOT_RUN) && (outcome != Outcome.PASSED);
+  }
+
+  public int getNumberOfTests() {
+    return this.numberOfTests;
+  }
+
+  public BitSet getRun() {
+    return (BitSet) this.run.clone();
+  }
+
+  public BitSet getFailed() {
+    return (BitSet) this.failed.clone();
+  }
+
+  public BitSet getErrored() {
+    return (BitSet) this.errored.clone();
+  }
+
+  public BitSet getTimedOut() {
+    return (BitSet) this.timedOut.clone();
+  }
+
+  private void checkIndex(final int test) {
+    if ((test < 0) || (test >= this.numberOfTests)) {
+      throw new IndexOutOfBoundsException("Test " + test + " of "
+          + this.numberOfTests);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = (prime * result) + this.numberOfTests;
+    result = (prime * result) + this.run.hashCode();
+    result = (prime * result) + this.failed.hashCode();
+    result = (prime * result) + this.errored.hashCode();
+    result = (prime * result) + this.timedOut.hashCode();
+    return result;
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    final TestOutcomes other = (TestOutcomes) obj;
+    return (this.numberOfTests == other.numberOfTests)
+        && this.run.equals(other.run) && this.failed.equals(other.failed)
+        && this.errored.equals(other.errored)
+        && this.timedOut.equals(other.timedOut);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("TestOutcomes [");
+    for (int i = 0; i != this.numberOfTests; i++) {
+      if (i != 0) {
+        sb.append(", ");
+      }
+      sb.append(get(i));
+    }
+    return sb.append("]").toString();
+  }
+
+}
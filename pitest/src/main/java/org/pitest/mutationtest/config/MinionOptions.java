@@ -0,0 +1,147 @@
+package org.pitest.mutationtest.config;
+
+import java.io.Serializable;
+
+/**
+ * Switches controlling how minions are launched and how they run mutants.
+ */
+public class MinionOptions implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final boolean reuseMinions;
+  private final int     maxMutantsPerMinion;
+  private final boolean reuseTestThread;
+  private final boolean recoverTimeouts;
+  private final boolean fullMutationMatrix;
+  private final boolean mutantSchemata;
+  private final boolean probeReach;
+  private final boolean weakMutation;
+
+  private MinionOptions(final boolean reuseMinions,
+      final int maxMutantsPerMinion, final boolean reuseTestThread,
+      final boolean recoverTimeouts, final boolean fullMutationMatrix,
+      final boolean mutantSchemata, final boolean probeReach,
+      final boolean weakMutation) {
+    this.reuseMinions = reuseMinions;
+    this.maxMutantsPerMinion = maxMutantsPerMinion;
+    this.reuseTestThread = reuseTestThread;
+    this.recoverTimeouts = recoverTimeouts;
+    this.fullMutationMatrix = fullMutationMatrix;
+    this.mutantSchemata = mutantSchemata;
+    this.probeReach = probeReach;
+    this.weakMutation = weakMutation;
+  }
+
+  public static MinionOptions defaults() {
+    return new MinionOptions(false, 0, false, false, false, false, false,
+        false);
+  }
+
+  public MinionOptions withReuseMinions(final boolean reuse,
+      final int maxMutants) {
+    return new MinionOptions(reuse, maxMutants, this.reuseTestThread,
+        this.recoverTimeouts, this.fullMutationMatrix, this.mutantSchemata,
+        this.probeReach, this.weakMutation);
+  }
+
+  public MinionOptions withReuseTestThread(final boolean reuse) {
+    return new MinionOptions(this.reuseMinions, this.maxMutantsPerMinion,
+        reuse, this.recoverTimeouts, this.fullMutationMatrix,
+        this.mutantSchemata, this.probeReach, this.weakMutation);
+  }
+
+  public MinionOptions withRecoverTimeouts(final boolean recover) {
+    return new MinionOptions(this.reuseMinions, this.maxMutantsPerMinion,
+        this.reuseTestThread, recover, this.fullMutationMatrix,
+        this.mutantSchemata, this.probeReach, this.weakMutation);
+  }
+
+  public MinionOptions withFullMutationMatrix(final boolean fullMatrix) {
+    return new MinionOptions(this.reuseMinions, this.maxMutantsPerMinion,
+        this.reuseTestThread, this.recoverTimeouts, fullMatrix,
+        this.mutantSchemata, this.probeReach, this.weakMutation);
+  }
+
+  public MinionOptions withMutantSchemata(final boolean schemata) {
+    return new MinionOptions(this.reuseMinions, this.maxMutantsPerMinion,
+        this.reuseTestThread, this.recoverTimeouts, this.fullMutationMatrix,
+        schemata, this.probeReach, this.weakMutation);
+  }
+
+  public MinionOptions withProbeReach(final boolean reach) {
+    return new MinionOptions(this.reuseMinions, this.maxMutantsPerMinion,
+        this.reuseTestThread, this.recoverTimeouts, this.fullMutationMatrix,
+        this.mutantSchemata, reach, this.weakMutation);
+  }
+
+  public MinionOptions withWeakMutation(final boolean weak) {
+    return new MinionOptions(this.reuseMinions, this.maxMutantsPerMinion,
+        this.reuseTestThread, this.recoverTimeouts, this.fullMutationMatrix,
+        this.mutantSchemata, this.probeReach, weak);
+  }
+
+  /**
+   * When true a minion waits for further batches of mutations once a batch is
+   * complete, rather than exiting.
+   */
+  public boolean isReuseMinions() {
+    return this.reuseMinions;
+  }
+
+  /**
+   * Number of mutants a reused minion may analyse before it is replaced. Zero
+   * for no limit.
+   */
+  public int getMaxMutantsPerMinion() {
+    return this.maxMutantsPerMinion;
+  }
+
+  /**
+   * When true tests are run on a single reused thread rather than on a new
+   * thread per test.
+   */
+  public boolean isReuseTestThread() {
+    return this.reuseTestThread;
+  }
+
+  /**
+   * When true the minion tries to stop a timed out test and carry on before
+   * falling back to exiting.
+   */
+  public boolean isRecoverTimeouts() {
+    return this.recoverTimeouts;
+  }
+
+  /**
+   * When true every assigned test is run against each mutant and its outcome
+   * reported.
+   */
+  public boolean isFullMutationMatrix() {
+    return this.fullMutationMatrix;
+  }
+
+  /**
+   * When true mutants are compiled into a schema class per target class and
+   * switched on at runtime, rather than each being hotswapped in.
+   */
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  /**
+   * When true mutants carry a probe recording which tests execute the
+   * mutated code.
+   */
+  public boolean isProbeReach() {
+    return this.probeReach;
+  }
+
+  /**
+   * When true mutants that no covering test infects are not run.
+   */
+  public boolean isWeakMutation() {
+    return this.weakMutation;
+  }
+
+}
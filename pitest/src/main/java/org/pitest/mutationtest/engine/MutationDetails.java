@@ -18,6 +18,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.ClassLine;
@@ -40,6 +41,7 @@ public final class MutationDetails implements Serializable {
   private final ArrayList<TestInfo> testsInOrder = new ArrayList<>();
   private final boolean             isInFinallyBlock;
   private final PoisonStatus        poison;
+  private final MutationIdentifier  duplicateOf;
 
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block) {
@@ -49,6 +51,19 @@ public final class MutationDetails implements Serializable {
   public MutationDetails(final MutationIdentifier id, final String filename,
       final String description, final int lineNumber, final int block,
       final boolean isInFinallyBlock, final PoisonStatus poison) {
+    this(id, filename, description, lineNumber, block, isInFinallyBlock,
+        poison, null);
+  }
+
+  /**
+   * @param duplicateOf
+   *          identifier of a mutation known to behave identically to this one,
+   *          or null
+   */
+  public MutationDetails(final MutationIdentifier id, final String filename,
+      final String description, final int lineNumber, final int block,
+      final boolean isInFinallyBlock, final PoisonStatus poison,
+      final MutationIdentifier duplicateOf) {
     this.id = id;
     this.description = Preconditions.checkNotNull(description);
     this.filename = Preconditions.checkNotNull(filename);
@@ -56,6 +71,7 @@ public final class MutationDetails implements Serializable {
     this.block = block;
     this.isInFinallyBlock = isInFinallyBlock;
     this.poison = poison;
+    this.duplicateOf = duplicateOf;
   }
 
 
@@ -69,11 +85,15 @@ public final class MutationDetails implements Serializable {
   }
 
   public MutationDetails withDescription(String desc) {
-    return new MutationDetails(this.id, this.filename, desc, this.lineNumber, this.block, this.isInFinallyBlock, this.poison);
+    return new MutationDetails(this.id, this.filename, desc, this.lineNumber, this.block, this.isInFinallyBlock, this.poison, this.duplicateOf);
   }
 
   public MutationDetails withPoisonStatus(PoisonStatus poisonStatus) {
-    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, poisonStatus);
+    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, poisonStatus, this.duplicateOf);
+  }
+
+  public MutationDetails withDuplicateOf(MutationIdentifier representative) {
+    return new MutationDetails(this.id, this.filename, this.description, this.lineNumber, this.block, this.isInFinallyBlock, this.poison, representative);
   }
 
   /**
@@ -261,6 +281,16 @@ public final class MutationDetails implements Serializable {
     return this.isInFinallyBlock;
   }
 
+  /**
+   * Returns the mutation whose result this mutation shares, if it is known to
+   * produce the same bytecode as another mutation
+   *
+   * @return the representative mutation, if any
+   */
+  public Optional<MutationIdentifier> getDuplicateOf() {
+    return Optional.ofNullable(this.duplicateOf);
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
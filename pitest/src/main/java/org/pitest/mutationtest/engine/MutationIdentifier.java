@@ -78,6 +78,15 @@ public final class MutationIdentifier implements Comparable<MutationIdentifier>,
     return this.mutator;
   }
 
+  /**
+   * Returns the indexes to the instructions on which this mutation occurs.
+   *
+   * @return the zero based indexes to the instructions
+   */
+  public List<Integer> getIndexes() {
+    return Collections.unmodifiableList(this.indexes);
+  }
+
   /**
    * Returns the index to the first instruction on which this mutation occurs.
    * This index is specific to how ASM represents the bytecode.
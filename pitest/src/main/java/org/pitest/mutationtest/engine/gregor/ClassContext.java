@@ -106,6 +106,19 @@ class ClassContext implements BlockCounter {
     this.blockCounter.registerFinallyBlockEnd();
   }
 
+  /**
+   * Continues the block count from the given position, for when the methods
+   * before the one being visited are not visited.
+   */
+  public void startAtBlock(final int block, final boolean withinFinallyBlock) {
+    for (int i = 0; i != block; i++) {
+      this.blockCounter.registerNewBlock();
+    }
+    if (withinFinallyBlock) {
+      this.blockCounter.registerFinallyBlockStart();
+    }
+  }
+
   public int getCurrentBlock() {
     return this.blockCounter.getCurrentBlock();
   }
@@ -29,7 +29,10 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
 import org.pitest.bytecode.FrameOptions;
 import org.pitest.bytecode.NullVisitor;
 import org.pitest.classinfo.ClassByteArraySource;
@@ -48,6 +51,10 @@ public class GregorMutater implements Mutater {
   private final ClassByteArraySource      byteSource;
   private final Set<MethodMutatorFactory> mutators       = new HashSet<>();
 
+  // mutants are generated one class at a time, so holding on to the
+  // most recently parsed class avoids refetching it for every mutant
+  private volatile PreparedClass          lastPrepared;
+
   public GregorMutater(final ClassByteArraySource byteSource,
       final Predicate<MethodInfo> filter,
       final Collection<MethodMutatorFactory> mutators) {
@@ -94,16 +101,26 @@ public class GregorMutater implements Mutater {
     final ClassContext context = new ClassContext();
     context.setTargetMutation(Optional.ofNullable(id));
 
-    final Optional<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
-        .asJavaName());
-
-    final ClassReader reader = new ClassReader(bytes.get());
-    final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+    final PreparedClass prepared = prepare(id.getClassName());
+
+    // blocks are numbered across the class, so counting starts from where
+    // the methods before the mutated one left off
+    final BlockPosition start = prepared.blockStarts.get(methodKey(id
+        .getLocation().getMethodName().name(), id.getLocation()
+        .getMethodDesc()));
+    if (start != null) {
+      context.startAtBlock(start.block, start.withinFinallyBlock);
+    }
+
+    // Passing the reader to the writer lets ASM copy methods that are not
+    // visited for mutation straight from the original bytes, so only the
+    // mutated method is re-emitted and has its frames recomputed
+    final ClassWriter w = new ComputeClassWriter(prepared.reader,
+        this.byteSource, this.computeCache, prepared.flags);
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
-        filterMethods(), FCollection.filter(this.mutators,
-            isMutatorFor(id)));
-    reader.accept(mca, ClassReader.EXPAND_FRAMES);
+        and(filterMethods(), isMethodFor(id)), FCollection.filter(
+            this.mutators, isMutatorFor(id)));
+    prepared.reader.accept(mca, ClassReader.EXPAND_FRAMES);
 
     final List<MutationDetails> details = context.getMutationDetails(context
         .getTargetMutation().get());
@@ -112,6 +129,54 @@ public class GregorMutater implements Mutater {
 
   }
 
+  private PreparedClass prepare(final ClassName clazz) {
+    final PreparedClass last = this.lastPrepared;
+    if ((last != null) && last.name.equals(clazz)) {
+      return last;
+    }
+
+    final Optional<byte[]> bytes = this.byteSource.getBytes(clazz
+        .asJavaName());
+    final ClassReader reader = new ClassReader(bytes.get());
+    final PreparedClass prepared = new PreparedClass(clazz, reader,
+        FrameOptions.pickFlags(bytes.get()), countBlocks(reader));
+    this.lastPrepared = prepared;
+    return prepared;
+  }
+
+  // records the block count at the start of each method, as discovery would
+  // see it when visiting every method
+  private Map<String, BlockPosition> countBlocks(final ClassReader reader) {
+    final ClassContext context = new ClassContext();
+    final Map<String, BlockPosition> starts = new HashMap<>();
+    final MutatingClassVisitor counter = new MutatingClassVisitor(
+        new NullVisitor(), context, filterMethods(),
+        Collections.<MethodMutatorFactory> emptyList());
+    reader.accept(new ClassVisitor(Opcodes.ASM6, counter) {
+      @Override
+      public MethodVisitor visitMethod(final int access, final String name,
+          final String desc, final String signature,
+          final String[] exceptions) {
+        starts.put(methodKey(name, desc), new BlockPosition(
+            context.getCurrentBlock(), context.isWithinFinallyBlock()));
+        return super.visitMethod(access, name, desc, signature, exceptions);
+      }
+    }, ClassReader.EXPAND_FRAMES);
+    return starts;
+  }
+
+  private static String methodKey(final String name, final String desc) {
+    return name + desc;
+  }
+
+  private static Predicate<MethodInfo> isMethodFor(
+      final MutationIdentifier id) {
+    final String name = id.getLocation().getMethodName().name();
+    final String desc = id.getLocation().getMethodDesc();
+    return a -> a.getName().equals(name)
+        && a.getMethodDescriptor().equals(desc);
+  }
+
   private static Predicate<MethodMutatorFactory> isMutatorFor(
       final MutationIdentifier id) {
     return a -> id.getMutator().equals(a.getGloballyUniqueId());
@@ -134,4 +199,29 @@ public class GregorMutater implements Mutater {
     return a -> a.isGeneratedEnumMethod();
   }
 
+  private static class PreparedClass {
+    private final ClassName                  name;
+    private final ClassReader                reader;
+    private final int                        flags;
+    private final Map<String, BlockPosition> blockStarts;
+
+    PreparedClass(final ClassName name, final ClassReader reader,
+        final int flags, final Map<String, BlockPosition> blockStarts) {
+      this.name = name;
+      this.reader = reader;
+      this.flags = flags;
+      this.blockStarts = blockStarts;
+    }
+  }
+
+  private static class BlockPosition {
+    private final int     block;
+    private final boolean withinFinallyBlock;
+
+    BlockPosition(final int block, final boolean withinFinallyBlock) {
+      this.block = block;
+      this.withinFinallyBlock = withinFinallyBlock;
+    }
+  }
+
 }
@@ -21,9 +21,9 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
@@ -99,9 +99,10 @@ class ClassMethodsTracker extends ClassVisitor {
 
 class OverloadedMethodVisitor extends MethodVisitor {
 
-    //use cache to save visited classes methods for reuse
+    //use cache to save visited classes methods for reuse. Shared by every
+    //thread searching for mutations, so must be safe for concurrent use
     static final Map<String, ArrayList<MethodInfo>> CACHED_METHODS = 
-            new HashMap<>();
+            new ConcurrentHashMap<>();
     static final int MAX_CACHE_SIZE = 1000;
     
     final MutationContext context;
@@ -292,13 +293,12 @@ class OverloadedMethodVisitor extends MethodVisitor {
     
     private void cache(final String owner, 
                        final ArrayList<MethodInfo> classMethods) {
-        if (CACHED_METHODS.containsKey(owner) || classMethods == null) {
+        if (classMethods == null) {
             return;
         }
         if (CACHED_METHODS.size() + 1 > MAX_CACHE_SIZE) {
             CACHED_METHODS.clear();
-            CACHED_METHODS.put(owner, classMethods);
         }
-        CACHED_METHODS.put(owner, classMethods);
+        CACHED_METHODS.putIfAbsent(owner, classMethods);
     }
 }
@@ -0,0 +1,48 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import sun.pitest.InfectionProbe;
+
+/**
+ * A class that behaves as the unmutated class, but that checks at each
+ * mutation point whether each mutant there would compute a different value,
+ * recording the result in {@link InfectionProbe}. Mutants without a probe
+ * could not be checked.
+ */
+public final class InfectionSchema {
+
+  private final byte[]                           bytes;
+  private final Map<MutationIdentifier, Integer> probes;
+
+  InfectionSchema(final byte[] bytes,
+      final Map<MutationIdentifier, Integer> probes) {
+    this.bytes = bytes;
+    this.probes = probes;
+  }
+
+  /**
+   * @return a schema checking no mutants
+   */
+  public static InfectionSchema empty(final byte[] bytes) {
+    return new InfectionSchema(bytes,
+        Collections.<MutationIdentifier, Integer> emptyMap());
+  }
+
+  public byte[] getBytes() {
+    return this.bytes;
+  }
+
+  public Optional<Integer> probeFor(final MutationIdentifier id) {
+    return Optional.ofNullable(this.probes.get(id));
+  }
+
+  public int getNumberOfProbes() {
+    return this.probes.size();
+  }
+
+}
@@ -0,0 +1,379 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+import sun.pitest.InfectionProbe;
+
+/**
+ * Builds an {@link InfectionSchema}, in which each mutation point computes
+ * the result of the unmutated instruction and of each mutant's replacement
+ * from the same operands and records any mutant that gives a different
+ * result. The unmutated instruction then runs as normal.
+ *
+ * Only mutants that replace a single arithmetic, comparison or conditional
+ * jump instruction with code that only works on the operand stack are
+ * checked. For a jump the result compared is whether the branch is taken.
+ * Divisions are checked only when they are the whole replacement, and are
+ * treated as infecting whenever the divisor is zero.
+ */
+public class InfectionSchemaBuilder {
+
+  private static final Logger        LOG          = Log.getLogger();
+
+  private static final String        PROBE_OWNER  = Type
+      .getInternalName(InfectionProbe.class);
+
+  private final ClassByteArraySource source;
+  private final Map<String, String>  computeCache = new HashMap<>();
+
+  public InfectionSchemaBuilder(final ClassByteArraySource source) {
+    this.source = source;
+  }
+
+  public InfectionSchema build(final byte[] original,
+      final Collection<Mutant> mutants) {
+    final ClassNode schema = MutantSchemaBuilder.read(original);
+    final Map<AbstractInsnNode, Point> points = new LinkedHashMap<>();
+    final Map<MutationIdentifier, Integer> probes = new LinkedHashMap<>();
+
+    for (final Mutant each : mutants) {
+      final Optional<InstructionDiff> diff = InstructionDiff.diff(schema,
+          MutantSchemaBuilder.read(each.getBytes()), each.getDetails().getId()
+              .getLocation());
+      if (!diff.isPresent()
+          || ((diff.get().getOriginalEnd() - diff.get().getStart()) != 1)) {
+        continue;
+      }
+
+      final AbstractInsnNode instruction = diff.get()
+          .getOriginalInstructions()[diff.get().getStart()];
+      final Operation operation = Operation.of(instruction);
+      final InsnList replacement = diff.get().copyReplacement();
+      if ((operation != null) && operation.canCheck(instruction, replacement)) {
+        final int probe = probes.size();
+        probes.put(each.getDetails().getId(), probe);
+        points.computeIfAbsent(instruction, k -> new Point(diff.get()
+            .getOriginalMethod(), instruction, operation)).checks
+            .add(new Check(probe, replacement));
+      }
+    }
+
+    if (probes.isEmpty()) {
+      return InfectionSchema.empty(original);
+    }
+
+    final Map<MethodNode, Integer> nextLocal = new HashMap<>();
+    for (final Point each : points.values()) {
+      final int local = nextLocal.getOrDefault(each.method,
+          each.method.maxLocals);
+      nextLocal.put(each.method, local + each.operation.operandSize());
+      each.method.instructions.insertBefore(each.instruction,
+          each.weave(local));
+    }
+
+    try {
+      final ClassWriter w = new ComputeClassWriter(this.source,
+          this.computeCache, FrameOptions.pickFlags(original));
+      schema.accept(w);
+      return new InfectionSchema(w.toByteArray(), probes);
+    } catch (final RuntimeException ex) {
+      LOG.fine("Could not build infection schema for " + schema.name + " "
+          + ex);
+      return InfectionSchema.empty(original);
+    }
+  }
+
+  private static final class Check {
+    private final int      probe;
+    private final InsnList replacement;
+
+    Check(final int probe, final InsnList replacement) {
+      this.probe = probe;
+      this.replacement = replacement;
+    }
+  }
+
+  private static final class Point {
+    private final MethodNode       method;
+    private final AbstractInsnNode instruction;
+    private final Operation        operation;
+    private final List<Check>      checks = new ArrayList<>();
+
+    Point(final MethodNode method, final AbstractInsnNode instruction,
+        final Operation operation) {
+      this.method = method;
+      this.instruction = instruction;
+      this.operation = operation;
+    }
+
+    // the operands are stored, checked against each mutant, then reloaded
+    // for the unmutated instruction
+    InsnList weave(final int firstLocal) {
+      final Type[] operands = this.operation.operands;
+      final int[] locals = new int[operands.length];
+      int next = firstLocal;
+      for (int i = 0; i != operands.length; i++) {
+        locals[i] = next;
+        next = next + operands[i].getSize();
+      }
+
+      final InsnList code = new InsnList();
+      for (int i = operands.length - 1; i >= 0; i--) {
+        code.add(new VarInsnNode(operands[i].getOpcode(Opcodes.ISTORE),
+            locals[i]));
+      }
+      for (final Check each : this.checks) {
+        final LabelNode infected = new LabelNode();
+        final LabelNode same = new LabelNode();
+        if (this.operation.divides(this.instruction, each.replacement)) {
+          final Type divisor = operands[operands.length - 1];
+          code.add(new VarInsnNode(divisor.getOpcode(Opcodes.ILOAD),
+              locals[operands.length - 1]));
+          if (divisor.getSort() == Type.LONG) {
+            code.add(new InsnNode(Opcodes.LCONST_0));
+            code.add(new InsnNode(Opcodes.LCMP));
+          }
+          code.add(new JumpInsnNode(Opcodes.IFEQ, infected));
+        }
+        code.add(this.operation.evaluate(this.instruction, loads(locals),
+            Collections.singletonList(this.instruction)));
+        code.add(this.operation.evaluate(this.instruction, loads(locals),
+            Arrays.asList(each.replacement.toArray())));
+        if (this.operation.resultIsLong()) {
+          code.add(new InsnNode(Opcodes.LCMP));
+          code.add(new JumpInsnNode(Opcodes.IFEQ, same));
+        } else {
+          code.add(new JumpInsnNode(Opcodes.IF_ICMPEQ, same));
+        }
+        code.add(infected);
+        code.add(new FieldInsnNode(Opcodes.GETSTATIC, PROBE_OWNER,
+            InfectionProbe.FIELD, "[Z"));
+        code.add(new LdcInsnNode(each.probe));
+        code.add(new InsnNode(Opcodes.ICONST_1));
+        code.add(new InsnNode(Opcodes.BASTORE));
+        code.add(same);
+      }
+      code.add(loads(locals));
+      return code;
+    }
+
+    private InsnList loads(final int[] locals) {
+      final InsnList loads = new InsnList();
+      for (int i = 0; i != locals.length; i++) {
+        loads.add(new VarInsnNode(this.operation.operands[i]
+            .getOpcode(Opcodes.ILOAD), locals[i]));
+      }
+      return loads;
+    }
+  }
+
+  /**
+   * The operand types of an instruction that can be checked, and the type of
+   * its result, or null for a conditional jump.
+   */
+  private static final class Operation {
+    private final Type[] operands;
+    private final Type   result;
+
+    private Operation(final Type result, final Type... operands) {
+      this.operands = operands;
+      this.result = result;
+    }
+
+    static Operation of(final AbstractInsnNode instruction) {
+      final int op = instruction.getOpcode();
+      if ((op >= Opcodes.IADD) && (op <= Opcodes.DREM)) {
+        final Type type = arithmeticType(op - Opcodes.IADD);
+        return new Operation(type, type, type);
+      }
+      if ((op >= Opcodes.INEG) && (op <= Opcodes.DNEG)) {
+        final Type type = arithmeticType(op - Opcodes.INEG);
+        return new Operation(type, type);
+      }
+      if ((op >= Opcodes.ISHL) && (op <= Opcodes.LUSHR)) {
+        final Type type = ((op - Opcodes.ISHL) % 2) == 0 ? Type.INT_TYPE
+            : Type.LONG_TYPE;
+        return new Operation(type, type, Type.INT_TYPE);
+      }
+      if ((op >= Opcodes.IAND) && (op <= Opcodes.LXOR)) {
+        final Type type = ((op - Opcodes.IAND) % 2) == 0 ? Type.INT_TYPE
+            : Type.LONG_TYPE;
+        return new Operation(type, type, type);
+      }
+      switch (op) {
+      case Opcodes.LCMP:
+        return new Operation(Type.INT_TYPE, Type.LONG_TYPE, Type.LONG_TYPE);
+      case Opcodes.FCMPL:
+      case Opcodes.FCMPG:
+        return new Operation(Type.INT_TYPE, Type.FLOAT_TYPE, Type.FLOAT_TYPE);
+      case Opcodes.DCMPL:
+      case Opcodes.DCMPG:
+        return new Operation(Type.INT_TYPE, Type.DOUBLE_TYPE,
+            Type.DOUBLE_TYPE);
+      case Opcodes.IFEQ:
+      case Opcodes.IFNE:
+      case Opcodes.IFLT:
+      case Opcodes.IFGE:
+      case Opcodes.IFGT:
+      case Opcodes.IFLE:
+        return new Operation(null, Type.INT_TYPE);
+      case Opcodes.IF_ICMPEQ:
+      case Opcodes.IF_ICMPNE:
+      case Opcodes.IF_ICMPLT:
+      case Opcodes.IF_ICMPGE:
+      case Opcodes.IF_ICMPGT:
+      case Opcodes.IF_ICMPLE:
+        return new Operation(null, Type.INT_TYPE, Type.INT_TYPE);
+      case Opcodes.IF_ACMPEQ:
+      case Opcodes.IF_ACMPNE:
+        return new Operation(null, Type.getType(Object.class),
+            Type.getType(Object.class));
+      case Opcodes.IFNULL:
+      case Opcodes.IFNONNULL:
+        return new Operation(null, Type.getType(Object.class));
+      default:
+        return null;
+      }
+    }
+
+    private static Type arithmeticType(final int offset) {
+      switch (offset % 4) {
+      case 0:
+        return Type.INT_TYPE;
+      case 1:
+        return Type.LONG_TYPE;
+      case 2:
+        return Type.FLOAT_TYPE;
+      default:
+        return Type.DOUBLE_TYPE;
+      }
+    }
+
+    int operandSize() {
+      int size = 0;
+      for (final Type each : this.operands) {
+        size = size + each.getSize();
+      }
+      return size;
+    }
+
+    boolean isJump() {
+      return this.result == null;
+    }
+
+    boolean resultIsLong() {
+      return !isJump()
+          && ((this.result.getSort() == Type.LONG) || (this.result.getSort() == Type.DOUBLE));
+    }
+
+    boolean canCheck(final AbstractInsnNode instruction,
+        final InsnList replacement) {
+      if (replacement.size() == 0) {
+        return false;
+      }
+      for (final AbstractInsnNode each : replacement.toArray()) {
+        if (isDivision(each.getOpcode()) && (replacement.size() != 1)) {
+          return false;
+        }
+        if (each instanceof JumpInsnNode) {
+          if (!isJump()
+              || (((JumpInsnNode) each).label != ((JumpInsnNode) instruction).label)) {
+            return false;
+          }
+        } else if (!isStackOnly(each.getOpcode())) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean divides(final AbstractInsnNode instruction,
+        final InsnList replacement) {
+      return isDivision(instruction.getOpcode())
+          || ((replacement.size() == 1) && isDivision(replacement.getFirst()
+              .getOpcode()));
+    }
+
+    /**
+     * Evaluates the instructions on reloaded operands, leaving an int, or a
+     * long for long and double results. Floating point results are compared
+     * by their bits so that signed zeros and NaNs are told apart.
+     */
+    InsnList evaluate(final AbstractInsnNode instruction, final InsnList loads,
+        final List<AbstractInsnNode> instructions) {
+      final InsnList code = new InsnList();
+      code.add(loads);
+      if (!isJump()) {
+        for (final AbstractInsnNode each : instructions) {
+          code.add(each.clone(Collections.<LabelNode, LabelNode> emptyMap()));
+        }
+        if (this.result.getSort() == Type.FLOAT) {
+          code.add(new MethodInsnNode(Opcodes.INVOKESTATIC, "java/lang/Float",
+              "floatToRawIntBits", "(F)I", false));
+        } else if (this.result.getSort() == Type.DOUBLE) {
+          code.add(new MethodInsnNode(Opcodes.INVOKESTATIC,
+              "java/lang/Double", "doubleToRawLongBits", "(D)J", false));
+        }
+        return code;
+      }
+
+      // the value of a jump is 1 if the branch is taken and 0 if not
+      final LabelNode taken = new LabelNode();
+      final LabelNode done = new LabelNode();
+      final Map<LabelNode, LabelNode> retarget = Collections.singletonMap(
+          ((JumpInsnNode) instruction).label, taken);
+      for (final AbstractInsnNode each : instructions) {
+        code.add(each.clone(retarget));
+      }
+      code.add(new InsnNode(Opcodes.ICONST_0));
+      code.add(new JumpInsnNode(Opcodes.GOTO, done));
+      code.add(taken);
+      code.add(new InsnNode(Opcodes.ICONST_1));
+      code.add(done);
+      return code;
+    }
+
+    private static boolean isDivision(final int op) {
+      return (op == Opcodes.IDIV) || (op == Opcodes.LDIV)
+          || (op == Opcodes.IREM) || (op == Opcodes.LREM);
+    }
+
+    // constants, arithmetic, conversions, comparisons and stack manipulation
+    private static boolean isStackOnly(final int op) {
+      return ((op >= Opcodes.NOP) && (op <= Opcodes.SIPUSH))
+          || ((op >= Opcodes.POP) && (op <= Opcodes.LXOR))
+          || ((op >= Opcodes.I2L) && (op <= Opcodes.DCMPG));
+    }
+  }
+
+}
@@ -0,0 +1,281 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+import org.pitest.mutationtest.engine.Location;
+
+/**
+ * The window of instructions in which a mutant differs from the unmutated
+ * method, found by stripping the instructions the two have in common at
+ * either end. Labels are compared by position, so a mutant that adds or
+ * removes a label, changes a line number or changes anything other than the
+ * mutated method has no window.
+ */
+final class InstructionDiff {
+
+  private final MethodNode                originalMethod;
+  private final AbstractInsnNode[]        original;
+  private final MethodNode                mutatedMethod;
+  private final AbstractInsnNode[]        mutated;
+  private final int                       start;
+  private final int                       originalEnd;
+  private final int                       mutatedEnd;
+  private final Map<LabelNode, LabelNode> labels;
+
+  private InstructionDiff(final MethodNode originalMethod,
+      final AbstractInsnNode[] original, final MethodNode mutatedMethod,
+      final AbstractInsnNode[] mutated, final int start,
+      final int originalEnd, final int mutatedEnd,
+      final Map<LabelNode, LabelNode> labels) {
+    this.originalMethod = originalMethod;
+    this.original = original;
+    this.mutatedMethod = mutatedMethod;
+    this.mutated = mutated;
+    this.start = start;
+    this.originalEnd = originalEnd;
+    this.mutatedEnd = mutatedEnd;
+    this.labels = labels;
+  }
+
+  static Optional<InstructionDiff> diff(final ClassNode original,
+      final ClassNode mutated, final Location location) {
+    if ((mutated.methods.size() != original.methods.size())
+        || (mutated.fields.size() != original.fields.size())) {
+      return Optional.empty();
+    }
+
+    final MethodNode before = findMethod(original, location);
+    final MethodNode after = findMethod(mutated, location);
+    if ((before == null) || (after == null)
+        || (before.maxLocals != after.maxLocals)
+        || (before.tryCatchBlocks.size() != after.tryCatchBlocks.size())) {
+      return Optional.empty();
+    }
+
+    final AbstractInsnNode[] a = before.instructions.toArray();
+    final AbstractInsnNode[] b = after.instructions.toArray();
+    final Map<LabelNode, Integer> aLabels = labelOrdinals(a);
+    final Map<LabelNode, Integer> bLabels = labelOrdinals(b);
+    if (aLabels.size() != bLabels.size()) {
+      return Optional.empty();
+    }
+
+    int prefix = 0;
+    while ((prefix < a.length) && (prefix < b.length)
+        && same(a[prefix], aLabels, b[prefix], bLabels)) {
+      prefix++;
+    }
+    int suffix = 0;
+    while ((suffix < (a.length - prefix)) && (suffix < (b.length - prefix))
+        && same(a[a.length - 1 - suffix], aLabels, b[b.length - 1 - suffix],
+            bLabels)) {
+      suffix++;
+    }
+
+    // an unchanged method or a change with nothing after it to anchor on
+    if ((prefix == a.length) || (prefix == b.length)
+        || !isPlain(a, prefix, a.length - suffix)
+        || !isPlain(b, prefix, b.length - suffix)) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new InstructionDiff(before, a, after, b, prefix,
+        a.length - suffix, b.length - suffix, matchLabels(aLabels, bLabels)));
+  }
+
+  /**
+   * @return a copy of the mutant's instructions in the window, with jumps
+   *         retargeted to the labels of the unmutated method
+   */
+  InsnList copyReplacement() {
+    final InsnList replacement = new InsnList();
+    for (int i = this.start; i != this.mutatedEnd; i++) {
+      replacement.add(this.mutated[i].clone(this.labels));
+    }
+    return replacement;
+  }
+
+  MethodNode getOriginalMethod() {
+    return this.originalMethod;
+  }
+
+  AbstractInsnNode[] getOriginalInstructions() {
+    return this.original;
+  }
+
+  MethodNode getMutatedMethod() {
+    return this.mutatedMethod;
+  }
+
+  /**
+   * @return the first instruction of the mutant that differs from the
+   *         unmutated method
+   */
+  AbstractInsnNode getFirstMutatedInstruction() {
+    return this.mutated[this.start];
+  }
+
+  int getStart() {
+    return this.start;
+  }
+
+  int getOriginalEnd() {
+    return this.originalEnd;
+  }
+
+  private static MethodNode findMethod(final ClassNode clazz,
+      final Location location) {
+    for (final MethodNode each : clazz.methods) {
+      if (each.name.equals(location.getMethodName().toString())
+          && each.desc.equals(location.getMethodDesc())) {
+        return each;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isPlain(final AbstractInsnNode[] insns,
+      final int from, final int to) {
+    for (int i = from; i < to; i++) {
+      final int type = insns[i].getType();
+      if ((type == AbstractInsnNode.LABEL) || (type == AbstractInsnNode.LINE)
+          || (type == AbstractInsnNode.FRAME)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Map<LabelNode, Integer> labelOrdinals(
+      final AbstractInsnNode[] insns) {
+    final Map<LabelNode, Integer> labels = new HashMap<>();
+    for (final AbstractInsnNode each : insns) {
+      if (each instanceof LabelNode) {
+        labels.put((LabelNode) each, labels.size());
+      }
+    }
+    return labels;
+  }
+
+  private static Map<LabelNode, LabelNode> matchLabels(
+      final Map<LabelNode, Integer> original,
+      final Map<LabelNode, Integer> mutated) {
+    final LabelNode[] byOrdinal = new LabelNode[original.size()];
+    for (final Entry<LabelNode, Integer> each : original.entrySet()) {
+      byOrdinal[each.getValue()] = each.getKey();
+    }
+    final Map<LabelNode, LabelNode> labels = new HashMap<>();
+    for (final Entry<LabelNode, Integer> each : mutated.entrySet()) {
+      labels.put(each.getKey(), byOrdinal[each.getValue()]);
+    }
+    return labels;
+  }
+
+  private static boolean same(final AbstractInsnNode x,
+      final Map<LabelNode, Integer> xLabels, final AbstractInsnNode y,
+      final Map<LabelNode, Integer> yLabels) {
+    if ((x.getType() != y.getType()) || (x.getOpcode() != y.getOpcode())) {
+      return false;
+    }
+    switch (x.getType()) {
+    case AbstractInsnNode.INT_INSN:
+      return ((IntInsnNode) x).operand == ((IntInsnNode) y).operand;
+    case AbstractInsnNode.VAR_INSN:
+      return ((VarInsnNode) x).var == ((VarInsnNode) y).var;
+    case AbstractInsnNode.TYPE_INSN:
+      return ((TypeInsnNode) x).desc.equals(((TypeInsnNode) y).desc);
+    case AbstractInsnNode.FIELD_INSN:
+      final FieldInsnNode fx = (FieldInsnNode) x;
+      final FieldInsnNode fy = (FieldInsnNode) y;
+      return fx.owner.equals(fy.owner) && fx.name.equals(fy.name)
+          && fx.desc.equals(fy.desc);
+    case AbstractInsnNode.METHOD_INSN:
+      final MethodInsnNode mx = (MethodInsnNode) x;
+      final MethodInsnNode my = (MethodInsnNode) y;
+      return mx.owner.equals(my.owner) && mx.name.equals(my.name)
+          && mx.desc.equals(my.desc) && (mx.itf == my.itf);
+    case AbstractInsnNode.INVOKE_DYNAMIC_INSN:
+      final InvokeDynamicInsnNode ix = (InvokeDynamicInsnNode) x;
+      final InvokeDynamicInsnNode iy = (InvokeDynamicInsnNode) y;
+      return ix.name.equals(iy.name) && ix.desc.equals(iy.desc)
+          && ix.bsm.equals(iy.bsm) && Arrays.equals(ix.bsmArgs, iy.bsmArgs);
+    case AbstractInsnNode.JUMP_INSN:
+      return sameLabel(((JumpInsnNode) x).label, xLabels,
+          ((JumpInsnNode) y).label, yLabels);
+    case AbstractInsnNode.LABEL:
+      return sameLabel((LabelNode) x, xLabels, (LabelNode) y, yLabels);
+    case AbstractInsnNode.LDC_INSN:
+      return ((LdcInsnNode) x).cst.equals(((LdcInsnNode) y).cst);
+    case AbstractInsnNode.IINC_INSN:
+      return (((IincInsnNode) x).var == ((IincInsnNode) y).var)
+          && (((IincInsnNode) x).incr == ((IincInsnNode) y).incr);
+    case AbstractInsnNode.TABLESWITCH_INSN:
+      final TableSwitchInsnNode tx = (TableSwitchInsnNode) x;
+      final TableSwitchInsnNode ty = (TableSwitchInsnNode) y;
+      return (tx.min == ty.min) && (tx.max == ty.max)
+          && sameLabel(tx.dflt, xLabels, ty.dflt, yLabels)
+          && sameLabels(tx.labels, xLabels, ty.labels, yLabels);
+    case AbstractInsnNode.LOOKUPSWITCH_INSN:
+      final LookupSwitchInsnNode lx = (LookupSwitchInsnNode) x;
+      final LookupSwitchInsnNode ly = (LookupSwitchInsnNode) y;
+      return lx.keys.equals(ly.keys)
+          && sameLabel(lx.dflt, xLabels, ly.dflt, yLabels)
+          && sameLabels(lx.labels, xLabels, ly.labels, yLabels);
+    case AbstractInsnNode.MULTIANEWARRAY_INSN:
+      return ((MultiANewArrayInsnNode) x).desc
+          .equals(((MultiANewArrayInsnNode) y).desc)
+          && (((MultiANewArrayInsnNode) x).dims == ((MultiANewArrayInsnNode) y).dims);
+    case AbstractInsnNode.LINE:
+      return (((LineNumberNode) x).line == ((LineNumberNode) y).line)
+          && sameLabel(((LineNumberNode) x).start, xLabels,
+              ((LineNumberNode) y).start, yLabels);
+    default:
+      return true;
+    }
+  }
+
+  private static boolean sameLabels(final List<LabelNode> xs,
+      final Map<LabelNode, Integer> xLabels, final List<LabelNode> ys,
+      final Map<LabelNode, Integer> yLabels) {
+    if (xs.size() != ys.size()) {
+      return false;
+    }
+    for (int i = 0; i != xs.size(); i++) {
+      if (!sameLabel(xs.get(i), xLabels, ys.get(i), yLabels)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean sameLabel(final LabelNode x,
+      final Map<LabelNode, Integer> xLabels, final LabelNode y,
+      final Map<LabelNode, Integer> yLabels) {
+    final Integer xOrdinal = xLabels.get(x);
+    return (xOrdinal != null) && xOrdinal.equals(yLabels.get(y));
+  }
+
+}
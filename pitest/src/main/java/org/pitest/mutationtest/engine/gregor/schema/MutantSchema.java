@@ -0,0 +1,47 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+import sun.pitest.ActiveMutant;
+
+/**
+ * A class into which many mutants have been compiled, each guarded by a
+ * check of {@link ActiveMutant}. Mutants without a switch could not be
+ * compiled into the schema and must be applied individually.
+ */
+public final class MutantSchema {
+
+  private final byte[]                          bytes;
+  private final Map<MutationIdentifier, Integer> switches;
+
+  MutantSchema(final byte[] bytes,
+      final Map<MutationIdentifier, Integer> switches) {
+    this.bytes = bytes;
+    this.switches = switches;
+  }
+
+  /**
+   * @return a schema holding no mutants
+   */
+  public static MutantSchema empty(final byte[] bytes) {
+    return new MutantSchema(bytes,
+        Collections.<MutationIdentifier, Integer> emptyMap());
+  }
+
+  public byte[] getBytes() {
+    return this.bytes;
+  }
+
+  public Optional<Integer> switchFor(final MutationIdentifier id) {
+    return Optional.ofNullable(this.switches.get(id));
+  }
+
+  public int getNumberOfMutants() {
+    return this.switches.size();
+  }
+
+}
@@ -0,0 +1,216 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.Log;
+
+import sun.pitest.ActiveMutant;
+import sun.pitest.ReachProbe;
+
+/**
+ * Compiles the mutants of a class into a single schema class.
+ *
+ * Each mutant is compared with the unmutated class to find the window of
+ * instructions it replaces. The replacement is then inserted in front of the
+ * original window behind a check of {@link ActiveMutant}, so any
+ * {@link org.pitest.mutationtest.engine.gregor.MethodMutatorFactory} can be
+ * used without knowing how it mutates.
+ *
+ * A mutant is left out of the schema if it changes the shape of the class,
+ * for example by changing the number of locals or other methods, or if its
+ * window contains labels or line numbers, as a jump into the middle of the
+ * original window would bypass the guard. Variable exchanges that rewrite
+ * loads across a method are left out for the same reason. A mutant whose
+ * window overlaps that of another mutant, without exactly matching it, is
+ * also left out.
+ *
+ * When reach probes are requested each replacement first sets
+ * {@link ReachProbe}, so it can be seen whether a test executed the mutant.
+ */
+public class MutantSchemaBuilder {
+
+  private static final Logger        LOG          = Log.getLogger();
+
+  private static final String        SWITCH_OWNER = Type
+      .getInternalName(ActiveMutant.class);
+
+  private final ClassByteArraySource source;
+  private final Map<String, String>  computeCache = new HashMap<>();
+  private final boolean              probeReach;
+
+  public MutantSchemaBuilder(final ClassByteArraySource source) {
+    this(source, false);
+  }
+
+  public MutantSchemaBuilder(final ClassByteArraySource source,
+      final boolean probeReach) {
+    this.source = source;
+    this.probeReach = probeReach;
+  }
+
+  public MutantSchema build(final byte[] original,
+      final Collection<Mutant> mutants) {
+    final ClassNode schema = read(original);
+    final Map<String, List<Window>> windows = new LinkedHashMap<>();
+    final Map<MutationIdentifier, Integer> switches = new LinkedHashMap<>();
+
+    for (final Mutant each : mutants) {
+      final Optional<Window> window = findWindow(schema, each);
+      if (window.isPresent() && canAdd(windows, window.get())) {
+        final int mutantSwitch = switches.size() + 1;
+        window.get().mutantSwitch = mutantSwitch;
+        windows.computeIfAbsent(window.get().method.name
+            + window.get().method.desc, k -> new ArrayList<>()).add(
+            window.get());
+        switches.put(each.getDetails().getId(), mutantSwitch);
+      }
+    }
+
+    if (switches.isEmpty()) {
+      return MutantSchema.empty(original);
+    }
+
+    for (final List<Window> each : windows.values()) {
+      weave(each);
+    }
+
+    try {
+      final ClassWriter w = new ComputeClassWriter(this.source,
+          this.computeCache, FrameOptions.pickFlags(original));
+      schema.accept(w);
+      return new MutantSchema(w.toByteArray(), switches);
+    } catch (final RuntimeException ex) {
+      LOG.fine("Could not build mutant schema for " + schema.name + " " + ex);
+      return MutantSchema.empty(original);
+    }
+  }
+
+  private Optional<Window> findWindow(final ClassNode schema,
+      final Mutant mutant) {
+    final Optional<InstructionDiff> diff = InstructionDiff.diff(schema,
+        read(mutant.getBytes()), mutant.getDetails().getId().getLocation());
+    if (!diff.isPresent()) {
+      return Optional.empty();
+    }
+
+    final InstructionDiff d = diff.get();
+    final InsnList replacement = new InsnList();
+    if (this.probeReach) {
+      replacement.add(ReachProbeInjector.probe());
+    }
+    replacement.add(d.copyReplacement());
+    return Optional.of(new Window(d.getOriginalMethod(),
+        d.getOriginalInstructions(), d.getStart(), d.getOriginalEnd(),
+        replacement));
+  }
+
+  private static boolean canAdd(final Map<String, List<Window>> windows,
+      final Window window) {
+    final List<Window> existing = windows.get(window.method.name
+        + window.method.desc);
+    if (existing == null) {
+      return true;
+    }
+    for (final Window each : existing) {
+      if (!each.sameRange(window) && each.overlaps(window)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // mutants sharing a window are chained in front of a single copy of the
+  // original instructions
+  private static void weave(final List<Window> windows) {
+    final Map<String, List<Window>> byRange = new LinkedHashMap<>();
+    for (final Window each : windows) {
+      byRange.computeIfAbsent(each.start + ":" + each.end,
+          k -> new ArrayList<>()).add(each);
+    }
+
+    for (final List<Window> each : byRange.values()) {
+      final Window first = each.get(0);
+      final InsnList chain = new InsnList();
+      final LabelNode end = new LabelNode();
+      for (final Window mutant : each) {
+        final LabelNode next = new LabelNode();
+        chain.add(new FieldInsnNode(Opcodes.GETSTATIC, SWITCH_OWNER,
+            ActiveMutant.FIELD, "I"));
+        chain.add(new LdcInsnNode(mutant.mutantSwitch));
+        chain.add(new JumpInsnNode(Opcodes.IF_ICMPNE, next));
+        chain.add(mutant.replacement);
+        chain.add(new JumpInsnNode(Opcodes.GOTO, end));
+        chain.add(next);
+      }
+
+      final InsnList instructions = first.method.instructions;
+      final AbstractInsnNode anchor = first.original[first.start];
+      instructions.insertBefore(anchor, chain);
+      if (first.end > first.start) {
+        instructions.insert(first.original[first.end - 1], end);
+      } else {
+        instructions.insertBefore(anchor, end);
+      }
+    }
+  }
+
+  static ClassNode read(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, ClassReader.SKIP_FRAMES);
+    return node;
+  }
+
+  private static class Window {
+    private final MethodNode         method;
+    private final AbstractInsnNode[] original;
+    private final int                start;
+    private final int                end;
+    private final InsnList           replacement;
+    private int                      mutantSwitch;
+
+    Window(final MethodNode method, final AbstractInsnNode[] original,
+        final int start, final int end, final InsnList replacement) {
+      this.method = method;
+      this.original = original;
+      this.start = start;
+      this.end = end;
+      this.replacement = replacement;
+    }
+
+    boolean sameRange(final Window other) {
+      return (this.start == other.start) && (this.end == other.end);
+    }
+
+    // an insertion touching the start of another window cannot be ordered
+    // against it, so is treated as overlapping
+    boolean overlaps(final Window other) {
+      return (this.start == other.start)
+          || ((this.start < other.end) && (other.start < this.end));
+    }
+  }
+
+}
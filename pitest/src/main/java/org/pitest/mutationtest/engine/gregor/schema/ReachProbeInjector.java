@@ -0,0 +1,74 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.InsnNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.util.Log;
+
+import sun.pitest.ReachProbe;
+
+/**
+ * Adds a {@link ReachProbe} to a mutant immediately before the first
+ * instruction in which it differs from the unmutated class.
+ */
+public class ReachProbeInjector {
+
+  private static final Logger        LOG          = Log.getLogger();
+
+  private final ClassByteArraySource source;
+  private final Map<String, String>  computeCache = new HashMap<>();
+
+  public ReachProbeInjector(final ClassByteArraySource source) {
+    this.source = source;
+  }
+
+  /**
+   * @return the mutant with a probe added, or empty if the mutation point
+   *         could not be found
+   */
+  public Optional<Mutant> inject(final byte[] original, final Mutant mutant) {
+    final ClassNode mutated = MutantSchemaBuilder.read(mutant.getBytes());
+    final Optional<InstructionDiff> diff = InstructionDiff.diff(
+        MutantSchemaBuilder.read(original), mutated, mutant.getDetails()
+            .getId().getLocation());
+    if (!diff.isPresent()) {
+      return Optional.empty();
+    }
+
+    diff.get().getMutatedMethod().instructions.insertBefore(diff.get()
+        .getFirstMutatedInstruction(), probe());
+
+    try {
+      final ClassWriter w = new ComputeClassWriter(this.source,
+          this.computeCache, FrameOptions.pickFlags(mutant.getBytes()));
+      mutated.accept(w);
+      return Optional.of(new Mutant(mutant.getDetails(), w.toByteArray()));
+    } catch (final RuntimeException ex) {
+      LOG.fine("Could not add reach probe to " + mutant.getDetails() + " "
+          + ex);
+      return Optional.empty();
+    }
+  }
+
+  static InsnList probe() {
+    final InsnList probe = new InsnList();
+    probe.add(new InsnNode(Opcodes.ICONST_1));
+    probe.add(new FieldInsnNode(Opcodes.PUTSTATIC,
+        Type.getInternalName(ReachProbe.class), ReachProbe.FIELD, "Z"));
+    return probe;
+  }
+
+}
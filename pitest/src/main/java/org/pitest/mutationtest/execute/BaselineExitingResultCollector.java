@@ -0,0 +1,66 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Set;
+
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+
+/**
+ * Stops a run at the first test whose outcome differs from its outcome
+ * against the unmutated code, so that tests which already failed do not end
+ * the run by failing again.
+ */
+class BaselineExitingResultCollector implements ResultCollector {
+
+  private final ResultCollector child;
+  private final Set<String>     redTests;
+  private boolean               changed = false;
+
+  BaselineExitingResultCollector(final ResultCollector child,
+      final Set<String> redTests) {
+    this.child = child;
+    this.redTests = redTests;
+  }
+
+  @Override
+  public void notifySkipped(final Description description) {
+    this.child.notifySkipped(description);
+  }
+
+  @Override
+  public void notifyStart(final Description description) {
+    this.child.notifyStart(description);
+  }
+
+  @Override
+  public boolean shouldExit() {
+    return this.changed;
+  }
+
+  @Override
+  public void notifyEnd(final Description description, final Throwable t) {
+    this.child.notifyEnd(description, t);
+    if (t == null) {
+      recordPass(description);
+    } else if ((t instanceof TestTimedOutException) || !isRed(description)) {
+      this.changed = true;
+    }
+  }
+
+  @Override
+  public void notifyEnd(final Description description) {
+    this.child.notifyEnd(description);
+    recordPass(description);
+  }
+
+  private void recordPass(final Description description) {
+    if (isRed(description)) {
+      this.changed = true;
+    }
+  }
+
+  private boolean isRed(final Description description) {
+    return this.redTests.contains(description.getQualifiedName());
+  }
+
+}
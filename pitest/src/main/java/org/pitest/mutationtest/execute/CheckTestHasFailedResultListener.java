@@ -14,8 +14,19 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.TestOutcomes.Outcome;
 import org.pitest.testapi.Description;
 import org.pitest.testapi.TestListener;
 import org.pitest.testapi.TestResult;
@@ -24,10 +35,70 @@ public class CheckTestHasFailedResultListener implements TestListener {
 
   private Optional<Description> lastFailingTest = Optional.empty();
   private int                 testsRun        = 0;
+  private boolean             timedOut        = false;
+
+  private final Map<String, Integer> positions;
+  private final TestOutcomes         outcomes;
+  private final Set<String>          redTests;
+
+  public CheckTestHasFailedResultListener() {
+    this.positions = null;
+    this.outcomes = null;
+    this.redTests = Collections.emptySet();
+  }
+
+  /**
+   * Creates a listener that also records the outcome of each of the supplied
+   * tests
+   *
+   * @param testsInOrder
+   *          tests assigned to the mutant
+   */
+  public CheckTestHasFailedResultListener(final List<TestInfo> testsInOrder) {
+    this(testsInOrder, true);
+  }
+
+  /**
+   * Creates a listener that compares the outcome of each of the supplied
+   * tests with its outcome against the unmutated code. A test that failed
+   * there kills the mutant by passing rather than by failing.
+   *
+   * @param testsInOrder
+   *          tests assigned to the mutant
+   * @param recordOutcomes
+   *          whether to record the outcome of each test
+   */
+  public CheckTestHasFailedResultListener(final List<TestInfo> testsInOrder,
+      final boolean recordOutcomes) {
+    if (recordOutcomes) {
+      this.positions = new HashMap<>();
+      for (int i = 0; i != testsInOrder.size(); i++) {
+        this.positions.putIfAbsent(testsInOrder.get(i).getName(), i);
+      }
+      this.outcomes = new TestOutcomes(testsInOrder.size());
+    } else {
+      this.positions = null;
+      this.outcomes = null;
+    }
+    this.redTests = redTestNames(testsInOrder);
+  }
+
+  static Set<String> redTestNames(final List<TestInfo> tests) {
+    return new HashSet<>(FCollection.map(
+        FCollection.filter(tests, t -> !t.isGreenTest()), TestInfo.toName()));
+  }
 
   @Override
   public void onTestFailure(final TestResult tr) {
-    this.lastFailingTest = Optional.ofNullable(tr.getDescription());
+    // an interrupted test may also report its own failure, but the
+    // timeout is what determines the status
+    if (tr.getThrowable() instanceof TestTimedOutException) {
+      this.timedOut = true;
+      recordKill(tr);
+    } else if (!isRed(tr)) {
+      recordKill(tr);
+    }
+    recordOutcome(tr, outcomeOfFailure(tr.getThrowable()));
   }
 
   @Override
@@ -42,17 +113,26 @@ public class CheckTestHasFailedResultListener implements TestListener {
 
   @Override
   public void onTestSuccess(final TestResult tr) {
-
+    if (isRed(tr)) {
+      recordKill(tr);
+    }
+    recordOutcome(tr, Outcome.PASSED);
   }
 
   public DetectionStatus status() {
-    if (this.lastFailingTest.isPresent()) {
+    if (this.timedOut) {
+      return DetectionStatus.TIMED_OUT;
+    } else if (this.lastFailingTest.isPresent()) {
       return DetectionStatus.KILLED;
     } else {
       return DetectionStatus.SURVIVED;
     }
   }
 
+  public Optional<TestOutcomes> testOutcomes() {
+    return Optional.ofNullable(this.outcomes);
+  }
+
   public Optional<Description> lastFailingTest() {
     return this.lastFailingTest;
   }
@@ -61,6 +141,39 @@ public class CheckTestHasFailedResultListener implements TestListener {
     return this.testsRun;
   }
 
+  private void recordKill(final TestResult tr) {
+    // when every test is run the first kill is the one reported, as it
+    // would have been had the run stopped there
+    if (!this.lastFailingTest.isPresent()) {
+      this.lastFailingTest = Optional.ofNullable(tr.getDescription());
+    }
+  }
+
+  private boolean isRed(final TestResult tr) {
+    return (tr.getDescription() != null)
+        && this.redTests.contains(tr.getDescription().getQualifiedName());
+  }
+
+  private void recordOutcome(final TestResult tr, final Outcome outcome) {
+    if ((this.outcomes == null) || (tr.getDescription() == null)) {
+      return;
+    }
+    final Integer position = this.positions.get(tr.getDescription()
+        .getQualifiedName());
+    if (position != null) {
+      this.outcomes.record(position, outcome);
+    }
+  }
+
+  private static Outcome outcomeOfFailure(final Throwable t) {
+    if (t instanceof TestTimedOutException) {
+      return Outcome.TIMED_OUT;
+    } else if ((t == null) || (t instanceof AssertionError)) {
+      return Outcome.FAILED;
+    }
+    return Outcome.ERROR;
+  }
+
   @Override
   public void onRunEnd() {
 
@@ -21,11 +21,13 @@ import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.MessageEncoder;
 import org.pitest.util.SafeDataOutputStream;
 
 public class DefaultReporter implements Reporter {
 
   private final SafeDataOutputStream w;
+  private final MessageEncoder       encoder = new MessageEncoder();
 
   DefaultReporter(final OutputStream w) {
     this.w = new SafeDataOutputStream(w);
@@ -35,7 +37,7 @@ public class DefaultReporter implements Reporter {
   public synchronized void describe(final MutationIdentifier i)
       throws IOException {
     this.w.writeByte(Id.DESCRIBE);
-    this.w.write(i);
+    this.encoder.write(this.w, i);
     this.w.flush();
   }
 
@@ -43,8 +45,8 @@ public class DefaultReporter implements Reporter {
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) throws IOException {
     this.w.writeByte(Id.REPORT);
-    this.w.write(i);
-    this.w.write(mutationDetected);
+    this.encoder.write(this.w, i);
+    this.encoder.write(this.w, mutationDetected);
     this.w.flush();
   }
 
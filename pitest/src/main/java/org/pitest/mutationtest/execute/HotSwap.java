@@ -32,6 +32,19 @@ class HotSwap implements F3<ClassName, ClassLoader, byte[], Boolean> {
 
   }
 
+  /**
+   * Restores the unmutated version of the last mutated class
+   */
+  void restoreOriginal() {
+    if (this.lastMutatedClass != null) {
+      try {
+        restoreForLoader(this.lastUsedLoader);
+      } catch (final ClassNotFoundException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }
+  }
+
   private void restoreLastClass(final ClassByteArraySource byteSource,
       final ClassName clazzName, final ClassLoader loader)
           throws ClassNotFoundException {
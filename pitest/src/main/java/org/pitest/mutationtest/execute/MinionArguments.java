@@ -20,6 +20,7 @@ import java.util.Collection;
 import org.pitest.classinfo.ClassName;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.config.MinionOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 
@@ -34,11 +35,20 @@ public class MinionArguments implements Serializable {
   final TimeoutLengthStrategy       timeoutStrategy;
   final boolean                     verbose;
   final TestPluginArguments         pitConfig;
+  final MinionOptions               options;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
       final TestPluginArguments pitConfig) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbose,
+        pitConfig, MinionOptions.defaults());
+  }
+
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final TestPluginArguments pitConfig, final MinionOptions options) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -46,10 +56,15 @@ public class MinionArguments implements Serializable {
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
     this.pitConfig = pitConfig;
+    this.options = options;
   }
 
   public boolean isVerbose() {
     return this.verbose;
   }
 
+  public MinionOptions getOptions() {
+    return this.options;
+  }
+
 }
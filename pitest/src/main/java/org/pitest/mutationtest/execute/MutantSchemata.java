@@ -0,0 +1,151 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.F3;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.schema.MutantSchema;
+import org.pitest.mutationtest.engine.gregor.schema.MutantSchemaBuilder;
+import org.pitest.util.Log;
+
+import sun.pitest.ActiveMutant;
+
+/**
+ * Replaces the per mutant hotswap with a single hotswap of a schema class per
+ * target class, after which mutants are selected by setting
+ * {@link ActiveMutant}.
+ *
+ * Schemas are built lazily from all the mutants in the current range for a
+ * class. Mutants that could not be compiled into the schema, or whose schema
+ * could not be installed, are reported as unavailable and should be applied
+ * individually.
+ */
+public class MutantSchemata {
+
+  private static final Logger                          LOG      = Log
+      .getLogger();
+
+  private final Mutater                                mutater;
+  private final ClassByteArraySource                   byteSource;
+  private final MutantSchemaBuilder                    builder;
+
+  private final Map<MutationIdentifier, Mutant>        mutants  = new HashMap<>();
+  private final Map<ClassName, MutantSchema>           schemas  = new HashMap<>();
+  private final Map<ClassName, List<MutationIdentifier>> byClass = new HashMap<>();
+  private ClassName                                    installed;
+
+  public MutantSchemata(final Mutater mutater,
+      final ClassByteArraySource byteSource) {
+    this(mutater, byteSource, false);
+  }
+
+  /**
+   * @param probeReach
+   *          whether compiled mutants should set the reach probe when
+   *          executed
+   */
+  public MutantSchemata(final Mutater mutater,
+      final ClassByteArraySource byteSource, final boolean probeReach) {
+    this.mutater = mutater;
+    this.byteSource = byteSource;
+    this.builder = new MutantSchemaBuilder(byteSource, probeReach);
+  }
+
+  /**
+   * Prepares to run the supplied mutations. Any installed schema is forgotten
+   * as the hotswap may since have restored or replaced the class.
+   */
+  public void prepare(final Collection<MutationDetails> range) {
+    this.mutants.clear();
+    this.schemas.clear();
+    this.byClass.clear();
+    this.installed = null;
+    for (final MutationDetails each : range) {
+      this.byClass.computeIfAbsent(each.getClassName(),
+          k -> new ArrayList<>()).add(each.getId());
+    }
+  }
+
+  public Mutant getMutation(final MutationIdentifier id) {
+    return this.mutants.computeIfAbsent(id, this.mutater::getMutation);
+  }
+
+  /**
+   * Installs the schema for the mutant's class if it is not already installed
+   * and switches it to the mutant.
+   *
+   * @return true if the mutant is now active, false if it must be applied
+   *         some other way
+   */
+  public boolean activate(final MutationDetails mutation,
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final ClassLoader loader) {
+    final ClassName clazz = mutation.getClassName();
+    final Optional<Integer> mutantSwitch = schemaFor(clazz).switchFor(
+        mutation.getId());
+    if (!mutantSwitch.isPresent()) {
+      // the class will be swapped for a single mutant
+      this.installed = null;
+      return false;
+    }
+
+    if (!clazz.equals(this.installed)) {
+      if (!hotswap.apply(clazz, loader, schemaFor(clazz).getBytes())) {
+        LOG.fine("Could not install mutant schema for " + clazz);
+        this.schemas.put(clazz, MutantSchema.empty(new byte[0]));
+        this.installed = null;
+        return false;
+      }
+      this.installed = clazz;
+    }
+
+    ActiveMutant.activate(mutantSwitch.get());
+    return true;
+  }
+
+  public void deactivate() {
+    ActiveMutant.deactivate();
+  }
+
+  /**
+   * Records that the installed schema has been replaced by some other
+   * version of the class.
+   */
+  public void invalidate() {
+    this.installed = null;
+  }
+
+  private MutantSchema schemaFor(final ClassName clazz) {
+    return this.schemas.computeIfAbsent(clazz, this::build);
+  }
+
+  private MutantSchema build(final ClassName clazz) {
+    final Optional<byte[]> original = this.byteSource.getBytes(clazz
+        .asJavaName());
+    if (!original.isPresent()) {
+      return MutantSchema.empty(new byte[0]);
+    }
+    final List<Mutant> classMutants = new ArrayList<>();
+    for (final MutationIdentifier each : this.byClass.getOrDefault(clazz,
+        new ArrayList<>())) {
+      classMutants.add(getMutation(each));
+    }
+    final MutantSchema schema = this.builder.build(original.get(),
+        classMutants);
+    LOG.fine("Compiled " + schema.getNumberOfMutants() + " of "
+        + classMutants.size() + " mutants into schema for " + clazz);
+    return schema;
+  }
+
+}
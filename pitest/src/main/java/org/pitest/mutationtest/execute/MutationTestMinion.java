@@ -17,8 +17,11 @@ package org.pitest.mutationtest.execute;
 import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -31,12 +34,13 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
-import org.pitest.functional.F3;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.config.ClientPluginServices;
+import org.pitest.mutationtest.config.MinionOptions;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
@@ -61,6 +65,7 @@ public class MutationTestMinion {
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
   private final MinionSettings      plugins;
+  private final Map<ClassName, List<TestUnit>> testUnits = new HashMap<>();
 
   public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
       final Reporter reporter) {
@@ -72,7 +77,7 @@ public class MutationTestMinion {
   public void run() {
     try {
 
-      final MinionArguments paramsFromParent = this.dis
+      MinionArguments paramsFromParent = this.dis
           .read(MinionArguments.class);
 
       Log.setVerbose(paramsFromParent.isVerbose());
@@ -82,23 +87,46 @@ public class MutationTestMinion {
       final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
           loader), CACHE_SIZE);
 
-      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap = new HotSwap(
-          byteSource);
+      final HotSwap hotswap = new HotSwap(byteSource);
 
       final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
 
+      final Configuration testPlugin = createTestPlugin(paramsFromParent.pitConfig);
 
+      final Mutater mutater = engine.createMutator(byteSource);
+      final MinionOptions options = paramsFromParent.getOptions();
+      final boolean probeReach = options.isProbeReach();
+      final MutantSchemata schemata = options.isMutantSchemata()
+          ? new MutantSchemata(mutater, byteSource, probeReach) : null;
       final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader);
-
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
-
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+          mutater, loader, options.isFullMutationMatrix(), schemata,
+          probeReach ? new ReachTracker(byteSource) : null,
+          options.isWeakMutation() ? new WeakMutationFilter(byteSource)
+              : null);
+
+      final ReusableTestThread testThread = options.isReuseTestThread()
+          ? new ReusableTestThread() : null;
+      final TimeoutRecovery recovery = options.isRecoverTimeouts()
+          ? new TimeoutRecovery(hotswap::restoreOriginal) : null;
+
+      // a reused minion keeps the engine, hotswap state and discovered tests
+      // for its lifetime and processes each batch it is sent in turn
+      while (true) {
+        final List<TestUnit> tests = findTestsForTestClasses(loader,
+            paramsFromParent.testClasses, testPlugin);
+
+        worker.run(paramsFromParent.mutations, this.reporter,
+            new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
+                tests, this.reporter, testThread, recovery));
+
+        this.reporter.done(ExitCode.OK);
+
+        if (!options.isReuseMinions() || !this.dis.readBoolean()) {
+          break;
+        }
+        paramsFromParent = this.dis.read(MinionArguments.class);
+      }
 
-      this.reporter.done(ExitCode.OK);
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
       LOG.log(Level.WARNING, "Error during mutation test", ex);
@@ -146,12 +174,17 @@ public class MutationTestMinion {
 
   }
 
-  private static List<TestUnit> findTestsForTestClasses(
+  private List<TestUnit> findTestsForTestClasses(
       final ClassLoader loader, final Collection<ClassName> testClasses,
       final Configuration pitConfig) {
-    final Collection<Class<?>> tcs = testClasses.stream().flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
     final FindTestUnits finder = new FindTestUnits(pitConfig);
-    return finder.findTestUnitsForAllSuppliedClasses(tcs);
+    final List<TestUnit> tests = new ArrayList<>();
+    for (final ClassName each : testClasses) {
+      tests.addAll(this.testUnits.computeIfAbsent(each,
+          c -> finder.findTestUnitsForAllSuppliedClasses(ClassName
+              .nameToClass(loader).apply(c).collect(Collectors.toList()))));
+    }
+    return tests;
   }
 
   private static void enablePowerMockSupport() {
@@ -21,10 +21,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F3;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
@@ -33,10 +36,10 @@ import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.mocksupport.JavassistInterceptor;
+import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestResult;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.Container;
-import org.pitest.testapi.execute.ExitingResultCollector;
 import org.pitest.testapi.execute.MultipleTestGroup;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.ConcreteResultCollector;
@@ -55,24 +58,68 @@ public class MutationTestWorker {
   private final Mutater                                     mutater;
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
+  private final boolean                                     fullMatrix;
+  private final MutantSchemata                              schemata;
+  private final ReachTracker                                reach;
+  private final WeakMutationFilter                          weakMutation;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader) {
+    this(hotswap, mutater, loader, false, null, null, null);
+  }
+
+  /**
+   * @param fullMatrix
+   *          when true every assigned test is run against each mutant and the
+   *          outcome of each recorded, rather than stopping at the first
+   *          failure
+   * @param schemata
+   *          when not null mutants are switched on within a schema class
+   *          where possible rather than each being hotswapped in
+   * @param reach
+   *          when not null mutants carry a probe recording which tests
+   *          execute them, and tests seen not to reach a mutation point are
+   *          not run against other mutants there. Any schemata must have been
+   *          built with probes.
+   * @param weakMutation
+   *          when not null the covering tests are first run once per class
+   *          against code that checks whether each mutant would change a
+   *          value, and mutants that none would change are reported as
+   *          surviving without being run
+   */
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final boolean fullMatrix, final MutantSchemata schemata,
+      final ReachTracker reach, final WeakMutationFilter weakMutation) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
+    this.fullMatrix = fullMatrix;
+    this.schemata = schemata;
+    this.reach = reach;
+    this.weakMutation = weakMutation;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
+    if (this.schemata != null) {
+      this.schemata.prepare(range);
+    }
+    if (this.reach != null) {
+      this.reach.prepare();
+    }
+    final Set<MutationIdentifier> uninfected = findUninfected(range,
+        testSource);
+
     for (final MutationDetails mutation : range) {
       if (DEBUG) {
         LOG.fine("Running mutation " + mutation);
       }
       final long t0 = System.currentTimeMillis();
-      processMutation(r, testSource, mutation);
+      processMutation(r, testSource, mutation, uninfected);
       if (DEBUG) {
         LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
             + " ms.");
@@ -81,12 +128,34 @@ public class MutationTestWorker {
 
   }
 
+  private Set<MutationIdentifier> findUninfected(
+      final Collection<MutationDetails> range,
+      final TimeOutDecoratedTestSource testSource) {
+    if (this.weakMutation == null) {
+      return Collections.emptySet();
+    }
+    final Set<MutationIdentifier> uninfected = this.weakMutation
+        .findUninfected(range, this::getMutation, testSource, this.hotswap,
+            this.loader);
+    if (this.schemata != null) {
+      // the infection schema has replaced any installed mutant schema
+      this.schemata.invalidate();
+    }
+    return uninfected;
+  }
+
+  private Mutant getMutation(final MutationIdentifier id) {
+    return this.schemata != null ? this.schemata.getMutation(id)
+        : this.mutater.getMutation(id);
+  }
+
   private void processMutation(final Reporter r,
       final TimeOutDecoratedTestSource testSource,
-      final MutationDetails mutationDetails) throws IOException {
+      final MutationDetails mutationDetails,
+      final Set<MutationIdentifier> uninfected) throws IOException {
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    final Mutant mutatedClass = getMutation(mutationId);
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -96,13 +165,27 @@ public class MutationTestWorker {
     if (DEBUG) {
       LOG.fine("mutating method " + mutatedClass.getDetails().getMethod());
     }
+    final List<TestInfo> testsToRun = this.reach != null ? this.reach
+        .prune(mutationDetails) : mutationDetails.getTestsInOrder();
     final List<TestUnit> relevantTests = testSource
-        .translateTests(mutationDetails.getTestsInOrder());
+        .translateTests(testsToRun);
 
     r.describe(mutationId);
 
-    final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+    final MutationStatusTestPair mutationDetected;
+    if (uninfected.contains(mutationId)) {
+      // no covering test executes the mutant with values it would change
+      mutationDetected = new MutationStatusTestPair(0,
+          DetectionStatus.SURVIVED);
+    } else if (testsToRun.isEmpty() && !mutationDetails.getTestsInOrder().isEmpty()) {
+      // every covering test has run without reaching this mutation point
+      mutationDetected = new MutationStatusTestPair(0,
+          DetectionStatus.SURVIVED, null, null,
+          Collections.<String> emptyList());
+    } else {
+      mutationDetected = handleMutation(mutationDetails, mutatedClass,
+          relevantTests);
+    }
 
     r.report(mutationId, mutationDetected);
     if (DEBUG) {
@@ -136,15 +219,38 @@ public class MutationTestWorker {
           + mutatedClass.getDetails().getMethod());
     }
 
-    final Container c = createNewContainer();
+    final Set<String> redTests = CheckTestHasFailedResultListener
+        .redTestNames(mutationId.getTestsInOrder());
     final long t0 = System.currentTimeMillis();
+    if ((this.schemata != null)
+        && this.schemata.activate(mutationId, this.hotswap, this.loader)) {
+      final ReachRecorder reached = createReachRecorder(true);
+      try {
+        mutationDetected = doTestsDetectMutation(
+            createNewContainer(redTests, reached), mutationId, relevantTests,
+            reached);
+      } finally {
+        this.schemata.deactivate();
+      }
+      if (mutationDetected.getStatus() == DetectionStatus.TIMED_OUT) {
+        // the original class is restored when recovering from a timeout
+        this.schemata.invalidate();
+      }
+      return mutationDetected;
+    }
+
+    final Optional<Mutant> probed = this.reach != null ? this.reach
+        .probe(mutatedClass) : Optional.<Mutant> empty();
     if (this.hotswap.apply(mutationId.getClassName(), this.loader,
-        mutatedClass.getBytes())) {
+        probed.orElse(mutatedClass).getBytes())) {
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + (System.currentTimeMillis() - t0) + " ms");
       }
-      mutationDetected = doTestsDetectMutation(c, relevantTests);
+      final ReachRecorder reached = createReachRecorder(probed.isPresent());
+      mutationDetected = doTestsDetectMutation(
+          createNewContainer(redTests, reached), mutationId, relevantTests,
+          reached);
     } else {
       LOG.warning("Mutation " + mutationId + " was not viable ");
       mutationDetected = new MutationStatusTestPair(0,
@@ -153,14 +259,25 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
-  private static Container createNewContainer() {
+  private ReachRecorder createReachRecorder(final boolean probed) {
+    if ((this.reach == null) || !probed) {
+      return null;
+    }
+    return new ReachRecorder();
+  }
+
+  private Container createNewContainer(final Set<String> redTests,
+      final ReachRecorder reached) {
+    final boolean runAllTests = this.fullMatrix;
     final Container c = new UnContainer() {
       @Override
       public List<TestResult> execute(final TestUnit group) {
         final List<TestResult> results = new ArrayList<>();
-        final ExitingResultCollector rc = new ExitingResultCollector(
-            new ConcreteResultCollector(results));
-        group.execute(rc);
+        final ConcreteResultCollector collector = new ConcreteResultCollector(
+            results);
+        final ResultCollector rc = runAllTests ? collector
+            : new BaselineExitingResultCollector(collector, redTests);
+        group.execute(reached != null ? reached.wrap(rc) : rc);
         return results;
       }
     };
@@ -176,14 +293,20 @@ public class MutationTestWorker {
   }
 
   private MutationStatusTestPair doTestsDetectMutation(final Container c,
-      final List<TestUnit> tests) {
+      final MutationDetails mutation, final List<TestUnit> tests,
+      final ReachRecorder reached) {
     try {
-      final CheckTestHasFailedResultListener listener = new CheckTestHasFailedResultListener();
+      final CheckTestHasFailedResultListener listener = new CheckTestHasFailedResultListener(
+          mutation.getTestsInOrder(), this.fullMatrix);
 
       final Pitest pit = new Pitest(listener);
       pit.run(c, createEarlyExitTestGroup(tests));
 
-      return createStatusTestPair(listener);
+      if (reached == null) {
+        return createStatusTestPair(listener, null);
+      }
+      this.reach.recordUnreached(mutation, reached.getUnreachedTests());
+      return createStatusTestPair(listener, reached.getReachingTests());
     } catch (final Exception ex) {
       throw translateCheckedException(ex);
     }
@@ -191,15 +314,13 @@ public class MutationTestWorker {
   }
 
   private MutationStatusTestPair createStatusTestPair(
-      final CheckTestHasFailedResultListener listener) {
-    if (listener.lastFailingTest().isPresent()) {
-      return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
-          listener.status(), listener.lastFailingTest().get()
-              .getQualifiedName());
-    } else {
-      return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
-          listener.status());
-    }
+      final CheckTestHasFailedResultListener listener,
+      final List<String> reachingTests) {
+    final String killingTest = listener.lastFailingTest().isPresent()
+        ? listener.lastFailingTest().get().getQualifiedName() : null;
+    return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
+        listener.status(), killingTest, listener.testOutcomes().orElse(null),
+        reachingTests);
   }
 
   private List<TestUnit> createEarlyExitTestGroup(final List<TestUnit> tests) {
@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -31,14 +32,44 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
+  private final ReusableTestThread    testThread;
+  private final TimeoutRecovery       recovery;
 
   public MutationTimeoutDecorator(final TestUnit child,
       final SideEffect timeOutSideEffect,
       final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+    this(child, timeOutSideEffect, timeStrategy, executionTime, null);
+  }
+
+  /**
+   * @param testThread
+   *          thread to run the test on, or null to start a new thread
+   */
+  public MutationTimeoutDecorator(final TestUnit child,
+      final SideEffect timeOutSideEffect,
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final ReusableTestThread testThread) {
+    this(child, timeOutSideEffect, timeStrategy, executionTime, testThread,
+        null);
+  }
+
+  /**
+   * @param testThread
+   *          thread to run the test on, or null to start a new thread
+   * @param recovery
+   *          recovery to attempt before applying the time out side effect, or
+   *          null to apply it straight away
+   */
+  public MutationTimeoutDecorator(final TestUnit child,
+      final SideEffect timeOutSideEffect,
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final ReusableTestThread testThread, final TimeoutRecovery recovery) {
     super(child);
     this.timeOutSideEffect = timeOutSideEffect;
     this.executionTime = executionTime;
     this.timeOutStrategy = timeStrategy;
+    this.testThread = testThread;
+    this.recovery = recovery;
   }
 
   @Override
@@ -47,9 +78,22 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     final long maxTime = this.timeOutStrategy
         .getAllowedTime(this.executionTime);
 
-    final FutureTask<?> future = createFutureForChildTestUnit(rc);
+    final CountDownLatch finished = new CountDownLatch(1);
+    final FutureTask<?> future = createFutureForChildTestUnit(rc, finished);
     executeFutureWithTimeOut(maxTime, future, rc);
     if (!future.isDone()) {
+      if ((this.recovery != null) && this.recovery.recover(future, finished)) {
+        if ((this.testThread != null) && (finished.getCount() != 0)) {
+          // the abandoned test still holds the thread
+          this.testThread.abandon();
+        }
+        rc.notifyEnd(child().getDescription(), new TestTimedOutException(
+            maxTime));
+        return;
+      }
+      if (this.testThread != null) {
+        this.testThread.abandon();
+      }
       this.timeOutSideEffect.apply();
     }
 
@@ -68,8 +112,13 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     }
   }
 
-  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
-    final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
+  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc,
+      final CountDownLatch finished) {
+    if (this.testThread != null) {
+      return this.testThread.submit(createRunnable(rc, finished));
+    }
+    final FutureTask<?> future = new FutureTask<>(createRunnable(rc, finished),
+        null);
     final Thread thread = new Thread(future);
     thread.setDaemon(true);
     thread.setName("mutationTestThread");
@@ -77,12 +126,15 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     return future;
   }
 
-  private Runnable createRunnable(final ResultCollector rc) {
+  private Runnable createRunnable(final ResultCollector rc,
+      final CountDownLatch finished) {
     return () -> {
       try {
         child().execute(rc);
       } catch (final Throwable ex) {
         rc.notifyEnd(child().getDescription(), ex);
+      } finally {
+        finished.countDown();
       }
 
     };
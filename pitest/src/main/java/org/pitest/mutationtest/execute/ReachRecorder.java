@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+
+import sun.pitest.ReachProbe;
+
+/**
+ * Records whether each test executed the mutated code by checking the
+ * {@link ReachProbe} as the test ends. Tests that time out are assumed to
+ * have reached it.
+ */
+class ReachRecorder {
+
+  private final Set<String> reaching  = new LinkedHashSet<>();
+  private final Set<String> unreached = new LinkedHashSet<>();
+
+  ResultCollector wrap(final ResultCollector child) {
+    return new ResultCollector() {
+      @Override
+      public void notifySkipped(final Description description) {
+        child.notifySkipped(description);
+      }
+
+      @Override
+      public void notifyStart(final Description description) {
+        ReachProbe.reset();
+        child.notifyStart(description);
+      }
+
+      @Override
+      public boolean shouldExit() {
+        return child.shouldExit();
+      }
+
+      @Override
+      public void notifyEnd(final Description description, final Throwable t) {
+        record(description, t instanceof TestTimedOutException);
+        child.notifyEnd(description, t);
+      }
+
+      @Override
+      public void notifyEnd(final Description description) {
+        record(description, false);
+        child.notifyEnd(description);
+      }
+    };
+  }
+
+  /**
+   * @return names of the tests that executed the mutated code, in the order
+   *         they ran
+   */
+  List<String> getReachingTests() {
+    return new ArrayList<>(this.reaching);
+  }
+
+  Set<String> getUnreachedTests() {
+    return this.unreached;
+  }
+
+  private void record(final Description description, final boolean timedOut) {
+    // a timed out test may report twice, the second time after the probe
+    // has been reset
+    final String name = description.getQualifiedName();
+    if (timedOut || ReachProbe.wasReached()) {
+      this.reaching.add(name);
+      this.unreached.remove(name);
+    } else if (!this.reaching.contains(name)) {
+      this.unreached.add(name);
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.schema.ReachProbeInjector;
+
+/**
+ * Adds reach probes to mutants and remembers which tests ran without
+ * executing each mutation point.
+ *
+ * Mutants at the same instruction share a mutation point, so a test that did
+ * not reach one of them is not run against the others.
+ */
+public class ReachTracker {
+
+  private final ClassByteArraySource            byteSource;
+  private final ReachProbeInjector              injector;
+  private final Map<MutationPoint, Set<String>> unreached = new HashMap<>();
+
+  public ReachTracker(final ClassByteArraySource byteSource) {
+    this.byteSource = byteSource;
+    this.injector = new ReachProbeInjector(byteSource);
+  }
+
+  public void prepare() {
+    this.unreached.clear();
+  }
+
+  /**
+   * @return the mutant with a reach probe added, or empty if one could not be
+   *         added
+   */
+  public Optional<Mutant> probe(final Mutant mutant) {
+    final Optional<byte[]> original = this.byteSource.getBytes(mutant
+        .getDetails().getClassName().asJavaName());
+    if (!original.isPresent()) {
+      return Optional.empty();
+    }
+    return this.injector.inject(original.get(), mutant);
+  }
+
+  /**
+   * @return the mutation's tests, less any already seen not to reach its
+   *         mutation point
+   */
+  public List<TestInfo> prune(final MutationDetails mutation) {
+    final Set<String> skip = this.unreached.get(new MutationPoint(mutation));
+    if (skip == null) {
+      return mutation.getTestsInOrder();
+    }
+    final List<TestInfo> tests = new ArrayList<>();
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      if (!skip.contains(each.getName())) {
+        tests.add(each);
+      }
+    }
+    return tests;
+  }
+
+  public void recordUnreached(final MutationDetails mutation,
+      final Set<String> tests) {
+    if (!tests.isEmpty()) {
+      this.unreached.computeIfAbsent(new MutationPoint(mutation),
+          k -> new HashSet<>()).addAll(tests);
+    }
+  }
+
+  private static final class MutationPoint {
+    private final Location location;
+    private final int      index;
+
+    MutationPoint(final MutationDetails mutation) {
+      this.location = mutation.getId().getLocation();
+      this.index = mutation.getFirstIndex();
+    }
+
+    @Override
+    public int hashCode() {
+      return (31 * this.location.hashCode()) + this.index;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if ((obj == null) || (getClass() != obj.getClass())) {
+        return false;
+      }
+      final MutationPoint other = (MutationPoint) obj;
+      return (this.index == other.index)
+          && this.location.equals(other.location);
+    }
+  }
+
+}
@@ -0,0 +1,49 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Runs tests one at a time on a long lived daemon thread, so that a thread is
+ * not created for each test of each mutant.
+ *
+ * A test that overruns its allowed time may never return, in which case the
+ * thread is abandoned and a new one started for the next test.
+ */
+public class ReusableTestThread {
+
+  private ExecutorService executor;
+  private int             threadsStarted;
+
+  public synchronized FutureTask<?> submit(final Runnable test) {
+    if (this.executor == null) {
+      this.executor = Executors.newSingleThreadExecutor(r -> {
+        final Thread thread = new Thread(r);
+        thread.setDaemon(true);
+        thread.setName("mutationTestThread");
+        this.threadsStarted++;
+        return thread;
+      });
+    }
+    final FutureTask<?> future = new FutureTask<>(test, null);
+    this.executor.execute(future);
+    return future;
+  }
+
+  /**
+   * Gives up on the current thread. It is left to finish, or not, in its own
+   * time and will not be handed further tests.
+   */
+  public synchronized void abandon() {
+    if (this.executor != null) {
+      this.executor.shutdown();
+      this.executor = null;
+    }
+  }
+
+  public synchronized int getThreadsStarted() {
+    return this.threadsStarted;
+  }
+
+}
@@ -0,0 +1,15 @@
+package org.pitest.mutationtest.execute;
+
+/**
+ * Recorded as the result of a test that timed out but was stopped without
+ * exiting the minion.
+ */
+class TestTimedOutException extends RuntimeException {
+
+  private static final long serialVersionUID = 1L;
+
+  TestTimedOutException(final long allowedTime) {
+    super("Test did not complete within " + allowedTime + " ms");
+  }
+
+}
@@ -31,13 +31,31 @@ public class TimeOutDecoratedTestSource {
   private final Map<String, TestUnit> allTests = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
   private final Reporter              r;
+  private final ReusableTestThread    testThread;
+  private final TimeoutRecovery       recovery;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
+    this(timeoutStrategy, allTests, r, null);
+  }
+
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final Reporter r,
+      final ReusableTestThread testThread) {
+    this(timeoutStrategy, allTests, r, testThread, null);
+  }
+
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final Reporter r,
+      final ReusableTestThread testThread, final TimeoutRecovery recovery) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
     this.r = r;
+    this.testThread = testThread;
+    this.recovery = recovery;
   }
 
   private void mapTests(final List<TestUnit> tests) {
@@ -47,10 +65,24 @@ public class TimeOutDecoratedTestSource {
   }
 
   public List<TestUnit> translateTests(final List<TestInfo> testsInOrder) {
-    return testsInOrder.stream().flatMap(testToTestUnit()).collect(Collectors.toList());
+    return testsInOrder.stream().flatMap(testToTestUnit(this.recovery))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Decorates the tests so that one running past its time out is reported as
+   * timed out and the minion carries on, whether or not recoverable timeouts
+   * are enabled. A test that does not stop is left running.
+   */
+  public List<TestUnit> translateTestsWithoutExiting(
+      final List<TestInfo> testsInOrder) {
+    return testsInOrder.stream()
+        .flatMap(testToTestUnit(TimeoutRecovery.abandoning()))
+        .collect(Collectors.toList());
   }
 
-  private Function<TestInfo, Stream<TestUnit>> testToTestUnit() {
+  private Function<TestInfo, Stream<TestUnit>> testToTestUnit(
+      final TimeoutRecovery recovery) {
     return a -> {
       final TestUnit tu = TimeOutDecoratedTestSource.this.allTests.get(a
           .getName());
@@ -59,7 +91,8 @@ public class TimeOutDecoratedTestSource {
             .<TestUnit> of(new MutationTimeoutDecorator(tu,
                 new TimeOutSystemExitSideEffect(
                     TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime(),
+                    TimeOutDecoratedTestSource.this.testThread, recovery));
       }
       return Stream.empty();
     };
@@ -0,0 +1,76 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attempts to recover from a timed out test without exiting the minion.
+ *
+ * The test thread is interrupted and the unmutated class restored. If the
+ * test then stops within a grace period nothing is left running and the
+ * minion can carry on with the next mutation. Mutants that loop without
+ * checking for interrupts will not stop, and the minion must exit as before,
+ * unless the recovery abandons tests that do not stop.
+ */
+public class TimeoutRecovery {
+
+  static final long      DEFAULT_GRACE_PERIOD = 500;
+
+  private final Runnable restoreOriginalClass;
+  private final long     gracePeriod;
+  private final boolean  abandon;
+  private int            recovered;
+
+  public TimeoutRecovery(final Runnable restoreOriginalClass) {
+    this(restoreOriginalClass, DEFAULT_GRACE_PERIOD);
+  }
+
+  TimeoutRecovery(final Runnable restoreOriginalClass, final long gracePeriod) {
+    this(restoreOriginalClass, gracePeriod, false);
+  }
+
+  private TimeoutRecovery(final Runnable restoreOriginalClass,
+      final long gracePeriod, final boolean abandon) {
+    this.restoreOriginalClass = restoreOriginalClass;
+    this.gracePeriod = gracePeriod;
+    this.abandon = abandon;
+  }
+
+  /**
+   * Creates a recovery that always lets the minion carry on, for tests run
+   * while no mutant is installed. A test that does not stop within the grace
+   * period is left running on its thread.
+   */
+  public static TimeoutRecovery abandoning() {
+    return new TimeoutRecovery(() -> {
+    }, DEFAULT_GRACE_PERIOD, true);
+  }
+
+  /**
+   * @param test
+   *          the timed out test
+   * @param finished
+   *          latch released when the test thread stops running the test
+   * @return true if the test stopped and the minion is safe to continue, or
+   *         the test was abandoned
+   */
+  public boolean recover(final Future<?> test, final CountDownLatch finished) {
+    test.cancel(true);
+    this.restoreOriginalClass.run();
+    try {
+      if (finished.await(this.gracePeriod, TimeUnit.MILLISECONDS)) {
+        this.recovered++;
+        return true;
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return this.abandon;
+  }
+
+  public int getRecovered() {
+    return this.recovered;
+  }
+
+}
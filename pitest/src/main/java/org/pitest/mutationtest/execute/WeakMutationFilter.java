@@ -0,0 +1,144 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F3;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.schema.InfectionSchema;
+import org.pitest.mutationtest.engine.gregor.schema.InfectionSchemaBuilder;
+import org.pitest.testapi.TestResult;
+import org.pitest.testapi.TestUnit;
+import org.pitest.testapi.execute.MultipleTestGroup;
+import org.pitest.testapi.execute.containers.UnContainer;
+import org.pitest.util.Log;
+
+import sun.pitest.InfectionProbe;
+
+/**
+ * Finds mutants that no covering test infects, by running the covering tests
+ * for each class once against an {@link InfectionSchema} of the class.
+ *
+ * A mutant is uninfected if no test executed its mutation point with
+ * operands for which the mutant gives a different result to the original
+ * code. Such a mutant cannot be killed by those tests, so need not be run.
+ * Mutants that the schema could not check are never reported as uninfected.
+ */
+public class WeakMutationFilter {
+
+  private static final Logger          LOG = Log.getLogger();
+
+  private final ClassByteArraySource   byteSource;
+  private final InfectionSchemaBuilder builder;
+
+  public WeakMutationFilter(final ClassByteArraySource byteSource) {
+    this.byteSource = byteSource;
+    this.builder = new InfectionSchemaBuilder(byteSource);
+  }
+
+  /**
+   * Leaves the infection schema of the last class checked installed, which
+   * behaves as the unmutated class.
+   *
+   * @return the mutations in the range that no test infects
+   */
+  public Set<MutationIdentifier> findUninfected(
+      final Collection<MutationDetails> range,
+      final Function<MutationIdentifier, Mutant> mutants,
+      final TimeOutDecoratedTestSource testSource,
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final ClassLoader loader) {
+    final Map<ClassName, List<MutationDetails>> byClass = new LinkedHashMap<>();
+    for (final MutationDetails each : range) {
+      byClass.computeIfAbsent(each.getClassName(), k -> new ArrayList<>())
+          .add(each);
+    }
+
+    final Set<MutationIdentifier> uninfected = new HashSet<>();
+    for (final Map.Entry<ClassName, List<MutationDetails>> each : byClass
+        .entrySet()) {
+      uninfected.addAll(findUninfected(each.getKey(), each.getValue(),
+          mutants, testSource, hotswap, loader));
+    }
+    return uninfected;
+  }
+
+  private Set<MutationIdentifier> findUninfected(final ClassName clazz,
+      final List<MutationDetails> mutations,
+      final Function<MutationIdentifier, Mutant> mutants,
+      final TimeOutDecoratedTestSource testSource,
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final ClassLoader loader) {
+    final Set<MutationIdentifier> uninfected = new HashSet<>();
+    final Optional<byte[]> original = this.byteSource.getBytes(clazz
+        .asJavaName());
+    if (!original.isPresent()) {
+      return uninfected;
+    }
+
+    final List<Mutant> classMutants = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      classMutants.add(mutants.apply(each.getId()));
+    }
+    final InfectionSchema schema = this.builder.build(original.get(),
+        classMutants);
+    if (schema.getNumberOfProbes() == 0) {
+      return uninfected;
+    }
+
+    final Map<String, TestInfo> tests = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      if (schema.probeFor(each.getId()).isPresent()) {
+        for (final TestInfo test : each.getTestsInOrder()) {
+          tests.putIfAbsent(test.getName(), test);
+        }
+      }
+    }
+    // a timeout here must not end the minion, as no mutant is running
+    final List<TestUnit> units = testSource
+        .translateTestsWithoutExiting(new ArrayList<>(tests.values()));
+    if (units.isEmpty()) {
+      return uninfected;
+    }
+
+    if (!hotswap.apply(clazz, loader, schema.getBytes())) {
+      LOG.fine("Could not install infection schema for " + clazz);
+      return uninfected;
+    }
+
+    InfectionProbe.reset(schema.getNumberOfProbes());
+    final List<TestResult> results = new UnContainer()
+        .execute(new MultipleTestGroup(units));
+    for (final TestResult each : results) {
+      if (each.getThrowable() instanceof TestTimedOutException) {
+        LOG.fine("Tests timed out while checking infection of " + clazz);
+        return uninfected;
+      }
+    }
+
+    for (final MutationDetails each : mutations) {
+      final Optional<Integer> probe = schema.probeFor(each.getId());
+      if (probe.isPresent() && !each.getTestsInOrder().isEmpty()
+          && !InfectionProbe.wasInfected(probe.get())) {
+        uninfected.add(each.getId());
+      }
+    }
+    LOG.fine(uninfected.size() + " of " + schema.getNumberOfProbes()
+        + " checked mutants in " + clazz + " were not infected");
+    return uninfected;
+  }
+
+}
@@ -0,0 +1,141 @@
+package org.pitest.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+
+/**
+ * Reads messages written by a {@link MessageEncoder}. Like the encoder it is
+ * stateful and must see every message sent over a connection, in order.
+ */
+public class MessageDecoder {
+
+  private final List<String> strings = new ArrayList<>();
+  private boolean            versionChecked;
+
+  public MutationIdentifier readMutationIdentifier(
+      final SafeDataInputStream is) {
+    checkVersion(is);
+    final ClassName clazz = ClassName.fromString(readString(is));
+    final MethodName method = MethodName.fromString(readString(is));
+    final String methodDesc = readString(is);
+    final int numberOfIndexes = is.readVarInt();
+    final List<Integer> indexes = new ArrayList<>(numberOfIndexes);
+    for (int i = 0; i != numberOfIndexes; i++) {
+      indexes.add(is.readVarInt());
+    }
+    final String mutator = readString(is);
+    return new MutationIdentifier(Location.location(clazz, method, methodDesc),
+        indexes, mutator);
+  }
+
+  public MutationStatusTestPair readMutationStatusTestPair(
+      final SafeDataInputStream is) {
+    checkVersion(is);
+    final int numberOfTestsRun = is.readVarInt();
+    final DetectionStatus status = DetectionStatus.values()[is.readVarInt()];
+    final String killingTest = readString(is);
+    final TestOutcomes outcomes = readTestOutcomes(is);
+    final List<String> reachingTests = readReachingTests(is);
+    return new MutationStatusTestPair(numberOfTestsRun, status, killingTest,
+        outcomes, reachingTests);
+  }
+
+  private List<String> readReachingTests(final SafeDataInputStream is) {
+    final int numberOfTests = is.readVarInt() - 1;
+    if (numberOfTests < 0) {
+      return null;
+    }
+    final List<String> tests = new ArrayList<>(numberOfTests);
+    for (int i = 0; i != numberOfTests; i++) {
+      tests.add(readString(is));
+    }
+    return tests;
+  }
+
+  private static TestOutcomes readTestOutcomes(final SafeDataInputStream is) {
+    final int numberOfTests = is.readVarInt() - 1;
+    if (numberOfTests < 0) {
+      return null;
+    }
+    return new TestOutcomes(numberOfTests, is.readBitSet(), is.readBitSet(),
+        is.readBitSet(), is.readBitSet());
+  }
+
+  public Description readDescription(final SafeDataInputStream is) {
+    checkVersion(is);
+    final String testClass = readString(is);
+    final String name = readString(is);
+    return new Description(name, testClass);
+  }
+
+  public long[] readProbeHits(final SafeDataInputStream is) {
+    checkVersion(is);
+    final long[] hits = new long[is.readVarInt()];
+    long previous = 0;
+    for (int i = 0; i != hits.length; i++) {
+      previous = previous + is.readVarLong();
+      hits[i] = previous;
+    }
+    return hits;
+  }
+
+  /**
+   * Reads the classes written by {@link MessageEncoder#writeClassHits} up to
+   * the end marker, passing each run of hit probes to the receiver.
+   */
+  public void readClassHits(final SafeDataInputStream is,
+      final HitRunReceiver receiver) {
+    checkVersion(is);
+    int classId = is.readVarInt() - 1;
+    while (classId >= 0) {
+      final int runs = is.readVarInt();
+      int probe = 0;
+      for (int i = 0; i != runs; i++) {
+        final int length = is.readVarInt();
+        if ((i % 2) == 1) {
+          receiver.apply(classId, probe, length);
+        }
+        probe += length;
+      }
+      classId = is.readVarInt() - 1;
+    }
+  }
+
+  public interface HitRunReceiver {
+    void apply(int classId, int firstProbe, int count);
+  }
+
+  private void checkVersion(final SafeDataInputStream is) {
+    if (!this.versionChecked) {
+      final int version = is.readVarInt();
+      if (version != MessageEncoder.VERSION) {
+        throw new PitError("Minion sent messages in format version " + version
+            + " but version " + MessageEncoder.VERSION + " was expected");
+      }
+      this.versionChecked = true;
+    }
+  }
+
+  private String readString(final SafeDataInputStream is) {
+    final int code = is.readVarInt();
+    if (code == MessageEncoder.NULL_STRING) {
+      return null;
+    }
+    if (code == MessageEncoder.NEW_STRING) {
+      final String s = is.readString();
+      this.strings.add(s);
+      return s;
+    }
+    return this.strings.get(code - MessageEncoder.STRING_REF);
+  }
+
+}
@@ -0,0 +1,190 @@
+package org.pitest.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+
+/**
+ * Writes the messages minions send back to the main process in a compact
+ * binary form, in place of java serialization.
+ *
+ * Strings are sent in full the first time they are seen and afterwards as an
+ * index into a table built up by both ends as the conversation progresses. An
+ * encoder must therefore be used for the lifetime of a connection and be
+ * paired with a single {@link MessageDecoder}.
+ */
+public class MessageEncoder {
+
+  static final int                   VERSION      = 4;
+
+  static final int                   NULL_STRING  = 0;
+  static final int                   NEW_STRING   = 1;
+  static final int                   STRING_REF   = 2;
+
+  private final Map<String, Integer> strings      = new HashMap<>();
+  private boolean                    versionSent;
+
+  public void write(final SafeDataOutputStream dos,
+      final MutationIdentifier id) {
+    writeVersion(dos);
+    final Location location = id.getLocation();
+    writeString(dos, location.getClassName().asInternalName());
+    writeString(dos, location.getMethodName().name());
+    writeString(dos, location.getMethodDesc());
+    dos.writeVarInt(id.getIndexes().size());
+    for (final int each : id.getIndexes()) {
+      dos.writeVarInt(each);
+    }
+    writeString(dos, id.getMutator());
+  }
+
+  public void write(final SafeDataOutputStream dos,
+      final MutationStatusTestPair result) {
+    writeVersion(dos);
+    dos.writeVarInt(result.getNumberOfTestsRun());
+    dos.writeVarInt(result.getStatus().ordinal());
+    writeString(dos, result.getKillingTest().orElse(null));
+    writeTestOutcomes(dos, result.getTestOutcomes().orElse(null));
+    writeReachingTests(dos, result.getReachingTests().orElse(null));
+  }
+
+  // sent offset by one in the same way, zero marking a mutant without a
+  // reach probe
+  private void writeReachingTests(final SafeDataOutputStream dos,
+      final List<String> tests) {
+    if (tests == null) {
+      dos.writeVarInt(0);
+      return;
+    }
+    dos.writeVarInt(tests.size() + 1);
+    for (final String each : tests) {
+      writeString(dos, each);
+    }
+  }
+
+  // the number of tests is sent offset by one so that zero can mark a result
+  // without a matrix row
+  private static void writeTestOutcomes(final SafeDataOutputStream dos,
+      final TestOutcomes outcomes) {
+    if (outcomes == null) {
+      dos.writeVarInt(0);
+      return;
+    }
+    dos.writeVarInt(outcomes.getNumberOfTests() + 1);
+    dos.writeBitSet(outcomes.getRun());
+    dos.writeBitSet(outcomes.getFailed());
+    dos.writeBitSet(outcomes.getErrored());
+    dos.writeBitSet(outcomes.getTimedOut());
+  }
+
+  public void write(final SafeDataOutputStream dos,
+      final Description description) {
+    writeVersion(dos);
+    writeString(dos, description.getFirstTestClass());
+    writeString(dos, description.getName());
+  }
+
+  /**
+   * Writes encoded probe hits as a count followed by the gaps between the
+   * sorted values. Hits within a class are close together, so most gaps fit
+   * in a single byte.
+   */
+  public void writeProbeHits(final SafeDataOutputStream dos,
+      final Collection<Long> hits) {
+    writeVersion(dos);
+    final long[] sorted = new long[hits.size()];
+    int i = 0;
+    for (final Long each : hits) {
+      sorted[i] = each;
+      i++;
+    }
+    Arrays.sort(sorted);
+
+    dos.writeVarInt(sorted.length);
+    long previous = 0;
+    for (final long each : sorted) {
+      dos.writeVarLong(each - previous);
+      previous = each;
+    }
+  }
+
+  /**
+   * Writes the hits of one class as its id offset by one, followed by the
+   * number of runs and the lengths of alternating runs of missed and hit
+   * probes, starting with a run of misses. Trailing misses are not sent. A
+   * list of classes is ended by {@link #endClassHits}.
+   */
+  public void writeClassHits(final SafeDataOutputStream dos,
+      final int classId, final boolean[] probes, final int from) {
+    writeVersion(dos);
+    dos.writeVarInt(classId + 1);
+
+    int end = probes.length;
+    while ((end != from) && !probes[end - 1]) {
+      end--;
+    }
+
+    // every change of state closes a run, the final run of hits closes at end
+    int runs = end != from ? 1 : 0;
+    for (int i = from + 1; i < end; i++) {
+      if (probes[i] != probes[i - 1]) {
+        runs++;
+      }
+    }
+    if ((end != from) && probes[from]) {
+      // an empty run of misses comes first
+      runs++;
+    }
+
+    dos.writeVarInt(runs);
+    boolean hit = false;
+    int start = from;
+    for (int i = from; i != end; i++) {
+      if (probes[i] != hit) {
+        dos.writeVarInt(i - start);
+        start = i;
+        hit = !hit;
+      }
+    }
+    if (end != from) {
+      dos.writeVarInt(end - start);
+    }
+  }
+
+  public void endClassHits(final SafeDataOutputStream dos) {
+    writeVersion(dos);
+    dos.writeVarInt(0);
+  }
+
+  private void writeVersion(final SafeDataOutputStream dos) {
+    if (!this.versionSent) {
+      dos.writeVarInt(VERSION);
+      this.versionSent = true;
+    }
+  }
+
+  private void writeString(final SafeDataOutputStream dos, final String s) {
+    if (s == null) {
+      dos.writeVarInt(NULL_STRING);
+      return;
+    }
+
+    final Integer index = this.strings.get(s);
+    if (index != null) {
+      dos.writeVarInt(STRING_REF + index);
+    } else {
+      this.strings.put(s, this.strings.size());
+      dos.writeVarInt(NEW_STRING);
+      dos.writeString(s);
+    }
+  }
+
+}
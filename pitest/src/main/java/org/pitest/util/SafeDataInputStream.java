@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.BitSet;
 
 public class SafeDataInputStream {
 
@@ -98,6 +99,39 @@ public class SafeDataInputStream {
     }
   }
 
+  public long readVarLong() {
+    try {
+      long value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        if (shift > 63) {
+          throw new IOException("Malformed variable length value");
+        }
+        b = this.dis.readByte();
+        value |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      return value;
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  public int readVarInt() {
+    return (int) readVarLong();
+  }
+
+  public BitSet readBitSet() {
+    try {
+      final byte[] bytes = new byte[readVarInt()];
+      this.dis.readFully(bytes);
+      return BitSet.valueOf(bytes);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   private Object deserialize(byte[] bytes) throws IOException {
     final ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
     ObjectInput in = null;
@@ -21,6 +21,7 @@ import java.io.ObjectOutput;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.BitSet;
 
 public class SafeDataOutputStream {
 
@@ -57,6 +58,17 @@ public class SafeDataOutputStream {
     }
   }
 
+  /**
+   * Writes the bytes as they are, without their length.
+   */
+  public void writeRawBytes(final byte[] data) {
+    try {
+      this.dos.write(data);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   public <T extends Serializable> void write(final T value) {
     try {
       writeBytes(toByteArray(value));
@@ -105,6 +117,41 @@ public class SafeDataOutputStream {
     }
   }
 
+  /**
+   * Writes an unsigned value using a variable number of bytes, seven bits per
+   * byte with the high bit set on all but the last.
+   */
+  public void writeVarLong(final long l) {
+    try {
+      long value = l;
+      while ((value & ~0x7FL) != 0) {
+        this.dos.writeByte((int) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+      this.dos.writeByte((int) value);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  public void writeVarInt(final int i) {
+    writeVarLong(i & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Writes a bitset as its length in bytes followed by its little endian
+   * bytes, so sparse trailing bits cost nothing.
+   */
+  public void writeBitSet(final BitSet bits) {
+    try {
+      final byte[] bytes = bits.toByteArray();
+      writeVarInt(bytes.length);
+      this.dos.write(bytes);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   private byte[] toByteArray(Serializable value) throws IOException {
     try (ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
       final ObjectOutput out = new ObjectOutputStream(bos);
@@ -0,0 +1,29 @@
+package sun.pitest;
+
+/**
+ * Holds the switch of the mutant that the guards compiled into a mutant
+ * schema should execute. Zero selects the unmutated code.
+ *
+ * The field is read directly by schema bytecode. Like
+ * {@link CodeCoverageStore} this class is placed on the boot class path by the
+ * agent, so classes loaded by loaders that isolate the code under test still
+ * share the minion's copy.
+ */
+public final class ActiveMutant {
+
+  public static final String FIELD = "id";
+
+  public static volatile int id;
+
+  private ActiveMutant() {
+  }
+
+  public static void activate(final int mutantSwitch) {
+    id = mutantSwitch;
+  }
+
+  public static void deactivate() {
+    id = 0;
+  }
+
+}
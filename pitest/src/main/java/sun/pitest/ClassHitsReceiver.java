@@ -0,0 +1,14 @@
+package sun.pitest;
+
+public interface ClassHitsReceiver {
+
+  /**
+   * @param classId
+   *          id of a class visited since the last reset
+   * @param probes
+   *          the class's hit array. The first slot flags that the class was
+   *          visited at all, probe n is held in slot n + 1.
+   */
+  void receiveClassHits(int classId, boolean[] probes);
+
+}
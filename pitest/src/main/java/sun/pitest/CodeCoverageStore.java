@@ -21,10 +21,8 @@
 package sun.pitest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Store for line visit information.
@@ -32,6 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class CodeCoverageStore {
 
   private static final int                     CLASS_HIT_INDEX   = 0;
+  private static final int                     INITIAL_CLASSES   = 1024;
 
   public static final String                   CLASS_NAME        = CodeCoverageStore.class
                                                                      .getName()
@@ -48,8 +47,28 @@ public final class CodeCoverageStore {
   // before relationship significantly outperforms
   // both AtomicInteger array with bit per flag and integer per flag.
   // optimisation with other methods of ensuring a happens before not yet
-  // investigated
-  private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
+  // investigated.
+  // Indexed directly by class id so the probe path neither boxes nor hashes.
+  // The array only grows, and is republished through the volatile field each
+  // time a class registers so that readers on other threads see its slot.
+  private static volatile boolean[][]          classHits         = new boolean[INITIAL_CLASSES][];
+
+  // ids of the classes visited since the last reset, in the order first hit
+  private static int[]                         dirty             = new int[INITIAL_CLASSES];
+  private static int                           dirtyCount        = 0;
+
+  // set once any thread records its hits separately. Hits from threads with
+  // their own store, and from the threads they start, go there rather than
+  // to the shared arrays above.
+  private static volatile boolean              perThread         = false;
+  private static final ThreadLocal<ThreadHits> THREAD_HITS       = new InheritableThreadLocal<>();
+  // the test a thread's store was on when the thread was started. Inherited
+  // as it was at that point, so a thread outliving the test is noticed.
+  private static final ThreadLocal<Integer>    STARTED_IN_TEST   = new InheritableThreadLocal<>();
+
+  // set when a hit is made, while hits are recorded per thread, that cannot be
+  // attributed to the test it belongs to
+  private static volatile boolean              strayHits         = false;
 
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
@@ -59,15 +78,13 @@ public final class CodeCoverageStore {
   }
 
   public static void visitSingleProbe(final int classId, final int probe) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     bs[probe + 1] = true;
   }
 
   public static void visitProbes(final int classId, final int offset,
       final boolean[] probes) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     for (int i = 0; i != probes.length; i++) {
       if (probes[i]) {
         bs[i + offset + 1] = true;
@@ -84,8 +101,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -93,8 +109,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -105,8 +120,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -120,8 +134,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -139,8 +152,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -161,8 +173,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -186,8 +197,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -214,8 +224,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -246,8 +255,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -281,8 +289,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -319,8 +326,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -360,8 +366,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -405,8 +410,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -453,8 +457,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12, final boolean p13) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -504,8 +507,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12, final boolean p13, final boolean p14) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
-    bs[CLASS_HIT_INDEX] = true;
+    final boolean[] bs = hitsFor(classId);
     if (p0) {
       bs[offset + 1] = true;
     }
@@ -553,29 +555,147 @@ public final class CodeCoverageStore {
     }
   }
 
-  public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      CLASS_HITS.put(each.getKey(), new boolean[each.getValue().length]);
+  private static boolean[] hitsFor(final int classId) {
+    if (perThread) {
+      final ThreadHits threadHits = THREAD_HITS.get();
+      if (threadHits == null) {
+        // a thread started before any store, such as a shared pool thread
+        markStray();
+      } else {
+        if (!threadHits.isOwnedByCurrentThread()
+            && (STARTED_IN_TEST.get().intValue() != threadHits.test())) {
+          markStray();
+        }
+        return threadHits.hitsFor(classId, classHits[classId].length);
+      }
+    }
+    final boolean[] bs = classHits[classId];
+    // first entry tracks if class has been visited at all
+    if (!bs[CLASS_HIT_INDEX]) {
+      markDirty(classId, bs);
+    }
+    return bs;
+  }
+
+  private static synchronized void markDirty(final int classId,
+      final boolean[] bs) {
+    if (bs[CLASS_HIT_INDEX]) {
+      return;
     }
+    if (dirtyCount == dirty.length) {
+      dirty = Arrays.copyOf(dirty, dirty.length * 2);
+    }
+    dirty[dirtyCount++] = classId;
+    bs[CLASS_HIT_INDEX] = true;
   }
 
-  public static synchronized Collection<Long> getHits() {
+  /**
+   * Records hits from the calling thread, and from threads it goes on to
+   * start, separately from all others, so that tests may be run concurrently
+   * on different threads. reset, getHits and visitClassHits called from the
+   * thread then act only on its hits.
+   */
+  public static void recordHitsForThisThread() {
+    final ThreadHits threadHits = new ThreadHits();
+    THREAD_HITS.set(threadHits);
+    STARTED_IN_TEST.set(threadHits.test());
+    perThread = true;
+  }
+
+  /**
+   * Returns true if, since hits were first recorded per thread, code has run
+   * on a thread whose hits cannot be attributed to a test. This happens when
+   * the code under test uses a thread that was started before the tests, such
+   * as one from a shared pool, or a thread started by an earlier test.
+   */
+  public static boolean hasStrayHits() {
+    return strayHits;
+  }
+
+  /**
+   * Stops recording hits per thread, so that all threads record to the
+   * shared store again.
+   */
+  public static synchronized void recordHitsForAllThreads() {
+    perThread = false;
+    strayHits = false;
+    resetSharedHits();
+  }
+
+  private static void markStray() {
+    if (!strayHits) {
+      strayHits = true;
+    }
+  }
+
+  private static ThreadHits threadHits() {
+    return perThread ? THREAD_HITS.get() : null;
+  }
+
+  public static void reset() {
+    final ThreadHits threadHits = threadHits();
+    if (threadHits != null) {
+      threadHits.reset();
+      STARTED_IN_TEST.set(threadHits.test());
+    } else {
+      resetSharedHits();
+    }
+  }
+
+  private static synchronized void resetSharedHits() {
+    final boolean[][] hits = classHits;
+    for (int i = 0; i != dirtyCount; i++) {
+      Arrays.fill(hits[dirty[i]], false);
+    }
+    dirtyCount = 0;
+  }
+
+  public static Collection<Long> getHits() {
     final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
-      // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
-        continue;
-      }
-      final int classId = each.getKey();
-      // final int[] mapping = classProbeToBlockMapping.get(classId);
+    final ThreadHits threadHits = threadHits();
+    if (threadHits != null) {
+      threadHits.addHits(blockHits);
+    } else {
+      addSharedHits(blockHits);
+    }
+    return blockHits;
+  }
+
+  private static synchronized void addSharedHits(
+      final Collection<Long> blockHits) {
+    final boolean[][] hits = classHits;
+    for (int i = 0; i != dirtyCount; i++) {
+      final int classId = dirty[i];
+      final boolean[] bs = hits[classId];
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
           blockHits.add(encode(classId, probeId - 1));
         }
       }
     }
-    return blockHits;
+  }
+
+  /**
+   * Passes the hit array of each class visited since the last reset to the
+   * receiver, without copying or boxing the hits. The arrays must not be
+   * retained or modified.
+   */
+  public static void visitClassHits(final ClassHitsReceiver receiver) {
+    final ThreadHits threadHits = threadHits();
+    if (threadHits != null) {
+      threadHits.visitClassHits(receiver);
+    } else {
+      visitSharedClassHits(receiver);
+    }
+  }
+
+  private static synchronized void visitSharedClassHits(
+      final ClassHitsReceiver receiver) {
+    final boolean[][] hits = classHits;
+    for (int i = 0; i != dirtyCount; i++) {
+      final int classId = dirty[i];
+      receiver.receiveClassHits(classId, hits[classId]);
+    }
   }
 
   public static int registerClass(final String className) {
@@ -606,12 +726,24 @@ public final class CodeCoverageStore {
     return ((long) classId << 32) | line;
   }
 
-  public static void registerClassProbes(final int classId, int probeCount) {
-    CLASS_HITS.put(classId, new boolean[probeCount + 1]);
+  public static synchronized void registerClassProbes(final int classId,
+      int probeCount) {
+    boolean[][] hits = classHits;
+    if (classId >= hits.length) {
+      hits = Arrays.copyOf(hits, Math.max(hits.length * 2, classId + 1));
+    }
+    hits[classId] = new boolean[probeCount + 1];
+    classHits = hits;
   }
 
-  public static void resetAllStaticState() {
-    CLASS_HITS.clear();
+  public static synchronized void resetAllStaticState() {
+    classHits = new boolean[INITIAL_CLASSES][];
+    dirty = new int[INITIAL_CLASSES];
+    dirtyCount = 0;
+    perThread = false;
+    strayHits = false;
+    THREAD_HITS.remove();
+    STARTED_IN_TEST.remove();
   }
 
 }
@@ -0,0 +1,28 @@
+package sun.pitest;
+
+/**
+ * Flags set by the checks compiled into an infection schema, one per mutant,
+ * when the mutant would have computed a different value from the unmutated
+ * code.
+ *
+ * Like {@link ActiveMutant} the field is written directly by schema bytecode
+ * and the class is placed on the boot class path.
+ */
+public final class InfectionProbe {
+
+  public static final String       FIELD    = "infected";
+
+  public static volatile boolean[] infected = new boolean[0];
+
+  private InfectionProbe() {
+  }
+
+  public static void reset(final int numberOfProbes) {
+    infected = new boolean[numberOfProbes];
+  }
+
+  public static boolean wasInfected(final int probe) {
+    return infected[probe];
+  }
+
+}
@@ -0,0 +1,27 @@
+package sun.pitest;
+
+/**
+ * Flag set by probes placed at the mutation point of a mutant, recording
+ * whether the mutated code has been executed since it was last reset.
+ *
+ * Like {@link ActiveMutant} the field is written directly by mutant bytecode
+ * and the class is placed on the boot class path.
+ */
+public final class ReachProbe {
+
+  public static final String     FIELD = "reached";
+
+  public static volatile boolean reached;
+
+  private ReachProbe() {
+  }
+
+  public static void reset() {
+    reached = false;
+  }
+
+  public static boolean wasReached() {
+    return reached;
+  }
+
+}
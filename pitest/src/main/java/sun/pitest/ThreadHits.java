@@ -0,0 +1,90 @@
+package sun.pitest;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Probe hits recorded by the tests running on one thread, when coverage is
+ * gathered for several tests at once. Hit arrays are only allocated for the
+ * classes the thread visits.
+ */
+public final class ThreadHits {
+
+  private static final int CLASS_HIT_INDEX = 0;
+
+  private final Thread     owner           = Thread.currentThread();
+  private boolean[][]      classHits       = new boolean[0][];
+  private int[]            dirty           = new int[16];
+  private int              dirtyCount      = 0;
+  // counts the resets, so identifies the test the owner is running
+  private volatile int     test            = 0;
+
+  boolean isOwnedByCurrentThread() {
+    return this.owner == Thread.currentThread();
+  }
+
+  int test() {
+    return this.test;
+  }
+
+  boolean[] hitsFor(final int classId, final int size) {
+    final boolean[][] hits = this.classHits;
+    if (classId < hits.length) {
+      final boolean[] bs = hits[classId];
+      if ((bs != null) && bs[CLASS_HIT_INDEX]) {
+        return bs;
+      }
+    }
+    return markDirty(classId, size);
+  }
+
+  // also reached by threads the test started, so guarded by the instance
+  private synchronized boolean[] markDirty(final int classId,
+      final int size) {
+    if (classId >= this.classHits.length) {
+      this.classHits = Arrays.copyOf(this.classHits,
+          Math.max(this.classHits.length * 2, classId + 1));
+    }
+    boolean[] bs = this.classHits[classId];
+    if (bs == null) {
+      bs = new boolean[size];
+      this.classHits[classId] = bs;
+    }
+    if (!bs[CLASS_HIT_INDEX]) {
+      if (this.dirtyCount == this.dirty.length) {
+        this.dirty = Arrays.copyOf(this.dirty, this.dirty.length * 2);
+      }
+      this.dirty[this.dirtyCount++] = classId;
+      bs[CLASS_HIT_INDEX] = true;
+    }
+    return bs;
+  }
+
+  synchronized void reset() {
+    for (int i = 0; i != this.dirtyCount; i++) {
+      Arrays.fill(this.classHits[this.dirty[i]], false);
+    }
+    this.dirtyCount = 0;
+    this.test++;
+  }
+
+  synchronized void addHits(final Collection<Long> blockHits) {
+    for (int i = 0; i != this.dirtyCount; i++) {
+      final int classId = this.dirty[i];
+      final boolean[] bs = this.classHits[classId];
+      for (int probeId = 1; probeId != bs.length; probeId++) {
+        if (bs[probeId]) {
+          blockHits.add(CodeCoverageStore.encode(classId, probeId - 1));
+        }
+      }
+    }
+  }
+
+  synchronized void visitClassHits(final ClassHitsReceiver receiver) {
+    for (int i = 0; i != this.dirtyCount; i++) {
+      final int classId = this.dirty[i];
+      receiver.receiveClassHits(classId, this.classHits[classId]);
+    }
+  }
+
+}
@@ -0,0 +1,101 @@
+package org.pitest.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveHandleCacheTest {
+
+  @Rule
+  public TemporaryFolder     folder = new TemporaryFolder();
+
+  private ArchiveHandleCache testee;
+
+  private File               a;
+  private File               b;
+
+  @Before
+  public void setUp() throws IOException {
+    this.testee = new ArchiveHandleCache(1);
+    this.a = createArchive("a.jar", "com/example/Foo.class", 10);
+    this.b = createArchive("b.jar", "com/example/Bar.class", 20);
+  }
+
+  @Test
+  public void shouldOpenArchiveOnlyOnceWhenRepeatedlyAcquired()
+      throws IOException {
+    this.testee.release(this.testee.acquire(this.a));
+    this.testee.release(this.testee.acquire(this.a));
+    assertEquals(1, this.testee.getOpens());
+  }
+
+  @Test
+  public void shouldReopenLeastRecentlyUsedArchiveAfterEviction()
+      throws IOException {
+    this.testee.release(this.testee.acquire(this.a));
+    this.testee.release(this.testee.acquire(this.b));
+    this.testee.release(this.testee.acquire(this.a));
+    assertEquals(3, this.testee.getOpens());
+  }
+
+  @Test
+  public void shouldNotCloseEvictedArchiveWhileInUse() throws IOException {
+    final ArchiveHandleCache.Handle inUse = this.testee.acquire(this.a);
+    this.testee.release(this.testee.acquire(this.b));
+
+    assertNotNull(inUse.zip().getEntry("com/example/Foo.class"));
+
+    this.testee.release(inUse);
+    try {
+      inUse.zip().getEntry("com/example/Foo.class");
+      fail("Expected archive to be closed once released");
+    } catch (final IllegalStateException ex) {
+      // expected
+    }
+  }
+
+  @Test
+  public void shouldCountBytesReadThroughClassPathRoot() throws IOException {
+    final ArchiveClassPathRoot root = new ArchiveClassPathRoot(this.a,
+        this.testee);
+    root.getData("com.example.Foo");
+    root.getData("com.example.Foo");
+    assertEquals(20, this.testee.getBytesRead());
+    assertEquals(1, this.testee.getOpens());
+  }
+
+  @Test
+  public void shouldResetCountsWhenClosed() throws IOException {
+    final ArchiveClassPathRoot root = new ArchiveClassPathRoot(this.a,
+        this.testee);
+    root.getData("com.example.Foo");
+    this.testee.close();
+    assertEquals(0, this.testee.getOpens());
+    assertEquals(0, this.testee.getBytesRead());
+    assertThat(root.classNames()).containsExactly("com.example.Foo");
+  }
+
+  private File createArchive(final String name, final String entry,
+      final int size) throws IOException {
+    final File file = this.folder.newFile(name);
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+      out.putNextEntry(new ZipEntry(entry));
+      out.write(new byte[size]);
+      out.closeEntry();
+    }
+    return file;
+  }
+
+}
@@ -0,0 +1,64 @@
+package org.pitest.mutationtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.pitest.mutationtest.TestOutcomes.Outcome;
+
+public class TestOutcomesTest {
+
+  private final TestOutcomes testee = new TestOutcomes(4);
+
+  @Test
+  public void shouldTreatUnrecordedTestsAsNotRun() {
+    for (int i = 0; i != 4; i++) {
+      assertEquals(Outcome.NOT_RUN, this.testee.get(i));
+    }
+  }
+
+  @Test
+  public void shouldReturnRecordedOutcomes() {
+    this.testee.record(0, Outcome.PASSED);
+    this.testee.record(1, Outcome.FAILED);
+    this.testee.record(2, Outcome.ERROR);
+    this.testee.record(3, Outcome.TIMED_OUT);
+    assertEquals(Outcome.PASSED, this.testee.get(0));
+    assertEquals(Outcome.FAILED, this.testee.get(1));
+    assertEquals(Outcome.ERROR, this.testee.get(2));
+    assertEquals(Outcome.TIMED_OUT, this.testee.get(3));
+  }
+
+  @Test
+  public void shouldReplaceEarlierOutcomeForSameTest() {
+    this.testee.record(1, Outcome.ERROR);
+    this.testee.record(1, Outcome.TIMED_OUT);
+    assertEquals(Outcome.TIMED_OUT, this.testee.get(1));
+    assertFalse(this.testee.getErrored().get(1));
+  }
+
+  @Test
+  public void shouldBeKilledOnlyByTestsThatRanAndDidNotPass() {
+    this.testee.record(0, Outcome.PASSED);
+    this.testee.record(1, Outcome.FAILED);
+    assertFalse(this.testee.isKilledBy(0));
+    assertTrue(this.testee.isKilledBy(1));
+    assertFalse(this.testee.isKilledBy(2));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void shouldRejectTestsOutsideAssignedRange() {
+    this.testee.record(4, Outcome.PASSED);
+  }
+
+  @Test
+  public void shouldBeEqualWhenSameOutcomesRecorded() {
+    final TestOutcomes other = new TestOutcomes(4);
+    other.record(2, Outcome.FAILED);
+    this.testee.record(2, Outcome.FAILED);
+    assertEquals(other, this.testee);
+    assertEquals(other.hashCode(), this.testee.hashCode());
+  }
+
+}
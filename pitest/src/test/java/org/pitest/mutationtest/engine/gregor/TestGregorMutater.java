@@ -19,12 +19,23 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
@@ -355,6 +366,111 @@ public class TestGregorMutater extends MutatorTestBase {
     assertThat(actualDetails).isEmpty();
   }
 
+  @Test
+  public void shouldFetchClassOnlyOnceWhenCreatingSuccessiveMutants() {
+    final CountingByteArraySource source = new CountingByteArraySource(
+        new ClassPathByteArraySource());
+    createTesteeWith(source, i -> true, Mutator.byName("RETURN_VALS"));
+    final List<MutationDetails> actualDetails = findMutationsFor(HasTwoMutableMethods.class);
+    source.count = 0;
+
+    for (final MutationDetails each : actualDetails) {
+      this.engine.getMutation(each.getId());
+    }
+
+    assertEquals(1, source.count);
+  }
+
+  @Test
+  public void shouldLeaveMethodsOtherThanTheMutatedOneUnchanged() {
+    createTesteeWith(Mutator.byName("RETURN_VALS"));
+    final List<MutationDetails> actualDetails = findMutationsFor(HasTwoMutableMethods.class);
+    final Mutant mutant = this.engine.getMutation(actualDetails.get(0).getId());
+    final byte[] original = new ClassPathByteArraySource().getBytes(
+        HasTwoMutableMethods.class.getName()).get();
+
+    assertEquals(methodText(original, "(I)I"),
+        methodText(mutant.getBytes(), "(I)I"));
+    assertFalse(methodText(original, "()I").equals(
+        methodText(mutant.getBytes(), "()I")));
+  }
+
+  public static class HasSeveralMethods {
+    public int a(int i) {
+      if (i > 2) {
+        i++;
+      }
+      return i;
+    }
+
+    public int b(int i) {
+      try {
+        i++;
+      } finally {
+        i--;
+      }
+      return i;
+    }
+
+    public int c(int i) {
+      for (int j = 0; j != 3; j++) {
+        i++;
+      }
+      return i;
+    }
+  }
+
+  @Test
+  public void shouldCreateMutantWithSameDetailsAsFoundInLaterMethods() {
+    createTesteeWith(Mutator.byName("INCREMENTS"));
+    final List<MutationDetails> actualDetails = findMutationsFor(HasSeveralMethods.class);
+    final MutationDetails last = actualDetails.get(actualDetails.size() - 1);
+    assertEquals("c", last.getMethod().name());
+    assertTrue(last.getBlock() > 0);
+    assertTrue(FCollection.contains(actualDetails, isInFinallyBlock()));
+
+    for (final MutationDetails each : actualDetails) {
+      final MutationDetails actual = this.engine.getMutation(each.getId())
+          .getDetails();
+      assertEquals(each, actual);
+      assertEquals(each.getBlock(), actual.getBlock());
+      assertEquals(each.isInFinallyBlock(), actual.isInFinallyBlock());
+      assertEquals(each.getLineNumber(), actual.getLineNumber());
+      assertEquals(each.getDescription(), actual.getDescription());
+    }
+  }
+
+  private static String methodText(final byte[] bytes, final String desc) {
+    final ClassNode node = new ClassNode();
+    new ClassReader(bytes).accept(node, 0);
+    final Textifier text = new Textifier();
+    for (final MethodNode each : node.methods) {
+      if (each.desc.equals(desc)) {
+        each.accept(new TraceMethodVisitor(text));
+      }
+    }
+    final StringWriter sw = new StringWriter();
+    text.print(new PrintWriter(sw));
+    return sw.toString();
+  }
+
+  private static class CountingByteArraySource implements ClassByteArraySource {
+    private final ClassByteArraySource child;
+    private int                        count;
+
+    CountingByteArraySource(final ClassByteArraySource child) {
+      this.child = child;
+    }
+
+    @Override
+    public Optional<byte[]> getBytes(final String clazz) {
+      if (clazz.equals(HasTwoMutableMethods.class.getName())) {
+        this.count++;
+      }
+      return this.child.getBytes(clazz);
+    }
+  }
+
 
   private static Predicate<MutationDetails> isInFinallyBlock() {
     return a -> a.isInFinallyBlock();
@@ -0,0 +1,226 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.gregor.MutatorTestBase;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+
+import sun.pitest.InfectionProbe;
+
+public class InfectionSchemaBuilderTest extends MutatorTestBase {
+
+  private static final int[][]       INPUTS = { { 0, 0 }, { 1, 2 }, { 2, 1 },
+      { -3, 7 }, { 10, 10 }, { 5, -4 }, { 4, 2 } };
+
+  private final ClassByteArraySource source = new ClassPathByteArraySource();
+
+  private InfectionSchemaBuilder     testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new InfectionSchemaBuilder(this.source);
+    createTesteeWith(MathMutator.MATH_MUTATOR,
+        NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR,
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR,
+        IncrementsMutator.INCREMENTS_MUTATOR);
+  }
+
+  @After
+  public void tearDown() {
+    InfectionProbe.reset(0);
+  }
+
+  public static class Arithmetic implements IntBinaryOperator {
+    @Override
+    public int applyAsInt(final int a, final int b) {
+      return (a + (b * 2)) - (a / 3);
+    }
+  }
+
+  public static class Comparing implements IntBinaryOperator {
+    @Override
+    public int applyAsInt(final int a, final int b) {
+      if (a < b) {
+        return 1;
+      }
+      return 0;
+    }
+  }
+
+  public static class Multiplying implements IntBinaryOperator {
+    @Override
+    public int applyAsInt(final int a, final int b) {
+      return a * b;
+    }
+  }
+
+  public static class Counting implements IntBinaryOperator {
+    @Override
+    public int applyAsInt(final int a, final int b) {
+      int total = 0;
+      for (int i = 0; i < a; i++) {
+        total++;
+      }
+      return total;
+    }
+  }
+
+  @Test
+  public void shouldAssignProbeToEachOperatorMutant() {
+    final List<Mutant> mutants = mutantsFor(Arithmetic.class);
+    final InfectionSchema actual = build(Arithmetic.class, mutants);
+    assertThat(actual.getNumberOfProbes()).isEqualTo(mutants.size());
+  }
+
+  @Test
+  public void shouldBehaveAsUnmutatedClass() throws Exception {
+    assertBehavesAsUnmutated(Arithmetic.class);
+    assertBehavesAsUnmutated(Comparing.class);
+    assertBehavesAsUnmutated(Multiplying.class);
+    assertBehavesAsUnmutated(Counting.class);
+  }
+
+  @Test
+  public void shouldFlagMutantsOnlyForInputsTheyInfect() throws Exception {
+    assertInfectedOnlyWhenResultDiffers(Arithmetic.class);
+    assertInfectedOnlyWhenResultDiffers(Comparing.class);
+  }
+
+  @Test
+  public void shouldNotFlagMutantThatComputesSameValue() throws Exception {
+    final List<Mutant> mutants = mutantsFor(Multiplying.class);
+    final InfectionSchema schema = build(Multiplying.class, mutants);
+    final IntBinaryOperator infection = load(Multiplying.class,
+        schema.getBytes());
+
+    InfectionProbe.reset(schema.getNumberOfProbes());
+    infection.applyAsInt(2, 1);
+    assertThat(InfectionProbe.wasInfected(probeFor(schema, mutants.get(0))))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldFlagMutantThatWouldDivideByZero() throws Exception {
+    final List<Mutant> mutants = mutantsFor(Multiplying.class);
+    final InfectionSchema schema = build(Multiplying.class, mutants);
+    final IntBinaryOperator infection = load(Multiplying.class,
+        schema.getBytes());
+
+    InfectionProbe.reset(schema.getNumberOfProbes());
+    assertThat(infection.applyAsInt(0, 0)).isEqualTo(0);
+    assertThat(InfectionProbe.wasInfected(probeFor(schema, mutants.get(0))))
+        .isTrue();
+  }
+
+  @Test
+  public void shouldNotAssignProbeToMutantsThatDoNotReplaceAnOperator() {
+    final List<Mutant> mutants = mutantsFor(Counting.class);
+    final InfectionSchema schema = build(Counting.class, mutants);
+    for (final Mutant each : mutants) {
+      if (each.getDetails().getMutator().contains("Increments")) {
+        assertThat(schema.probeFor(each.getDetails().getId())).isEmpty();
+      }
+    }
+  }
+
+  @Test
+  public void shouldReturnUnmodifiedClassWhenNoMutantsSupplied() {
+    final byte[] original = this.source.getBytes(Arithmetic.class.getName())
+        .get();
+    final InfectionSchema actual = this.testee.build(original,
+        Collections.<Mutant> emptyList());
+    assertThat(actual.getNumberOfProbes()).isZero();
+    assertThat(actual.getBytes()).isSameAs(original);
+  }
+
+  private void assertBehavesAsUnmutated(final Class<?> clazz)
+      throws Exception {
+    final InfectionSchema schema = build(clazz, mutantsFor(clazz));
+    final IntBinaryOperator original = (IntBinaryOperator) clazz
+        .getDeclaredConstructor().newInstance();
+    final IntBinaryOperator infection = load(clazz, schema.getBytes());
+    InfectionProbe.reset(schema.getNumberOfProbes());
+    assertThat(results(infection)).isEqualTo(results(original));
+  }
+
+  // in these testees any change to an operator's value changes the result
+  private void assertInfectedOnlyWhenResultDiffers(final Class<?> clazz)
+      throws Exception {
+    final List<Mutant> mutants = mutantsFor(clazz);
+    final InfectionSchema schema = build(clazz, mutants);
+    final IntBinaryOperator original = (IntBinaryOperator) clazz
+        .getDeclaredConstructor().newInstance();
+    final IntBinaryOperator infection = load(clazz, schema.getBytes());
+    int checked = 0;
+    for (final Mutant each : mutants) {
+      if (!schema.probeFor(each.getDetails().getId()).isPresent()) {
+        continue;
+      }
+      checked++;
+      final IntBinaryOperator mutant = load(clazz, each.getBytes());
+      for (final int[] input : INPUTS) {
+        InfectionProbe.reset(schema.getNumberOfProbes());
+        infection.applyAsInt(input[0], input[1]);
+        assertThat(InfectionProbe.wasInfected(probeFor(schema, each)))
+            .describedAs(each.getDetails().getDescription() + " " + input[0]
+                + "," + input[1])
+            .isEqualTo(original.applyAsInt(input[0], input[1]) != mutant
+                .applyAsInt(input[0], input[1]));
+      }
+    }
+    assertThat(checked).isGreaterThan(0);
+  }
+
+  private static int probeFor(final InfectionSchema schema, final Mutant mutant) {
+    return schema.probeFor(mutant.getDetails().getId()).get();
+  }
+
+  private List<Mutant> mutantsFor(final Class<?> clazz) {
+    return getMutants(findMutationsFor(clazz));
+  }
+
+  private InfectionSchema build(final Class<?> clazz,
+      final List<Mutant> mutants) {
+    return this.testee.build(this.source.getBytes(clazz.getName()).get(),
+        mutants);
+  }
+
+  private static List<Integer> results(final IntBinaryOperator operator) {
+    final List<Integer> results = new ArrayList<>();
+    for (final int[] each : INPUTS) {
+      results.add(operator.applyAsInt(each[0], each[1]));
+    }
+    return results;
+  }
+
+  private static IntBinaryOperator load(final Class<?> clazz,
+      final byte[] bytes) throws Exception {
+    final ClassLoader loader = new ClassLoader(clazz.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(final String name, final boolean resolve)
+          throws ClassNotFoundException {
+        if (name.equals(clazz.getName())) {
+          return defineClass(name, bytes, 0, bytes.length);
+        }
+        return super.loadClass(name, resolve);
+      }
+    };
+    return (IntBinaryOperator) loader.loadClass(clazz.getName())
+        .getDeclaredConstructor().newInstance();
+  }
+
+}
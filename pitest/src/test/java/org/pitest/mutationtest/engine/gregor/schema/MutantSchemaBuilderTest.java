@@ -0,0 +1,188 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntBinaryOperator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.gregor.MutatorTestBase;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.InlineConstantMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.PrimitiveReturnsMutator;
+
+import sun.pitest.ActiveMutant;
+import sun.pitest.ReachProbe;
+
+public class MutantSchemaBuilderTest extends MutatorTestBase {
+
+  private static final int[][]       INPUTS = { { 0, 0 }, { 1, 2 }, { 2, 1 },
+      { -3, 7 }, { 10, 10 }, { 5, -4 } };
+
+  private final ClassByteArraySource source = new ClassPathByteArraySource();
+
+  private MutantSchemaBuilder        testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new MutantSchemaBuilder(this.source);
+    createTesteeWith(MathMutator.MATH_MUTATOR,
+        NegateConditionalsMutator.NEGATE_CONDITIONALS_MUTATOR,
+        ConditionalsBoundaryMutator.CONDITIONALS_BOUNDARY_MUTATOR,
+        IncrementsMutator.INCREMENTS_MUTATOR, new InlineConstantMutator(),
+        PrimitiveReturnsMutator.PRIMITIVE_RETURN_VALS_MUTATOR);
+  }
+
+  @After
+  public void tearDown() {
+    ActiveMutant.deactivate();
+    ReachProbe.reset();
+  }
+
+  public static class Arithmetic implements IntBinaryOperator {
+    @Override
+    public int applyAsInt(final int a, final int b) {
+      return (a + (b * 2)) - (a / 3);
+    }
+  }
+
+  public static class Branching implements IntBinaryOperator {
+    @Override
+    public int applyAsInt(final int a, final int b) {
+      int total = 0;
+      for (int i = 0; i < b; i++) {
+        total += a;
+      }
+      if (a > b) {
+        return total - 1;
+      }
+      return total;
+    }
+  }
+
+  @Test
+  public void shouldCompileMutantsIntoSchema() {
+    final List<Mutant> mutants = mutantsFor(Arithmetic.class);
+    final MutantSchema actual = build(Arithmetic.class, mutants);
+    assertThat(actual.getNumberOfMutants()).isEqualTo(mutants.size());
+  }
+
+  @Test
+  public void shouldBehaveAsUnmutatedClassWhenNoMutantActive()
+      throws Exception {
+    assertBehavesAsUnmutatedWhenInactive(Arithmetic.class);
+    assertBehavesAsUnmutatedWhenInactive(Branching.class);
+  }
+
+  @Test
+  public void shouldBehaveAsMutantWhenItsSwitchIsActive() throws Exception {
+    assertEachSwitchBehavesAsMutant(Arithmetic.class);
+    assertEachSwitchBehavesAsMutant(Branching.class);
+  }
+
+  @Test
+  public void shouldSetReachProbeOnlyWhenActiveMutantExecuted()
+      throws Exception {
+    this.testee = new MutantSchemaBuilder(this.source, true);
+    final List<Mutant> mutants = mutantsFor(Arithmetic.class);
+    final MutantSchema schema = build(Arithmetic.class, mutants);
+    final IntBinaryOperator mutated = load(Arithmetic.class,
+        schema.getBytes());
+
+    ReachProbe.reset();
+    mutated.applyAsInt(1, 2);
+    assertThat(ReachProbe.wasReached()).isFalse();
+
+    ActiveMutant.activate(schema.switchFor(mutants.get(0).getDetails().getId())
+        .get());
+    mutated.applyAsInt(1, 2);
+    assertThat(ReachProbe.wasReached()).isTrue();
+  }
+
+  @Test
+  public void shouldReturnEmptySchemaWhenNoMutantsSupplied() {
+    final MutantSchema actual = build(Arithmetic.class,
+        Collections.<Mutant> emptyList());
+    assertThat(actual.getNumberOfMutants()).isZero();
+  }
+
+  @Test
+  public void shouldNotAssignSwitchToMutantOfAnotherClass() {
+    final List<Mutant> mutants = mutantsFor(Branching.class);
+    final MutantSchema actual = build(Arithmetic.class, mutants);
+    assertThat(actual.getNumberOfMutants()).isZero();
+  }
+
+  private void assertBehavesAsUnmutatedWhenInactive(final Class<?> clazz)
+      throws Exception {
+    final MutantSchema schema = build(clazz, mutantsFor(clazz));
+    final IntBinaryOperator original = (IntBinaryOperator) clazz
+        .getDeclaredConstructor().newInstance();
+    final IntBinaryOperator mutated = load(clazz, schema.getBytes());
+    ActiveMutant.deactivate();
+    assertThat(results(mutated)).isEqualTo(results(original));
+  }
+
+  private void assertEachSwitchBehavesAsMutant(final Class<?> clazz)
+      throws Exception {
+    final List<Mutant> mutants = mutantsFor(clazz);
+    final MutantSchema schema = build(clazz, mutants);
+    final IntBinaryOperator mutated = load(clazz, schema.getBytes());
+    int compiled = 0;
+    for (final Mutant each : mutants) {
+      if (schema.switchFor(each.getDetails().getId()).isPresent()) {
+        compiled++;
+        final IntBinaryOperator expected = load(clazz, each.getBytes());
+        ActiveMutant.activate(schema.switchFor(each.getDetails().getId())
+            .get());
+        assertThat(results(mutated)).describedAs(each.getDetails()
+            .getDescription()).isEqualTo(results(expected));
+      }
+    }
+    assertThat(compiled).isGreaterThan(0);
+  }
+
+  private List<Mutant> mutantsFor(final Class<?> clazz) {
+    return getMutants(findMutationsFor(clazz));
+  }
+
+  private MutantSchema build(final Class<?> clazz, final List<Mutant> mutants) {
+    return this.testee.build(this.source.getBytes(clazz.getName()).get(),
+        mutants);
+  }
+
+  private static List<Integer> results(final IntBinaryOperator operator) {
+    final List<Integer> results = new ArrayList<>();
+    for (final int[] each : INPUTS) {
+      results.add(operator.applyAsInt(each[0], each[1]));
+    }
+    return results;
+  }
+
+  private static IntBinaryOperator load(final Class<?> clazz,
+      final byte[] bytes) throws Exception {
+    final ClassLoader loader = new ClassLoader(clazz.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(final String name, final boolean resolve)
+          throws ClassNotFoundException {
+        if (name.equals(clazz.getName())) {
+          return defineClass(name, bytes, 0, bytes.length);
+        }
+        return super.loadClass(name, resolve);
+      }
+    };
+    return (IntBinaryOperator) loader.loadClass(clazz.getName())
+        .getDeclaredConstructor().newInstance();
+  }
+
+}
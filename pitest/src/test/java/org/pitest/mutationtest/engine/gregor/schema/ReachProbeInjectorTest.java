@@ -0,0 +1,97 @@
+package org.pitest.mutationtest.engine.gregor.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.function.IntBinaryOperator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.gregor.MutatorTestBase;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+
+import sun.pitest.ReachProbe;
+
+public class ReachProbeInjectorTest extends MutatorTestBase {
+
+  private final ClassByteArraySource source = new ClassPathByteArraySource();
+
+  private ReachProbeInjector         testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new ReachProbeInjector(this.source);
+    createTesteeWith(MathMutator.MATH_MUTATOR);
+    ReachProbe.reset();
+  }
+
+  @After
+  public void tearDown() {
+    ReachProbe.reset();
+  }
+
+  public static class AddsWhenPositive implements IntBinaryOperator {
+    @Override
+    public int applyAsInt(final int a, final int b) {
+      if (a > 0) {
+        return a + b;
+      }
+      return b;
+    }
+  }
+
+  @Test
+  public void shouldRecordReachWhenMutatedCodeExecuted() throws Exception {
+    final IntBinaryOperator mutant = load(probedMutant());
+    assertThat(mutant.applyAsInt(3, 1)).isEqualTo(2);
+    assertThat(ReachProbe.wasReached()).isTrue();
+  }
+
+  @Test
+  public void shouldNotRecordReachWhenMutatedCodeNotExecuted()
+      throws Exception {
+    final IntBinaryOperator mutant = load(probedMutant());
+    assertThat(mutant.applyAsInt(-3, 1)).isEqualTo(1);
+    assertThat(ReachProbe.wasReached()).isFalse();
+  }
+
+  @Test
+  public void shouldNotProbeMutantOfAnotherClass() {
+    final Mutant mutant = getFirstMutant(AddsWhenPositive.class);
+    final Optional<Mutant> actual = this.testee.inject(this.source.getBytes(
+        ReachProbeInjectorTest.class.getName()).get(), mutant);
+    assertThat(actual).isEmpty();
+  }
+
+  private Mutant probedMutant() {
+    final Mutant mutant = getFirstMutant(AddsWhenPositive.class);
+    final Optional<Mutant> probed = this.testee.inject(this.source.getBytes(
+        AddsWhenPositive.class.getName()).get(), mutant);
+    assertThat(probed).isPresent();
+    assertThat(probed.get().getDetails()).isEqualTo(mutant.getDetails());
+    return probed.get();
+  }
+
+  private static IntBinaryOperator load(final Mutant mutant) throws Exception {
+    final String name = AddsWhenPositive.class.getName();
+    final byte[] bytes = mutant.getBytes();
+    final ClassLoader loader = new ClassLoader(
+        AddsWhenPositive.class.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(final String className,
+          final boolean resolve) throws ClassNotFoundException {
+        if (className.equals(name)) {
+          return defineClass(name, bytes, 0, bytes.length);
+        }
+        return super.loadClass(className, resolve);
+      }
+    };
+    return (IntBinaryOperator) loader.loadClass(name)
+        .getDeclaredConstructor().newInstance();
+  }
+
+}
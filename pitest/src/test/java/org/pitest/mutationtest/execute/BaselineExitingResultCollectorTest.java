@@ -0,0 +1,70 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+
+public class BaselineExitingResultCollectorTest {
+
+  @Mock
+  ResultCollector                rc;
+
+  Description                    green;
+
+  Description                    red;
+
+  BaselineExitingResultCollector testee;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.green = new Description("green", "FooTest");
+    this.red = new Description("red", "FooTest");
+    this.testee = new BaselineExitingResultCollector(this.rc,
+        Collections.singleton(this.red.getQualifiedName()));
+  }
+
+  @Test
+  public void shouldNotifyChildOfTestResults() {
+    final RuntimeException er = new RuntimeException();
+    this.testee.notifyEnd(this.green);
+    this.testee.notifyEnd(this.red, er);
+    verify(this.rc).notifyEnd(this.green);
+    verify(this.rc).notifyEnd(this.red, er);
+  }
+
+  @Test
+  public void shouldRequestStopWhenPassingTestFails() {
+    this.testee.notifyEnd(this.green, new RuntimeException());
+    assertTrue(this.testee.shouldExit());
+  }
+
+  @Test
+  public void shouldNotRequestStopWhenFailingTestFailsAgain() {
+    this.testee.notifyEnd(this.green);
+    this.testee.notifyEnd(this.red, new RuntimeException());
+    assertFalse(this.testee.shouldExit());
+  }
+
+  @Test
+  public void shouldRequestStopWhenFailingTestPasses() {
+    this.testee.notifyEnd(this.red);
+    assertTrue(this.testee.shouldExit());
+  }
+
+  @Test
+  public void shouldRequestStopWhenFailingTestTimesOut() {
+    this.testee.notifyEnd(this.red, new TestTimedOutException(10));
+    assertTrue(this.testee.shouldExit());
+  }
+
+}
@@ -15,12 +15,20 @@
 package org.pitest.mutationtest.execute;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.pitest.DescriptionMother;
 import java.util.Optional;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.TestOutcomes.Outcome;
 import org.pitest.testapi.Description;
 import org.pitest.testapi.TestResult;
 
@@ -48,12 +56,97 @@ public class CheckTestHasFailedResultListenerTest {
     assertEquals(DetectionStatus.KILLED, this.testee.status());
   }
 
+  @Test
+  public void shouldReturnDetectionStatusOfTimedOutWhenTestTimedOut() {
+    this.testee.onTestFailure(new TestResult(this.description,
+        new InterruptedException()));
+    this.testee.onTestFailure(new TestResult(this.description,
+        new TestTimedOutException(10)));
+    assertEquals(DetectionStatus.TIMED_OUT, this.testee.status());
+  }
+
   @Test
   public void shouldRecordDescriptionOfLastFailingTest() {
     this.testee.onTestFailure(new TestResult(this.description, null));
     assertEquals(Optional.ofNullable(this.description), this.testee.lastFailingTest());
   }
 
+  @Test
+  public void shouldRecordFirstFailingTestWhenSeveralFail() {
+    final Description second = DescriptionMother.createEmptyDescription("bar");
+    this.testee.onTestFailure(new TestResult(this.description, null));
+    this.testee.onTestFailure(new TestResult(second, null));
+    assertEquals(Optional.ofNullable(this.description), this.testee.lastFailingTest());
+  }
+
+  @Test
+  public void shouldNotRecordTestOutcomesByDefault() {
+    assertFalse(this.testee.testOutcomes().isPresent());
+  }
+
+  @Test
+  public void shouldRecordOutcomeOfEachAssignedTest() {
+    final Description passing = new Description("passing", "FooTest");
+    final Description failing = new Description("failing", "FooTest");
+    final Description erroring = new Description("erroring", "FooTest");
+    this.testee = new CheckTestHasFailedResultListener(Arrays.asList(
+        test(passing), test(failing), test(erroring), test(new Description(
+            "notRun", "FooTest"))));
+
+    this.testee.onTestSuccess(new TestResult(passing, null));
+    this.testee.onTestFailure(new TestResult(failing, new AssertionError()));
+    this.testee.onTestFailure(new TestResult(erroring,
+        new IllegalStateException()));
+
+    final TestOutcomes actual = this.testee.testOutcomes().get();
+    assertEquals(Outcome.PASSED, actual.get(0));
+    assertEquals(Outcome.FAILED, actual.get(1));
+    assertEquals(Outcome.ERROR, actual.get(2));
+    assertEquals(Outcome.NOT_RUN, actual.get(3));
+  }
+
+  @Test
+  public void shouldRecordTimedOutTestsInOutcomes() {
+    final Description slow = new Description("slow", "FooTest");
+    this.testee = new CheckTestHasFailedResultListener(Arrays.asList(
+        test(slow)));
+    this.testee.onTestFailure(new TestResult(slow, new InterruptedException()));
+    this.testee.onTestFailure(new TestResult(slow, new TestTimedOutException(
+        10)));
+    assertEquals(Outcome.TIMED_OUT, this.testee.testOutcomes().get().get(0));
+  }
+
+  @Test
+  public void shouldNotTreatFailureOfTestThatFailedWithoutMutationAsKill() {
+    final Description red = new Description("red", "FooTest");
+    this.testee = new CheckTestHasFailedResultListener(Arrays.asList(
+        redTest(red)), false);
+    this.testee.onTestFailure(new TestResult(red, new AssertionError()));
+    assertEquals(DetectionStatus.SURVIVED, this.testee.status());
+    assertFalse(this.testee.testOutcomes().isPresent());
+  }
+
+  @Test
+  public void shouldTreatPassOfTestThatFailedWithoutMutationAsKill() {
+    final Description red = new Description("red", "FooTest");
+    this.testee = new CheckTestHasFailedResultListener(Arrays.asList(
+        redTest(red)), false);
+    this.testee.onTestSuccess(new TestResult(red, null));
+    assertEquals(DetectionStatus.KILLED, this.testee.status());
+    assertEquals(Optional.of(red), this.testee.lastFailingTest());
+  }
+
+  private static TestInfo redTest(final Description description) {
+    return new TestInfo(description.getFirstTestClass(),
+        description.getQualifiedName(), 1, Optional.<ClassName> empty(), 0,
+        false);
+  }
+
+  private static TestInfo test(final Description description) {
+    return new TestInfo(description.getFirstTestClass(),
+        description.getQualifiedName(), 1, Optional.<ClassName> empty(), 0);
+  }
+
   @Test
   public void shouldRecordNumberOfTestsRun() {
     assertEquals(0, this.testee.getNumberOfTestsRun());
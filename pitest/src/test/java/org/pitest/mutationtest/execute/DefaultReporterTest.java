@@ -14,6 +14,7 @@ import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.MessageDecoder;
 import org.pitest.util.SafeDataInputStream;
 
 public class DefaultReporterTest {
@@ -22,6 +23,8 @@ public class DefaultReporterTest {
 
   private ByteArrayOutputStream os;
 
+  private final MessageDecoder  decoder = new MessageDecoder();
+
   @Before
   public void setUp() {
     this.os = new ByteArrayOutputStream();
@@ -35,7 +38,7 @@ public class DefaultReporterTest {
     this.testee.describe(mi);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.DESCRIBE, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
+    assertEquals(this.decoder.readMutationIdentifier(is), mi);
   }
 
   @Test
@@ -47,8 +50,8 @@ public class DefaultReporterTest {
     this.testee.report(mi, ms);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.REPORT, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
-    assertEquals(is.read(MutationStatusTestPair.class), ms);
+    assertEquals(this.decoder.readMutationIdentifier(is), mi);
+    assertEquals(this.decoder.readMutationStatusTestPair(is), ms);
   }
 
   private SafeDataInputStream resultToStream() {
@@ -0,0 +1,133 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.functional.F3;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodMutatorFactory;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+
+import sun.pitest.ActiveMutant;
+
+public class MutantSchemataTest {
+
+  private MutantSchemata                              testee;
+
+  private GregorMutater                               mutater;
+
+  @Mock
+  private ClassLoader                                 loader;
+
+  @Mock
+  private F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
+
+  public static class HasTwoMutants {
+    public int sum(final int a, final int b, final int c) {
+      return a + b + c;
+    }
+  }
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    final ClassByteArraySource source = new ClassPathByteArraySource();
+    this.mutater = new GregorMutater(source, m -> true,
+        Collections.<MethodMutatorFactory> singletonList(MathMutator.MATH_MUTATOR));
+    this.testee = new MutantSchemata(this.mutater, source);
+    when(this.hotswap.apply(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class))).thenReturn(true);
+  }
+
+  @After
+  public void tearDown() {
+    ActiveMutant.deactivate();
+  }
+
+  @Test
+  public void shouldInstallSchemaOncePerClass() {
+    final List<MutationDetails> mutants = prepare();
+    assertThat(this.testee.activate(mutants.get(0), this.hotswap, this.loader))
+        .isTrue();
+    assertThat(this.testee.activate(mutants.get(1), this.hotswap, this.loader))
+        .isTrue();
+    verify(this.hotswap, times(1)).apply(
+        eq(ClassName.fromClass(HasTwoMutants.class)), eq(this.loader),
+        any(byte[].class));
+  }
+
+  @Test
+  public void shouldSwitchToEachMutantInTurn() {
+    final List<MutationDetails> mutants = prepare();
+    this.testee.activate(mutants.get(0), this.hotswap, this.loader);
+    final int first = ActiveMutant.id;
+    this.testee.activate(mutants.get(1), this.hotswap, this.loader);
+    assertThat(first).isNotZero();
+    assertThat(ActiveMutant.id).isNotZero().isNotEqualTo(first);
+  }
+
+  @Test
+  public void shouldSwitchOffMutantWhenDeactivated() {
+    final List<MutationDetails> mutants = prepare();
+    this.testee.activate(mutants.get(0), this.hotswap, this.loader);
+    this.testee.deactivate();
+    assertThat(ActiveMutant.id).isZero();
+  }
+
+  @Test
+  public void shouldReinstallSchemaWhenInvalidated() {
+    final List<MutationDetails> mutants = prepare();
+    this.testee.activate(mutants.get(0), this.hotswap, this.loader);
+    this.testee.invalidate();
+    this.testee.activate(mutants.get(1), this.hotswap, this.loader);
+    verify(this.hotswap, times(2)).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+  }
+
+  @Test
+  public void shouldFallBackWhenSchemaCannotBeInstalled() {
+    when(this.hotswap.apply(any(ClassName.class), any(ClassLoader.class),
+        any(byte[].class))).thenReturn(false);
+    final List<MutationDetails> mutants = prepare();
+    assertThat(this.testee.activate(mutants.get(0), this.hotswap, this.loader))
+        .isFalse();
+    assertThat(this.testee.activate(mutants.get(1), this.hotswap, this.loader))
+        .isFalse();
+    verify(this.hotswap, times(1)).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+  }
+
+  @Test
+  public void shouldFallBackForMutantsOutsideRange() {
+    final List<MutationDetails> mutants = this.mutater.findMutations(ClassName
+        .fromClass(HasTwoMutants.class));
+    this.testee.prepare(Collections.singletonList(mutants.get(0)));
+    assertThat(this.testee.activate(mutants.get(1), this.hotswap, this.loader))
+        .isFalse();
+  }
+
+  private List<MutationDetails> prepare() {
+    final List<MutationDetails> mutants = this.mutater.findMutations(ClassName
+        .fromClass(HasTwoMutants.class));
+    assertThat(mutants).hasSize(2);
+    this.testee.prepare(mutants);
+    return mutants;
+  }
+
+}
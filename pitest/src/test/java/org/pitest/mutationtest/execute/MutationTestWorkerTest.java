@@ -1,6 +1,9 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -11,16 +14,22 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F3;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.TestOutcomes.Outcome;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -50,6 +59,12 @@ public class MutationTestWorkerTest {
   @Mock
   private Reporter                                    reporter;
 
+  @Mock
+  private ReachTracker                                reach;
+
+  @Mock
+  private WeakMutationFilter                          weakMutation;
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -84,7 +99,7 @@ public class MutationTestWorkerTest {
     final MutationDetails mutantOne = makeMutant("foo", 1);
     final Collection<MutationDetails> range = Arrays.asList(mutantOne);
     final TestUnit tu = makePassingTest();
-    when(this.testSource.translateTests(any(List.class))).thenReturn(
+    when(this.testSource.translateTests(anyListOf(TestInfo.class))).thenReturn(
         Collections.singletonList(tu));
     when(
         this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
@@ -100,7 +115,7 @@ public class MutationTestWorkerTest {
     final MutationDetails mutantOne = makeMutant("foo", 1);
     final Collection<MutationDetails> range = Arrays.asList(mutantOne);
     final TestUnit tu = makePassingTest();
-    when(this.testSource.translateTests(any(List.class))).thenReturn(
+    when(this.testSource.translateTests(anyListOf(TestInfo.class))).thenReturn(
         Collections.singletonList(tu));
     when(
         this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
@@ -115,7 +130,7 @@ public class MutationTestWorkerTest {
     final MutationDetails mutantOne = makeMutant("foo", 1);
     final Collection<MutationDetails> range = Arrays.asList(mutantOne);
     final TestUnit tu = makeFailingTest();
-    when(this.testSource.translateTests(any(List.class))).thenReturn(
+    when(this.testSource.translateTests(anyListOf(TestInfo.class))).thenReturn(
         Collections.singletonList(tu));
     when(
         this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
@@ -127,7 +142,157 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldRunEveryTestAndReportOutcomesWhenFullMatrixRequested()
+      throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, true, null, null, null);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final TestUnit failing = makeFailingTest();
+    final TestUnit passing = makePassingTest("another");
+    mutantOne.addTestsInOrder(Arrays.asList(new TestInfo(null, "atest", 1,
+        Optional.<ClassName> empty(), 0), new TestInfo(null, "another", 1,
+        Optional.<ClassName> empty(), 0)));
+    when(this.testSource.translateTests(anyListOf(TestInfo.class))).thenReturn(
+        Arrays.asList(failing, passing));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    final TestOutcomes outcomes = new TestOutcomes(2);
+    outcomes.record(0, Outcome.FAILED);
+    outcomes.record(1, Outcome.PASSED);
+    verify(this.reporter).report(
+        mutantOne.getId(),
+        new MutationStatusTestPair(2, DetectionStatus.KILLED, "atest",
+            outcomes));
+  }
+
+  @Test
+  public void shouldNotStopAtFailureOfTestThatFailedWithoutMutation()
+      throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final TestUnit red = makeFailingTest();
+    final TestUnit green = makeFailingTest("another");
+    mutantOne.addTestsInOrder(Arrays.asList(new TestInfo(null, "atest", 1,
+        Optional.<ClassName> empty(), 0, false), new TestInfo(null, "another",
+        1, Optional.<ClassName> empty(), 0)));
+    when(this.testSource.translateTests(anyListOf(TestInfo.class))).thenReturn(
+        Arrays.asList(red, green));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(2, DetectionStatus.KILLED, "another"));
+  }
+
+  @Test
+  public void shouldReportMutantAsNotReachedWhenAllTestsPruned()
+      throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, false, null, this.reach, null);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    mutantOne.addTestsInOrder(Collections.singletonList(new TestInfo(null,
+        "atest", 1, Optional.<ClassName> empty(), 0)));
+    when(this.reach.prune(mutantOne)).thenReturn(
+        Collections.<TestInfo> emptyList());
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(0, DetectionStatus.SURVIVED, null, null,
+            Collections.<String> emptyList()));
+    verify(this.hotswapper, never()).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+  }
+
+  @Test
+  public void shouldRecordTestsThatDoNotReachProbedMutant()
+      throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, false, null, this.reach, null);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final List<TestInfo> tests = Collections.singletonList(new TestInfo(null,
+        "atest", 1, Optional.<ClassName> empty(), 0));
+    mutantOne.addTestsInOrder(tests);
+    when(this.reach.prune(mutantOne)).thenReturn(tests);
+    when(this.reach.probe(any(Mutant.class))).thenReturn(
+        Optional.of(new Mutant(mutantOne, new byte[0])));
+    when(this.testSource.translateTests(anyListOf(TestInfo.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.reach).recordUnreached(mutantOne,
+        Collections.singleton("atest"));
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED, null, null,
+            Collections.<String> emptyList()));
+  }
+
+  @Test
+  public void shouldReportUninfectedMutantAsSurvivingWithoutRunningIt()
+      throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, false, null, null, this.weakMutation);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    mutantOne.addTestsInOrder(Collections.singletonList(new TestInfo(null,
+        "atest", 1, Optional.<ClassName> empty(), 0)));
+    when(this.testSource.translateTests(anyListOf(TestInfo.class))).thenReturn(
+        Collections.singletonList(makeFailingTest()));
+    when(
+        this.weakMutation.findUninfected(anyCollectionOf(MutationDetails.class),
+            Matchers.<Function<MutationIdentifier, Mutant>> any(), any(TimeOutDecoratedTestSource.class),
+            Matchers.<F3<ClassName, ClassLoader, byte[], Boolean>> any(), any(ClassLoader.class))).thenReturn(
+        Collections.singleton(mutantOne.getId()));
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.reporter).describe(mutantOne.getId());
+    verify(this.reporter).report(mutantOne.getId(),
+        new MutationStatusTestPair(0, DetectionStatus.SURVIVED));
+    verify(this.hotswapper, never()).apply(any(ClassName.class),
+        any(ClassLoader.class), any(byte[].class));
+  }
+
+  @Test
+  public void shouldRunInfectedMutantsAsNormal() throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, false, null, null, this.weakMutation);
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final TestUnit tu = makeFailingTest();
+    when(this.testSource.translateTests(anyListOf(TestInfo.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    when(
+        this.weakMutation.findUninfected(anyCollectionOf(MutationDetails.class),
+            Matchers.<Function<MutationIdentifier, Mutant>> any(), any(TimeOutDecoratedTestSource.class),
+            Matchers.<F3<ClassName, ClassLoader, byte[], Boolean>> any(), any(ClassLoader.class))).thenReturn(
+        Collections.<MutationIdentifier> emptySet());
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.reporter).report(
+        mutantOne.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, tu
+            .getDescription().getName()));
+  }
+
   private TestUnit makeFailingTest() {
+    return makeFailingTest("atest");
+  }
+
+  private TestUnit makeFailingTest(final String name) {
     return new TestUnit() {
 
       @Override
@@ -138,13 +303,17 @@ public class MutationTestWorkerTest {
 
       @Override
       public Description getDescription() {
-        return new Description("atest");
+        return new Description(name);
       }
 
     };
   }
 
   private TestUnit makePassingTest() {
+    return makePassingTest("atest");
+  }
+
+  private TestUnit makePassingTest(final String name) {
     return new TestUnit() {
 
       @Override
@@ -155,7 +324,7 @@ public class MutationTestWorkerTest {
 
       @Override
       public Description getDescription() {
-        return new Description("atest");
+        return new Description(name);
       }
 
     };
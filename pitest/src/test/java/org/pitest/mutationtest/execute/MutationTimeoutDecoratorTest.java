@@ -14,18 +14,26 @@
  */
 package org.pitest.mutationtest.execute;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
@@ -76,4 +84,109 @@ public class MutationTimeoutDecoratorTest {
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldRunEachTestOnSameThreadWhenThreadReused() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+        1000l);
+    final Set<Thread> threads = new HashSet<>();
+    doAnswer(invocation -> {
+      threads.add(Thread.currentThread());
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    final ReusableTestThread testThread = new ReusableTestThread();
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, testThread);
+    for (int i = 0; i != 10; i++) {
+      this.testee.execute(this.rc);
+    }
+
+    assertEquals(1, threads.size());
+    assertEquals(1, testThread.getThreadsStarted());
+  }
+
+  @Test
+  public void shouldReplaceReusedThreadWhenTestTimesOut() throws Exception {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+    doAnswer(invocation -> {
+      Thread.sleep(200);
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    final ReusableTestThread testThread = new ReusableTestThread();
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, testThread);
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+
+    verify(this.sideEffect, times(2)).apply();
+    assertEquals(2, testThread.getThreadsStarted());
+  }
+
+  @Test
+  public void shouldRecordTimeoutWithoutSideEffectWhenTestStopsOnInterrupt() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+    doAnswer(invocation -> {
+      Thread.sleep(10000);
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+    final Runnable restore = mock(Runnable.class);
+    final TimeoutRecovery recovery = new TimeoutRecovery(restore, 1000);
+
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, null, recovery);
+    this.testee.execute(this.rc);
+
+    verify(restore).run();
+    verify(this.sideEffect, never()).apply();
+    verify(this.rc).notifyEnd(any(Description.class),
+        isA(TestTimedOutException.class));
+    assertEquals(1, recovery.getRecovered());
+  }
+
+  @Test
+  public void shouldApplySideEffectWhenTimedOutTestIgnoresInterrupt() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+    doAnswer(invocation -> {
+      final long end = System.currentTimeMillis() + 500;
+      while (System.currentTimeMillis() < end) {
+        // ignores interrupts
+      }
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+    final TimeoutRecovery recovery = new TimeoutRecovery(mock(Runnable.class),
+        50);
+
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, null, recovery);
+    this.testee.execute(this.rc);
+
+    verify(this.sideEffect).apply();
+    assertEquals(0, recovery.getRecovered());
+  }
+
+  @Test
+  public void shouldRecordTimeoutAndReplaceReusedThreadWhenRecoveryAbandonsTest() {
+    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+    doAnswer(invocation -> {
+      final long end = System.currentTimeMillis() + 800;
+      while (System.currentTimeMillis() < end) {
+        // ignores interrupts
+      }
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    final ReusableTestThread testThread = new ReusableTestThread();
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, testThread,
+        TimeoutRecovery.abandoning());
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+
+    verify(this.sideEffect, never()).apply();
+    verify(this.rc, times(2)).notifyEnd(any(Description.class),
+        isA(TestTimedOutException.class));
+    assertEquals(2, testThread.getThreadsStarted());
+  }
 }
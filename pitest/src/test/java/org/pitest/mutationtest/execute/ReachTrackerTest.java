@@ -0,0 +1,70 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class ReachTrackerTest {
+
+  private final ReachTracker testee = new ReachTracker(
+      new ClassPathByteArraySource());
+
+  @Test
+  public void shouldNotPruneTestsOfUnseenMutationPoint() {
+    final MutationDetails mutation = makeMutation(1, "mutator");
+    assertThat(this.testee.prune(mutation)).isEqualTo(
+        mutation.getTestsInOrder());
+  }
+
+  @Test
+  public void shouldPruneUnreachedTestsForMutantsAtSameInstruction() {
+    final MutationDetails first = makeMutation(1, "mutator");
+    final MutationDetails second = makeMutation(1, "anotherMutator");
+    this.testee.recordUnreached(first, Collections.singleton("one"));
+    assertThat(names(this.testee.prune(second))).containsExactly("two");
+  }
+
+  @Test
+  public void shouldNotPruneTestsForMutantsAtOtherInstructions() {
+    final MutationDetails first = makeMutation(1, "mutator");
+    final MutationDetails other = makeMutation(2, "mutator");
+    this.testee.recordUnreached(first, Collections.singleton("one"));
+    assertThat(names(this.testee.prune(other))).containsExactly("one", "two");
+  }
+
+  @Test
+  public void shouldForgetUnreachedTestsWhenPrepared() {
+    final MutationDetails first = makeMutation(1, "mutator");
+    this.testee.recordUnreached(first, new HashSet<>(Arrays.asList("one",
+        "two")));
+    this.testee.prepare();
+    assertThat(this.testee.prune(first)).hasSize(2);
+  }
+
+  private static List<String> names(final List<TestInfo> tests) {
+    return FCollection.map(tests, TestInfo.toName());
+  }
+
+  private static MutationDetails makeMutation(final int index,
+      final String mutator) {
+    final MutationDetails md = new MutationDetails(aMutationId()
+        .withIndex(index).withMutator(mutator).build(), "file", "desc", 1, 0);
+    md.addTestsInOrder(Arrays.asList(
+        new TestInfo(null, "one", 1, Optional.<ClassName> empty(), 0),
+        new TestInfo(null, "two", 1, Optional.<ClassName> empty(), 0)));
+    return md;
+  }
+
+}
@@ -0,0 +1,189 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F3;
+import org.pitest.functional.prelude.Prelude;
+import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+import org.pitest.testapi.TestUnit;
+import org.pitest.util.ExitCode;
+
+import sun.pitest.InfectionProbe;
+
+public class WeakMutationFilterTest {
+
+  private final ClassPathByteArraySource source = new ClassPathByteArraySource();
+
+  private final GregorMutater            mutater = new GregorMutater(
+      this.source, Prelude.<MethodInfo> isNotNull(),
+      Collections.singletonList(MathMutator.MATH_MUTATOR));
+
+  private WeakMutationFilter             testee;
+
+  @Mock
+  private Reporter                       reporter;
+
+  private byte[]                         installed;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new WeakMutationFilter(this.source);
+  }
+
+  @After
+  public void tearDown() {
+    InfectionProbe.reset(0);
+  }
+
+  public static class Multiplying {
+    public static int apply(final int a, final int b) {
+      return a * b;
+    }
+  }
+
+  @Test
+  public void shouldFindMutantThatCoveringTestDoesNotInfect() {
+    final List<MutationDetails> range = mutationsOfMultiplying();
+    final Set<MutationIdentifier> actual = findUninfected(range,
+        aTestCalling(2, 1), installingHotswap());
+    assertThat(actual).containsExactly(range.get(0).getId());
+  }
+
+  @Test
+  public void shouldNotReturnMutantThatCoveringTestInfects() {
+    final Set<MutationIdentifier> actual = findUninfected(
+        mutationsOfMultiplying(), aTestCalling(4, 2), installingHotswap());
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReturnMutantsWhenSchemaCannotBeInstalled() {
+    final Set<MutationIdentifier> actual = findUninfected(
+        mutationsOfMultiplying(), aTestCalling(2, 1),
+        (clazz, loader, bytes) -> false);
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReturnMutantsOrExitWhenCoveringTestTimesOut() {
+    final TimeOutDecoratedTestSource tests = new TimeOutDecoratedTestSource(
+        new PercentAndConstantTimeoutStrategy(1f, 50),
+        Collections.singletonList(aTestSleepingFor(10000)), this.reporter);
+    final Set<MutationIdentifier> actual = this.testee.findUninfected(
+        mutationsOfMultiplying(), this.mutater::getMutation, tests,
+        installingHotswap(), null);
+    assertThat(actual).isEmpty();
+    verify(this.reporter, never()).done(any(ExitCode.class));
+  }
+
+  private Set<MutationIdentifier> findUninfected(
+      final List<MutationDetails> range, final TestUnit test,
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap) {
+    final TimeOutDecoratedTestSource tests = new TimeOutDecoratedTestSource(
+        new PercentAndConstantTimeoutStrategy(1.25f, 4000),
+        Collections.singletonList(test), this.reporter);
+    return this.testee.findUninfected(range, this.mutater::getMutation,
+        tests, hotswap, null);
+  }
+
+  private List<MutationDetails> mutationsOfMultiplying() {
+    final List<MutationDetails> range = this.mutater.findMutations(ClassName
+        .fromClass(Multiplying.class));
+    for (final MutationDetails each : range) {
+      each.addTestsInOrder(Collections.singletonList(new TestInfo(null,
+          "atest", 1, Optional.<ClassName> empty(), 0)));
+    }
+    return range;
+  }
+
+  private F3<ClassName, ClassLoader, byte[], Boolean> installingHotswap() {
+    return (clazz, loader, bytes) -> {
+      this.installed = bytes;
+      return true;
+    };
+  }
+
+  // runs the installed version of the class as a hotswap would
+  private TestUnit aTestCalling(final int a, final int b) {
+    return new TestUnit() {
+      @Override
+      public void execute(final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        try {
+          load(WeakMutationFilterTest.this.installed).getMethod("apply",
+              int.class, int.class).invoke(null, a, b);
+          rc.notifyEnd(getDescription());
+        } catch (final Exception ex) {
+          rc.notifyEnd(getDescription(), ex);
+        }
+      }
+
+      @Override
+      public Description getDescription() {
+        return new Description("atest");
+      }
+    };
+  }
+
+  private TestUnit aTestSleepingFor(final long millis) {
+    return new TestUnit() {
+      @Override
+      public void execute(final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        try {
+          Thread.sleep(millis);
+          rc.notifyEnd(getDescription());
+        } catch (final InterruptedException ex) {
+          rc.notifyEnd(getDescription(), ex);
+        }
+      }
+
+      @Override
+      public Description getDescription() {
+        return new Description("atest");
+      }
+    };
+  }
+
+  private static Class<?> load(final byte[] bytes)
+      throws ClassNotFoundException {
+    final String name = Multiplying.class.getName();
+    final ClassLoader loader = new ClassLoader(
+        Multiplying.class.getClassLoader()) {
+      @Override
+      protected Class<?> loadClass(final String className,
+          final boolean resolve) throws ClassNotFoundException {
+        if (className.equals(name)) {
+          return defineClass(name, bytes, 0, bytes.length);
+        }
+        return super.loadClass(className, resolve);
+      }
+    };
+    return loader.loadClass(name);
+  }
+
+}
@@ -0,0 +1,166 @@
+package org.pitest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TestOutcomes;
+import org.pitest.mutationtest.TestOutcomes.Outcome;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.testapi.Description;
+
+public class MessageEncoderTest {
+
+  private final ByteArrayOutputStream bytes   = new ByteArrayOutputStream();
+  private final SafeDataOutputStream  dos     = new SafeDataOutputStream(
+      this.bytes);
+  private final MessageEncoder        testee  = new MessageEncoder();
+  private final MessageDecoder        decoder = new MessageDecoder();
+
+  @Test
+  public void shouldRoundTripMutationIdentifiers() {
+    final MutationIdentifier a = aMutationId().withIndex(1).withMutator("foo")
+        .build();
+    final MutationIdentifier b = aMutationId().withIndex(2).withMutator("bar")
+        .build();
+    this.testee.write(this.dos, a);
+    this.testee.write(this.dos, b);
+
+    final SafeDataInputStream is = read();
+    assertEquals(a, this.decoder.readMutationIdentifier(is));
+    assertEquals(b, this.decoder.readMutationIdentifier(is));
+  }
+
+  @Test
+  public void shouldRoundTripStatusesWithAndWithoutKillingTests() {
+    final MutationStatusTestPair killed = new MutationStatusTestPair(2,
+        DetectionStatus.KILLED, "aTest");
+    final MutationStatusTestPair survived = new MutationStatusTestPair(3,
+        DetectionStatus.SURVIVED);
+    this.testee.write(this.dos, killed);
+    this.testee.write(this.dos, survived);
+
+    final SafeDataInputStream is = read();
+    assertEquals(killed, this.decoder.readMutationStatusTestPair(is));
+    assertEquals(survived, this.decoder.readMutationStatusTestPair(is));
+  }
+
+  @Test
+  public void shouldRoundTripTestOutcomes() {
+    final TestOutcomes outcomes = new TestOutcomes(130);
+    outcomes.record(0, Outcome.PASSED);
+    outcomes.record(64, Outcome.FAILED);
+    outcomes.record(100, Outcome.ERROR);
+    outcomes.record(129, Outcome.TIMED_OUT);
+    final MutationStatusTestPair killed = new MutationStatusTestPair(4,
+        DetectionStatus.KILLED, "aTest", outcomes);
+    this.testee.write(this.dos, killed);
+
+    assertEquals(killed, this.decoder.readMutationStatusTestPair(read()));
+  }
+
+  @Test
+  public void shouldRoundTripReachingTests() {
+    final MutationStatusTestPair reached = new MutationStatusTestPair(2,
+        DetectionStatus.SURVIVED, null, null, Arrays.asList("aTest",
+            "anotherTest"));
+    final MutationStatusTestPair notReached = new MutationStatusTestPair(1,
+        DetectionStatus.SURVIVED, null, null,
+        Collections.<String> emptyList());
+    this.testee.write(this.dos, reached);
+    this.testee.write(this.dos, notReached);
+
+    final SafeDataInputStream is = read();
+    assertEquals(reached, this.decoder.readMutationStatusTestPair(is));
+    assertEquals(notReached, this.decoder.readMutationStatusTestPair(is));
+  }
+
+  @Test
+  public void shouldRoundTripDescriptions() {
+    final Description withClass = new Description("foo", "com.example.FooTest");
+    final Description withoutClass = new Description("bar");
+    this.testee.write(this.dos, withClass);
+    this.testee.write(this.dos, withoutClass);
+
+    final SafeDataInputStream is = read();
+    assertEquals(withClass, this.decoder.readDescription(is));
+    assertEquals(withoutClass, this.decoder.readDescription(is));
+  }
+
+  @Test
+  public void shouldRoundTripProbeHitsInAscendingOrder() {
+    this.testee.writeProbeHits(this.dos, Arrays.asList(1L << 33, 3L, 1L));
+
+    assertArrayEquals(new long[] { 1L, 3L, 1L << 33 },
+        this.decoder.readProbeHits(read()));
+  }
+
+  @Test
+  public void shouldRoundTripClassHitsAsRunsOfHitProbes() {
+    this.testee.writeClassHits(this.dos, 0,
+        new boolean[] { true, true, true, false, false, true, false }, 1);
+    this.testee.writeClassHits(this.dos, 7,
+        new boolean[] { true, false, true, false }, 1);
+    this.testee.writeClassHits(this.dos, 3, new boolean[] { true, false }, 1);
+    this.testee.endClassHits(this.dos);
+
+    final List<String> runs = new ArrayList<>();
+    this.decoder.readClassHits(read(),
+        (classId, first, count) -> runs.add(classId + ":" + first + "+" + count));
+
+    assertThat(runs).containsExactly("0:0+2", "0:4+1", "7:1+1");
+  }
+
+  @Test
+  public void shouldSendRepeatedStringsOnlyOnce() {
+    final Description d = new Description("aLongTestMethodName",
+        "com.example.ALongTestClassName");
+    this.testee.write(this.dos, d);
+    final int firstSize = this.bytes.size();
+    this.testee.write(this.dos, d);
+
+    assertThat(this.bytes.size() - firstSize).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldEncodeResultsMoreCompactlyThanJavaSerialization() {
+    final MutationIdentifier id = aMutationId().withIndex(1).withMutator("foo")
+        .build();
+    final MutationStatusTestPair status = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "aTest");
+
+    final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+    final SafeDataOutputStream serializedDos = new SafeDataOutputStream(
+        serialized);
+    serializedDos.write(id);
+    serializedDos.write(status);
+
+    this.testee.write(this.dos, id);
+    this.testee.write(this.dos, status);
+
+    assertThat(this.bytes.size()).isLessThan(serialized.size() / 4);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectMessagesInAnUnknownVersion() {
+    this.dos.writeVarInt(MessageEncoder.VERSION + 1);
+    this.decoder.readDescription(read());
+  }
+
+  private SafeDataInputStream read() {
+    return new SafeDataInputStream(new ByteArrayInputStream(
+        this.bytes.toByteArray()));
+  }
+
+}
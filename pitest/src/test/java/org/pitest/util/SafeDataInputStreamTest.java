@@ -43,4 +43,24 @@ public class SafeDataInputStreamTest {
 
   }
 
+  @Test
+  public void shouldRoundTripVariableLengthValues() {
+    final long[] values = { 0, 1, 127, 128, 16384, Integer.MAX_VALUE,
+        Long.MAX_VALUE, -1 };
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    for (final long each : values) {
+      dos.writeVarLong(each);
+    }
+    dos.writeVarInt(-1);
+
+    final SafeDataInputStream dis = new SafeDataInputStream(
+        new ByteArrayInputStream(o.toByteArray()));
+    for (final long each : values) {
+      assertEquals(each, dis.readVarLong());
+    }
+    assertEquals(-1, dis.readVarInt());
+  }
+
 }
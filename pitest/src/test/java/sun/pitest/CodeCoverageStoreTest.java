@@ -18,6 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
@@ -28,6 +29,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -99,6 +101,195 @@ public class CodeCoverageStoreTest {
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldReportHitsForClassesVisitedAfterReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 2);
+
+    CodeCoverageStore.visitProbes(classId, 0, true, false);
+    CodeCoverageStore.reset();
+    CodeCoverageStore.visitProbes(classId, 0, false, true);
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 1)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldOnlyReportClassesThatWereVisited() {
+    final int foo = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(foo, 1);
+    final int bar = CodeCoverageStore.registerClass("bar");
+    CodeCoverageStore.registerClassProbes(bar, 1);
+
+    CodeCoverageStore.visitProbes(bar, 0, true);
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(bar, 0)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldGrowToHoldClassIdsBeyondInitialCapacity() {
+    final int classId = 10000;
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    CodeCoverageStore.visitSingleProbe(classId, 0);
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 0)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldReportHitsOnlyToThreadRecordingThem() throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 2);
+
+    final ExecutorService pool = Executors.newFixedThreadPool(2);
+    try {
+      final Future<Collection<Long>> first = pool
+          .submit(recordAndVisit(classId, 0));
+      final Future<Collection<Long>> second = pool
+          .submit(recordAndVisit(classId, 1));
+
+      assertEquals(
+          Collections.singletonList(CodeCoverageStore.encode(classId, 0)),
+          first.get());
+      assertEquals(
+          Collections.singletonList(CodeCoverageStore.encode(classId, 1)),
+          second.get());
+      assertEquals(Collections.emptyList(), CodeCoverageStore.getHits());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldAttributeHitsFromStartedThreadsToThreadStartingThem()
+      throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      final Future<Collection<Long>> hits = pool.submit(() -> {
+        CodeCoverageStore.recordHitsForThisThread();
+        final Thread child = new Thread(
+            () -> CodeCoverageStore.visitSingleProbe(classId, 0));
+        child.start();
+        child.join();
+        return CodeCoverageStore.getHits();
+      });
+
+      assertEquals(
+          Collections.singletonList(CodeCoverageStore.encode(classId, 0)),
+          hits.get());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldNotReportHitsFromThreadsStartedByRunningTestAsStray()
+      throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      pool.submit(() -> {
+        CodeCoverageStore.recordHitsForThisThread();
+        CodeCoverageStore.reset();
+        final Thread child = new Thread(
+            () -> CodeCoverageStore.visitSingleProbe(classId, 0));
+        child.start();
+        child.join();
+        return null;
+      }).get();
+
+      assertFalse(CodeCoverageStore.hasStrayHits());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldReportHitsFromThreadsWithoutTheirOwnHitsAsStray()
+      throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      pool.submit(() -> CodeCoverageStore.recordHitsForThisThread()).get();
+      CodeCoverageStore.visitSingleProbe(classId, 0);
+
+      assertTrue(CodeCoverageStore.hasStrayHits());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldReportHitsFromThreadsOutlivingTheirTestAsStray()
+      throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      pool.submit(() -> {
+        CodeCoverageStore.recordHitsForThisThread();
+        final ExecutorService shared = Executors.newSingleThreadExecutor();
+        try {
+          shared.submit(() -> CodeCoverageStore.visitSingleProbe(classId, 0))
+              .get();
+          assertFalse(CodeCoverageStore.hasStrayHits());
+          CodeCoverageStore.reset();
+          shared.submit(() -> CodeCoverageStore.visitSingleProbe(classId, 0))
+              .get();
+        } finally {
+          shared.shutdown();
+        }
+        return null;
+      }).get();
+
+      assertTrue(CodeCoverageStore.hasStrayHits());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldRecordToSharedHitsAfterRecordingForAllThreads()
+      throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    final ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      pool.submit(() -> CodeCoverageStore.recordHitsForThisThread()).get();
+      CodeCoverageStore.visitSingleProbe(classId, 0);
+      CodeCoverageStore.recordHitsForAllThreads();
+      CodeCoverageStore.visitSingleProbe(classId, 0);
+
+      assertFalse(CodeCoverageStore.hasStrayHits());
+      assertEquals(
+          Collections.singletonList(CodeCoverageStore.encode(classId, 0)),
+          CodeCoverageStore.getHits());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private static Callable<Collection<Long>> recordAndVisit(final int classId,
+      final int probe) {
+    return () -> {
+      CodeCoverageStore.recordHitsForThisThread();
+      CodeCoverageStore.reset();
+      CodeCoverageStore.visitSingleProbe(classId, probe);
+      return CodeCoverageStore.getHits();
+    };
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {
@@ -117,6 +308,10 @@ public class CodeCoverageStoreTest {
 
     assertNull(future.get());
 
+    // stop the writers so they cannot record hits during later tests
+    pool.shutdownNow();
+    pool.awaitTermination(1, TimeUnit.MINUTES);
+
   }
 
   @Test
@@ -329,6 +524,7 @@ public class CodeCoverageStoreTest {
         try {
           Thread.sleep(sleepPeriod);
         } catch (final InterruptedException e) {
+          return;
         }
         final boolean b[] = new boolean[1000];
         CodeCoverageStore.visitProbes(0, 0, b);